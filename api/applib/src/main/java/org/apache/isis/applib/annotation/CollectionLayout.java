@@ -97,6 +97,19 @@ String describedAs()
     Where hidden()
             default Where.NOT_SPECIFIED;
 
+    /**
+     * Whether the contents of this (parented) collection should be rendered along with the rest of
+     * the owning object's page, or loaded lazily with a separate request once shown.
+     *
+     * <p>
+     *     Supported by the Wicket viewer.
+     * </p>
+     *
+     * @see Loading
+     */
+    Loading loading()
+            default Loading.AS_CONFIGURED;
+
     /**
      * Name of this collection (overriding the name derived from its name in
      * code).
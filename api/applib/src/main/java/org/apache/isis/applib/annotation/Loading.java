@@ -0,0 +1,52 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.annotation;
+
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * The available policies for loading the contents of a (parented) collection when its owning object
+ * is rendered.
+ *
+ * @see CollectionLayout#loading()
+ * @since 2.0 {@index}
+ */
+@XmlType(
+        namespace = "http://isis.apache.org/applib/layout/component"
+        )
+public enum Loading {
+    /**
+     * As defined by configuration property <code>isis.viewer.wicket.lazy-load-collections</code>
+     */
+    AS_CONFIGURED,
+    /**
+     * Render the collection's contents along with the rest of the page.
+     */
+    EAGER,
+    /**
+     * Render a placeholder along with the page, and load the collection's contents with a separate
+     * (ajax) request once the page (or the tab holding the collection) is shown.
+     *
+     * <p>
+     *     Lazy loading can considerably reduce the time to first render for objects with many (or large)
+     *     collections.
+     * </p>
+     */
+    LAZY,
+}
@@ -28,6 +28,7 @@
 import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 
+import org.apache.isis.applib.annotation.Loading;
 import org.apache.isis.applib.annotation.Where;
 import org.apache.isis.applib.layout.links.Link;
 
@@ -142,6 +143,18 @@ public void setHidden(final Where hidden) {
     }
 
 
+    private Loading loading;
+
+    @XmlAttribute(required = false)
+    public Loading getLoading() {
+        return loading;
+    }
+
+    public void setLoading(final Loading loading) {
+        this.loading = loading;
+    }
+
+
     private String named;
 
     @Override
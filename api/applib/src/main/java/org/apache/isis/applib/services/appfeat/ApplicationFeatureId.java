@@ -45,7 +45,6 @@
 
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.Synchronized;
 import lombok.val;
 
 /**
@@ -337,12 +336,14 @@ public static ApplicationFeatureId parseEncoded(final String encodedString) {
 
     // -- pathIds, parentIds
 
-    private transient Can<ApplicationFeatureId> pathIds;
+    // immutable, hence safe to (racily) compute more than once
+    private transient volatile Can<ApplicationFeatureId> pathIds;
 
-    @Programmatic @Synchronized
+    @Programmatic
     public Can<ApplicationFeatureId> getPathIds() {
+        Can<ApplicationFeatureId> pathIds = this.pathIds;
         if(pathIds==null) {
-            pathIds = pathIds(this);
+            this.pathIds = pathIds = pathIds(this);
         }
         return pathIds;
     }
@@ -425,12 +426,20 @@ public int compareTo(final ApplicationFeatureId other) {
 
     @Override
     public boolean equals(final Object o) {
-        return equality.equals(this, o);
+        return this == o
+                || equality.equals(this, o);
     }
 
+    // used as key for permission lookups, so worth caching; 0 means not yet computed
+    private transient int hashCode;
+
     @Override
     public int hashCode() {
-        return hashing.hashCode(this);
+        int hashCode = this.hashCode;
+        if(hashCode==0) {
+            this.hashCode = hashCode = hashing.hashCode(this);
+        }
+        return hashCode;
     }
 
     @Override
@@ -21,6 +21,8 @@
 import java.util.Collection;
 import java.util.Map;
 
+import org.apache.isis.applib.Identifier;
+
 /**
  * Provides the access to string representations of the packages, classes and
  * class members (collectively: "application features") of the domain classes
@@ -48,4 +50,14 @@ public interface ApplicationFeatureRepository  {
     
     Collection<ApplicationFeature> allMembers();
 
+    /**
+     * Returns the feature id of the type or member identified by given {@link Identifier}.
+     * <p>
+     * Implementations may return shared instances for the features they know about,
+     * as these are requested for every authorization check.
+     */
+    default ApplicationFeatureId featureIdFor(final Identifier identifier) {
+        return ApplicationFeatureId.fromIdentifier(identifier);
+    }
+
 }
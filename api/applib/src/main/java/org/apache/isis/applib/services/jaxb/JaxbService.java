@@ -18,14 +18,21 @@
  */
 package org.apache.isis.applib.services.jaxb;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.Map;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.transform.stream.StreamSource;
 
 import org.springframework.lang.Nullable;
 
@@ -42,8 +49,8 @@
  * unmarshalled from XML back into domain objects.
  *
  * <p>
- *     The default implementation automatically caches the JAXB marshallers
- *     by target class.
+ *     The default implementation automatically caches the JAXB contexts
+ *     by target class, and pools their marshallers.
  * </p>
  *
  * @since 2.0 {@index}
@@ -93,6 +100,44 @@ <T> T fromXml(
             String xml,
             @Nullable Map<String,Object> unmarshallerProperties);
 
+    /**
+     * Unmarshalls the XML read from given {@link InputStream} to the
+     * specified domain class (without closing the stream).
+     */
+    default <T> T fromXml(final Class<T> domainClass, final InputStream inputStream) {
+        return fromXml(domainClass, inputStream, null);
+    }
+
+    /**
+     * Unmarshalls the XML read from given {@link InputStream} to the
+     * specified domain class (without closing the stream), with additional
+     * properties passed through to the {@link JAXBContext} used to performed
+     * the unmarshalling.
+     */
+    <T> T fromXml(
+            Class<T> domainClass,
+            InputStream inputStream,
+            @Nullable Map<String,Object> unmarshallerProperties);
+
+    /**
+     * Unmarshalls the XML read from given {@link XMLStreamReader} to the
+     * specified domain class (without closing the reader).
+     */
+    default <T> T fromXml(final Class<T> domainClass, final XMLStreamReader xmlStreamReader) {
+        return fromXml(domainClass, xmlStreamReader, null);
+    }
+
+    /**
+     * Unmarshalls the XML read from given {@link XMLStreamReader} to the
+     * specified domain class (without closing the reader), with additional
+     * properties passed through to the {@link JAXBContext} used to performed
+     * the unmarshalling.
+     */
+    <T> T fromXml(
+            Class<T> domainClass,
+            XMLStreamReader xmlStreamReader,
+            @Nullable Map<String,Object> unmarshallerProperties);
+
     /**
      * Marshalls the object into XML (using a {@link JAXBContext} for the
      * object's class).
@@ -109,6 +154,39 @@ String toXml(
             Object domainObject,
             @Nullable Map<String,Object> marshallerProperties);
 
+    /**
+     * Marshalls the object as XML to given {@link Writer} (without closing it).
+     */
+    default void toXml(final Object domainObject, final Writer writer) {
+        toXml(domainObject, null, writer);
+    }
+
+    /**
+     * Marshalls the object as XML to given {@link Writer} (without closing it),
+     * specifying additional properties.
+     */
+    void toXml(
+            Object domainObject,
+            @Nullable Map<String,Object> marshallerProperties,
+            Writer writer);
+
+    /**
+     * Marshalls the object as UTF-8 encoded XML to given {@link OutputStream}
+     * (without closing it).
+     */
+    default void toXml(final Object domainObject, final OutputStream outputStream) {
+        toXml(domainObject, null, outputStream);
+    }
+
+    /**
+     * Marshalls the object as UTF-8 encoded XML to given {@link OutputStream}
+     * (without closing it), specifying additional properties.
+     */
+    void toXml(
+            Object domainObject,
+            @Nullable Map<String,Object> marshallerProperties,
+            OutputStream outputStream);
+
     /**
      * Generates a map of each of the schemas referenced; the key is the
      * schema namespace, the value is the XML of the schema itself.
@@ -162,28 +240,87 @@ public final <T> T fromXml(
         }
 
         @Override
+        public final <T> T fromXml(
+                final @NonNull Class<T> domainClass,
+                final @NonNull InputStream inputStream,
+                final @Nullable Map<String, Object> unmarshallerProperties) {
+            return fromXml(domainClass, new StreamSource(inputStream), unmarshallerProperties);
+        }
+
+        @Override
+        public final <T> T fromXml(
+                final @NonNull Class<T> domainClass,
+                final @NonNull XMLStreamReader xmlStreamReader,
+                final @Nullable Map<String, Object> unmarshallerProperties) {
+            return fromXml(domainClass, new StAXSource(xmlStreamReader), unmarshallerProperties);
+        }
+
         @SneakyThrows
+        private <T> T fromXml(
+                final @NonNull Class<T> domainClass,
+                final @NonNull Source source,
+                final @Nullable Map<String, Object> unmarshallerProperties) {
+
+            try {
+                val jaxbContext = jaxbContextForClass(domainClass);
+                return _Casts.uncheckedCast(internalFromXml(jaxbContext, source, unmarshallerProperties));
+            } catch (Exception e) {
+                throw _Xml.verboseException("unmarshalling XML", domainClass, e);
+            }
+        }
+
+        @Override
         public final String toXml(
                 final @NonNull Object domainObject,
                 final @Nullable Map<String, Object> marshallerProperties) {
+            val writer = new StringWriter();
+            toXml(domainObject, marshallerProperties, writer);
+            return writer.toString();
+        }
+
+        @Override
+        public final void toXml(
+                final @NonNull Object domainObject,
+                final @Nullable Map<String, Object> marshallerProperties,
+                final @NonNull Writer writer) {
+            internalToXml(domainObject, marshallerProperties, marshaller->{
+                marshaller.marshal(domainObject, writer);
+                return null;
+            });
+        }
+
+        @Override
+        public final void toXml(
+                final @NonNull Object domainObject,
+                final @Nullable Map<String, Object> marshallerProperties,
+                final @NonNull OutputStream outputStream) {
+            internalToXml(domainObject, marshallerProperties, marshaller->{
+                marshaller.marshal(domainObject, outputStream);
+                return null;
+            });
+        }
+
+        @SneakyThrows
+        private void internalToXml(
+                final @NonNull Object domainObject,
+                final @Nullable Map<String, Object> marshallerProperties,
+                final @NonNull _Xml.MarshallerPool.JaxbFunction<Marshaller, Void> marshal) {
 
             val domainClass = domainObject.getClass();
             val jaxbContext = jaxbContextForObject(domainObject);
             try {
-                val marshaller = jaxbContext.createMarshaller();
-                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                marshallerPoolFor(jaxbContext, marshallerProperties)
+                .withMarshaller(marshaller->{
+                    marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
-                for (val entry : _NullSafe.entrySet(marshallerProperties)) {
-                    marshaller.setProperty(entry.getKey(), entry.getValue());
-                }
+                    for (val entry : _NullSafe.entrySet(marshallerProperties)) {
+                        marshaller.setProperty(entry.getKey(), entry.getValue());
+                    }
 
-                configure(marshaller);
+                    configure(marshaller);
 
-                val writer = new StringWriter();
-                marshaller.marshal(domainObject, writer);
-                val xml = writer.toString();
-
-                return xml;
+                    return marshal.apply(marshaller);
+                });
 
             } catch (Exception e) {
                 throw _Xml.verboseException("marshalling domain object to XML", domainClass, e);
@@ -228,16 +365,52 @@ protected Object internalFromXml(
                 return null;
             }
 
-            val unmarshaller = jaxbContext.createUnmarshaller();
+            return marshallerPoolFor(jaxbContext, unmarshallerProperties)
+                    .withUnmarshaller(unmarshaller->{
+                        configure(unmarshaller, unmarshallerProperties);
+                        return unmarshaller.unmarshal(new StringReader(xml));
+                    });
+        }
+
+        /**
+         * Streaming variant of {@link #internalFromXml(JAXBContext, String, Map)},
+         * given either a {@link StreamSource} or a {@link StAXSource}.
+         */
+        protected Object internalFromXml(
+                final @NonNull JAXBContext jaxbContext,
+                final @NonNull Source source,
+                final @Nullable Map<String, Object> unmarshallerProperties) throws JAXBException {
+
+            return marshallerPoolFor(jaxbContext, unmarshallerProperties)
+                    .withUnmarshaller(unmarshaller->{
+                        configure(unmarshaller, unmarshallerProperties);
+                        return source instanceof StAXSource
+                                ? unmarshaller.unmarshal(((StAXSource) source).getXMLStreamReader())
+                                : unmarshaller.unmarshal(source);
+                    });
+        }
+
+        private void configure(
+                final @NonNull Unmarshaller unmarshaller,
+                final @Nullable Map<String, Object> unmarshallerProperties) throws JAXBException {
 
             for (val entry : _NullSafe.entrySet(unmarshallerProperties)) {
                 unmarshaller.setProperty(entry.getKey(), entry.getValue());
             }
 
             configure(unmarshaller);
+        }
 
-            val pojo = unmarshaller.unmarshal(new StringReader(xml));
-            return pojo;
+        /**
+         * (Un)marshallers are only pooled if not customized by any (un)marshaller properties,
+         * as these would otherwise stick to them.
+         */
+        private static _Xml.MarshallerPool marshallerPoolFor(
+                final @NonNull JAXBContext jaxbContext,
+                final @Nullable Map<String, Object> properties) {
+            return _NullSafe.isEmpty(properties)
+                    ? _Xml.marshallerPoolFor(jaxbContext)
+                    : _Xml.MarshallerPool.nonPooling(jaxbContext);
         }
 
         @Override
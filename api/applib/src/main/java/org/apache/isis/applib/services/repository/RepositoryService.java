@@ -165,6 +165,45 @@ default void persistAndFlush(final Object... domainObjects) {
      */
     void removeAndFlush(Object domainObject);
 
+    /**
+     * Persist the specified objects (or do nothing for those already persistent),
+     * intended for bulk imports of large numbers of entities.
+     *
+     * <p>
+     *     Pending changes are flushed to the database after every
+     *     <code>isis.core.runtime-services.repository-service.bulk.flush-interval</code>
+     *     objects (and once more at the end), and, unless disabled, the objects
+     *     just flushed are then evicted from the persistence context, so that memory
+     *     consumption does not grow with the number of objects persisted.
+     * </p>
+     *
+     * <p>
+     *     Once evicted, the persisted objects are no longer attached; callers should
+     *     not rely on any further changes made to them being saved. Any other entities
+     *     are not affected. (With JDO, objects newly persisted within the current
+     *     transaction are only released on commit.)
+     * </p>
+     *
+     * @see #persist(Object)
+     * @see #persistAndFlush(Object[])
+     */
+    <T> void persistAll(@Nullable Iterable<T> domainObjects);
+
+    /**
+     * Deletes the specified objects (ignoring any that are not persistent),
+     * intended for bulk deletes of large numbers of entities.
+     *
+     * <p>
+     *     Pending changes are flushed to the database after every
+     *     <code>isis.core.runtime-services.repository-service.bulk.flush-interval</code>
+     *     objects (and once more at the end).
+     * </p>
+     *
+     * @see #remove(Object)
+     * @see #removeAll(Class)
+     */
+    void removeAll(@Nullable Iterable<?> domainObjects);
+
     /**
      * Removes all instances of the domain object.
      *
@@ -20,6 +20,8 @@
 
 import java.io.CharArrayWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.Reader;
 import java.io.StringReader;
@@ -29,10 +31,10 @@
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.isis.applib.util.JaxbUtil;
 import org.apache.isis.commons.internal.resources._Resources;
+import org.apache.isis.commons.internal.resources._Xml;
 import org.apache.isis.schema.chg.v2.ChangesDto;
 
 /**
@@ -55,8 +57,17 @@ static JAXBContext getJaxbContext() {
 
     public static ChangesDto fromXml(final Reader reader) {
         try {
-            final Unmarshaller un = getJaxbContext().createUnmarshaller();
-            return (ChangesDto) un.unmarshal(reader);
+            return _Xml.marshallerPoolFor(getJaxbContext())
+                    .withUnmarshaller(un->(ChangesDto) un.unmarshal(reader));
+        } catch (JAXBException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static ChangesDto fromXml(final InputStream inputStream) {
+        try {
+            return _Xml.marshallerPoolFor(getJaxbContext())
+                    .withUnmarshaller(un->(ChangesDto) un.unmarshal(inputStream));
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -83,9 +94,28 @@ public static String toXml(final ChangesDto changesDto) {
 
     public static void toXml(final ChangesDto changesDto, final Writer writer) {
         try {
-            final Marshaller m = getJaxbContext().createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            m.marshal(changesDto, writer);
+            _Xml.marshallerPoolFor(getJaxbContext())
+            .withMarshaller(m->{
+                m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+                m.marshal(changesDto, writer);
+                return null;
+            });
+        } catch (JAXBException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Writes UTF-8 encoded XML (without closing the stream).
+     */
+    public static void toXml(final ChangesDto changesDto, final OutputStream outputStream) {
+        try {
+            _Xml.marshallerPoolFor(getJaxbContext())
+            .withMarshaller(m->{
+                m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+                m.marshal(changesDto, outputStream);
+                return null;
+            });
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
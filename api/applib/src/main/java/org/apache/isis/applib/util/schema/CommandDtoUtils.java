@@ -20,6 +20,8 @@
 
 import java.io.CharArrayWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.Writer;
@@ -28,12 +30,12 @@
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.util.JaxbUtil;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.resources._Resources;
+import org.apache.isis.commons.internal.resources._Xml;
 import org.apache.isis.schema.cmd.v2.ActionDto;
 import org.apache.isis.schema.cmd.v2.CommandDto;
 import org.apache.isis.schema.cmd.v2.MapDto;
@@ -61,8 +63,17 @@ static JAXBContext getJaxbContext() {
 
     public static CommandDto fromXml(final Reader reader) {
         try {
-            final Unmarshaller un = getJaxbContext().createUnmarshaller();
-            return (CommandDto) un.unmarshal(reader);
+            return _Xml.marshallerPoolFor(getJaxbContext())
+                    .withUnmarshaller(un->(CommandDto) un.unmarshal(reader));
+        } catch (JAXBException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static CommandDto fromXml(final InputStream inputStream) {
+        try {
+            return _Xml.marshallerPoolFor(getJaxbContext())
+                    .withUnmarshaller(un->(CommandDto) un.unmarshal(inputStream));
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -93,9 +104,28 @@ public static String toXml(final CommandDto commandDto) {
 
     public static void toXml(final CommandDto commandDto, final Writer writer) {
         try {
-            final Marshaller m = getJaxbContext().createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            m.marshal(commandDto, writer);
+            _Xml.marshallerPoolFor(getJaxbContext())
+            .withMarshaller(m->{
+                m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+                m.marshal(commandDto, writer);
+                return null;
+            });
+        } catch (JAXBException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Writes UTF-8 encoded XML (without closing the stream).
+     */
+    public static void toXml(final CommandDto commandDto, final OutputStream outputStream) {
+        try {
+            _Xml.marshallerPoolFor(getJaxbContext())
+            .withMarshaller(m->{
+                m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+                m.marshal(commandDto, outputStream);
+                return null;
+            });
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -20,6 +20,8 @@
 
 import java.io.CharArrayWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.Reader;
 import java.io.StringReader;
@@ -32,7 +34,6 @@
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.iactn.Execution;
@@ -41,6 +42,7 @@
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.resources._Resources;
+import org.apache.isis.commons.internal.resources._Xml;
 import org.apache.isis.schema.cmd.v2.ParamDto;
 import org.apache.isis.schema.cmd.v2.ParamsDto;
 import org.apache.isis.schema.common.v2.InteractionType;
@@ -73,8 +75,17 @@ static JAXBContext getJaxbContext() {
 
     public static InteractionDto fromXml(final Reader reader) {
         try {
-            final Unmarshaller un = getJaxbContext().createUnmarshaller();
-            return (InteractionDto) un.unmarshal(reader);
+            return _Xml.marshallerPoolFor(getJaxbContext())
+                    .withUnmarshaller(un->(InteractionDto) un.unmarshal(reader));
+        } catch (JAXBException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static InteractionDto fromXml(final InputStream inputStream) {
+        try {
+            return _Xml.marshallerPoolFor(getJaxbContext())
+                    .withUnmarshaller(un->(InteractionDto) un.unmarshal(inputStream));
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -101,9 +112,28 @@ public static String toXml(final InteractionDto interactionDto) {
 
     public static void toXml(final InteractionDto interactionDto, final Writer writer) {
         try {
-            final Marshaller m = getJaxbContext().createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            m.marshal(interactionDto, writer);
+            _Xml.marshallerPoolFor(getJaxbContext())
+            .withMarshaller(m->{
+                m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+                m.marshal(interactionDto, writer);
+                return null;
+            });
+        } catch (JAXBException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Writes UTF-8 encoded XML (without closing the stream).
+     */
+    public static void toXml(final InteractionDto interactionDto, final OutputStream outputStream) {
+        try {
+            _Xml.marshallerPoolFor(getJaxbContext())
+            .withMarshaller(m->{
+                m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+                m.marshal(interactionDto, outputStream);
+                return null;
+            });
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
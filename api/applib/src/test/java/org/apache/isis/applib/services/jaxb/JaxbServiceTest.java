@@ -18,6 +18,12 @@
  */
 package org.apache.isis.applib.services.jaxb;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -25,7 +31,9 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import org.apache.isis.commons.internal.codec._DocumentFactories;
 import org.apache.isis.commons.internal.resources._Xml;
+import org.apache.isis.schema.cmd.v2.CommandDto;
 import org.apache.isis.schema.ixn.v2.ActionInvocationDto;
 
 import lombok.val;
@@ -58,8 +66,55 @@ void clone_usingUtility() {
         assertDtoEquals(dto, _Xml.clone(dto).presentElseFail());
     }
 
+    @Test
+    void roundtrip_usingStreams() {
+        val dto = getSampleCommand();
+
+        val out = new ByteArrayOutputStream();
+        simple.toXml(dto, out);
+        val clone = simple.fromXml(CommandDto.class, new ByteArrayInputStream(out.toByteArray()));
+
+        assertCommandDtoEquals(dto, clone);
+        // streamed output is the UTF-8 encoded equivalent of the String variant
+        assertEquals(simple.toXml(dto), new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void roundtrip_usingWriterAndXmlStreamReader() throws Exception {
+        val dto = getSampleCommand();
+
+        val writer = new StringWriter();
+        simple.toXml(dto, writer);
+        val xsr = _DocumentFactories.xmlInputFactory().createXMLStreamReader(new StringReader(writer.toString()));
+        val clone = simple.fromXml(CommandDto.class, xsr);
+
+        assertCommandDtoEquals(dto, clone);
+    }
+
+    @Test
+    void roundtrip_repeatedly_reusingPooledMarshallers() {
+        for (int i = 0; i < 3; i++) {
+            val dto = getSampleCommand();
+            dto.setUser("user" + i);
+            val clone = simple.fromXml(CommandDto.class, simple.toXml(dto));
+            assertCommandDtoEquals(dto, clone);
+        }
+    }
+
     // -- HELPER
 
+    private CommandDto getSampleCommand() {
+        val dto = new CommandDto();
+        dto.setInteractionId("a7d6f8e2-8c1b-4c6e-9a0e-3f2b1d4c5e6f");
+        dto.setUser("sven");
+        return dto;
+    }
+
+    private void assertCommandDtoEquals(final CommandDto a, final CommandDto b) {
+        assertEquals(a.getInteractionId(), b.getInteractionId());
+        assertEquals(a.getUser(), b.getUser());
+    }
+
     private ActionInvocationDto getSample() {
         val dto = new ActionInvocationDto();
         dto.setTitle("hello");
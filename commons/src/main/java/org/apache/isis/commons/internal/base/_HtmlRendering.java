@@ -0,0 +1,257 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.commons.internal.base;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.commons.internal.hash._Hashes;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+
+/**
+ * <h1>- internal use only -</h1>
+ * <p>
+ * Renders markup (eg. AsciiDoc or Markdown) to HTML, memoizing the result in a cache that is shared by all
+ * {@link Engine}s, keyed by engine id and content hash, and bounded by the total length of the HTML held.
+ * </p>
+ * <p>
+ * Each {@link Engine} limits the number of conversions it runs concurrently, in support of converters that are
+ * costly to run in parallel or not safe to do so. Conversions may also be scheduled ahead of time
+ * ({@link Engine#prerender(String)}) on a small shared pool of daemon threads.
+ * </p>
+ * <p>
+ * <b>WARNING</b>: Do <b>NOT</b> use any of the classes provided by this package! <br/>
+ * These may be changed or removed without notice!
+ * </p>
+ *
+ * @since 2.0
+ */
+public final class _HtmlRendering {
+
+    /**
+     * Upper bound for the total number of characters of (cached) HTML; about 32MB.
+     */
+    public static final long MAX_CACHED_CHARS = 16L * 1024 * 1024;
+
+    /**
+     * Entries exceeding this length are rendered but not cached.
+     */
+    public static final int MAX_CACHED_CHARS_PER_ENTRY = 1024 * 1024;
+
+    /**
+     * A single thread, such that background conversions never occupy more than one of an engine's permits.
+     */
+    private static final int PRERENDER_THREADS = 1;
+    private static final int PRERENDER_QUEUE_CAPACITY = 1000;
+
+    /**
+     * @param id - distinguishes the cache entries of this engine from those of any other
+     * @param maxConcurrentConversions - upper bound of conversions this engine runs in parallel
+     * @param converter - converts (non-empty) markup to HTML
+     */
+    public static Engine engine(
+            final @NonNull String id,
+            final int maxConcurrentConversions,
+            final @NonNull UnaryOperator<String> converter) {
+        return new Engine(id, new Semaphore(Math.max(1, maxConcurrentConversions), true), converter);
+    }
+
+    /**
+     * Evicts all cached HTML (of all engines).
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Number of cached entries (of all engines).
+     */
+    public static int cacheSize() {
+        return CACHE.size();
+    }
+
+    // -- ENGINE
+
+    public static final class Engine {
+
+        @Getter private final String id;
+        private final Semaphore permits;
+        private final UnaryOperator<String> converter;
+
+        private Engine(final String id, final Semaphore permits, final UnaryOperator<String> converter) {
+            this.id = id;
+            this.permits = permits;
+            this.converter = converter;
+        }
+
+        /**
+         * Returns the HTML for given {@code markup}, converting only if not already cached.
+         */
+        public String render(final @Nullable String markup) {
+            if(_Strings.isEmpty(markup)) {
+                return "";
+            }
+            val key = keyFor(markup);
+            val cached = CACHE.get(key);
+            if(cached!=null) {
+                return cached;
+            }
+            return convertAndCache(key, markup);
+        }
+
+        /**
+         * Schedules the conversion of given {@code markup} in the background (if not already cached), so that a
+         * subsequent {@link #render(String)} is served from the cache. Is a no-op if the background queue is full.
+         */
+        public CompletableFuture<String> prerender(final @Nullable String markup) {
+            if(_Strings.isEmpty(markup)) {
+                return CompletableFuture.completedFuture("");
+            }
+            val key = keyFor(markup);
+            val cached = CACHE.get(key);
+            if(cached!=null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+            val future = new CompletableFuture<String>();
+            try {
+                PrerenderPool.EXECUTOR.execute(()->{
+                    try {
+                        future.complete(convertAndCache(key, markup));
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    }
+                });
+            } catch (Exception e) {
+                // rejected, because the queue is full; this is just a warm-up, so nothing lost
+                future.cancel(false);
+            }
+            return future;
+        }
+
+        // -- HELPER
+
+        private String keyFor(final String markup) {
+            val hash = _Hashes.digest(_Hashes.Algorithm.SHA256, markup.getBytes(StandardCharsets.UTF_8))
+                    .map(Base64.getEncoder()::encodeToString)
+                    .orElse(markup); // SHA-256 is always available; just being defensive
+            return id + ":" + markup.length() + ":" + hash;
+        }
+
+        @SneakyThrows
+        private String convertAndCache(final String key, final String markup) {
+            permits.acquire();
+            try {
+                // another thread might have converted the same content while we were waiting
+                val cached = CACHE.get(key);
+                if(cached!=null) {
+                    return cached;
+                }
+                val html = _Strings.nullToEmpty(converter.apply(markup));
+                CACHE.put(key, html);
+                return html;
+            } finally {
+                permits.release();
+            }
+        }
+
+    }
+
+    // -- CACHE
+
+    private static final WeightedLruCache CACHE = new WeightedLruCache(MAX_CACHED_CHARS);
+
+    /**
+     * Thread-safe, evicting least recently used entries, once the total length of the held values exceeds the bound.
+     */
+    static final class WeightedLruCache {
+
+        private final long maxWeight;
+        private final LinkedHashMap<String, String> map = new LinkedHashMap<>(256, 0.75f, true);
+        private long weight;
+
+        WeightedLruCache(final long maxWeight) {
+            this.maxWeight = maxWeight;
+        }
+
+        synchronized String get(final String key) {
+            return map.get(key);
+        }
+
+        synchronized void put(final String key, final String value) {
+            if(value.length() > MAX_CACHED_CHARS_PER_ENTRY) {
+                return;
+            }
+            val previous = map.put(key, value);
+            weight += value.length() - (previous!=null ? previous.length() : 0);
+            final Iterator<String> eldestFirst = map.values().iterator();
+            while(weight > maxWeight
+                    && eldestFirst.hasNext()) {
+                weight -= eldestFirst.next().length();
+                eldestFirst.remove();
+            }
+        }
+
+        synchronized void clear() {
+            map.clear();
+            weight = 0;
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+
+        synchronized long weight() {
+            return weight;
+        }
+
+    }
+
+    // -- PRE-RENDERING
+
+    // initialized on first use only
+    private static final class PrerenderPool {
+        static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+                PRERENDER_THREADS, PRERENDER_THREADS,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(PRERENDER_QUEUE_CAPACITY),
+                runnable->{
+                    val thread = new Thread(runnable, "isis-html-prerender");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        static {
+            EXECUTOR.allowCoreThreadTimeOut(true);
+        }
+    }
+
+}
@@ -18,6 +18,8 @@
  */
 package org.apache.isis.commons.internal.resources;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
@@ -25,6 +27,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
@@ -32,8 +36,10 @@
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.isis.commons.functional.Result;
 import org.apache.isis.commons.internal.base._Casts;
@@ -43,8 +49,11 @@
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.commons.internal.reflection._Annotations;
 
+import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.Value;
 import lombok.val;
@@ -92,16 +101,48 @@ public static <T> T _readXml(
             final @NonNull Reader reader,
             final @NonNull ReadOptions readOptions) {
 
-        val unmarshaller = jaxbContextFor(dtoClass, readOptions.isUseContextCache()).createUnmarshaller();
+        if(isMissingRootElementToBeAllowed(dtoClass, readOptions)) {
+            return _readXml(dtoClass, _DocumentFactories.xmlInputFactory().createXMLStreamReader(reader), readOptions);
+        }
+
+        return marshallerPoolFor(dtoClass, readOptions.isUseContextCache())
+                .withUnmarshaller(unmarshaller->
+                    _Casts.uncheckedCast(unmarshaller.unmarshal(reader)));
+    }
+
+    @SneakyThrows
+    public static <T> T _readXml(
+            final @NonNull Class<T> dtoClass,
+            final @NonNull InputStream inputStream,
+            final @NonNull ReadOptions readOptions) {
 
-        if(readOptions.isAllowMissingRootElement()
-                && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
-            val xsr = _DocumentFactories.xmlInputFactory().createXMLStreamReader(reader);
-            final JAXBElement<T> userElement = unmarshaller.unmarshal(xsr, dtoClass);
-            return userElement.getValue();
+        if(isMissingRootElementToBeAllowed(dtoClass, readOptions)) {
+            return _readXml(dtoClass, _DocumentFactories.xmlInputFactory().createXMLStreamReader(inputStream), readOptions);
         }
 
-        return _Casts.uncheckedCast(unmarshaller.unmarshal(reader));
+        return marshallerPoolFor(dtoClass, readOptions.isUseContextCache())
+                .withUnmarshaller(unmarshaller->
+                    _Casts.uncheckedCast(unmarshaller.unmarshal(inputStream)));
+    }
+
+    /**
+     * Reads from given {@link XMLStreamReader}, without closing it.
+     */
+    @SneakyThrows
+    public static <T> T _readXml(
+            final @NonNull Class<T> dtoClass,
+            final @NonNull XMLStreamReader xmlStreamReader,
+            final @NonNull ReadOptions readOptions) {
+
+        val pool = marshallerPoolFor(dtoClass, readOptions.isUseContextCache());
+
+        if(isMissingRootElementToBeAllowed(dtoClass, readOptions)) {
+            return pool.withUnmarshaller(unmarshaller->
+                    unmarshaller.unmarshal(xmlStreamReader, dtoClass).getValue());
+        }
+
+        return pool.withUnmarshaller(unmarshaller->
+                _Casts.uncheckedCast(unmarshaller.unmarshal(xmlStreamReader)));
     }
 
     // -- WRITE
@@ -124,20 +165,41 @@ public static <T> void writeXml(
             final @NonNull T dto,
             final @NonNull Writer writer,
             final @NonNull WriteOptions writeOptions) throws JAXBException {
+        writeXml(dto, writeOptions, (marshaller, jaxbObject)->marshaller.marshal(jaxbObject, writer));
+    }
+
+    /**
+     * Writes UTF-8 encoded XML to given {@link OutputStream}, without closing it.
+     */
+    public static <T> void writeXml(
+            final @NonNull T dto,
+            final @NonNull OutputStream outputStream,
+            final @NonNull WriteOptions writeOptions) throws JAXBException {
+        writeXml(dto, writeOptions, (marshaller, jaxbObject)->marshaller.marshal(jaxbObject, outputStream));
+    }
+
+    @FunctionalInterface
+    private static interface MarshalTo {
+        void marshal(Marshaller marshaller, Object jaxbObject) throws JAXBException;
+    }
+
+    private static <T> void writeXml(
+            final @NonNull T dto,
+            final @NonNull WriteOptions writeOptions,
+            final @NonNull MarshalTo marshalTo) throws JAXBException {
 
         val dtoClass = _Casts.<Class<T>>uncheckedCast(dto.getClass());
-        val marshaller = jaxbContextFor(dtoClass, writeOptions.useContextCache).createMarshaller();
-        if(writeOptions.isFormattedOutput()) {
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-        }
-        if(writeOptions.isAllowMissingRootElement()
-            && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
-            val qName = new QName("", dtoClass.getSimpleName());
-            val jaxbElement = new JAXBElement<T>(qName, dtoClass, null, dto);
-            marshaller.marshal(jaxbElement, writer);
-        } else {
-            marshaller.marshal(dto, writer);
-        }
+        val jaxbObject = writeOptions.isAllowMissingRootElement()
+                && !_Annotations.isPresent(dtoClass, XmlRootElement.class)
+                ? new JAXBElement<T>(new QName("", dtoClass.getSimpleName()), dtoClass, null, dto)
+                : dto;
+
+        marshallerPoolFor(dtoClass, writeOptions.isUseContextCache())
+        .withMarshaller(marshaller->{
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, writeOptions.isFormattedOutput());
+            marshalTo.marshal(marshaller, jaxbObject);
+            return null;
+        });
     }
 
     // -- CLONE
@@ -210,14 +272,39 @@ private static boolean isIllegalAnnotationsException(Exception e) {
 
     // -- JAXB CONTEXT CACHE
 
-    private static Map<Class<?>, JAXBContext> jaxbContextByClass = _Maps.newConcurrentHashMap();
+    private static Map<Class<?>, MarshallerPool> marshallerPoolByClass = _Maps.newConcurrentHashMap();
+    private static Map<JAXBContext, MarshallerPool> marshallerPoolByContext = _Maps.newConcurrentHashMap();
 
     public static <T> JAXBContext jaxbContextFor(final Class<T> dtoClass, final boolean useCache)  {
         return useCache
-                ? jaxbContextByClass.computeIfAbsent(dtoClass, _Xml::contextOf)
+                ? cachedMarshallerPoolFor(dtoClass).getJaxbContext()
                 : contextOf(dtoClass);
     }
 
+    /**
+     * Returns the {@link MarshallerPool} for given {@link JAXBContext}, if that was obtained from the cache
+     * (via {@link #jaxbContextFor(Class, boolean)}), otherwise a non-pooling one, that creates a new
+     * (un)marshaller for each use.
+     */
+    public static MarshallerPool marshallerPoolFor(final @NonNull JAXBContext jaxbContext) {
+        return Optional.ofNullable(marshallerPoolByContext.get(jaxbContext))
+                .orElseGet(()->MarshallerPool.nonPooling(jaxbContext));
+    }
+
+    private static MarshallerPool marshallerPoolFor(final Class<?> dtoClass, final boolean useCache) {
+        return useCache
+                ? cachedMarshallerPoolFor(dtoClass)
+                : MarshallerPool.nonPooling(contextOf(dtoClass));
+    }
+
+    private static MarshallerPool cachedMarshallerPoolFor(final Class<?> dtoClass) {
+        return marshallerPoolByClass.computeIfAbsent(dtoClass, __->{
+            val pool = MarshallerPool.pooling(contextOf(dtoClass));
+            marshallerPoolByContext.put(pool.getJaxbContext(), pool);
+            return pool;
+        });
+    }
+
     @SneakyThrows
     private static <T> JAXBContext contextOf(final Class<T> dtoClass) {
         try {
@@ -227,4 +314,78 @@ private static <T> JAXBContext contextOf(final Class<T> dtoClass) {
         }
     }
 
+    private static boolean isMissingRootElementToBeAllowed(final Class<?> dtoClass, final ReadOptions readOptions) {
+        return readOptions.isAllowMissingRootElement()
+                && !_Annotations.isPresent(dtoClass, XmlRootElement.class);
+    }
+
+    // -- MARSHALLER POOL
+
+    /**
+     * Upper bound of idle {@link Marshaller}s (and likewise {@link Unmarshaller}s) kept per {@link JAXBContext}.
+     */
+    private static final int MAX_IDLE_PER_CONTEXT = 4 * Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Hands out {@link Marshaller}s and {@link Unmarshaller}s of a {@link JAXBContext} for the duration of a
+     * callback, confined to the calling thread, then takes them back for reuse. Creating these is not for free,
+     * while the {@link JAXBContext} is thread-safe, they are not.
+     * <p>
+     * Callers must (re-)set any property or adapter they depend on, on each use; properties other callers
+     * might have set are not reset.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class MarshallerPool {
+
+        @FunctionalInterface
+        public static interface JaxbFunction<T, R> {
+            R apply(T t) throws JAXBException;
+        }
+
+        static MarshallerPool pooling(final JAXBContext jaxbContext) {
+            return new MarshallerPool(jaxbContext,
+                    new ArrayBlockingQueue<>(MAX_IDLE_PER_CONTEXT),
+                    new ArrayBlockingQueue<>(MAX_IDLE_PER_CONTEXT));
+        }
+
+        public static MarshallerPool nonPooling(final @NonNull JAXBContext jaxbContext) {
+            return new MarshallerPool(jaxbContext, null, null);
+        }
+
+        @Getter private final @NonNull JAXBContext jaxbContext;
+        private final @Nullable BlockingQueue<Marshaller> idleMarshallers;
+        private final @Nullable BlockingQueue<Unmarshaller> idleUnmarshallers;
+
+        public <R> R withMarshaller(final @NonNull JaxbFunction<Marshaller, R> function)
+                throws JAXBException {
+            if(idleMarshallers==null) {
+                return function.apply(jaxbContext.createMarshaller());
+            }
+            val pooled = idleMarshallers.poll();
+            val marshaller = pooled!=null
+                    ? pooled
+                    : jaxbContext.createMarshaller();
+            val result = function.apply(marshaller);
+            // only reused if not failed, as we cannot tell, what state it's left in
+            idleMarshallers.offer(marshaller);
+            return result;
+        }
+
+        public <R> R withUnmarshaller(final @NonNull JaxbFunction<Unmarshaller, R> function)
+                throws JAXBException {
+            if(idleUnmarshallers==null) {
+                return function.apply(jaxbContext.createUnmarshaller());
+            }
+            val pooled = idleUnmarshallers.poll();
+            val unmarshaller = pooled!=null
+                    ? pooled
+                    : jaxbContext.createUnmarshaller();
+            val result = function.apply(unmarshaller);
+            // only reused if not failed, as we cannot tell, what state it's left in
+            idleUnmarshallers.offer(unmarshaller);
+            return result;
+        }
+
+    }
+
 }
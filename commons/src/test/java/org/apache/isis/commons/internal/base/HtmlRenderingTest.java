@@ -0,0 +1,95 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.commons.internal.base;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import lombok.val;
+
+class HtmlRenderingTest {
+
+    private final AtomicInteger conversions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        _HtmlRendering.clearCache();
+    }
+
+    @Test
+    void emptyMarkup_rendersEmpty() {
+        val engine = _HtmlRendering.engine("test", 1, this::convert);
+        assertEquals("", engine.render(null));
+        assertEquals("", engine.render(""));
+        assertEquals(0, conversions.get());
+    }
+
+    @Test
+    void sameMarkup_isConvertedOnlyOnce() {
+        val engine = _HtmlRendering.engine("test", 1, this::convert);
+        assertEquals("<p>hello</p>", engine.render("hello"));
+        assertEquals("<p>hello</p>", engine.render("hello"));
+        assertEquals(1, conversions.get());
+    }
+
+    @Test
+    void engines_doNotShareEntries() {
+        val engine1 = _HtmlRendering.engine("test1", 1, this::convert);
+        val engine2 = _HtmlRendering.engine("test2", 1, markup->"<div>" + markup + "</div>");
+        assertEquals("<p>hello</p>", engine1.render("hello"));
+        assertEquals("<div>hello</div>", engine2.render("hello"));
+    }
+
+    @Test
+    void prerender_warmsTheCache() throws Exception {
+        val engine = _HtmlRendering.engine("test", 1, this::convert);
+        assertEquals("<p>hello</p>", engine.prerender("hello").get(10, TimeUnit.SECONDS));
+        assertEquals("<p>hello</p>", engine.render("hello"));
+        assertEquals(1, conversions.get());
+    }
+
+    @Test
+    void weightedLruCache_evictsLeastRecentlyUsed() {
+        val cache = new _HtmlRendering.WeightedLruCache(10);
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.get("a"); // now 'b' is the least recently used
+        cache.put("c", "cccc");
+
+        assertEquals(2, cache.size());
+        assertEquals(8, cache.weight());
+        assertEquals("aaaa", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("cccc", cache.get("c"));
+    }
+
+    // -- HELPER
+
+    private String convert(final String markup) {
+        conversions.incrementAndGet();
+        return "<p>" + markup + "</p>";
+    }
+
+}
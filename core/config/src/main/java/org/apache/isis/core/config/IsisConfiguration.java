@@ -1372,6 +1372,26 @@ public IntrospectionPolicy getPolicy() {
                  */
                 private boolean validateIncrementally = true;
 
+                /**
+                 * Whether to complete the introspection of entities and view models, as well as the subsequent
+                 * metamodel validation, on a background thread, rather than blocking the bootstrapping until done.
+                 *
+                 * <p>
+                 * Value types, mixins and domain services (and hence the menus), as well as any
+                 * {@link org.apache.isis.applib.annotation.HomePage home page} view model, are still introspected
+                 * upfront.  Any other type needed by a request before the background thread got to it, is
+                 * introspected on demand by the requesting thread.  Post-metamodel listeners (such as seeding
+                 * and fixture installation) are only notified once completed, and until then the application's
+                 * readiness state is reported as <i>refusing traffic</i>.
+                 * </p>
+                 *
+                 * <p>
+                 * Because metamodel validation failures are then only discovered after the application has started,
+                 * this is disabled by default.
+                 * </p>
+                 */
+                private boolean completeInBackground = false;
+
             }
 
             private final Validator validator = new Validator();
@@ -1617,6 +1637,67 @@ public static class Tls {
                 }
             }
 
+            private final UrlEncoding urlEncoding = new UrlEncoding();
+            @Data
+            public static class UrlEncoding {
+
+                /**
+                 * The number of recent encode and decode results (each) that the default
+                 * {@link org.apache.isis.applib.services.urlencoding.UrlEncodingService} holds on to, so that
+                 * repeatedly rendering (or following) the same view model memento skips compression and base64
+                 * encoding.
+                 *
+                 * <p>
+                 *     Set to <code>0</code> to disable.
+                 * </p>
+                 */
+                @javax.validation.constraints.Min(0)
+                private int cacheSize = 1000;
+
+                /**
+                 * Upper bound of the (approximate) number of bytes that the encode and decode results (each) held
+                 * on to may occupy, as large mementos would otherwise take up far more memory than the
+                 * {@link #getCacheSize() cache size} suggests; least recently used results are evicted first.
+                 */
+                @javax.validation.constraints.Min(1)
+                private long cacheMaxBytes = 8L * 1024 * 1024;
+
+                private final MementoStore mementoStore = new MementoStore();
+                @Data
+                public static class MementoStore {
+
+                    /**
+                     * Whether encoded mementos that exceed the {@link #getThreshold() threshold} are kept on the
+                     * server (keyed by a hash of their content), such that only the (short) key ends up in URLs.
+                     *
+                     * <p>
+                     *     Such URLs are only valid for as long as the memento is held in memory: they do not survive
+                     *     a restart and are not shared between cluster nodes.  Disabled by default.
+                     * </p>
+                     */
+                    private boolean enabled = false;
+
+                    /**
+                     * Encoded mementos of at least this length (in characters) are kept in the store, if enabled.
+                     */
+                    @javax.validation.constraints.Min(0)
+                    private int threshold = 1024;
+
+                    /**
+                     * The maximum number of mementos kept in the store; least recently used ones are evicted first.
+                     */
+                    @javax.validation.constraints.Min(1)
+                    private int maxEntries = 10_000;
+
+                    /**
+                     * Upper bound of the (approximate) number of bytes the mementos kept in the store may occupy;
+                     * least recently used ones are evicted first.
+                     */
+                    @javax.validation.constraints.Min(1)
+                    private long maxBytes = 64L * 1024 * 1024;
+                }
+            }
+
             private final ApplicationFeatures applicationFeatures = new ApplicationFeatures();
             @Data
             public static class ApplicationFeatures {
@@ -1645,6 +1726,108 @@ public static class RepositoryService {
                  */
                 private boolean disableAutoFlush = false;
 
+                private final Bulk bulk = new Bulk();
+                @Data
+                public static class Bulk {
+                    /**
+                     * The number of objects processed by
+                     * {@link org.apache.isis.applib.services.repository.RepositoryService#persistAll(Iterable)}
+                     * or {@link org.apache.isis.applib.services.repository.RepositoryService#removeAll(Iterable)}
+                     * after which pending changes are flushed to the database.
+                     *
+                     * <p>
+                     *     Setting to 0 disables intermediate flushing, so that these bulk methods behave
+                     *     the same as repeated calls to <code>persist</code> or <code>remove</code>.
+                     * </p>
+                     *
+                     * <p>
+                     *     NOTE: the flushed statements are only sent to the database as JDBC batches if the
+                     *     persistence provider is configured to do so; DataNucleus batches by default (see
+                     *     <code>datanucleus.rdbms.statementBatchLimit</code>), while for EclipseLink this requires
+                     *     <code>eclipselink.jdbc.batch-writing</code> to be set.
+                     * </p>
+                     */
+                    private int flushInterval = 1000;
+
+                    /**
+                     * Whether the objects persisted by
+                     * {@link org.apache.isis.applib.services.repository.RepositoryService#persistAll(Iterable)}
+                     * should be evicted from the persistence context after each flush, so that memory
+                     * consumption does not grow with the number of objects persisted.
+                     *
+                     * <p>
+                     *     Only the objects passed to <code>persistAll</code> are evicted, any other entities
+                     *     the caller holds remain attached. With JDO, objects newly persisted within the
+                     *     current transaction are only released on commit; to bound memory in that case,
+                     *     persist in several transactions.
+                     * </p>
+                     */
+                    private boolean evictOnFlush = true;
+                }
+
+            }
+
+            private final Profiling profiling = new Profiling();
+            @Data
+            public static class Profiling {
+                /**
+                 * Whether a performance profile (SQL statements, facet invocations, events posted, titles
+                 * rendered, specification lookups, serialized bytes and the wall time per phase) is collected
+                 * for every interaction, and aggregated per action or property once the interaction completes.
+                 *
+                 * <p>
+                 *     If <code>micrometer-core</code> is on the classpath, the aggregated profiles are also
+                 *     published as meters (<code>isis.interaction.*</code>, tagged by member).
+                 * </p>
+                 */
+                private boolean enabled = true;
+
+                /**
+                 * Whether any {@link javax.sql.DataSource} beans are wrapped, so as to count the SQL statements
+                 * executed and the time spent executing them.
+                 *
+                 * <p>
+                 *     Only has an effect if profiling is {@link #isEnabled() enabled}.
+                 * </p>
+                 *
+                 * <p>
+                 *     Disabled by default: the beans are replaced by a JDK proxy implementing just
+                 *     {@link javax.sql.DataSource}, so any injection point requiring the concrete type
+                 *     (eg. <code>HikariDataSource</code>) would no longer be satisfied.
+                 * </p>
+                 */
+                private boolean instrumentDataSources = false;
+
+                private final SlowExecutions slowExecutions = new SlowExecutions();
+                @Data
+                public static class SlowExecutions {
+                    /**
+                     * Any action invocation or property edit taking at least this long is sampled: a trace of
+                     * its nested executions, SQL statements, events posted and facet invocations is recorded.
+                     *
+                     * <p>
+                     *     Setting to 0 disables sampling. Only has an effect if profiling is enabled.
+                     * </p>
+                     */
+                    private long thresholdMillis = 2000;
+
+                    /**
+                     * The number of most recent traces retained (in memory).
+                     */
+                    private int capacity = 100;
+
+                    /**
+                     * Whether each trace should also hold the <code>InteractionDto</code> (as XML) of the
+                     * sampled execution, capturing its target and arguments in full.
+                     */
+                    private boolean includeInteractionDto = false;
+
+                    /**
+                     * Whether each trace should also be emitted as a JDK Flight Recorder event
+                     * (<code>org.apache.isis.SlowExecution</code>), so that it shows up in any running recording.
+                     */
+                    private boolean flightRecorderEvents = true;
+                }
             }
 
             private final ExceptionRecognizer exceptionRecognizer = new ExceptionRecognizer();
@@ -1712,6 +1895,16 @@ public static class Po {
                      * </p>
                      */
                     Mode mode = Mode.WRITE;
+
+                    /**
+                     * The locales whose translations are read and compiled upfront, when the service is initialized
+                     * in {@link Mode#READ read} mode (rather than on first use by a request in that locale).
+                     *
+                     * <p>
+                     *     Any other locale is still supported, but its translations are then compiled lazily.
+                     * </p>
+                     */
+                    private List<Locale> locales = new ArrayList<>();
                 }
             }
         }
@@ -1760,6 +1953,37 @@ public static class Schema {
             private String createSchemaSqlTemplate = "CREATE SCHEMA IF NOT EXISTS %S";
 
         }
+
+        private final EntityChangeTracking entityChangeTracking = new EntityChangeTracking();
+        @Data
+        public static class EntityChangeTracking {
+
+            /**
+             * Whether the pre-values of the properties of entities enlisted for change publishing are to be kept
+             * in compact form, bounded in memory; meant for bulk transactions that touch many entities.
+             *
+             * <p>
+             *     If enabled, once the (estimated) size of the pre-values exceeds the {@link #getSpillThreshold()},
+             *     the pre-values of any further entities are spilled to a temporary (memory-mapped) file.
+             *     When the transaction completes, the changed properties are then streamed to the
+             *     {@link org.apache.isis.applib.services.publishing.spi.EntityPropertyChangeSubscriber}s,
+             *     rather than collected up-front.
+             * </p>
+             *
+             * <p>
+             *     For spilled entities, whether a property has changed is decided by comparing the string
+             *     representations of its pre- and post-value.
+             * </p>
+             */
+            private boolean memoryBounded = false;
+
+            /**
+             * Only applies if {@link #isMemoryBounded()}: the (estimated) number of bytes of pre-values to keep
+             * in memory per transaction, before spilling to disk.
+             */
+            private long spillThreshold = 64L * 1024 * 1024;
+
+        }
     }
 
 
@@ -1797,6 +2021,55 @@ public static class Authentication {
              */
             private boolean honorUiHints = false;
 
+            /**
+             * Whether to add an <code>X-Isis-Timing</code> header to every response, holding the performance
+             * profile of the interaction that handled the request (as collected if
+             * <code>isis.core.runtime-services.profiling.enabled</code>).
+             *
+             * <p>
+             *     The header is computed before the response body is written, so does not include the
+             *     time spent rendering the representation.
+             * </p>
+             *
+             * <p>
+             *     Disabled by default, as it exposes details of the server's internals to every client.
+             * </p>
+             */
+            private boolean timingHeader = false;
+
+            /**
+             * Whether the metamodel representations - the <code>/domain-types</code> resources and the
+             * <code>/swagger</code> specs - are rendered once and then served from a cache.
+             *
+             * <p>
+             *     Once introspected the metamodel is immutable, so these representations only vary by the base URI
+             *     and the locale.  Cached representations are served with a strong <code>ETag</code> (so that
+             *     <code>If-None-Match</code> results in a <i>304 Not Modified</i>), and are gzipped if the client
+             *     accepts it.  Requests with a query string are always rendered afresh.
+             * </p>
+             */
+            private boolean cacheMetamodelRepresentations = true;
+
+            /**
+             * Whether the <code>value</code> of list representations (as returned by actions) and of standalone
+             * object collection representations is rendered lazily, one element at a time, while the response
+             * is being written to the client.
+             *
+             * <p>
+             *     This keeps the memory needed to render a response independent of the number of elements, at the
+             *     cost of the response being sent with chunked encoding (no <code>Content-Length</code>); and should
+             *     rendering fail part way through, the client will receive a truncated response rather than an
+             *     error representation.
+             * </p>
+             */
+            private boolean streamCollections = false;
+
+            /**
+             * The maximum number of sub-requests that a single request to the <code>/batch</code> resource may
+             * contain; larger batches are rejected with a <i>400 Bad Request</i>.
+             */
+            private int maxBatchSize = 50;
+
             /**
              * When rendering domain objects, if set the representation returned is stripped back to a minimal set,
              * excluding links to actions and collections and with a simplified representation of an object's
@@ -2078,6 +2351,28 @@ public void setMaxTitleLengthInStandaloneTables(final int val) {
              */
             private boolean redirectEvenIfSameObject = false;
 
+            /**
+             * Whether the contents of parented collections should be loaded lazily (with a separate ajax request
+             * once the page, or the tab holding the collection, is shown) rather than along with the rest of the
+             * page.
+             *
+             * <p>
+             * Applies to collections whose {@link org.apache.isis.applib.annotation.CollectionLayout#loading()} (or the <code>loading</code> attribute
+             * in the layout XML) is left as {@link org.apache.isis.applib.annotation.Loading#AS_CONFIGURED}.  Disabled by default.
+             * </p>
+             */
+            private boolean lazyLoadCollections = false;
+
+            /**
+             * The maximum number of choices to return (in a single request) to a drop-down (select2) for a property
+             * or action parameter with choices or auto-complete; further choices are fetched as the user scrolls.
+             *
+             * <p>
+             *     A value of zero (or less) disables paging, ie all (matching) choices are returned at once.
+             * </p>
+             */
+            private int choicesPageSize = 100;
+
             /**
              * In Firefox and more recent versions of Chrome 54+, cannot copy out of disabled fields; instead we use the
              * readonly attribute (https://www.w3.org/TR/2014/REC-html5-20141028/forms.html#the-readonly-attribute)
@@ -2409,6 +2704,12 @@ public static class DevelopmentUtilities {
                  * </p>
                  */
                 private boolean enable = false;
+
+                /**
+                 * Whether to render the performance profile of the interaction that rendered the page in the
+                 * page's footer (as collected if <code>isis.core.runtime-services.profiling.enabled</code>).
+                 */
+                private boolean timingFooter = false;
             }
 
             private final RememberMe rememberMe = new RememberMe();
@@ -2862,6 +3163,34 @@ public static class DateTime {
                 private String format = "medium";
             }
         }
+
+        private final Asciidoc asciidoc = new Asciidoc();
+        @Data
+        public static class Asciidoc {
+            /**
+             * Whether <code>AsciiDoc</code> values loaded by the JPA or JDO converters are rendered to HTML in the
+             * background, such that their first display is served from the rendering cache.
+             *
+             * <p>
+             *     Disabled by default, because bulk loads would otherwise render many values that are never displayed.
+             * </p>
+             */
+            private boolean prerenderOnLoad = false;
+        }
+
+        private final Markdown markdown = new Markdown();
+        @Data
+        public static class Markdown {
+            /**
+             * Whether <code>Markdown</code> values loaded by the JPA or JDO converters are rendered to HTML in the
+             * background, such that their first display is served from the rendering cache.
+             *
+             * <p>
+             *     Disabled by default, because bulk loads would otherwise render many values that are never displayed.
+             * </p>
+             */
+            private boolean prerenderOnLoad = false;
+        }
     }
 
     private final Testing testing = new Testing();
@@ -3018,6 +3347,25 @@ public enum MultipleExecutionStrategy {
                 @AssignableFrom("org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScript")
                 private Class<?> runScriptDefault = null;
 
+                /**
+                 * The maximum number of fixture scripts that may be executed concurrently when run using
+                 * <code>FixtureScripts#runConcurrently(...)</code> or
+                 * <code>ExecutionContext#executeChildrenConcurrently(...)</code>.
+                 *
+                 * <p>
+                 *     Each such fixture script is executed in its own interaction and transaction, once all of the
+                 *     fixture scripts it depends upon (as declared by <code>FixtureScriptWithDependencies</code>)
+                 *     have completed.  A value of 1 (the default) executes them sequentially.
+                 * </p>
+                 */
+                private int maxConcurrentScripts = 1;
+
+                /**
+                 * The number of fixture results added by a fixture script after which the current transaction is
+                 * flushed.  Setting to 0 (the default) disables batched flushing.
+                 */
+                private int flushBatchSize = 0;
+
             }
 
         }
@@ -3195,6 +3543,69 @@ public static class Exception {
             }
         }
 
+        private final Outbox outbox = new Outbox();
+        @Data
+        public static class Outbox {
+
+            /**
+             * Whether completed {@link org.apache.isis.applib.services.command.Command}s (that changed system state)
+             * are written to the outbox.
+             */
+            private boolean publishCommands = true;
+
+            /**
+             * Whether action invocations and property edits are written to the outbox.
+             */
+            private boolean publishExecutions = true;
+
+            /**
+             * Whether the entity changes of each transaction are written to the outbox.
+             */
+            private boolean publishEntityChanges = true;
+
+            private final Relay relay = new Relay();
+            @Data
+            public static class Relay {
+
+                /**
+                 * Whether the relay polls the outbox in the background; if disabled, the relay must be
+                 * triggered explicitly (eg from a Quartz job).
+                 */
+                private boolean autoStart = true;
+
+                /**
+                 * Delay between the end of one poll of the outbox and the start of the next.
+                 */
+                private Duration pollInterval = Duration.ofSeconds(5);
+
+                /**
+                 * Maximum number of outbox entries drained (and deleted) within a single transaction.
+                 */
+                private int batchSize = 100;
+
+                /**
+                 * Delay before the first retry of an entry whose delivery failed; doubled with each further
+                 * failed attempt, up to {@link #getMaxBackoff()}.
+                 */
+                private Duration initialBackoff = Duration.ofSeconds(1);
+
+                /**
+                 * Upper bound for the delay between retries of an entry whose delivery keeps failing.
+                 */
+                private Duration maxBackoff = Duration.ofMinutes(5);
+            }
+
+            private final FileSink fileSink = new FileSink();
+            @Data
+            public static class FileSink {
+
+                /**
+                 * Directory into which the default (file based) sink writes each relayed entry as an XML file.
+                 */
+                private String directory = "outbox";
+            }
+        }
+
         private final Secman secman = new Secman();
         @Data
         public static class Secman {
@@ -51,12 +51,13 @@ public interface IsisBeanTypeClassifier {
      * in support of JUnit testing
      */
     static IsisBeanTypeClassifier createInstance() {
-        return new IsisBeanTypeClassifierDefault(Can.empty());
+        return new IsisBeanTypeClassifierDefault(Can.empty(), IsisBeanTypeIndex.empty());
     }
 
     static IsisBeanTypeClassifier createInstance(final @NonNull ApplicationContext applicationContext) {
         return new IsisBeanTypeClassifierDefault(
-                Can.ofArray(applicationContext.getEnvironment().getActiveProfiles()));
+                Can.ofArray(applicationContext.getEnvironment().getActiveProfiles()),
+                IsisBeanTypeIndex.load());
     }
 
     // -- LOOKUP
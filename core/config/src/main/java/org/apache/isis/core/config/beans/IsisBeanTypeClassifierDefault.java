@@ -18,25 +18,16 @@
  */
 package org.apache.isis.core.config.beans;
 
-import java.io.Serializable;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
-import java.util.Locale;
+import java.util.Optional;
 
-import javax.persistence.Entity;
-import javax.persistence.Table;
+import org.springframework.core.annotation.AnnotationUtils;
 
-import org.springframework.context.annotation.Profile;
-import org.springframework.stereotype.Component;
-
-import org.apache.isis.applib.annotation.DomainObject;
-import org.apache.isis.applib.annotation.DomainService;
 import org.apache.isis.applib.services.metamodel.BeanSort;
 import org.apache.isis.commons.collections.Can;
-import org.apache.isis.commons.internal.base._Strings;
-import org.apache.isis.core.config.progmodel.ProgrammingModelConstants.TypeVetoMarker;
-
-import static org.apache.isis.commons.internal.reflection._Annotations.findNearestAnnotation;
+import org.apache.isis.commons.internal.reflection._Annotations;
 
 import lombok.AccessLevel;
 import lombok.NonNull;
@@ -48,7 +39,10 @@
 final class IsisBeanTypeClassifierDefault
 implements IsisBeanTypeClassifier {
 
+    private static final IsisBeanTypeClassifierRules<Class<?>, Annotation> RULES = new ClassRules();
+
     private final Can<String> activeProfiles;
+    private final IsisBeanTypeIndex typeIndex;
     private final Can<IsisBeanTypeClassifier> classifierPlugins = IsisBeanTypeClassifier.get();
 
     @Override
@@ -80,37 +74,28 @@ public BeanClassification classify(
             return BeanClassification.delegated(BeanSort.ABSTRACT);
         }
 
+        // use the build-time classification, if available ...
+
+        val indexEntry = typeIndex.lookup(type.getName()).orElse(null);
+        if(indexEntry!=null) {
+            return classify(type, indexEntry);
+        }
+
         // handle vetoing ...
 
-        for(TypeVetoMarker vetoMarker : TypeVetoMarker.values()) {
-            if(findNearestAnnotation(type, vetoMarker.getAnnotationType()).isPresent()) {
-                return BeanClassification.selfManaged(BeanSort.VETOED); // reject
-            }
+        if(RULES.isVetoed(type)) {
+            return BeanClassification.selfManaged(BeanSort.VETOED); // reject
         }
 
-        val profiles = Can.ofArray(findNearestAnnotation(type, Profile.class)
-                .map(Profile::value)
-                .orElse(null));
+        val profiles = RULES.profiles(type);
         if(profiles.isNotEmpty()
                 && !profiles.stream().anyMatch(this::isProfileActive)) {
             return BeanClassification.selfManaged(BeanSort.VETOED); // reject
         }
 
-        // handle value types ...
-
-        val aValue = findNearestAnnotation(type, org.apache.isis.applib.annotation.Value.class)
-                .orElse(null);
-        if(aValue!=null) {
-            return BeanClassification.delegated(BeanSort.VALUE);
-        }
-
-        // handle actual bean types ...
-
-        val aDomainService = findNearestAnnotation(type, DomainService.class);
-        if(aDomainService.isPresent()) {
-            return BeanClassification
-                    .delegated(BeanSort.MANAGED_BEAN_CONTRIBUTING,
-                            aDomainService.get().logicalTypeName());
+        val classificationBeforePlugins = RULES.classifyBeforePlugins(type);
+        if(classificationBeforePlugins.isPresent()) {
+            return classificationBeforePlugins.get();
         }
 
         // allow ServiceLoader plugins to have a say, eg. when classifying entity types
@@ -121,72 +106,77 @@ public BeanClassification classify(
             }
         }
 
-        if(org.apache.isis.applib.ViewModel.class.isAssignableFrom(type)) {
-            return BeanClassification.selfManaged(BeanSort.VIEW_MODEL);
-        }
+        return RULES.classifyAfterPlugins(type);
+    }
 
-        val entityAnnotation = findNearestAnnotation(type, Entity.class).orElse(null);
-        if(entityAnnotation!=null) {
+    // -- HELPER
 
-            String logicalTypeName = null;
+    /**
+     * Same decisions as above, but taken from the {@link IsisBeanTypeIndex}, except for those
+     * that can only be made at runtime.
+     */
+    private BeanClassification classify(
+            final Class<?> type,
+            final IsisBeanTypeIndex.Entry indexEntry) {
 
-            val aDomainObject = findNearestAnnotation(type, DomainObject.class).orElse(null);
-            if(aDomainObject!=null) {
-                logicalTypeName = aDomainObject.logicalTypeName();
-            }
+        val profiles = indexEntry.getProfiles();
+        if(profiles.isNotEmpty()
+                && !profiles.stream().anyMatch(this::isProfileActive)) {
+            return BeanClassification.selfManaged(BeanSort.VETOED); // reject
+        }
 
-            // don't trample over the @DomainObject(logicalTypeName=..) if present
-            if(_Strings.isEmpty(logicalTypeName)) {
-                val aTable = findNearestAnnotation(type, Table.class).orElse(null);
-                if(aTable!=null) {
-                    val schema = aTable.schema();
-                    if(_Strings.isNotEmpty(schema)) {
-                        val table = aTable.name();
-                        logicalTypeName = String.format("%s.%s", schema.toLowerCase(Locale.ROOT),
-                                _Strings.isNotEmpty(table)
-                                    ? table
-                                    : type.getSimpleName());
-                    }
+        if(indexEntry.isOverridableByPlugins()) {
+            for(val classifier : classifierPlugins) {
+                val classification = classifier.classify(type);
+                if(classification!=null) {
+                    return classification;
                 }
             }
+        }
 
-            if(_Strings.isNotEmpty(logicalTypeName)) {
-                BeanClassification.selfManaged(
-                        BeanSort.ENTITY, logicalTypeName);
-            }
-            return BeanClassification.selfManaged(BeanSort.ENTITY);
+        return BeanClassification.of(
+                indexEntry.getBeanSort(),
+                indexEntry.getExplicitLogicalTypeName(),
+                indexEntry.isDelegated());
+    }
+
+    /**
+     * {@link IsisBeanTypeClassifierRules} introspecting classes, with annotations synthesized.
+     */
+    private static final class ClassRules extends IsisBeanTypeClassifierRules<Class<?>, Annotation> {
+
+        @Override
+        protected Optional<Annotation> findNearestAnnotation(
+                final Class<?> type,
+                final Class<? extends Annotation> annotationType) {
+            return _Annotations.findNearestAnnotation(type, annotationType)
+                    .map(Annotation.class::cast);
         }
 
-        val aDomainObject = findNearestAnnotation(type, DomainObject.class).orElse(null);
-        if(aDomainObject!=null) {
-            switch (aDomainObject.nature()) {
-            case BEAN:
-                return BeanClassification.delegated(
-                        BeanSort.MANAGED_BEAN_CONTRIBUTING,
-                        aDomainObject.logicalTypeName());
-            case MIXIN:
-                return BeanClassification.selfManaged(BeanSort.MIXIN);
-            case ENTITY:
-                return BeanClassification.selfManaged(BeanSort.ENTITY);
-            case VIEW_MODEL:
-            case NOT_SPECIFIED:
-                //because object is not associated with a persistence context unless discovered above
-                return BeanClassification.selfManaged(BeanSort.VIEW_MODEL);
-            }
+        @Override
+        protected String stringAttribute(final Annotation annotation, final String attributeName) {
+            return (String) AnnotationUtils.getValue(annotation, attributeName);
         }
 
-        if(findNearestAnnotation(type, Component.class).isPresent()) {
-            return BeanClassification.delegated(BeanSort.MANAGED_BEAN_NOT_CONTRIBUTING);
+        @Override
+        protected Can<String> stringArrayAttribute(final Annotation annotation, final String attributeName) {
+            return Can.ofArray((String[]) AnnotationUtils.getValue(annotation, attributeName));
         }
 
-        if(Serializable.class.isAssignableFrom(type)) {
-            return BeanClassification.delegated(BeanSort.VALUE);
+        @Override
+        protected <E extends Enum<E>> E enumAttribute(
+                final Annotation annotation,
+                final String attributeName,
+                final Class<E> enumType) {
+            return enumType.cast(AnnotationUtils.getValue(annotation, attributeName));
         }
 
-        return BeanClassification.delegated(BeanSort.UNKNOWN);
-    }
+        @Override
+        protected boolean isAssignableTo(final Class<?> type, final Class<?> superType) {
+            return superType.isAssignableFrom(type);
+        }
 
-    // -- HELPER
+    }
 
     //XXX yet this is a naive implementation, not evaluating any expression logic like eg. @Profile("!dev")
     //either we find a Spring Boot utility class that does this logic for us, or we make it clear with the
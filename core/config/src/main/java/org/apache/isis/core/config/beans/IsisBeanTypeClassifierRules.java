@@ -0,0 +1,163 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.config.beans;
+
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.util.Optional;
+
+import javax.persistence.Entity;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import org.apache.isis.applib.ViewModel;
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.DomainService;
+import org.apache.isis.applib.annotation.Nature;
+import org.apache.isis.applib.annotation.Value;
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.config.beans.IsisBeanTypeClassifier.BeanClassification;
+import org.apache.isis.core.config.progmodel.ProgrammingModelConstants.TypeVetoMarker;
+
+import lombok.val;
+
+/**
+ * The rules for classifying concrete types, shared by {@link IsisBeanTypeClassifierDefault} (introspecting
+ * classes at runtime) and {@link IsisBeanTypeIndexProcessor} (introspecting type elements at build-time),
+ * so that both come to the same conclusion.
+ * <p>
+ * The rules are split at the point, where {@link IsisBeanTypeClassifier} plugins get their say; also
+ * {@link Profile profiles} are only collected, as these can only be evaluated at runtime.
+ *
+ * @param <T> how types are represented
+ * @param <A> how annotations are represented
+ *
+ * @since 2.0
+ */
+abstract class IsisBeanTypeClassifierRules<T, A> {
+
+    // -- RULES
+
+    /**
+     * Whether the type is vetoed by any of the {@link TypeVetoMarker}s.
+     */
+    public final boolean isVetoed(final T type) {
+        for(TypeVetoMarker vetoMarker : TypeVetoMarker.values()) {
+            if(findNearestAnnotation(type, vetoMarker.getAnnotationType()).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Spring profiles the type is restricted to, if any.
+     */
+    public final Can<String> profiles(final T type) {
+        return findNearestAnnotation(type, Profile.class)
+                .map(aProfile->stringArrayAttribute(aProfile, "value"))
+                .orElseGet(Can::empty);
+    }
+
+    /**
+     * The classification as decided before any {@link IsisBeanTypeClassifier} plugins get their say, if any.
+     */
+    public final Optional<BeanClassification> classifyBeforePlugins(final T type) {
+
+        // handle value types ...
+
+        if(findNearestAnnotation(type, Value.class).isPresent()) {
+            return Optional.of(BeanClassification.delegated(BeanSort.VALUE));
+        }
+
+        // handle actual bean types ...
+
+        val aDomainService = findNearestAnnotation(type, DomainService.class);
+        if(aDomainService.isPresent()) {
+            return Optional.of(BeanClassification
+                    .delegated(BeanSort.MANAGED_BEAN_CONTRIBUTING,
+                            stringAttribute(aDomainService.get(), "logicalTypeName")));
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * The classification as decided after {@link IsisBeanTypeClassifier} plugins (if any) had their say,
+     * but did not decide.
+     */
+    public final BeanClassification classifyAfterPlugins(final T type) {
+
+        if(isAssignableTo(type, ViewModel.class)) {
+            return BeanClassification.selfManaged(BeanSort.VIEW_MODEL);
+        }
+
+        if(findNearestAnnotation(type, Entity.class).isPresent()) {
+            // no logical type name is passed on for entities
+            return BeanClassification.selfManaged(BeanSort.ENTITY);
+        }
+
+        val aDomainObject = findNearestAnnotation(type, DomainObject.class).orElse(null);
+        if(aDomainObject!=null) {
+            switch (enumAttribute(aDomainObject, "nature", Nature.class)) {
+            case BEAN:
+                return BeanClassification.delegated(
+                        BeanSort.MANAGED_BEAN_CONTRIBUTING,
+                        stringAttribute(aDomainObject, "logicalTypeName"));
+            case MIXIN:
+                return BeanClassification.selfManaged(BeanSort.MIXIN);
+            case ENTITY:
+                return BeanClassification.selfManaged(BeanSort.ENTITY);
+            case VIEW_MODEL:
+            case NOT_SPECIFIED:
+                //because object is not associated with a persistence context unless discovered above
+                return BeanClassification.selfManaged(BeanSort.VIEW_MODEL);
+            }
+        }
+
+        if(findNearestAnnotation(type, Component.class).isPresent()) {
+            return BeanClassification.delegated(BeanSort.MANAGED_BEAN_NOT_CONTRIBUTING);
+        }
+
+        if(isAssignableTo(type, Serializable.class)) {
+            return BeanClassification.delegated(BeanSort.VALUE);
+        }
+
+        return BeanClassification.delegated(BeanSort.UNKNOWN);
+    }
+
+    // -- INTROSPECTION
+
+    /**
+     * Searches the type itself, its meta-annotations and its super-classes
+     * (if {@link java.lang.annotation.Inherited inherited}), the nearest annotation winning.
+     */
+    protected abstract Optional<A> findNearestAnnotation(T type, Class<? extends Annotation> annotationType);
+
+    protected abstract String stringAttribute(A annotation, String attributeName);
+
+    protected abstract Can<String> stringArrayAttribute(A annotation, String attributeName);
+
+    protected abstract <E extends Enum<E>> E enumAttribute(A annotation, String attributeName, Class<E> enumType);
+
+    protected abstract boolean isAssignableTo(T type, Class<?> superType);
+
+}
@@ -0,0 +1,178 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.config.beans;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.context._Context;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Build-time index of type classifications, as written by the {@link IsisBeanTypeIndexProcessor}
+ * into each jar that opts in, and read at bootstrap by the {@link IsisBeanTypeClassifier}.
+ * <p>
+ * Types listed in the index are classified without any annotation synthesis; types not listed
+ * (eg. those of jars compiled without the processor) are classified by introspection, as before.
+ *
+ * @since 2.0
+ */
+@Log4j2
+final class IsisBeanTypeIndex {
+
+    /**
+     * Class-path location of the index within each jar.
+     */
+    static final String LOCATION = "META-INF/isis/bean-types.properties";
+
+    private static final String SEPARATOR = "|";
+    private static final String LIST_SEPARATOR = ",";
+
+    private final Map<String, Entry> entriesByClassName;
+
+    private IsisBeanTypeIndex(final Map<String, Entry> entriesByClassName) {
+        this.entriesByClassName = entriesByClassName;
+    }
+
+    public Optional<Entry> lookup(final @NonNull String className) {
+        return Optional.ofNullable(entriesByClassName.get(className));
+    }
+
+    public boolean isEmpty() {
+        return entriesByClassName.isEmpty();
+    }
+
+    // -- FACTORIES
+
+    static IsisBeanTypeIndex empty() {
+        return new IsisBeanTypeIndex(Collections.emptyMap());
+    }
+
+    /**
+     * in support of JUnit testing
+     */
+    static IsisBeanTypeIndex of(final @NonNull Map<String, Entry> entriesByClassName) {
+        return new IsisBeanTypeIndex(Collections.unmodifiableMap(entriesByClassName));
+    }
+
+    /**
+     * Merges all indexes found on the class-path.
+     */
+    static IsisBeanTypeIndex load() {
+        final Map<String, Entry> entriesByClassName = _Maps.newHashMap();
+        try {
+            val resources = _Context.getDefaultClassLoader().getResources(LOCATION);
+            while(resources.hasMoreElements()) {
+                val url = resources.nextElement();
+                readInto(url, entriesByClassName);
+            }
+        } catch (IOException e) {
+            log.warn("failed to read bean type index(es), falling back to type introspection", e);
+            return empty();
+        }
+        log.debug("bean type index(es) list {} types", entriesByClassName.size());
+        return new IsisBeanTypeIndex(entriesByClassName);
+    }
+
+    // -- ENTRY
+
+    /**
+     * The classification of a single type, as decided at build-time.
+     */
+    @Value(staticConstructor = "of")
+    static class Entry {
+
+        private final @NonNull BeanSort beanSort;
+        private final boolean delegated;
+
+        /**
+         * Whether the classification was decided only after the point, where {@link IsisBeanTypeClassifier}
+         * plugins get their say, in which case these still need to be consulted at runtime.
+         */
+        private final boolean overridableByPlugins;
+
+        private final @Nullable String explicitLogicalTypeName;
+
+        /**
+         * Spring profiles the type is restricted to, if any; these can only be evaluated at runtime.
+         */
+        private final @NonNull Can<String> profiles;
+
+        public String encode() {
+            return String.join(SEPARATOR,
+                    beanSort.name(),
+                    ""+delegated,
+                    ""+overridableByPlugins,
+                    _Strings.nullToEmpty(explicitLogicalTypeName),
+                    String.join(LIST_SEPARATOR, profiles.toList()));
+        }
+
+        /**
+         * @throws IllegalArgumentException if not parseable
+         */
+        public static Entry parse(final @NonNull String encoded) {
+            val parts = encoded.split("\\" + SEPARATOR, -1);
+            if(parts.length!=5) {
+                throw new IllegalArgumentException(
+                        String.format("malformed bean type index entry '%s'", encoded));
+            }
+            return of(
+                    BeanSort.valueOf(parts[0]),
+                    Boolean.parseBoolean(parts[1]),
+                    Boolean.parseBoolean(parts[2]),
+                    _Strings.emptyToNull(parts[3]),
+                    _Strings.isEmpty(parts[4])
+                        ? Can.empty()
+                        : Can.ofArray(parts[4].split(LIST_SEPARATOR)));
+        }
+
+    }
+
+    // -- HELPER
+
+    private static void readInto(final URL url, final Map<String, Entry> entriesByClassName) throws IOException {
+        val properties = new Properties();
+        try(InputStream is = url.openStream()) {
+            properties.load(is);
+        }
+        properties.forEach((className, encoded)->{
+            try {
+                entriesByClassName.put((String)className, Entry.parse((String)encoded));
+            } catch (IllegalArgumentException e) {
+                log.warn("{}: skipping {}", url, e.getMessage());
+            }
+        });
+    }
+
+}
@@ -0,0 +1,301 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.config.beans;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.config.beans.IsisBeanTypeClassifier.BeanClassification;
+import org.apache.isis.core.config.beans.IsisBeanTypeIndex.Entry;
+
+import lombok.val;
+
+/**
+ * Annotation processor that classifies all concrete types of a compilation unit, the same way
+ * {@link IsisBeanTypeClassifierDefault} would at runtime, and writes the result into the jar's
+ * {@link IsisBeanTypeIndex}; this spares annotation synthesis during bootstrapping.
+ * <p>
+ * Opt-in: deliberately not registered as a service, which would have it run by every build that has
+ * <code>isis-core-config</code> on its compile class-path. Instead it has to be named explicitly,
+ * which disables the discovery of any other processors, so these (eg. Lombok's) need to be named too:
+ * <pre>
+ * &lt;plugin&gt;
+ *     &lt;artifactId&gt;maven-compiler-plugin&lt;/artifactId&gt;
+ *     &lt;configuration&gt;
+ *         &lt;annotationProcessorPaths&gt;
+ *             &lt;path&gt;
+ *                 &lt;groupId&gt;org.projectlombok&lt;/groupId&gt;
+ *                 &lt;artifactId&gt;lombok&lt;/artifactId&gt;
+ *                 &lt;version&gt;${lombok.version}&lt;/version&gt;
+ *             &lt;/path&gt;
+ *             &lt;path&gt;
+ *                 &lt;groupId&gt;org.apache.isis.core&lt;/groupId&gt;
+ *                 &lt;artifactId&gt;isis-core-config&lt;/artifactId&gt;
+ *                 &lt;version&gt;${isis.version}&lt;/version&gt;
+ *             &lt;/path&gt;
+ *         &lt;/annotationProcessorPaths&gt;
+ *         &lt;annotationProcessors&gt;
+ *             &lt;annotationProcessor&gt;lombok.launch.AnnotationProcessorHider$AnnotationProcessor&lt;/annotationProcessor&gt;
+ *             &lt;annotationProcessor&gt;org.apache.isis.core.config.beans.IsisBeanTypeIndexProcessor&lt;/annotationProcessor&gt;
+ *         &lt;/annotationProcessors&gt;
+ *     &lt;/configuration&gt;
+ * &lt;/plugin&gt;
+ * </pre>
+ * <p>
+ * The classification itself is delegated to the {@link IsisBeanTypeClassifierRules}, as shared with
+ * {@link IsisBeanTypeClassifierDefault}.
+ *
+ * @since 2.0
+ */
+@SupportedAnnotationTypes("*")
+public class IsisBeanTypeIndexProcessor extends AbstractProcessor {
+
+    /**
+     * index entries by binary class name, as collected over all rounds
+     */
+    private final Map<String, String> entries = new TreeMap<>();
+
+    private final TypeElementRules rules = new TypeElementRules();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if(roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            roundEnv.getRootElements().forEach(this::collect);
+        }
+        return false; // never claim any annotations
+    }
+
+    // -- CLASSIFICATION
+
+    private void collect(final Element element) {
+        if(!(element instanceof TypeElement)) {
+            return;
+        }
+        val type = (TypeElement) element;
+        if(type.getKind() == ElementKind.CLASS
+                && !type.getModifiers().contains(Modifier.ABSTRACT)) {
+            val className = processingEnv.getElementUtils().getBinaryName(type).toString();
+            entries.put(className, classify(type).encode());
+        }
+        ElementFilter.typesIn(type.getEnclosedElements()).forEach(this::collect);
+    }
+
+    /**
+     * Mirrors {@link IsisBeanTypeClassifierDefault#classify(Class)}, for concrete types only.
+     */
+    private Entry classify(final TypeElement type) {
+
+        if(rules.isVetoed(type)) {
+            return Entry.of(BeanSort.VETOED, false, false, null, Can.empty());
+        }
+
+        // profiles can only be evaluated at runtime
+        val profiles = rules.profiles(type);
+
+        val classificationBeforePlugins = rules.classifyBeforePlugins(type);
+        if(classificationBeforePlugins.isPresent()) {
+            return entryOf(classificationBeforePlugins.get(), false, profiles);
+        }
+
+        // from here on, classifier plugins (if any) get their say first, at runtime
+
+        return entryOf(rules.classifyAfterPlugins(type), true, profiles);
+    }
+
+    private static Entry entryOf(
+            final BeanClassification classification,
+            final boolean overridableByPlugins,
+            final Can<String> profiles) {
+        return Entry.of(
+                classification.getBeanSort(),
+                classification.isDelegateLifecycleManagement(),
+                overridableByPlugins,
+                classification.getExplicitLogicalTypeName(),
+                profiles);
+    }
+
+    // -- ANNOTATION LOOKUP
+
+    /**
+     * {@link IsisBeanTypeClassifierRules} introspecting type elements, as seen by the compiler.
+     */
+    private final class TypeElementRules extends IsisBeanTypeClassifierRules<TypeElement, AnnotationMirror> {
+
+        /**
+         * Searches breadth-first, so the nearest annotation wins; direct and inherited annotations
+         * come first, then their meta-annotations.
+         */
+        @Override
+        protected Optional<AnnotationMirror> findNearestAnnotation(
+                final TypeElement type,
+                final Class<? extends Annotation> annotationType) {
+
+            val annotationName = annotationType.getCanonicalName();
+            val queue = new ArrayDeque<AnnotationMirror>(
+                    processingEnv.getElementUtils().getAllAnnotationMirrors(type));
+            val visited = new HashSet<String>();
+
+            while(!queue.isEmpty()) {
+                val annotation = queue.poll();
+                val annotationElement = (TypeElement) annotation.getAnnotationType().asElement();
+                val name = annotationElement.getQualifiedName().toString();
+                if(name.equals(annotationName)) {
+                    return Optional.of(annotation);
+                }
+                if(visited.add(name)
+                        && !name.startsWith("java.lang.annotation.")) {
+                    queue.addAll(annotationElement.getAnnotationMirrors());
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        protected String stringAttribute(final AnnotationMirror annotation, final String attributeName) {
+            val value = attribute(annotation, attributeName);
+            return value instanceof String
+                    ? (String) value
+                    : null;
+        }
+
+        @Override
+        protected Can<String> stringArrayAttribute(final AnnotationMirror annotation, final String attributeName) {
+            val value = attribute(annotation, attributeName);
+            if(!(value instanceof List)) {
+                return Can.empty();
+            }
+            return Can.ofStream(((List<?>) value).stream()
+                    .map(AnnotationValue.class::cast)
+                    .map(AnnotationValue::getValue)
+                    .map(String.class::cast));
+        }
+
+        @Override
+        protected <E extends Enum<E>> E enumAttribute(
+                final AnnotationMirror annotation,
+                final String attributeName,
+                final Class<E> enumType) {
+            val value = (VariableElement) attribute(annotation, attributeName);
+            return Enum.valueOf(enumType, value.getSimpleName().toString());
+        }
+
+        @Override
+        protected boolean isAssignableTo(final TypeElement type, final Class<?> superType) {
+            val superTypeElement = processingEnv.getElementUtils().getTypeElement(superType.getCanonicalName());
+            if(superTypeElement==null) {
+                return false;
+            }
+            val types = processingEnv.getTypeUtils();
+            return types.isAssignable(
+                    types.erasure(type.asType()),
+                    types.erasure(superTypeElement.asType()));
+        }
+
+        private Object attribute(final AnnotationMirror annotation, final String attributeName) {
+            for(val entry : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+                if(entry.getKey().getSimpleName().contentEquals(attributeName)) {
+                    return entry.getValue().getValue();
+                }
+            }
+            return null;
+        }
+
+    }
+
+    // -- INDEX FILE
+
+    private void writeIndex() {
+        val merged = new TreeMap<String, String>();
+        readPreviousIndex(merged); // in support of incremental builds
+        merged.putAll(entries);
+        if(merged.isEmpty()) {
+            return;
+        }
+        try {
+            val resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", IsisBeanTypeIndex.LOCATION);
+            try(Writer writer = resource.openWriter()) {
+                // not using Properties.store(..), which would add a time-stamp, breaking reproducible builds
+                for(val entry : merged.entrySet()) {
+                    writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "failed to write bean type index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Keeps entries of a previous build for types that still exist (but were not compiled this time).
+     */
+    private void readPreviousIndex(final Map<String, String> merged) {
+        val properties = new Properties();
+        try {
+            val resource = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", IsisBeanTypeIndex.LOCATION);
+            try(InputStream is = resource.openInputStream()) {
+                properties.load(is);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return; // no previous index
+        }
+        val elements = processingEnv.getElementUtils();
+        properties.forEach((className, encoded)->{
+            if(elements.getTypeElement(((String)className).replace('$', '.'))!=null) {
+                merged.put((String)className, (String)encoded);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,243 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.config.beans;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._Strings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class IsisBeanTypeIndexProcessor_Test {
+
+    private static final Map<String, String> SOURCES = new TreeMap<>();
+    static {
+        SOURCES.put("fixture.Customers",
+                "@org.apache.isis.applib.annotation.DomainService(logicalTypeName = \"fixture.Customers\")\n"
+                + "public class Customers {}");
+        SOURCES.put("fixture.Customer",
+                "@org.apache.isis.applib.annotation.DomainObject(nature = org.apache.isis.applib.annotation.Nature.VIEW_MODEL)\n"
+                + "public class Customer {}");
+        SOURCES.put("fixture.Order",
+                "@javax.persistence.Entity\n"
+                + "public class Order {}");
+        SOURCES.put("fixture.OrderMixin",
+                "@org.apache.isis.applib.annotation.DomainObject(nature = org.apache.isis.applib.annotation.Nature.MIXIN)\n"
+                + "public class OrderMixin {}");
+        SOURCES.put("fixture.Calculator",
+                "@org.apache.isis.applib.annotation.DomainObject(nature = org.apache.isis.applib.annotation.Nature.BEAN,"
+                + " logicalTypeName = \"fixture.Calculator\")\n"
+                + "public class Calculator {}");
+        SOURCES.put("fixture.Money",
+                "@org.apache.isis.applib.annotation.Value\n"
+                + "public class Money {}");
+        SOURCES.put("fixture.Helper",
+                "@org.springframework.stereotype.Component\n"
+                + "public class Helper {}");
+        SOURCES.put("fixture.DevOnlyHelper",
+                "@org.springframework.stereotype.Component\n"
+                + "@org.springframework.context.annotation.Profile({\"dev\", \"test\"})\n"
+                + "public class DevOnlyHelper {}");
+        SOURCES.put("fixture.Excluded",
+                "@org.apache.isis.applib.annotation.Domain.Exclude\n"
+                + "@org.apache.isis.applib.annotation.DomainObject\n"
+                + "public class Excluded {}");
+        SOURCES.put("fixture.Memento",
+                "public class Memento implements org.apache.isis.applib.ViewModel {\n"
+                + "  public String viewModelMemento() { return null; }\n"
+                + "}");
+        SOURCES.put("fixture.Dto",
+                "public class Dto implements java.io.Serializable {}");
+        SOURCES.put("fixture.Plain",
+                "public class Plain {\n"
+                + "  @org.apache.isis.applib.annotation.DomainObject\n"
+                + "  public static class Nested {}\n"
+                + "}");
+        SOURCES.put("fixture.AbstractBase",
+                "@org.apache.isis.applib.annotation.DomainObject(nature = org.apache.isis.applib.annotation.Nature.MIXIN)\n"
+                + "public abstract class AbstractBase {}");
+        SOURCES.put("fixture.InheritingMixin",
+                "public class InheritingMixin extends AbstractBase {}");
+        SOURCES.put("fixture.MetaAnnotated",
+                "@MetaAnnotated.MyViewModel\n"
+                + "public class MetaAnnotated {\n"
+                + "  @org.apache.isis.applib.annotation.DomainObject\n"
+                + "  @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n"
+                + "  public @interface MyViewModel {}\n"
+                + "}");
+    }
+
+    @TempDir static Path outputDir;
+
+    private static Map<String, IsisBeanTypeIndex.Entry> index;
+    private static URLClassLoader compiledClasses;
+
+    @BeforeAll
+    static void compileWithProcessor() throws IOException {
+        val compilationUnits = new ArrayList<JavaFileObject>();
+        SOURCES.forEach((className, body)->compilationUnits.add(source(className, body)));
+
+        val compiler = ToolProvider.getSystemJavaCompiler();
+        val success = compiler.getTask(null, null, null,
+                List.of(
+                        "-classpath", System.getProperty("java.class.path"),
+                        "-d", outputDir.toString(),
+                        "-processor", IsisBeanTypeIndexProcessor.class.getName()),
+                null,
+                compilationUnits)
+        .call();
+        assertTrue(success);
+
+        val properties = new Properties();
+        try(InputStream is = Files.newInputStream(outputDir.resolve(IsisBeanTypeIndex.LOCATION))) {
+            properties.load(is);
+        }
+        index = new TreeMap<>();
+        properties.forEach((className, encoded)->
+            index.put((String) className, IsisBeanTypeIndex.Entry.parse((String) encoded)));
+
+        compiledClasses = new URLClassLoader(
+                new URL[] {outputDir.toUri().toURL()},
+                IsisBeanTypeIndexProcessor_Test.class.getClassLoader());
+    }
+
+    @Test
+    void lists_concrete_classes_only() {
+        assertNotNull(index.get("fixture.Plain$Nested"));
+        assertNotNull(index.get("fixture.InheritingMixin"));
+        assertFalse(index.containsKey("fixture.AbstractBase"));
+        assertFalse(index.containsKey("fixture.MetaAnnotated$MyViewModel"));
+    }
+
+    @Test
+    void classifies() {
+        assertEntry("fixture.Customers", BeanSort.MANAGED_BEAN_CONTRIBUTING, true, false, "fixture.Customers");
+        assertEntry("fixture.Money", BeanSort.VALUE, true, false, null);
+        assertEntry("fixture.Excluded", BeanSort.VETOED, false, false, null);
+
+        assertEntry("fixture.Customer", BeanSort.VIEW_MODEL, false, true, null);
+        assertEntry("fixture.Memento", BeanSort.VIEW_MODEL, false, true, null);
+        assertEntry("fixture.Order", BeanSort.ENTITY, false, true, null);
+        assertEntry("fixture.OrderMixin", BeanSort.MIXIN, false, true, null);
+        assertEntry("fixture.InheritingMixin", BeanSort.MIXIN, false, true, null);
+        assertEntry("fixture.Calculator", BeanSort.MANAGED_BEAN_CONTRIBUTING, true, true, "fixture.Calculator");
+        assertEntry("fixture.Helper", BeanSort.MANAGED_BEAN_NOT_CONTRIBUTING, true, true, null);
+        assertEntry("fixture.Dto", BeanSort.VALUE, true, true, null);
+        assertEntry("fixture.Plain", BeanSort.UNKNOWN, true, true, null);
+        assertEntry("fixture.Plain$Nested", BeanSort.VIEW_MODEL, false, true, null);
+        assertEntry("fixture.MetaAnnotated", BeanSort.VIEW_MODEL, false, true, null);
+    }
+
+    @Test
+    void records_profiles() {
+        assertEquals(Can.ofArray(new String[] {"dev", "test"}), index.get("fixture.DevOnlyHelper").getProfiles());
+        assertTrue(index.get("fixture.Helper").getProfiles().isEmpty());
+    }
+
+    /**
+     * Both share the {@link IsisBeanTypeClassifierRules}, so have to agree.
+     */
+    @Test
+    void agrees_with_runtime_classification() throws Exception {
+        val withoutIndex = new IsisBeanTypeClassifierDefault(
+                Can.ofArray(new String[] {"dev"}), IsisBeanTypeIndex.empty());
+        val withIndex = new IsisBeanTypeClassifierDefault(
+                Can.ofArray(new String[] {"dev"}), IsisBeanTypeIndex.of(index));
+
+        for(val className : index.keySet()) {
+            val type = compiledClasses.loadClass(className);
+            val expected = withoutIndex.classify(type);
+            val actual = withIndex.classify(type);
+
+            assertEquals(expected.getBeanSort(), actual.getBeanSort(), className);
+            assertEquals(expected.isDelegateLifecycleManagement(), actual.isDelegateLifecycleManagement(), className);
+            assertEquals(
+                    _Strings.emptyToNull(expected.getExplicitLogicalTypeName()),
+                    _Strings.emptyToNull(actual.getExplicitLogicalTypeName()),
+                    className);
+        }
+    }
+
+    @Test
+    void evaluates_recorded_profiles_at_runtime() throws Exception {
+        val type = compiledClasses.loadClass("fixture.DevOnlyHelper");
+
+        assertEquals(BeanSort.MANAGED_BEAN_NOT_CONTRIBUTING,
+                new IsisBeanTypeClassifierDefault(Can.ofArray(new String[] {"test"}), IsisBeanTypeIndex.of(index))
+                    .classify(type).getBeanSort());
+        assertEquals(BeanSort.VETOED,
+                new IsisBeanTypeClassifierDefault(Can.ofArray(new String[] {"prod"}), IsisBeanTypeIndex.of(index))
+                    .classify(type).getBeanSort());
+    }
+
+    // -- HELPER
+
+    private static void assertEntry(
+            final String className,
+            final BeanSort beanSort,
+            final boolean delegated,
+            final boolean overridableByPlugins,
+            final String explicitLogicalTypeName) {
+        val entry = index.get(className);
+        assertNotNull(entry, className);
+        assertEquals(beanSort, entry.getBeanSort(), className);
+        assertEquals(delegated, entry.isDelegated(), className);
+        assertEquals(overridableByPlugins, entry.isOverridableByPlugins(), className);
+        assertEquals(explicitLogicalTypeName, entry.getExplicitLogicalTypeName(), className);
+    }
+
+    private static JavaFileObject source(final String className, final String body) {
+        val packageName = className.substring(0, className.lastIndexOf('.'));
+        return new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return "package " + packageName + ";\n" + body;
+            }
+        };
+    }
+
+}
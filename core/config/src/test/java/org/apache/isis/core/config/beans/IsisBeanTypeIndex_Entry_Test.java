@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.config.beans;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.collections.Can;
+
+public class IsisBeanTypeIndex_Entry_Test {
+
+    @Test
+    public void round_trip() {
+        final IsisBeanTypeIndex.Entry entry = IsisBeanTypeIndex.Entry.of(
+                BeanSort.MANAGED_BEAN_CONTRIBUTING, true, false, "simple.Customers", Can.ofArray(new String[] {"dev", "test"}));
+
+        assertThat(entry.encode(), is(equalTo("MANAGED_BEAN_CONTRIBUTING|true|false|simple.Customers|dev,test")));
+        assertThat(IsisBeanTypeIndex.Entry.parse(entry.encode()), is(equalTo(entry)));
+    }
+
+    @Test
+    public void round_trip_when_no_logical_type_name_nor_profiles() {
+        final IsisBeanTypeIndex.Entry entry = IsisBeanTypeIndex.Entry.of(
+                BeanSort.VIEW_MODEL, false, true, null, Can.empty());
+
+        final IsisBeanTypeIndex.Entry parsed = IsisBeanTypeIndex.Entry.parse(entry.encode());
+        assertThat(parsed, is(equalTo(entry)));
+        assertThat(parsed.getExplicitLogicalTypeName(), is(nullValue()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void malformed() {
+        IsisBeanTypeIndex.Entry.parse("VIEW_MODEL|false");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknown_bean_sort() {
+        IsisBeanTypeIndex.Entry.parse("NO_SUCH_SORT|false|true||");
+    }
+
+}
@@ -36,6 +36,7 @@
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.metamodel.execution.InteractionInternal;
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
 
 import lombok.Getter;
 import lombok.NonNull;
@@ -50,6 +51,7 @@
     public IsisInteraction(final @NonNull UUID interactionId) {
         this.startedAtSystemNanos = System.nanoTime(); // used to measure time periods, so not using ClockService here
         this.command = new Command(interactionId);
+        this.profile = new InteractionProfile(startedAtSystemNanos);
     }
 
     @Getter(onMethod_ = {@Override})
@@ -62,6 +64,9 @@ public UUID getInteractionId() {
 
     @Getter private final long startedAtSystemNanos;
 
+    @Getter(onMethod_ = {@Override})
+    private final InteractionProfile profile;
+
     // -- INTERACTION ON CLOSE HANDLER
 
     @Setter private Runnable onClose;
@@ -132,6 +137,11 @@ public Object execute(
 
     private <T extends Execution<?,?>> Object executeInternal(MemberExecutor<T> memberExecutor, T execution) {
 
+        if(execution.getParent() == null
+                && profile.getLogicalMemberIdentifier() == null) {
+            profile.setLogicalMemberIdentifier(execution.getMemberIdentifier().getLogicalIdentityString("#"));
+        }
+        final long startedAtNanos = System.nanoTime();
         try {
             Object result = memberExecutor.execute(execution);
             execution.setReturned(result);
@@ -151,6 +161,11 @@ private <T extends Execution<?,?>> Object executeInternal(MemberExecutor<T> memb
 
             // propagate (as in previous design); caller will need to trap and decide
             throw ex;
+        } finally {
+            if(execution.getParent() == null) {
+                // nested executions are already included in the top-level one
+                profile.time(InteractionProfile.Phase.EXECUTION, System.nanoTime() - startedAtNanos);
+            }
         }
     }
 
@@ -132,5 +132,11 @@ default int getThenIncrementTransactionSequence() {
         return counter;
     }
 
+    /**
+     * Performance profile of this {@link Interaction}, collecting counters and
+     * phase timings while the interaction is running.
+     */
+    InteractionProfile getProfile();
+
 
 }
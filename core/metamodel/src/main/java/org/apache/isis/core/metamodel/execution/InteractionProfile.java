@@ -0,0 +1,239 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.execution;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.Nullable;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.val;
+
+/**
+ * Low overhead performance profile of a single interaction, collecting counters and
+ * the wall time spent in the various phases of processing.
+ * <p>
+ * The profile of the interaction currently running on a thread is bound to that thread
+ * by the framework, so that any code (eg. the specification loader or the event bus)
+ * can contribute to it using the static helpers, without requiring access to the
+ * {@link InteractionInternal} itself. When no profile is bound, these are no-ops.
+ *
+ * @since 2.0
+ */
+public final class InteractionProfile {
+
+    @RequiredArgsConstructor
+    public enum Counter {
+        SQL_STATEMENTS("sql.statements"),
+        FACET_INVOCATIONS("facet.invocations"),
+        EVENTS_POSTED("events.posted"),
+        TITLES_RENDERED("titles.rendered"),
+        SPEC_LOOKUPS("spec.lookups"),
+        SERIALIZED_BYTES("serialized.bytes"),
+        ENTITIES_TRACKED("entities.tracked"),
+        ENTITIES_TRACKED_BYTES("entities.tracked.bytes");
+        /** name suffix, as used for meters and the timing header */
+        @Getter private final String key;
+    }
+
+    @RequiredArgsConstructor
+    public enum Phase {
+        EXECUTION("execution"),
+        SQL("sql"),
+        RENDERING("rendering");
+        /** name suffix, as used for meters and the timing header */
+        @Getter private final String key;
+    }
+
+    private static final ThreadLocal<InteractionProfile> current = new ThreadLocal<>();
+
+    @Getter private final long startedAtSystemNanos;
+
+    private final LongAdder[] counters = newAdders(Counter.values().length);
+    private final LongAdder[] phaseNanos = newAdders(Phase.values().length);
+
+    /**
+     * Logical identifier of the first (top-level) member executed within the interaction,
+     * if any; used to aggregate profiles per action or property.
+     */
+    @Getter @Setter private volatile @Nullable String logicalMemberIdentifier;
+
+    public InteractionProfile(final long startedAtSystemNanos) {
+        this.startedAtSystemNanos = startedAtSystemNanos;
+    }
+
+    // -- ACCESS
+
+    public long getCount(final @NonNull Counter counter) {
+        return counters[counter.ordinal()].sum();
+    }
+
+    public long getPhaseNanos(final @NonNull Phase phase) {
+        return phaseNanos[phase.ordinal()].sum();
+    }
+
+    /**
+     * Wall time since the start of the interaction.
+     */
+    public long getElapsedNanos() {
+        return System.nanoTime() - startedAtSystemNanos;
+    }
+
+    /**
+     * Renders this profile as a single line of comma separated <code>key=value</code> pairs,
+     * with times given in milliseconds, eg.
+     * <code>total=12.3,execution=8.1,sql=4.0,rendering=0.0,sql.statements=3,...</code>
+     */
+    public String toTimingString() {
+        val sb = new StringBuilder();
+        sb.append("total=").append(millis(getElapsedNanos()));
+        for(val phase : Phase.values()) {
+            sb.append(',').append(phase.getKey()).append('=').append(millis(getPhaseNanos(phase)));
+        }
+        for(val counter : Counter.values()) {
+            sb.append(',').append(counter.getKey()).append('=').append(getCount(counter));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Immutable copy of the counters and phase timings collected so far; the difference of
+     * two snapshots gives the share of some (nested) part of the interaction.
+     */
+    public Snapshot snapshot() {
+        val counts = new long[counters.length];
+        for(int i=0; i<counts.length; ++i) {
+            counts[i] = counters[i].sum();
+        }
+        val nanos = new long[phaseNanos.length];
+        for(int i=0; i<nanos.length; ++i) {
+            nanos[i] = phaseNanos[i].sum();
+        }
+        return new Snapshot(counts, nanos);
+    }
+
+    @RequiredArgsConstructor
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long[] phaseNanos;
+
+        public long getCount(final @NonNull Counter counter) {
+            return counts[counter.ordinal()];
+        }
+
+        public long getPhaseNanos(final @NonNull Phase phase) {
+            return phaseNanos[phase.ordinal()];
+        }
+
+        /**
+         * @return the counts and timings collected since given earlier snapshot
+         */
+        public Snapshot minus(final @NonNull Snapshot earlier) {
+            val counts = new long[this.counts.length];
+            for(int i=0; i<counts.length; ++i) {
+                counts[i] = this.counts[i] - earlier.counts[i];
+            }
+            val nanos = new long[this.phaseNanos.length];
+            for(int i=0; i<nanos.length; ++i) {
+                nanos[i] = this.phaseNanos[i] - earlier.phaseNanos[i];
+            }
+            return new Snapshot(counts, nanos);
+        }
+
+    }
+
+    // -- THREAD BINDING
+
+    /** Do not use, is called by the framework internally. */
+    public static void bind(final @Nullable InteractionProfile profile) {
+        if(profile==null) {
+            current.remove();
+            return;
+        }
+        current.set(profile);
+    }
+
+    /** Do not use, is called by the framework internally. */
+    public static void unbind() {
+        current.remove();
+    }
+
+    public static Optional<InteractionProfile> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    // -- RECORDING
+
+    public void count(final @NonNull Counter counter, final long amount) {
+        counters[counter.ordinal()].add(amount);
+    }
+
+    public void time(final @NonNull Phase phase, final long nanos) {
+        phaseNanos[phase.ordinal()].add(nanos);
+    }
+
+    /**
+     * Increments given counter of the profile bound to the current thread, if any.
+     */
+    public static void increment(final @NonNull Counter counter) {
+        add(counter, 1L);
+    }
+
+    /**
+     * Adds to given counter of the profile bound to the current thread, if any.
+     */
+    public static void add(final @NonNull Counter counter, final long amount) {
+        val profile = current.get();
+        if(profile!=null) {
+            profile.count(counter, amount);
+        }
+    }
+
+    /**
+     * Adds to the wall time of given phase of the profile bound to the current thread, if any.
+     */
+    public static void addPhaseNanos(final @NonNull Phase phase, final long nanos) {
+        val profile = current.get();
+        if(profile!=null) {
+            profile.time(phase, nanos);
+        }
+    }
+
+    // -- HELPER
+
+    private static LongAdder[] newAdders(final int size) {
+        val adders = new LongAdder[size];
+        for(int i=0; i<size; ++i) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static String millis(final long nanos) {
+        val tenthsOfMillis = TimeUnit.NANOSECONDS.toMicros(nanos) / 100L;
+        return (tenthsOfMillis / 10L) + "." + (tenthsOfMillis % 10L);
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.facets.collections.collection.loading;
+
+import java.util.function.BiConsumer;
+
+import org.apache.isis.applib.annotation.Loading;
+import org.apache.isis.core.metamodel.facetapi.FacetAbstract;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+
+public abstract class LoadingFacetAbstract
+extends FacetAbstract
+implements LoadingFacet {
+
+    public static final Class<LoadingFacet> type() {
+        return LoadingFacet.class;
+    }
+
+    private final Loading loading;
+
+    protected LoadingFacetAbstract(
+            final Loading loading,
+            final FacetHolder holder) {
+        super(type(), holder);
+        this.loading = loading;
+    }
+
+    @Override
+    public Loading loading() {
+        return loading;
+    }
+
+    @Override
+    public void visitAttributes(final BiConsumer<String, Object> visitor) {
+        super.visitAttributes(visitor);
+        visitor.accept("loading", loading);
+    }
+
+}
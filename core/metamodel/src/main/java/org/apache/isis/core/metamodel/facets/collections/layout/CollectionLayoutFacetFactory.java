@@ -67,6 +67,10 @@ public void process(final ProcessMethodContext processMethodContext) {
                 LayoutOrderFacetFromCollectionLayoutAnnotation
                 .create(collectionLayoutIfAny, facetHolder));
 
+        addFacetIfPresent(
+                LoadingFacetForCollectionLayoutAnnotation
+                .create(collectionLayoutIfAny, facetHolder));
+
         addFacetIfPresent(
                 MemberNamedFacetForCollectionLayoutAnnotation
                 .create(collectionLayoutIfAny, facetHolder));
@@ -19,6 +19,8 @@
 package org.apache.isis.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Optional;
 
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.services.bookmark.Bookmark;
@@ -48,6 +50,12 @@ public interface EntityFacet extends Facet {
 
     EntityState getEntityState(Object pojo);
 
+    /**
+     * The optimistic-locking version of given entity, if its type is versioned
+     * (eg. JDO <code>@Version</code> or JPA <code>@Version</code>) and it has been persisted.
+     */
+    Optional<Object> versionOf(Object pojo);
+
     /**
      * Whether given method originates from byte code mangling.
      * @param method
@@ -56,6 +64,16 @@ public interface EntityFacet extends Facet {
 
     <T> T detach(T pojo);
 
+    /**
+     * Releases given (already flushed) entities from the underlying persistence context,
+     * allowing these to be garbage collected during bulk operations; any other entities
+     * managed by the persistence context are not affected.
+     * <p>
+     * Depending on the persistence standard, entities that were newly persisted within the
+     * current transaction might only be released on commit (JDO).
+     */
+    void evictAll(Collection<?> pojos);
+
     PersistenceStandard getPersistenceStandard();
 
     // -- JUNIT SUPPORT
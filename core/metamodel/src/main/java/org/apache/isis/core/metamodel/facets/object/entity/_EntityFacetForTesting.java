@@ -19,6 +19,8 @@
 package org.apache.isis.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 
 import org.apache.isis.applib.query.Query;
@@ -99,4 +101,14 @@ public <T> T detach(final T pojo) {
         throw _Exceptions.unsupportedOperation();
     }
 
+    @Override
+    public Optional<Object> versionOf(final Object pojo) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void evictAll(final Collection<?> pojos) {
+        throw _Exceptions.unsupportedOperation();
+    }
+
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.isis.core.metamodel.facets.object.recreatable;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Optional;
 
 import org.apache.isis.applib.services.bookmark.Bookmark;
@@ -45,14 +46,16 @@ public RecreatableObjectFacetForXmlRootElementAnnotation(
     @Override
     protected Object doInstantiate(final Class<?> viewModelClass, final @NonNull Optional<Bookmark> bookmark) {
         final String xmlStr = getUrlEncodingService().decodeToString(bookmark.map(Bookmark::getIdentifier).orElse(null));
+        // not unmarshalled from a stream, as eg. a DomainObjectList needs a second pass, once its element type is known
         final Object viewModelPojo = getJaxbService().fromXml(viewModelClass, xmlStr);
         return viewModelPojo;
     }
 
     @Override
     protected String serialize(final ManagedObject managedObject) {
-        final String xml = getJaxbService().toXml(managedObject.getPojo());
-        final String encoded = getUrlEncodingService().encodeString(xml);
+        final ByteArrayOutputStream xmlBytes = new ByteArrayOutputStream(1024);
+        getJaxbService().toXml(managedObject.getPojo(), xmlBytes);
+        final String encoded = getUrlEncodingService().encode(xmlBytes.toByteArray());
         _Debug.onCondition(XrayUi.isXrayEnabled(), ()->{
             _Debug.log("[JAXB] serializing viewmodel %s", managedObject.getSpecification().getLogicalTypeName());
         });
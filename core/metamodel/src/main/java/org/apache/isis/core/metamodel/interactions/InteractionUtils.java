@@ -21,6 +21,7 @@
 import org.apache.isis.core.metamodel.consent.InteractionAdvisor;
 import org.apache.isis.core.metamodel.consent.InteractionResult;
 import org.apache.isis.core.metamodel.consent.InteractionResultSet;
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
 import org.apache.isis.core.metamodel.facets.actions.action.invocation.ActionDomainEventFacet;
 
@@ -37,6 +38,7 @@ public static InteractionResult isVisibleResult(FacetHolder facetHolder, Visibil
         facetHolder.streamFacets(HidingInteractionAdvisor.class)
         .filter(advisor->compatible(advisor, context))
         .forEach(advisor->{
+            InteractionProfile.increment(InteractionProfile.Counter.FACET_INVOCATIONS);
             val hidingReason = advisor.hides(context);
             iaResult.advise(hidingReason, advisor);
         });
@@ -52,6 +54,7 @@ public static InteractionResult isUsableResult(FacetHolder facetHolder, Usabilit
         facetHolder.streamFacets(DisablingInteractionAdvisor.class)
         .filter(advisor->compatible(advisor, context))
         .forEach(advisor->{
+            InteractionProfile.increment(InteractionProfile.Counter.FACET_INVOCATIONS);
             val disablingReason = advisor.disables(context);
             isResult.advise(disablingReason, advisor);
         });
@@ -66,6 +69,7 @@ public static InteractionResult isValidResult(FacetHolder facetHolder, ValidityC
         facetHolder.streamFacets(ValidatingInteractionAdvisor.class)
         .filter(advisor->compatible(advisor, context))
         .forEach(advisor->{
+            InteractionProfile.increment(InteractionProfile.Counter.FACET_INVOCATIONS);
             val invalidatingReason = advisor.invalidates(context);
             iaResult.advise(invalidatingReason, advisor);
         });
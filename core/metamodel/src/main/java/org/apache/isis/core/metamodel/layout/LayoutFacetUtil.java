@@ -23,6 +23,7 @@
 import org.apache.isis.applib.annotation.ActionLayout;
 import org.apache.isis.applib.annotation.BookmarkPolicy;
 import org.apache.isis.applib.annotation.LabelPosition;
+import org.apache.isis.applib.annotation.Loading;
 import org.apache.isis.applib.annotation.RenderDay;
 import org.apache.isis.applib.annotation.Where;
 import org.apache.isis.applib.layout.component.ActionLayoutData;
@@ -48,6 +49,7 @@
 import org.apache.isis.core.metamodel.facets.all.named.MemberNamedFacet;
 import org.apache.isis.core.metamodel.facets.all.named.ObjectNamedFacet;
 import org.apache.isis.core.metamodel.facets.collections.collection.defaultview.DefaultViewFacet;
+import org.apache.isis.core.metamodel.facets.collections.collection.loading.LoadingFacet;
 import org.apache.isis.core.metamodel.facets.collections.sortedby.SortedByFacet;
 import org.apache.isis.core.metamodel.facets.members.cssclass.CssClassFacet;
 import org.apache.isis.core.metamodel.facets.members.cssclassfa.CssClassFaFacet;
@@ -134,6 +136,20 @@ public void setDefaultViewIfAny(
         }
     }
 
+    public void setLoadingIfAny(
+            final CollectionLayoutData collectionLayoutData,
+            final FacetHolder facetHolder) {
+
+        val loadingFacet = facetHolder.getFacet(LoadingFacet.class);
+        if(isDoOp(loadingFacet)) {
+            final Loading loading = loadingFacet.loading();
+            if(loading != null
+                    && loading != Loading.AS_CONFIGURED) {
+                collectionLayoutData.setLoading(loading);
+            }
+        }
+    }
+
     private void setObjectNamedIfAny(
             final HasNamed hasNamed,
             final FacetHolder facetHolder) {
@@ -369,6 +385,7 @@ public void visit(final CollectionLayoutData collectionLayoutData) {
                 setDefaultViewIfAny(collectionLayoutData, collection);
                 setMemberDescribedIfAny(collectionLayoutData, collection);
                 setHiddenIfAny(collectionLayoutData, collection);
+                setLoadingIfAny(collectionLayoutData, collection);
                 setMemberNamedIfAny(collectionLayoutData, collection);
                 setPagedIfAny(collectionLayoutData, collection);
                 setSortedByIfAny(collectionLayoutData, collection);
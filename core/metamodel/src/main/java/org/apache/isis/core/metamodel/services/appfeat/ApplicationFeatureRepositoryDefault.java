@@ -21,6 +21,7 @@
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
 import lombok.val;
+import org.apache.isis.applib.Identifier;
 import org.apache.isis.applib.annotation.PriorityPrecedence;
 import org.apache.isis.applib.annotation.SemanticsOf;
 import org.apache.isis.applib.services.appfeat.*;
@@ -58,14 +59,14 @@
 public class ApplicationFeatureRepositoryDefault
 implements ApplicationFeatureRepository {
 
-    // -- caches
-    private Map<String, ApplicationFeatureId> featureIdentifiersByName;
+    // -- builder state (only accessed while initializing)
     final SortedMap<ApplicationFeatureId, ApplicationFeature> namespaceFeatures = _Maps.newTreeMap();
     private final SortedMap<ApplicationFeatureId, ApplicationFeature> typeFeatures = _Maps.newTreeMap();
     private final SortedMap<ApplicationFeatureId, ApplicationFeature> memberFeatures = _Maps.newTreeMap();
     private final SortedMap<ApplicationFeatureId, ApplicationFeature> propertyFeatures = _Maps.newTreeMap();
     private final SortedMap<ApplicationFeatureId, ApplicationFeature> collectionFeatures = _Maps.newTreeMap();
     private final SortedMap<ApplicationFeatureId, ApplicationFeature> actionFeatures = _Maps.newTreeMap();
+    private final Map<Identifier, ApplicationFeatureId> featureIdsByIdentifier = _Maps.newHashMap();
 
     private final IsisConfiguration configuration;
     private final SpecificationLoader specificationLoader;
@@ -97,17 +98,39 @@ private boolean isEagerInitialize() {
 
     // -- initializeIfRequired
 
-    enum InitializationState {
-        NOT_INITIALIZED,
-        INITIALIZED
-    }
-    private InitializationState initializationState = InitializationState.NOT_INITIALIZED;
-
-    private synchronized void initializeIfRequired() {
-        if(initializationState == InitializationState.INITIALIZED) {
-            return;
+    /**
+     * Immutable indexes, published once all features have been created;
+     * lookups hence are lock-free.
+     */
+    @lombok.Value
+    static class Snapshot {
+        Map<ApplicationFeatureId, ApplicationFeature> namespaceFeatures;
+        Map<ApplicationFeatureId, ApplicationFeature> typeFeatures;
+        Map<ApplicationFeatureId, ApplicationFeature> memberFeatures;
+        Collection<ApplicationFeature> allNamespaces;
+        Collection<ApplicationFeature> allTypes;
+        Collection<ApplicationFeature> allMembers;
+        Collection<ApplicationFeature> allProperties;
+        Collection<ApplicationFeature> allCollections;
+        Collection<ApplicationFeature> allActions;
+        Map<String, ApplicationFeatureId> featureIdentifiersByName;
+        /** shared ids of all visible members, scoped to this (meta-model's) repository */
+        Map<Identifier, ApplicationFeatureId> featureIdsByIdentifier;
+    }
+
+    private volatile Snapshot snapshot;
+
+    private Snapshot initializeIfRequired() {
+        val snapshot = this.snapshot;
+        return snapshot != null
+                ? snapshot
+                : initialize();
+    }
+
+    private synchronized Snapshot initialize() {
+        if(snapshot != null) {
+            return snapshot;
         }
-        initializationState = InitializationState.INITIALIZED;
 
         for (val spec : specificationLoader.snapshotSpecifications()) {
             createApplicationFeaturesFor(spec);
@@ -117,7 +140,30 @@ private synchronized void initializeIfRequired() {
         visitFeatureIdentifierByName(namespaceFeatures, featuresByName::put);
         visitFeatureIdentifierByName(typeFeatures, featuresByName::put);
         visitFeatureIdentifierByName(memberFeatures, featuresByName::put);
-        this.featureIdentifiersByName = Collections.unmodifiableMap(featuresByName);
+
+        return this.snapshot = new Snapshot(
+                lookupOf(namespaceFeatures),
+                lookupOf(typeFeatures),
+                lookupOf(memberFeatures),
+                valuesOf(namespaceFeatures),
+                valuesOf(typeFeatures),
+                valuesOf(memberFeatures),
+                valuesOf(propertyFeatures),
+                valuesOf(collectionFeatures),
+                valuesOf(actionFeatures),
+                Collections.unmodifiableMap(featuresByName),
+                Collections.unmodifiableMap(new HashMap<>(featureIdsByIdentifier)));
+    }
+
+    private static Map<ApplicationFeatureId, ApplicationFeature> lookupOf(
+            final Map<ApplicationFeatureId, ApplicationFeature> features) {
+        return Collections.unmodifiableMap(new HashMap<>(features));
+    }
+
+    private static Collection<ApplicationFeature> valuesOf(
+            final SortedMap<ApplicationFeatureId, ApplicationFeature> features) {
+        // retains the natural order of the feature ids
+        return Collections.unmodifiableList(new ArrayList<>(features.values()));
     }
 
     private void visitFeatureIdentifierByName(
@@ -221,7 +267,7 @@ void addParents(final ApplicationFeatureId classOrPackageId) {
     }
 
     private ApplicationFeature findPackageElseCreate(final ApplicationFeatureId parentPackageId) {
-        ApplicationFeature parentPackage = findNamespace(parentPackageId);
+        ApplicationFeature parentPackage = namespaceFeatures.get(parentPackageId);
         if (parentPackage == null) {
             parentPackage = newPackage(parentPackageId);
         }
@@ -272,6 +318,11 @@ private boolean newMember(
         if (objectMember.isAlwaysHidden()) {
             return false;
         }
+        // share ahead of any authorization checks
+        val featureIdentifier = objectMember.getFeatureIdentifier();
+        val sharedFeatureId = ApplicationFeatureId.fromIdentifier(featureIdentifier);
+        sharedFeatureId.getPathIds(); // precompute the parent chain
+        featureIdsByIdentifier.put(featureIdentifier, sharedFeatureId);
         newMember(classFeatureId, objectMember.getId(), memberSort, returnType, derived, maxLength, typicalLength, actionSemantics);
         return true;
     }
@@ -301,7 +352,7 @@ private void newMember(
         // also cache per memberSort
         featuresMapFor(memberSort).put(featureId, memberFeature);
 
-        final ApplicationFeatureDefault typeFeature = (ApplicationFeatureDefault)findLogicalType(typeFeatureId);
+        final ApplicationFeatureDefault typeFeature = (ApplicationFeatureDefault)typeFeatures.get(typeFeatureId);
         typeFeature.addToMembers(featureId, memberSort);
     }
 
@@ -359,7 +410,6 @@ public ApplicationFeature newApplicationFeature(final ApplicationFeatureId featI
 
     @Override
     public ApplicationFeature findFeature(final ApplicationFeatureId featureId) {
-        initializeIfRequired();
         switch (featureId.getSort()) {
         case NAMESPACE:
             return findNamespace(featureId);
@@ -373,20 +423,17 @@ public ApplicationFeature findFeature(final ApplicationFeatureId featureId) {
 
 
     public ApplicationFeature findNamespace(final ApplicationFeatureId featureId) {
-        initializeIfRequired();
-        return namespaceFeatures.get(featureId);
+        return initializeIfRequired().getNamespaceFeatures().get(featureId);
     }
 
 
     public ApplicationFeature findLogicalType(final ApplicationFeatureId featureId) {
-        initializeIfRequired();
-        return typeFeatures.get(featureId);
+        return initializeIfRequired().getTypeFeatures().get(featureId);
     }
 
 
     public ApplicationFeature findMember(final ApplicationFeatureId featureId) {
-        initializeIfRequired();
-        return memberFeatures.get(featureId);
+        return initializeIfRequired().getMemberFeatures().get(featureId);
     }
 
 
@@ -394,7 +441,6 @@ public ApplicationFeature findMember(final ApplicationFeatureId featureId) {
     // -- allFeatures, allPackages, allClasses, allMembers
 
     public Collection<ApplicationFeature> allFeatures(final ApplicationFeatureSort featureType) {
-        initializeIfRequired();
         if (featureType == null) {
             return Collections.emptyList();
         }
@@ -411,44 +457,52 @@ public Collection<ApplicationFeature> allFeatures(final ApplicationFeatureSort f
 
     @Override
     public Collection<ApplicationFeature> allNamespaces() {
-        initializeIfRequired();
-        return namespaceFeatures.values();
+        return initializeIfRequired().getAllNamespaces();
     }
 
     @Override
     public Collection<ApplicationFeature> allTypes() {
-        initializeIfRequired();
-        return typeFeatures.values();
+        return initializeIfRequired().getAllTypes();
     }
 
     @Override
     public Collection<ApplicationFeature> allMembers() {
-        initializeIfRequired();
-        return memberFeatures.values();
+        return initializeIfRequired().getAllMembers();
     }
 
     @Override
     public Collection<ApplicationFeature> allProperties() {
-        initializeIfRequired();
-        return propertyFeatures.values();
+        return initializeIfRequired().getAllProperties();
     }
 
     @Override
     public Collection<ApplicationFeature> allCollections() {
-        initializeIfRequired();
-        return collectionFeatures.values();
+        return initializeIfRequired().getAllCollections();
     }
 
     @Override
     public Collection<ApplicationFeature> allActions() {
-        initializeIfRequired();
-        return actionFeatures.values();
+        return initializeIfRequired().getAllActions();
     }
 
     @Override
     public Map<String, ApplicationFeatureId> getFeatureIdentifiersByName() {
-        initializeIfRequired();
-        return featureIdentifiersByName;
+        return initializeIfRequired().getFeatureIdentifiersByName();
+    }
+
+    /**
+     * Returns the shared feature id if given {@link Identifier} is of a visible member,
+     * otherwise (or if not yet initialized) a new one.
+     */
+    @Override
+    public ApplicationFeatureId featureIdFor(final @NonNull Identifier identifier) {
+        val snapshot = this.snapshot;
+        val featureId = snapshot != null
+                ? snapshot.getFeatureIdsByIdentifier().get(identifier)
+                : null;
+        return featureId != null
+                ? featureId
+                : ApplicationFeatureId.fromIdentifier(identifier);
     }
 
 
@@ -51,6 +51,7 @@
 import org.apache.isis.core.metamodel.facets.collections.layout.CssClassFacetForCollectionXml;
 import org.apache.isis.core.metamodel.facets.collections.layout.DefaultViewFacetForCollectionXml;
 import org.apache.isis.core.metamodel.facets.collections.layout.HiddenFacetForCollectionXml;
+import org.apache.isis.core.metamodel.facets.collections.layout.LoadingFacetForCollectionXml;
 import org.apache.isis.core.metamodel.facets.collections.layout.MemberDescribedFacetForCollectionXml;
 import org.apache.isis.core.metamodel.facets.collections.layout.MemberNamedFacetForCollectionXml;
 import org.apache.isis.core.metamodel.facets.collections.layout.PagedFacetForCollectionXml;
@@ -416,6 +417,12 @@ public void visit(final CollectionLayoutData collectionLayoutData) {
                         HiddenFacetForCollectionXml.create(collectionLayoutData, oneToManyAssociation),
                         oneToManyAssociation);
 
+                updateFacet(
+                        LoadingFacetForCollectionXml.type(),
+                        LoadingFacetForCollectionXml.class::isInstance,
+                        LoadingFacetForCollectionXml.create(collectionLayoutData, oneToManyAssociation),
+                        oneToManyAssociation);
+
                 updateFacet(
                         MemberNamedFacetForCollectionXml.type(),
                         MemberNamedFacetForCollectionXml.class::isInstance,
@@ -19,6 +19,7 @@
 package org.apache.isis.core.metamodel.services.objectlifecycle;
 
 import java.sql.Timestamp;
+import java.util.function.Consumer;
 
 import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.isis.applib.services.xactn.TransactionId;
@@ -28,4 +29,16 @@ public interface HasEnlistedEntityPropertyChanges {
 
     Can<EntityPropertyChange> getPropertyChanges(Timestamp timestamp, String user, TransactionId txId);
 
+    /**
+     * Passes the property changes one by one to given {@code action}, allowing implementations to avoid
+     * collecting them all into memory first.
+     */
+    default void forEachPropertyChange(
+            final Timestamp timestamp,
+            final String user,
+            final TransactionId txId,
+            final Consumer<EntityPropertyChange> action) {
+        getPropertyChanges(timestamp, user, txId).forEach(action);
+    }
+
 }
@@ -53,6 +53,7 @@
 import org.apache.isis.core.metamodel.commons.MethodUtil;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
 import org.apache.isis.core.metamodel.facets.collections.CollectionFacet;
 import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.isis.core.metamodel.facets.object.entity.PersistenceStandard;
@@ -451,6 +452,8 @@ static final class TitleUtil {
 
         String titleString(@NonNull final TitleRenderRequest titleRenderRequest) {
 
+            InteractionProfile.increment(InteractionProfile.Counter.TITLES_RENDERED);
+
             val managedObject = titleRenderRequest.getObject();
 
             if(!ManagedObjects.isSpecified(managedObject)) {
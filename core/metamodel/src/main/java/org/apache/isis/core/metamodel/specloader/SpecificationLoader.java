@@ -19,6 +19,7 @@
 package org.apache.isis.core.metamodel.specloader;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import org.springframework.lang.Nullable;
@@ -29,6 +30,7 @@
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
 import org.apache.isis.core.metamodel.progmodel.ProgrammingModel;
 import org.apache.isis.core.metamodel.services.classsubstitutor.ClassSubstitutor;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
@@ -85,6 +87,17 @@ public interface SpecificationLoader {
 
     void addValidationFailure(ValidationFailure validationFailure);
 
+    /**
+     * Completes with the {@link #getOrAssessValidationResult() validation result}, once the meta-model has been
+     * fully created and validated.
+     *
+     * @apiNote Unless the meta-model is configured to be completed in the background, this is already the case,
+     * when {@link #createMetaModel()} returns. Otherwise the
+     * {@link org.apache.isis.core.metamodel.events.MetamodelEvent#AFTER_METAMODEL_LOADED post-metamodel event}
+     * is deferred until then.
+     */
+    CompletableFuture<ValidationFailures> getMetaModelCompletion();
+
     // -- LOOKUP
 
     /**
@@ -178,6 +191,7 @@ default Optional<ObjectSpecification> specForLogicalType(
 
     default Optional<ObjectSpecification> specForType(
             final @Nullable Class<?> domainType) {
+        InteractionProfile.increment(InteractionProfile.Counter.SPEC_LOOKUPS);
         return Optional.ofNullable(
                 loadSpecification(domainType, FULLY_INTROSPECTED));
     }
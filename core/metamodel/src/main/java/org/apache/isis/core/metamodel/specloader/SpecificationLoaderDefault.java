@@ -22,6 +22,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -39,6 +40,7 @@
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
+import org.apache.isis.applib.annotation.HomePage;
 import org.apache.isis.applib.annotation.PriorityPrecedence;
 import org.apache.isis.applib.id.LogicalType;
 import org.apache.isis.applib.services.appfeat.ApplicationFeatureSort;
@@ -48,9 +50,9 @@
 import org.apache.isis.applib.value.semantics.ValueSemanticsResolver;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.assertions._Assert;
-import org.apache.isis.commons.internal.base._Blackhole;
 import org.apache.isis.commons.internal.base._Lazy;
 import org.apache.isis.commons.internal.base._Timing;
+import org.apache.isis.commons.internal.reflection._Annotations;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
@@ -134,6 +136,9 @@ public class SpecificationLoaderDefault implements SpecificationLoader {
     @Getter @Setter
     private boolean metamodelFullyIntrospected = false;
 
+    @Getter
+    private volatile CompletableFuture<ValidationFailures> metaModelCompletion = new CompletableFuture<>();
+
     @Inject
     public SpecificationLoaderDefault(
             final ProgrammingModelService programmingModelService,
@@ -221,6 +226,10 @@ public void createMetaModel() {
 
         log.info("About to create the Metamodel ...");
 
+        if(metaModelCompletion.isDone()) {
+            metaModelCompletion = new CompletableFuture<>(); // re-created after having been disposed
+        }
+
         // initialize subcomponents, only after @PostConstruct has globally completed
         facetProcessor.init();
         postProcessor.init();
@@ -300,7 +309,36 @@ public void createMetaModel() {
 
         serviceRegistry.lookupServiceElseFail(MenuBarsService.class).menuBars();
 
-        introspect(Can.ofCollection(domainObjectSpecs), IntrospectionState.FULLY_INTROSPECTED);
+        if(isCompleteInBackground()) {
+            val upfrontSpecs = Can.ofCollection(domainObjectSpecs).filter(this::isNeededUpfront);
+            val remainingSpecs = Can.ofCollection(domainObjectSpecs).filter(spec->!isNeededUpfront(spec));
+
+            introspect(upfrontSpecs, IntrospectionState.FULLY_INTROSPECTED);
+
+            stopWatch.stop();
+            log.info("Metamodel created in " + stopWatch.getMillis() + " ms, "
+                    + "completing the remaining " + remainingSpecs.size() + " types in the background ...");
+
+            completeMetaModelInBackground(remainingSpecs, knownSpecs);
+            return;
+        }
+
+        completeMetaModel(Can.ofCollection(domainObjectSpecs), knownSpecs, metaModelCompletion);
+
+        stopWatch.stop();
+        log.info("Metamodel created in " + stopWatch.getMillis() + " ms.");
+    }
+
+    /**
+     * Introspects given {@code domainObjectSpecs} and then runs the validators, finally marks the metamodel
+     * as fully introspected (if in full introspection mode) and signals {@link #getMetaModelCompletion() completion}.
+     */
+    private void completeMetaModel(
+            final Can<ObjectSpecification> domainObjectSpecs,
+            final List<ObjectSpecification> knownSpecs,
+            final CompletableFuture<ValidationFailures> completion) {
+
+        introspect(domainObjectSpecs, IntrospectionState.FULLY_INTROSPECTED);
 
         SpecificationLoaderDefault_debug.logAfter(log, cache, knownSpecs);
 
@@ -312,14 +350,37 @@ public void createMetaModel() {
         }
 
         log.info(" - running remaining validators");
-        _Blackhole.consume(getOrAssessValidationResult()); // as a side effect memoizes the validation result
-
-        stopWatch.stop();
-        log.info("Metamodel created in " + stopWatch.getMillis() + " ms.");
+        val validationFailures = getOrAssessValidationResult(); // as a side effect memoizes the validation result
 
         if(isFullIntrospect()) {
             setMetamodelFullyIntrospected(true);
         }
+
+        completion.complete(validationFailures);
+    }
+
+    private void completeMetaModelInBackground(
+            final Can<ObjectSpecification> domainObjectSpecs,
+            final List<ObjectSpecification> knownSpecs) {
+
+        val completion = metaModelCompletion;
+
+        val thread = new Thread(()->{
+            val stopWatch = _Timing.now();
+            try {
+                completeMetaModel(domainObjectSpecs, knownSpecs, completion);
+                stopWatch.stop();
+                log.info("Metamodel completed in the background in " + stopWatch.getMillis() + " ms.");
+            } catch (Throwable e) {
+                if(completion.isCancelled()) {
+                    return; // metamodel was disposed in the meantime
+                }
+                log.error("Failed to complete the Metamodel in the background", e);
+                completion.completeExceptionally(e);
+            }
+        }, "isis-metamodel-completion");
+        thread.setDaemon(true);
+        thread.start();
     }
 
     @Override
@@ -334,6 +395,7 @@ public ValidationFailures getOrAssessValidationResult() {
 
     @Override
     public void disposeMetaModel() {
+        metaModelCompletion.cancel(false); // in case still completing in the background
         logicalTypeResolver.clear();
         cache.clear();
         validationResult.clear();
@@ -358,6 +420,19 @@ private boolean isFullIntrospect() {
         return IntrospectionMode.isFullIntrospect(isisConfiguration, isisSystemEnvironment);
     }
 
+    private boolean isCompleteInBackground() {
+        return isisConfiguration.getCore().getMetaModel().getIntrospector().isCompleteInBackground();
+    }
+
+    /**
+     * When completing in the background, whether given spec is still to be introspected upfront,
+     * that is, domain services (required for the menus) and the home page view model.
+     */
+    private boolean isNeededUpfront(final ObjectSpecification spec) {
+        return spec.getBeanSort().isManagedBean()
+                || _Annotations.isPresent(spec.getCorrespondingClass(), HomePage.class);
+    }
+
     // -- SPEC LOADING
 
     @Override
@@ -188,7 +188,8 @@ public Can<ObjectSpecification> snapshot() {
     private NavigableParentFacet navigableParentFacet;
     private CssClassFacet cssClassFacet;
 
-    private IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
+    private volatile IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
+    private final Object introspectionLock = new Object();
 
 
     // -- Constructor
@@ -264,6 +265,20 @@ public void introspectUpTo(final IntrospectionState upTo) {
             return; // optimization
         }
 
+        // when the metamodel is completed in the background, request threads might concurrently ask for the
+        // same spec; they wait for the introspecting thread, while re-entrant calls (same thread) are let through
+        final boolean revalidate;
+        synchronized(introspectionLock) {
+            revalidate = introspectUpToWhileLocked(upTo);
+        }
+
+        if(revalidate) {
+            getSpecificationLoader().validateLater(this);
+        }
+    }
+
+    private boolean introspectUpToWhileLocked(final IntrospectionState upTo) {
+
         if(log.isDebugEnabled()) {
             log.debug("introspectingUpTo: {}, {}", getFullIdentifier(), upTo);
         }
@@ -309,9 +324,7 @@ public void introspectUpTo(final IntrospectionState upTo) {
             throw _Exceptions.unexpectedCodeReach();
         }
 
-        if(revalidate) {
-            getSpecificationLoader().validateLater(this);
-        }
+        return revalidate;
     }
 
     boolean isLessThan(final IntrospectionState upTo) {
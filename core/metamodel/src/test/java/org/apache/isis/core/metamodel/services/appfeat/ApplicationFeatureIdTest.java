@@ -34,7 +34,10 @@
 import static org.hamcrest.Matchers.emptyCollectionOf;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
 
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.id.LogicalType;
 import org.apache.isis.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.isis.applib.services.appfeat.ApplicationFeatureSort;
 import org.apache.isis.core.internaltestsupport.contract.ValueTypeContractTestAbstract;
@@ -114,6 +117,31 @@ public void using_fullyQualifiedName() throws Exception {
 
     }
 
+    public static class FromIdentifier extends ApplicationFeatureIdTest {
+
+        public static class Bar {}
+
+        @Test
+        public void member() throws Exception {
+            // when
+            val identifier = Identifier.actionIdentifier(
+                    LogicalType.eager(Bar.class, "com.mycompany.Bar"), "foo", String.class);
+            val applicationFeatureId = ApplicationFeatureId.fromIdentifier(identifier);
+            // then
+            assertThat(applicationFeatureId, is(equalTo(ApplicationFeatureId.newMember("com.mycompany.Bar#foo"))));
+            assertThat(applicationFeatureId.getPathIds().size(), is(4)); // member, type and 2 namespaces
+        }
+
+        @Test
+        public void caches_pathIds() throws Exception {
+            // when
+            val applicationFeatureId = ApplicationFeatureId.fromIdentifier(Identifier.propertyOrCollectionIdentifier(
+                    LogicalType.eager(Bar.class, "com.mycompany.Bar"), "bar"));
+            // then
+            assertThat(applicationFeatureId.getPathIds(), is(sameInstance(applicationFeatureId.getPathIds())));
+        }
+    }
+
     public static class NewFeature_AFT_String extends ApplicationFeatureIdTest {
 
         @Test
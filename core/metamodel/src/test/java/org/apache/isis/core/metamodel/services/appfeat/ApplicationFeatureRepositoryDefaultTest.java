@@ -19,6 +19,8 @@
 package org.apache.isis.core.metamodel.services.appfeat;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.hamcrest.Matchers;
 import org.jmock.Expectations;
@@ -36,12 +38,17 @@
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
+import org.apache.isis.applib.Identifier;
 import org.apache.isis.applib.annotation.SemanticsOf;
 import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.id.LogicalType;
 import org.apache.isis.applib.services.appfeat.ApplicationFeature;
 import org.apache.isis.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.isis.applib.services.factory.FactoryService;
+import org.apache.isis.applib.services.metamodel.BeanSort;
 import org.apache.isis.applib.services.registry.ServiceRegistry;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.collections._Lists;
@@ -50,6 +57,7 @@
 import org.apache.isis.core.metamodel.facets.members.hidden.HiddenFacetAbstract;
 import org.apache.isis.core.metamodel.facets.objectvalue.maxlen.MaxLengthFacet;
 import org.apache.isis.core.metamodel.facets.objectvalue.maxlen.MaxLengthFacetAbstract;
+import org.apache.isis.core.metamodel.facets.properties.update.modify.PropertySetterFacet;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.feature.MixedIn;
@@ -297,4 +305,99 @@ public void parentAlreadyEncountered() throws Exception {
 
     }
 
+    public static class FeatureIdFor extends ApplicationFeatureRepositoryDefaultTest {
+
+        public static class Bar {}
+
+        private static Identifier propertyIdentifier(final String memberName) {
+            return Identifier.propertyOrCollectionIdentifier(
+                    LogicalType.eager(Bar.class, "com.mycompany.Bar"), memberName);
+        }
+
+        @Override
+        @Before
+        public void setUp() throws Exception {
+            super.setUp();
+
+            context.checking(new Expectations() {{
+                allowing(mockSpecificationLoader).snapshotSpecifications();
+                will(returnValue(Can.ofSingleton(mockSpec)));
+
+                allowing(mockSpec).getBeanSort();
+                will(returnValue(BeanSort.ENTITY));
+                allowing(mockSpec).isMixin();
+                will(returnValue(false));
+                allowing(mockSpec).isAbstract();
+                will(returnValue(false));
+                allowing(mockSpec).getFullIdentifier();
+                will(returnValue(Bar.class.getName()));
+                allowing(mockSpec).lookupNonFallbackFacet(HiddenFacet.class);
+                will(returnValue(Optional.empty()));
+                allowing(mockSpec).getLogicalTypeName();
+                will(returnValue("com.mycompany.Bar"));
+
+                allowing(mockSpec).streamProperties(MixedIn.INCLUDED);
+                will(returnValue(Stream.of(mockProp)));
+                allowing(mockSpec).streamCollections(MixedIn.INCLUDED);
+                will(returnValue(Stream.empty()));
+                allowing(mockSpec).streamAnyActions(MixedIn.INCLUDED);
+                will(returnValue(Stream.empty()));
+
+                allowing(mockProp).getElementType();
+                will(returnValue(null));
+                allowing(mockProp).containsNonFallbackFacet(PropertySetterFacet.class);
+                will(returnValue(true));
+                allowing(mockProp).isAlwaysHidden();
+                will(returnValue(false));
+                allowing(mockProp).getFeatureIdentifier();
+                will(returnValue(propertyIdentifier("someProperty")));
+                allowing(mockProp).getId();
+                will(returnValue("someProperty"));
+            }});
+        }
+
+        @Test
+        public void not_shared_before_initialized() throws Exception {
+
+            // when
+            final ApplicationFeatureId featureId = applicationFeatureRepository.featureIdFor(propertyIdentifier("someProperty"));
+
+            // then
+            assertThat(featureId, is(equalTo(ApplicationFeatureId.newMember("com.mycompany.Bar", "someProperty"))));
+            assertThat(applicationFeatureRepository.featureIdFor(propertyIdentifier("someProperty")),
+                    is(not(sameInstance(featureId))));
+        }
+
+        @Test
+        public void shared_for_visible_members_once_initialized() throws Exception {
+
+            // given
+            assertThat(applicationFeatureRepository.allMembers().size(), is(1));
+
+            // when
+            final ApplicationFeatureId featureId = applicationFeatureRepository.featureIdFor(propertyIdentifier("someProperty"));
+
+            // then (an equal but distinct identifier resolves to the very same feature id)
+            assertThat(featureId, is(equalTo(ApplicationFeatureId.newMember("com.mycompany.Bar", "someProperty"))));
+            assertThat(applicationFeatureRepository.featureIdFor(propertyIdentifier("someProperty")),
+                    is(sameInstance(featureId)));
+        }
+
+        @Test
+        public void not_shared_for_unknown_members() throws Exception {
+
+            // given
+            applicationFeatureRepository.allMembers();
+
+            // when
+            final ApplicationFeatureId featureId = applicationFeatureRepository.featureIdFor(propertyIdentifier("otherProperty"));
+
+            // then
+            assertThat(featureId, is(equalTo(ApplicationFeatureId.newMember("com.mycompany.Bar", "otherProperty"))));
+            assertThat(applicationFeatureRepository.featureIdFor(propertyIdentifier("otherProperty")),
+                    is(not(sameInstance(featureId))));
+        }
+
+    }
+
 }
\ No newline at end of file
@@ -46,6 +46,10 @@
 import org.apache.isis.core.runtimeservices.menubars.MenuBarsLoaderServiceDefault;
 import org.apache.isis.core.runtimeservices.menubars.bootstrap3.MenuBarsServiceBS3;
 import org.apache.isis.core.runtimeservices.message.MessageServiceDefault;
+import org.apache.isis.core.runtimeservices.profiling.DataSourceProfilingPostProcessor;
+import org.apache.isis.core.runtimeservices.profiling.InteractionProfileService;
+import org.apache.isis.core.runtimeservices.profiling.SlowExecutionSampler;
+import org.apache.isis.core.runtimeservices.profiling.SlowExecutionSamplerMenu;
 import org.apache.isis.core.runtimeservices.publish.CommandPublisherDefault;
 import org.apache.isis.core.runtimeservices.publish.EntityChangesPublisherDefault;
 import org.apache.isis.core.runtimeservices.publish.EntityPropertyChangePublisherDefault;
@@ -90,6 +94,7 @@
         ImpersonatedUserHolderDefault.class,
         ImpersonateMenuAdvisorDefault.class,
         InteractionDtoFactoryDefault.class,
+        InteractionProfileService.class,
         InteractionServiceDefault.class,
         JaxbServiceDefault.class,
         ObjectMementoServiceDefault.class,
@@ -108,6 +113,7 @@
         XmlSnapshotServiceDefault.class,
         ObjectLifecyclePublisherDefault.class,
         SchemaValueMarshallerDefault.class,
+        SlowExecutionSampler.class,
 
         // @Controller
         RoutingServiceDefault.class,
@@ -117,10 +123,14 @@
 
         // @DomainService's
         TranslationServicePoMenu.class,
+        SlowExecutionSamplerMenu.class,
 
         // Exception Recognizers
         ExceptionRecognizerForDataAccessException.class,
 
+        // @Component's
+        DataSourceProfilingPostProcessor.class,
+
 })
 public class IsisModuleCoreRuntimeServices {
 
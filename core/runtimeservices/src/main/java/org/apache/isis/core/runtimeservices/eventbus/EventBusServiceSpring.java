@@ -20,6 +20,7 @@
 
 import org.apache.isis.applib.annotation.PriorityPrecedence;
 import org.apache.isis.applib.services.eventbus.EventBusService;
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -38,6 +39,7 @@ public class EventBusServiceSpring implements EventBusService {
 
     @Override
     public void post(Object event) {
+        InteractionProfile.increment(InteractionProfile.Counter.EVENTS_POSTED);
         applicationEventPublisher.publishEvent(event);
     }
 
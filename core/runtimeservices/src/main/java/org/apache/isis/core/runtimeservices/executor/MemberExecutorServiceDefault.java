@@ -65,6 +65,7 @@
 import org.apache.isis.core.metamodel.spec.PackedManagedObject;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
 import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.runtimeservices.profiling.SlowExecutionSampler;
 import org.apache.isis.schema.ixn.v2.ActionInvocationDto;
 
 import lombok.Getter;
@@ -92,6 +93,7 @@
     private final @Getter Provider<ExecutionPublisher> executionPublisher;
     private final @Getter MetamodelEventService metamodelEventService;
     private final @Getter TransactionService transactionService;
+    private final @Getter SlowExecutionSampler slowExecutionSampler;
 
     @Override
     public Optional<InteractionInternal> getInteraction() {
@@ -148,8 +150,14 @@ public ManagedObject invokeAction(
                         targetClass);
         val memberExecutor = actionExecutorFactory.createExecutor(owningAction, head, argumentAdapters);
 
-        // sets up startedAt and completedAt on the execution, also manages the execution call graph
-        interaction.execute(memberExecutor, actionInvocation, clockService, metricsService.get(), command);
+        val sample = slowExecutionSampler.start(interaction);
+        try {
+            // sets up startedAt and completedAt on the execution, also manages the execution call graph
+            interaction.execute(memberExecutor, actionInvocation, clockService, metricsService.get(), command);
+        } finally {
+            // also samples executions that failed
+            sample.complete(actionInvocation, ()->describe(targetAdapter), ()->argumentAdapters.map(MemberExecutorServiceDefault::describe));
+        }
 
         // handle any exceptions
         final Execution<ActionInvocationDto, ?> priorExecution =
@@ -218,8 +226,15 @@ public ManagedObject setOrClearProperty(
                 .createExecutor(owningProperty, head, newValueAdapter,
                         interactionInitiatedBy, editingVariant);
 
-        // sets up startedAt and completedAt on the execution, also manages the execution call graph
-        val targetPojo = interaction.execute(executor, propertyEdit, clockService, metricsService.get(), command);
+        val sample = slowExecutionSampler.start(interaction);
+        final Object targetPojo;
+        try {
+            // sets up startedAt and completedAt on the execution, also manages the execution call graph
+            targetPojo = interaction.execute(executor, propertyEdit, clockService, metricsService.get(), command);
+        } finally {
+            // also samples executions that failed
+            sample.complete(propertyEdit, ()->describe(targetManagedObject), ()->Can.ofSingleton(describe(newValueAdapter)));
+        }
 
         // handle any exceptions
         final Execution<?, ?> priorExecution = interaction.getPriorExecution();
@@ -247,6 +262,25 @@ public ManagedObject setOrClearProperty(
 
     // -- HELPER
 
+    /**
+     * For slow execution traces, which end up in the log and (optionally) in JFR recordings:
+     * entities are described by their bookmark, anything else (values, view models) only by its
+     * logical type name, so as to not leak the (potentially sensitive) values themselves.
+     */
+    static String describe(final ManagedObject adapter) {
+        if(ManagedObjects.isNullOrUnspecifiedOrEmpty(adapter)) {
+            return "null";
+        }
+        val spec = adapter.getSpecification();
+        if(spec.isEntity()) {
+            val bookmark = ManagedObjects.bookmark(adapter);
+            if(bookmark.isPresent()) {
+                return bookmark.get().stringify();
+            }
+        }
+        return "<" + spec.getLogicalTypeName() + ">";
+    }
+
     @SneakyThrows
     private Object invokeMethodPassThrough(
             final Method method,
@@ -35,6 +35,7 @@
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.collections._Sets;
 
+import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -43,8 +44,12 @@ class PoReader extends PoAbstract {
     public static final String DASH = "-";
     public static final String UNDERSCORE = "_";
 
-    private final Map<Locale, Map<ContextAndMsgId, String>> translationByKeyByLocale = _Maps.newHashMap();
-    private final Map<Locale, Boolean> usesFallbackByLocale = _Maps.newHashMap();
+    /**
+     * Replaced as a whole when (re-)initialized, so that concurrent lookups never observe a partially populated
+     * state.
+     */
+    private volatile Map<Locale, TranslationTable> translationTableByLocale = _Maps.newConcurrentHashMap();
+    private final Map<Locale, Boolean> usesFallbackByLocale = _Maps.newConcurrentHashMap();
 
     /**
      * The basename of the translations file, hard-coded to <tt>translations</tt>.
@@ -64,7 +69,7 @@ class PoReader extends PoAbstract {
     private final Can<TranslationsResolver> translationsResolver;
     private final Can<LocaleProvider> localeProvider;
 
-    private List<String> fallback;
+    private volatile List<String> fallback = Collections.emptyList();
 
     public PoReader(final TranslationServicePo translationServicePo) {
         super(translationServicePo, Mode.READ);
@@ -82,13 +87,27 @@ public PoReader(final TranslationServicePo translationServicePo) {
 
     /**
      * Not API
+     * <p>
+     * Compiles the translation tables of all configured locales upfront; tables for any other locale
+     * are compiled on first use.
      */
     void init() {
-        fallback = readUrl(basename + ".po");
+        val fallback = readUrl(basename + ".po");
         if(fallback == null) {
             log.info("No fallback translations found; i18n is in effect disabled for this application");
-            fallback = Collections.emptyList();
         }
+        this.fallback = fallback != null
+                ? fallback
+                : Collections.<String>emptyList();
+
+        final Map<Locale, TranslationTable> translationTableByLocale = _Maps.newConcurrentHashMap();
+        translationServicePo.getConfiguredLocales()
+        .forEach(locale->{
+            val translationTable = compileTranslationTable(locale);
+            translationTableByLocale.put(locale, translationTable);
+            log.info("compiled {} translations for locale {}", translationTable.size(), locale);
+        });
+        this.translationTableByLocale = translationTableByLocale;
     }
 
     @Override
@@ -116,9 +135,10 @@ String translate(TranslationContext context, final String msgId, final String ms
         return translate(context, msgIdToUse, type);
     }
 
+    /**
+     * Re-reads and re-compiles all translations, while lookups keep using the previous ones until done.
+     */
     void clearCache() {
-        translationByKeyByLocale.clear();
-        usesFallbackByLocale.clear();
         init();
     }
 
@@ -139,22 +159,14 @@ private String translate(TranslationContext context, final String msgId, final C
         }
 
 
-        final Map<ContextAndMsgId, String> translationsByKey = readAndCacheTranslationsIfRequired(targetLocale);
+        final TranslationTable translationTable = translationTableFor(targetLocale);
 
-        // search for translation with a context
-        final ContextAndMsgId key = new ContextAndMsgId(context.getName(), msgId, type);
-        final String translation = lookupTranslation(translationsByKey, key);
-        if (!_Strings.isNullOrEmpty(translation)) {
+        // search for translation with a context, else for translation without a context
+        final String translation = translationTable.lookup(context.getName(), msgId);
+        if (translation != null) {
             return translation;
         }
 
-        // else search for translation without a context
-        final ContextAndMsgId keyNoContext = new ContextAndMsgId("", msgId, type);
-        final String translationNoContext = lookupTranslation(translationsByKey, keyNoContext);
-        if (!_Strings.isNullOrEmpty(translationNoContext)) {
-            return translationNoContext;
-        }
-
         // to avoid chattiness in the log, we only log if there are ANY translations at all for the target locale.
         // the algorithm for searching for translations looks for:
         // 1. language_country
@@ -163,43 +175,27 @@ private String translate(TranslationContext context, final String msgId, final C
         // so this message is only ever displayed if the locale isn't using fallback (ie a translation is genuinely missing)
         final Boolean usesFallback = usesFallbackByLocale.get(targetLocale);
         if(usesFallback == null || !usesFallback) {
-            logInfoIfNotPreviously("No translation found for: " + key);
+            logInfoIfNotPreviously("No translation found for: " + new ContextAndMsgId(context.getName(), msgId, type));
         }
 
         return msgId;
     }
 
 
-    private String lookupTranslation(final Map<ContextAndMsgId, String> translationsByKey, final ContextAndMsgId key) {
-        final String s = translationsByKey.get(key);
-        return s != null? s.trim(): null;
-    }
-
-    private Map<ContextAndMsgId, String> readAndCacheTranslationsIfRequired(final Locale locale) {
-        Map<ContextAndMsgId, String> translationsByKey = translationByKeyByLocale.get(locale);
-        if(translationsByKey != null) {
-            return translationsByKey;
+    private TranslationTable translationTableFor(final Locale locale) {
+        // fast path, not locking
+        final TranslationTable translationTable = translationTableByLocale.get(locale);
+        if(translationTable != null) {
+            return translationTable;
         }
-
-        translationsByKey = _Maps.newHashMap();
-        read(locale, translationsByKey);
-        translationByKeyByLocale.put(locale, translationsByKey);
-
-        return translationsByKey;
+        return translationTableByLocale.computeIfAbsent(locale, this::compileTranslationTable);
     }
 
-
     /**
      * @param locale - the .po file to load
-     * @param translationsByKey - the translations to be populated
      */
-    private void read(final Locale locale, final Map<ContextAndMsgId, String> translationsByKey) {
-        final List<String> contents = readPo(locale);
-
-        Block block = new Block();
-        for (final String line : contents) {
-            block = block.parseLine(line, translationsByKey);
-        }
+    private TranslationTable compileTranslationTable(final Locale locale) {
+        return TranslationTable.compile(readPo(locale));
     }
 
     protected List<String> readPo(final Locale locale) {
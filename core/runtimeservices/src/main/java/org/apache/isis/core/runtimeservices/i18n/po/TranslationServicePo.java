@@ -18,6 +18,7 @@
  */
 package org.apache.isis.core.runtimeservices.i18n.po;
 
+import java.util.Locale;
 import java.util.Optional;
 
 import javax.annotation.PostConstruct;
@@ -180,6 +181,10 @@ Can<TranslationsResolver> getTranslationsResolver() {
         return translationsResolvers.get();
     }
 
+    Can<Locale> getConfiguredLocales() {
+        return Can.ofCollection(configuration.getCore().getRuntimeServices().getTranslation().getPo().getLocales());
+    }
+
     private _Lazy<Can<LocaleProvider>> localeProviders = _Lazy.threadSafe(()->
     serviceRegistry.select(LocaleProvider.class) );
 
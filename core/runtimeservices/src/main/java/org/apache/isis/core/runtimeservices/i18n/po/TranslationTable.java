@@ -0,0 +1,100 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.i18n.po;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.collections._Maps;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * The translations of a single locale, compiled from the lines of a <i>.po</i> file.
+ *
+ * <p>
+ *     Immutable, hence safe to share between threads; lookups don't allocate.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class TranslationTable {
+
+    private static final String NO_CONTEXT = "";
+
+    /**
+     * Translations (already trimmed) keyed by msgId, then by context.
+     */
+    private final Map<String, Map<String, String>> translationByContextByMsgId;
+
+    static TranslationTable compile(final List<String> poLines) {
+
+        final Map<ContextAndMsgId, String> translationsByKey = _Maps.newHashMap();
+        Block block = new Block();
+        for (final String line : poLines) {
+            block = block.parseLine(line, translationsByKey);
+        }
+
+        final Map<String, Map<String, String>> translationByContextByMsgId = _Maps.newHashMap();
+        translationsByKey.forEach((key, translation)->{
+            val trimmed = translation.trim();
+            if(trimmed.isEmpty()) {
+                return; // treated as not translated
+            }
+            // msgIds and contexts recur across the tables of all locales, so we share the instances
+            translationByContextByMsgId
+                .computeIfAbsent(key.getMsgId().intern(), __->_Maps.newHashMap())
+                .put(key.getContext().intern(), trimmed);
+        });
+
+        translationByContextByMsgId.replaceAll((msgId, translationByContext)->Map.copyOf(translationByContext));
+        return new TranslationTable(Map.copyOf(translationByContextByMsgId));
+    }
+
+    /**
+     * Returns the translation of given {@code msgId} for given {@code context}, else the one without a context,
+     * else {@code null}.
+     */
+    @Nullable
+    String lookup(final @Nullable String context, final @Nullable String msgId) {
+        if(msgId == null) {
+            return null;
+        }
+        val translationByContext = translationByContextByMsgId.get(msgId);
+        if(translationByContext == null) {
+            return null;
+        }
+        if(!_Strings.isNullOrEmpty(context)) {
+            val translation = translationByContext.get(context);
+            if(translation != null) {
+                return translation;
+            }
+        }
+        return translationByContext.get(NO_CONTEXT);
+    }
+
+    int size() {
+        return translationByContextByMsgId.size();
+    }
+
+}
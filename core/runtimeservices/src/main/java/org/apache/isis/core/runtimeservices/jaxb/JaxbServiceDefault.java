@@ -28,6 +28,7 @@
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import javax.xml.transform.Source;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -39,6 +40,7 @@
 import org.apache.isis.applib.services.inject.ServiceInjector;
 import org.apache.isis.applib.services.jaxb.JaxbService.Simple;
 import org.apache.isis.commons.internal.context._Context;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.commons.internal.resources._Xml;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
@@ -99,6 +101,21 @@ protected Object internalFromXml(
         return pojo;
     }
 
+    @Override
+    protected Object internalFromXml(
+            final @NonNull JAXBContext jaxbContext,
+            final @NonNull Source source,
+            final Map<String, Object> unmarshallerProperties) throws JAXBException {
+
+        val pojo = super.internalFromXml(jaxbContext, source, unmarshallerProperties);
+        if(pojo instanceof DomainObjectList) {
+            // would need to go around the loop again, but the stream is consumed by now
+            throw _Exceptions.unsupportedOperation(
+                    "DomainObjectList cannot be unmarshalled from a stream, use fromXml(Class, String) instead");
+        }
+        return pojo;
+    }
+
     @Override
     protected void configure(final Unmarshaller unmarshaller) {
         unmarshaller.setAdapter(PersistentEntityAdapter.class,
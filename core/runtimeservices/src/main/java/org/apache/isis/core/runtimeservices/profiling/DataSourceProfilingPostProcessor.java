@@ -0,0 +1,150 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.profiling;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Wraps any {@link DataSource} beans, such that the statements executed on connections obtained
+ * from them are counted (and timed) against the {@link InteractionProfile} of the current interaction.
+ * <p>
+ * Applies to JDO and JPA alike, as both obtain their connections from the Spring managed
+ * {@link DataSource}.
+ * <p>
+ * Reads its configuration directly from the {@link Environment}, as post-processors are
+ * instantiated before configuration properties are bound.
+ *
+ * @since 2.0
+ */
+@Component
+public class DataSourceProfilingPostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+    private boolean enabled;
+
+    @Override
+    public void setEnvironment(final Environment environment) {
+        this.enabled =
+                environment.getProperty("isis.core.runtime-services.profiling.enabled", Boolean.class, true)
+                && environment.getProperty("isis.core.runtime-services.profiling.instrument-data-sources", Boolean.class, false);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) throws BeansException {
+        if(!enabled
+                || !(bean instanceof DataSource)
+                || Proxy.isProxyClass(bean.getClass())) {
+            return bean;
+        }
+        return wrap(bean, DataSource.class);
+    }
+
+    // -- HELPER
+
+    private static <T> T wrap(final Object delegate, final Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[] {type},
+                new ProfilingHandler(delegate)));
+    }
+
+    @RequiredArgsConstructor
+    private static class ProfilingHandler implements InvocationHandler {
+
+        private final Object delegate;
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            val name = method.getName();
+            if(isStatementExecution(name)) {
+                val startedAt = System.nanoTime();
+                try {
+                    return invokeDelegate(method, args);
+                } finally {
+                    InteractionProfile.addPhaseNanos(InteractionProfile.Phase.SQL, System.nanoTime() - startedAt);
+                    InteractionProfile.increment(InteractionProfile.Counter.SQL_STATEMENTS);
+                }
+            }
+            if("unwrap".equals(name)
+                    && args!=null
+                    && ((Class<?>)args[0]).isInstance(delegate)) {
+                return delegate;
+            }
+            if("isWrapperFor".equals(name)
+                    && args!=null
+                    && ((Class<?>)args[0]).isInstance(delegate)) {
+                return true;
+            }
+
+            val result = invokeDelegate(method, args);
+
+            // wrap the JDBC objects that eventually execute statements
+            val returnType = method.getReturnType();
+            if(result!=null) {
+                if(returnType == Connection.class) {
+                    return wrap(result, Connection.class);
+                }
+                if(returnType == CallableStatement.class) {
+                    return wrap(result, CallableStatement.class);
+                }
+                if(returnType == PreparedStatement.class) {
+                    return wrap(result, PreparedStatement.class);
+                }
+                if(returnType == Statement.class) {
+                    return wrap(result, Statement.class);
+                }
+            }
+            return result;
+        }
+
+        private Object invokeDelegate(final Method method, final Object[] args) throws Throwable {
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+        // execute, executeQuery, executeUpdate, executeBatch, executeLargeUpdate, ...
+        private static boolean isStatementExecution(final String methodName) {
+            return methodName.startsWith("execute");
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.profiling;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.registry.ServiceRegistry;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._Lazy;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
+import org.apache.isis.core.metamodel.execution.InteractionProfileListener;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Aggregates the {@link InteractionProfile}s of completed interactions per action or property
+ * (as identified by the logical member identifier of the top-level execution), and notifies
+ * any {@link InteractionProfileListener}s.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.runtimeservices.InteractionProfileService")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+public class InteractionProfileService {
+
+    /**
+     * Used to aggregate the profiles of interactions that did not execute any action or property,
+     * eg. rendering an object.
+     */
+    public static final String NO_MEMBER = "(none)";
+
+    @Getter private final boolean enabled;
+    private final _Lazy<Can<InteractionProfileListener>> listeners;
+    private final Map<String, MemberProfile> memberProfiles = new ConcurrentHashMap<>();
+
+    @Inject
+    public InteractionProfileService(
+            final IsisConfiguration isisConfiguration,
+            final ServiceRegistry serviceRegistry) {
+        this.enabled = isisConfiguration.getCore().getRuntimeServices().getProfiling().isEnabled();
+        // lazily, to allow listeners to have dependencies back on this service
+        this.listeners = _Lazy.threadSafe(()->serviceRegistry.select(InteractionProfileListener.class));
+    }
+
+    /**
+     * Do not use, is called by the framework internally, when an interaction completes.
+     */
+    public void record(final @NonNull InteractionProfile profile) {
+        if(!enabled) {
+            return;
+        }
+        val elapsedNanos = profile.getElapsedNanos();
+        val logicalMemberIdentifier = Optional.ofNullable(profile.getLogicalMemberIdentifier())
+                .orElse(NO_MEMBER);
+
+        memberProfiles
+            .computeIfAbsent(logicalMemberIdentifier, MemberProfile::new)
+            .record(profile, elapsedNanos);
+
+        listeners.get()
+            .forEach(listener->listener.onInteractionCompleted(logicalMemberIdentifier, profile, elapsedNanos));
+    }
+
+    public Stream<MemberProfile> streamMemberProfiles() {
+        return memberProfiles.values().stream();
+    }
+
+    public Optional<MemberProfile> lookupMemberProfile(final @NonNull String logicalMemberIdentifier) {
+        return Optional.ofNullable(memberProfiles.get(logicalMemberIdentifier));
+    }
+
+    /**
+     * Discards all profiles aggregated so far.
+     */
+    public void clear() {
+        memberProfiles.clear();
+    }
+
+}
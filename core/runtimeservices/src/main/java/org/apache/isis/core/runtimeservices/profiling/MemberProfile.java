@@ -0,0 +1,131 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.profiling;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
+import org.apache.isis.core.metamodel.execution.InteractionProfile.Counter;
+import org.apache.isis.core.metamodel.execution.InteractionProfile.Phase;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Aggregate of the {@link InteractionProfile}s of all interactions that executed a
+ * given action or property, with a histogram of their wall times.
+ * <p>
+ * The histogram uses exponential buckets: bucket <i>i</i> counts the interactions that took
+ * less than 2<sup><i>i</i></sup> milliseconds (and at least 2<sup><i>i</i>-1</sup>),
+ * the last bucket counts any that took longer.
+ *
+ * @since 2.0 {@index}
+ */
+public final class MemberProfile {
+
+    public static final int HISTOGRAM_BUCKETS = 20;
+
+    @Getter private final String logicalMemberIdentifier;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+    private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+    private final LongAdder[] counterTotals = newAdders(Counter.values().length);
+    private final LongAdder[] phaseNanosTotals = newAdders(Phase.values().length);
+
+    MemberProfile(final @NonNull String logicalMemberIdentifier) {
+        this.logicalMemberIdentifier = logicalMemberIdentifier;
+    }
+
+    void record(final @NonNull InteractionProfile profile, final long elapsedNanos) {
+        count.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+        histogram.incrementAndGet(bucketFor(elapsedNanos));
+        for(val counter : Counter.values()) {
+            counterTotals[counter.ordinal()].add(profile.getCount(counter));
+        }
+        for(val phase : Phase.values()) {
+            phaseNanosTotals[phase.ordinal()].add(profile.getPhaseNanos(phase));
+        }
+    }
+
+    // -- ACCESS
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMeanNanos() {
+        val n = getCount();
+        return n>0
+                ? getTotalNanos() / n
+                : 0L;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public long getCounterTotal(final @NonNull Counter counter) {
+        return counterTotals[counter.ordinal()].sum();
+    }
+
+    public long getPhaseNanosTotal(final @NonNull Phase phase) {
+        return phaseNanosTotals[phase.ordinal()].sum();
+    }
+
+    /**
+     * Snapshot of the histogram's bucket counts.
+     */
+    public long[] getHistogram() {
+        val snapshot = new long[HISTOGRAM_BUCKETS];
+        for(int i=0; i<HISTOGRAM_BUCKETS; ++i) {
+            snapshot[i] = histogram.get(i);
+        }
+        return snapshot;
+    }
+
+    // -- HELPER
+
+    static int bucketFor(final long elapsedNanos) {
+        val millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        // number of bits required to represent millis, so 0ms -> 0, 1ms -> 1, 2..3ms -> 2, ...
+        val bucket = 64 - Long.numberOfLeadingZeros(millis);
+        return Math.min(bucket, HISTOGRAM_BUCKETS - 1);
+    }
+
+    private static LongAdder[] newAdders(final int size) {
+        val adders = new LongAdder[size];
+        for(int i=0; i<size; ++i) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+}
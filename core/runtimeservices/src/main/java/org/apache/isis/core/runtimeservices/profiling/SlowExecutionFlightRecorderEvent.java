@@ -0,0 +1,93 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder representation of a {@link SlowExecutionTrace}; only has an effect
+ * while a recording is running with this event enabled (as it is by default).
+ *
+ * @since 2.0
+ */
+@Name("org.apache.isis.SlowExecution")
+@Label("Slow Execution")
+@Category({"Apache Isis", "Interaction"})
+@Description("An action invocation or property edit exceeding the configured latency threshold")
+@StackTrace(false)
+class SlowExecutionFlightRecorderEvent extends jdk.jfr.Event {
+
+    @Label("Interaction Id")
+    String interactionId;
+
+    @Label("Member")
+    String logicalMemberIdentifier;
+
+    @Label("Target")
+    String target;
+
+    @Label("Arguments")
+    String arguments;
+
+    @Label("Elapsed") @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+    @Label("SQL Statements")
+    long sqlStatements;
+
+    @Label("SQL Time") @Timespan(Timespan.NANOSECONDS)
+    long sqlTime;
+
+    @Label("Events Posted")
+    long eventsPosted;
+
+    @Label("Facet Invocations")
+    long facetInvocations;
+
+    @Label("Nested Executions")
+    int nestedExecutions;
+
+    @Label("Threw")
+    String threw;
+
+    static void emit(final SlowExecutionTrace trace) {
+        final SlowExecutionFlightRecorderEvent event = new SlowExecutionFlightRecorderEvent();
+        if(!event.isEnabled()) {
+            return;
+        }
+        event.interactionId = trace.getInteractionId().toString();
+        event.logicalMemberIdentifier = trace.getLogicalMemberIdentifier();
+        event.target = trace.getTarget();
+        event.arguments = String.join(", ", trace.getArguments().toList());
+        event.elapsed = trace.getElapsedNanos();
+        event.sqlStatements = trace.getSqlStatements();
+        event.sqlTime = trace.getSqlNanos();
+        event.eventsPosted = trace.getEventsPosted();
+        event.facetInvocations = trace.getFacetInvocations();
+        event.nestedExecutions = trace.getNestedExecutions().size();
+        event.threw = trace.getThrew().orElse(null);
+        event.commit();
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.profiling;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.iactn.Execution;
+import org.apache.isis.applib.util.schema.InteractionDtoUtils;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.execution.InteractionInternal;
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
+import org.apache.isis.core.metamodel.execution.InteractionProfile.Counter;
+import org.apache.isis.core.metamodel.execution.InteractionProfile.Phase;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Records a {@link SlowExecutionTrace} for every action invocation or property edit that takes
+ * longer than the configured threshold, retaining the most recent ones in a bounded ring buffer,
+ * and (optionally) emitting these as JDK Flight Recorder events.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.runtimeservices.SlowExecutionSampler")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class SlowExecutionSampler {
+
+    @Getter private final boolean enabled;
+    private final long thresholdNanos;
+    private final int capacity;
+    private final boolean includeInteractionDto;
+    private final boolean flightRecorderEvents;
+
+    // guarded by itself; newest first
+    private final Deque<SlowExecutionTrace> traces;
+
+    @Inject
+    public SlowExecutionSampler(final IsisConfiguration isisConfiguration) {
+        val profiling = isisConfiguration.getCore().getRuntimeServices().getProfiling();
+        val slowExecutions = profiling.getSlowExecutions();
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowExecutions.getThresholdMillis());
+        this.capacity = Math.max(1, slowExecutions.getCapacity());
+        this.enabled = profiling.isEnabled()
+                && thresholdNanos > 0L;
+        this.includeInteractionDto = slowExecutions.isIncludeInteractionDto();
+        this.flightRecorderEvents = slowExecutions.isFlightRecorderEvents();
+        this.traces = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * To be called just before the execution is started.
+     */
+    public Sample start(final @NonNull InteractionInternal interaction) {
+        return enabled
+                ? new Sample(this, interaction, System.nanoTime(), interaction.getProfile().snapshot())
+                : Sample.NONE;
+    }
+
+    /**
+     * The traces recorded so far, most recent first.
+     */
+    public Can<SlowExecutionTrace> getTraces() {
+        synchronized(traces) {
+            return Can.ofCollection(traces);
+        }
+    }
+
+    public void clear() {
+        synchronized(traces) {
+            traces.clear();
+        }
+    }
+
+    // -- SAMPLE
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Sample {
+
+        private static final Sample NONE = new Sample(null, null, 0L, null);
+
+        private final SlowExecutionSampler sampler;
+        private final InteractionInternal interaction;
+        private final long startedAtNanos;
+        private final InteractionProfile.Snapshot profileBefore;
+
+        /**
+         * To be called once the execution has completed (successfully or not); records a trace,
+         * if the execution took longer than the threshold.
+         *
+         * @param target - describes the execution's target, only evaluated if a trace is recorded
+         * @param arguments - describes the execution's arguments, only evaluated if a trace is recorded
+         */
+        public void complete(
+                final @NonNull Execution<?, ?> execution,
+                final @NonNull Supplier<String> target,
+                final @NonNull Supplier<Can<String>> arguments) {
+            if(sampler == null) {
+                return; // sampling disabled
+            }
+            sampler.complete(this, execution, target, arguments);
+        }
+
+    }
+
+    // -- HELPER
+
+    private void complete(
+            final Sample sample,
+            final Execution<?, ?> execution,
+            final Supplier<String> target,
+            final Supplier<Can<String>> arguments) {
+
+        val elapsedNanos = System.nanoTime() - sample.startedAtNanos;
+        if(elapsedNanos < thresholdNanos) {
+            return;
+        }
+        val interaction = sample.interaction;
+        val profileDelta = interaction.getProfile().snapshot().minus(sample.profileBefore);
+        record(SlowExecutionTrace.of(
+                Instant.now(),
+                interaction.getInteractionId(),
+                execution.getMemberIdentifier().getLogicalIdentityString("#"),
+                target.get(),
+                arguments.get(),
+                elapsedNanos,
+                profileDelta.getCount(Counter.SQL_STATEMENTS),
+                profileDelta.getPhaseNanos(Phase.SQL),
+                profileDelta.getCount(Counter.EVENTS_POSTED),
+                profileDelta.getCount(Counter.FACET_INVOCATIONS),
+                profileDelta.getCount(Counter.TITLES_RENDERED),
+                profileDelta.getCount(Counter.SPEC_LOOKUPS),
+                nodesFor(execution.getChildren()),
+                execution.getThrew()!=null
+                    ? execution.getThrew().toString()
+                    : null,
+                includeInteractionDto
+                    ? interactionDtoXmlFor(execution)
+                    : null));
+    }
+
+    private void record(final SlowExecutionTrace trace) {
+        log.warn("slow execution of {} took {}ms ({} SQL statements in {}ms)",
+                trace.getLogicalMemberIdentifier(),
+                TimeUnit.NANOSECONDS.toMillis(trace.getElapsedNanos()),
+                trace.getSqlStatements(),
+                TimeUnit.NANOSECONDS.toMillis(trace.getSqlNanos()));
+
+        synchronized(traces) {
+            if(traces.size() >= capacity) {
+                traces.removeLast();
+            }
+            traces.addFirst(trace);
+        }
+        if(flightRecorderEvents) {
+            SlowExecutionFlightRecorderEvent.emit(trace);
+        }
+    }
+
+    private static Can<SlowExecutionTrace.Node> nodesFor(final Iterable<Execution<?, ?>> executions) {
+        return Can.ofIterable(executions)
+                .map(execution->SlowExecutionTrace.Node.of(
+                        execution.getMemberIdentifier().getLogicalIdentityString("#"),
+                        elapsedMillis(execution),
+                        nodesFor(execution.getChildren())));
+    }
+
+    private static long elapsedMillis(final Execution<?, ?> execution) {
+        return execution.getStartedAt()!=null
+                && execution.getCompletedAt()!=null
+                ? execution.getCompletedAt().getTime() - execution.getStartedAt().getTime()
+                : -1L;
+    }
+
+    private static String interactionDtoXmlFor(final Execution<?, ?> execution) {
+        try {
+            return InteractionDtoUtils.toXml(InteractionDtoUtils.newInteractionDto(execution));
+        } catch (Exception e) {
+            log.warn("failed to marshal InteractionDto for slow execution trace", e);
+            return null;
+        }
+    }
+
+}
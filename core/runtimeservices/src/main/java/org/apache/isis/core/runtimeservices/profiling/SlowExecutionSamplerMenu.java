@@ -0,0 +1,148 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.profiling;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.apache.isis.applib.IsisModuleApplib;
+import org.apache.isis.applib.annotation.Action;
+import org.apache.isis.applib.annotation.ActionLayout;
+import org.apache.isis.applib.annotation.DomainService;
+import org.apache.isis.applib.annotation.DomainServiceLayout;
+import org.apache.isis.applib.annotation.MemberSupport;
+import org.apache.isis.applib.annotation.ParameterLayout;
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.annotation.RestrictTo;
+import org.apache.isis.applib.annotation.SemanticsOf;
+import org.apache.isis.applib.value.Clob;
+import org.apache.isis.commons.collections.Can;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+@Named(SlowExecutionSamplerMenu.LOGICAL_TYPE_NAME)
+@DomainService(logicalTypeName = SlowExecutionSamplerMenu.LOGICAL_TYPE_NAME)
+@DomainServiceLayout(
+        named = "Prototyping",
+        menuBar = DomainServiceLayout.MenuBar.SECONDARY
+)
+@javax.annotation.Priority(PriorityPrecedence.EARLY)
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class SlowExecutionSamplerMenu {
+
+    public static final String LOGICAL_TYPE_NAME = IsisModuleApplib.NAMESPACE + ".SlowExecutionSamplerMenu";
+
+    public static abstract class ActionDomainEvent extends IsisModuleApplib.ActionDomainEvent<SlowExecutionSamplerMenu> {}
+
+    final SlowExecutionSampler slowExecutionSampler;
+
+
+    public static class DownloadSlowExecutionTracesDomainEvent extends ActionDomainEvent {}
+
+    @Action(
+            domainEvent = DownloadSlowExecutionTracesDomainEvent.class,
+            semantics = SemanticsOf.NON_IDEMPOTENT, //disable client-side caching
+            restrictTo = RestrictTo.PROTOTYPING
+            )
+    @ActionLayout(
+            cssClassFa = "fa-stopwatch",
+            sequence="500.750.1")
+    public Clob downloadSlowExecutionTraces(
+            @ParameterLayout(named = "File name")
+            final String fileName) {
+
+        return new Clob(
+                fileName.endsWith(".txt") ? fileName : fileName + ".txt",
+                "text/plain",
+                toText(slowExecutionSampler.getTraces()));
+    }
+    @MemberSupport public String default0DownloadSlowExecutionTraces() {
+        return "slow-executions.txt";
+    }
+    @MemberSupport public String disableDownloadSlowExecutionTraces() {
+        return !slowExecutionSampler.isEnabled()
+                ? "Sampling of slow executions is disabled."
+                : null;
+    }
+
+
+
+    public static class ClearSlowExecutionTracesDomainEvent extends ActionDomainEvent {}
+
+    @Action(
+            domainEvent = ClearSlowExecutionTracesDomainEvent.class,
+            semantics = SemanticsOf.IDEMPOTENT,
+            restrictTo = RestrictTo.PROTOTYPING
+            )
+    @ActionLayout(
+            cssClassFa = "fa-trash",
+            sequence="500.750.2")
+    public void clearSlowExecutionTraces() {
+        slowExecutionSampler.clear();
+    }
+    @MemberSupport public String disableClearSlowExecutionTraces() {
+        return disableDownloadSlowExecutionTraces();
+    }
+
+    // -- HELPER
+
+    static String toText(final Can<SlowExecutionTrace> traces) {
+        val sb = new StringBuilder();
+        if(traces.isEmpty()) {
+            sb.append("No slow executions recorded.\n");
+        }
+        traces.forEach(trace->{
+            sb.append(trace.getCompletedAt())
+                .append(' ').append(trace.getLogicalMemberIdentifier())
+                .append(" took ").append(TimeUnit.NANOSECONDS.toMillis(trace.getElapsedNanos())).append("ms")
+                .append('\n');
+            sb.append("  interaction: ").append(trace.getInteractionId()).append('\n');
+            sb.append("  target:      ").append(trace.getTarget()).append('\n');
+            sb.append("  arguments:   ").append(String.join(", ", trace.getArguments().toList())).append('\n');
+            sb.append("  sql:         ").append(trace.getSqlStatements()).append(" statements in ")
+                .append(TimeUnit.NANOSECONDS.toMillis(trace.getSqlNanos())).append("ms\n");
+            sb.append("  events:      ").append(trace.getEventsPosted()).append(" posted\n");
+            sb.append("  facets:      ").append(trace.getFacetInvocations()).append(" invocations\n");
+            sb.append("  titles:      ").append(trace.getTitlesRendered()).append(" rendered\n");
+            sb.append("  specs:       ").append(trace.getSpecLookups()).append(" lookups\n");
+            trace.getThrew()
+                .ifPresent(threw->sb.append("  threw:       ").append(threw).append('\n'));
+            appendNodes(sb, trace.getNestedExecutions(), "  ");
+            trace.getInteractionDtoXml()
+                .ifPresent(xml->sb.append(xml).append('\n'));
+            sb.append('\n');
+        });
+        return sb.toString();
+    }
+
+    private static void appendNodes(
+            final StringBuilder sb,
+            final Can<SlowExecutionTrace.Node> nodes,
+            final String indent) {
+        nodes.forEach(node->{
+            sb.append(indent).append("+ ").append(node.getLogicalMemberIdentifier())
+                .append(" (").append(node.getElapsedMillis()).append("ms)\n");
+            appendNodes(sb, node.getChildren(), indent + "  ");
+        });
+    }
+
+}
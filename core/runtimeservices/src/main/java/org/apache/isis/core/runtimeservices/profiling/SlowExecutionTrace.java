@@ -0,0 +1,81 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.profiling;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.commons.collections.Can;
+
+import lombok.Value;
+
+/**
+ * Lightweight trace of an action invocation or property edit that exceeded the configured
+ * latency threshold, as recorded by the {@link SlowExecutionSampler}.
+ *
+ * @since 2.0 {@index}
+ */
+@Value(staticConstructor = "of")
+public class SlowExecutionTrace implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Node of the execution call graph, with the (nested) executions that were
+     * triggered by the sampled one, eg. via the {@link org.apache.isis.applib.services.wrapper.WrapperFactory}.
+     */
+    @Value(staticConstructor = "of")
+    public static class Node implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final String logicalMemberIdentifier;
+        private final long elapsedMillis;
+        private final Can<Node> children;
+    }
+
+    private final Instant completedAt;
+    private final UUID interactionId;
+    private final String logicalMemberIdentifier;
+    private final String target;
+    private final Can<String> arguments;
+    private final long elapsedNanos;
+
+    private final long sqlStatements;
+    private final long sqlNanos;
+    private final long eventsPosted;
+    private final long facetInvocations;
+    private final long titlesRendered;
+    private final long specLookups;
+
+    private final Can<Node> nestedExecutions;
+    private final @Nullable String threw;
+    private final @Nullable String interactionDtoXml;
+
+    public Optional<String> getThrew() {
+        return Optional.ofNullable(threw);
+    }
+
+    public Optional<String> getInteractionDtoXml() {
+        return Optional.ofNullable(interactionDtoXml);
+    }
+
+}
@@ -31,6 +31,7 @@
 import org.apache.isis.applib.services.xactn.TransactionService;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.having.HasEnabling;
+import org.apache.isis.commons.internal.debug.xray.XrayUi;
 import org.apache.isis.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
 import org.apache.isis.core.transaction.changetracking.EntityPropertyChangePublisher;
 
@@ -70,6 +71,16 @@ public void init() {
     public void publishChangedProperties(
             final HasEnlistedEntityPropertyChanges hasEnlistedEntityPropertyChanges) {
 
+        if(!XrayUi.isXrayEnabled()) {
+            // pass on the changes as they are produced, rather than collecting them up-front
+            if(!enabledSubscribers.isEmpty()) {
+                hasEnlistedEntityPropertyChanges.forEachPropertyChange(
+                        currentTime(), currentUser(), currentTransactionId(),
+                        this::notifySubscribers);
+            }
+            return;
+        }
+
         val payload = getPayload(hasEnlistedEntityPropertyChanges);
         val xrayHandle = _Xray.enterEntityPropertyChangePublishing(
                 iaTracker,
@@ -78,11 +89,7 @@ public void publishChangedProperties(
                 ()->getCannotPublishReason(payload)
                 );
 
-        payload.forEach(propertyChange->{
-            for (val subscriber : enabledSubscribers) {
-                subscriber.onChanging(propertyChange);
-            }
-        });
+        payload.forEach(this::notifySubscribers);
 
         _Xray.exitPublishing(xrayHandle);
     }
@@ -96,15 +103,29 @@ private Can<EntityPropertyChange> getPayload(
             return Can.empty();
         }
 
-        val currentTime = clockService.getClock().nowAsJavaSqlTimestamp();
-        val currentUser = userService.currentUserNameElseNobody();
-        val currentTransactionId = transactionService.currentTransactionId()
-                .orElse(TransactionId.empty());
-
         return hasEnlistedEntityPropertyChanges.getPropertyChanges(
-                currentTime,
-                currentUser,
-                currentTransactionId);
+                currentTime(),
+                currentUser(),
+                currentTransactionId());
+    }
+
+    private void notifySubscribers(final EntityPropertyChange propertyChange) {
+        for (val subscriber : enabledSubscribers) {
+            subscriber.onChanging(propertyChange);
+        }
+    }
+
+    private java.sql.Timestamp currentTime() {
+        return clockService.getClock().nowAsJavaSqlTimestamp();
+    }
+
+    private String currentUser() {
+        return userService.currentUserNameElseNobody();
+    }
+
+    private TransactionId currentTransactionId() {
+        return transactionService.currentTransactionId()
+                .orElse(TransactionId.empty());
     }
 
     // x-ray support
@@ -21,7 +21,9 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -45,9 +47,13 @@
 import org.apache.isis.applib.services.xactn.TransactionService;
 import org.apache.isis.commons.internal.base._Casts;
 import org.apache.isis.commons.internal.base._NullSafe;
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
 import org.apache.isis.core.metamodel.objectmanager.query.ObjectBulkLoader;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.core.metamodel.spec.ManagedObjects.EntityUtil;
 import org.apache.isis.core.metamodel.spec.ManagedObjects.UnwrapUtil;
@@ -71,11 +77,17 @@ public class RepositoryServiceDefault implements RepositoryService {
     final ObjectManager objectManager;
 
     private boolean autoFlush;
+    private int bulkFlushInterval;
+    private boolean bulkEvictOnFlush;
 
     @PostConstruct
     public void init() {
         val disableAutoFlush = isisConfiguration.getCore().getRuntimeServices().getRepositoryService().isDisableAutoFlush();
         this.autoFlush = !disableAutoFlush;
+
+        val bulk = isisConfiguration.getCore().getRuntimeServices().getRepositoryService().getBulk();
+        this.bulkFlushInterval = bulk.getFlushInterval();
+        this.bulkEvictOnFlush = bulk.isEvictOnFlush();
     }
 
     @Override
@@ -91,18 +103,7 @@ public <T> T detachedEntity(final @NonNull T entity) {
 
     @Override
     public <T> T persist(final T domainObject) {
-
-        val adapter = objectManager.adapt(unwrapped(domainObject));
-        if(ManagedObjects.isNullOrUnspecifiedOrEmpty(adapter)) {
-            throw new PersistFailedException("Object not known to framework (unable to create/obtain an adapter)");
-        }
-        // only persist detached entities, otherwise skip
-        val entityState = EntityUtil.getEntityState(adapter);
-        if(!entityState.isPersistable()
-                || entityState.isAttached()) {
-            return domainObject;
-        }
-        EntityUtil.persistInCurrentTransaction(adapter);
+        persistInternal(domainObject);
         return domainObject;
     }
 
@@ -116,13 +117,7 @@ public <T> T persistAndFlush(final T object) {
 
     @Override
     public void remove(final Object domainObject) {
-        if (domainObject == null) {
-            return; // noop
-        }
-        val adapter = objectManager.adapt(unwrapped(domainObject));
-        if(EntityUtil.isAttached(adapter)) {
-            EntityUtil.destroyInCurrentTransaction(adapter);
-        }
+        removeInternal(domainObject);
     }
 
     @Override
@@ -131,6 +126,19 @@ public void removeAndFlush(final Object domainObject) {
         transactionService.flushTransaction();
     }
 
+    // -- BULK
+
+    @Override
+    public <T> void persistAll(final @Nullable Iterable<T> domainObjects) {
+        processInBatches(domainObjects, this::persistInternal, bulkEvictOnFlush);
+    }
+
+    @Override
+    public void removeAll(final @Nullable Iterable<?> domainObjects) {
+        // no need to evict the objects removed, so we only flush
+        processInBatches(domainObjects, this::removeInternal, false);
+    }
+
 
     // -- allInstances, allMatches, uniqueMatch, firstMatch
 
@@ -235,6 +243,84 @@ public <T> void removeAll(Class<T> cls) {
 
     // -- HELPER
 
+    /**
+     * @return the adapter of the object, if it was actually persisted
+     */
+    private Optional<ManagedObject> persistInternal(final Object domainObject) {
+        val adapter = objectManager.adapt(unwrapped(domainObject));
+        if(ManagedObjects.isNullOrUnspecifiedOrEmpty(adapter)) {
+            throw new PersistFailedException("Object not known to framework (unable to create/obtain an adapter)");
+        }
+        // only persist detached entities, otherwise skip
+        val entityState = EntityUtil.getEntityState(adapter);
+        if(!entityState.isPersistable()
+                || entityState.isAttached()) {
+            return Optional.empty();
+        }
+        EntityUtil.persistInCurrentTransaction(adapter);
+        return Optional.of(adapter);
+    }
+
+    /**
+     * @return the adapter of the object, if it was actually removed
+     */
+    private Optional<ManagedObject> removeInternal(final Object domainObject) {
+        if (domainObject == null) {
+            return Optional.empty(); // noop
+        }
+        val adapter = objectManager.adapt(unwrapped(domainObject));
+        if(!EntityUtil.isAttached(adapter)) {
+            return Optional.empty();
+        }
+        EntityUtil.destroyInCurrentTransaction(adapter);
+        return Optional.of(adapter);
+    }
+
+    /**
+     * Applies the operation to each of the domain objects, flushing every {@link #bulkFlushInterval}
+     * processed objects, and optionally then evicting the objects of that batch (and only those)
+     * from their persistence contexts.
+     */
+    private void processInBatches(
+            final @Nullable Iterable<?> domainObjects,
+            final Function<Object, Optional<ManagedObject>> operation,
+            final boolean evictOnFlush) {
+
+        if(domainObjects==null) {
+            return;
+        }
+
+        final Map<EntityFacet, List<Object>> batchByEntityFacet = _Maps.newLinkedHashMap();
+        int pending = 0;
+
+        for(val domainObject : domainObjects) {
+            val processed = operation.apply(domainObject).orElse(null);
+            if(processed==null) {
+                continue;
+            }
+            if(evictOnFlush) {
+                batchByEntityFacet
+                    .computeIfAbsent(processed.getSpecification().getFacet(EntityFacet.class), __->_Lists.newArrayList())
+                    .add(processed.getPojo());
+            }
+            if(bulkFlushInterval > 0
+                    && ++pending >= bulkFlushInterval) {
+                flushAndEvict(batchByEntityFacet);
+                pending = 0;
+            }
+        }
+
+        if(pending > 0) {
+            flushAndEvict(batchByEntityFacet);
+        }
+    }
+
+    private void flushAndEvict(final Map<EntityFacet, List<Object>> batchByEntityFacet) {
+        transactionService.flushTransaction();
+        batchByEntityFacet.forEach(EntityFacet::evictAll);
+        batchByEntityFacet.clear();
+    }
+
     private static <T> Optional<T> firstInstanceElseEmpty(final List<T> instances) {
         return instances.size() == 0
                 ? Optional.empty()
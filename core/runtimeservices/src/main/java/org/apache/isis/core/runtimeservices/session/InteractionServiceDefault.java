@@ -63,9 +63,12 @@
 import org.apache.isis.core.interaction.scope.InteractionScopeLifecycleHandler;
 import org.apache.isis.core.interaction.scope.TransactionBoundaryAware;
 import org.apache.isis.core.interaction.session.IsisInteraction;
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
 import org.apache.isis.core.metamodel.services.publishing.CommandPublisher;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.metamodel.specloader.validator.ValidationFailures;
 import org.apache.isis.core.runtime.events.MetamodelEventService;
+import org.apache.isis.core.runtimeservices.profiling.InteractionProfileService;
 import org.apache.isis.core.security.authentication.InteractionContextFactory;
 
 import lombok.NonNull;
@@ -98,6 +101,7 @@
     final ClockService clockService;
     final Provider<CommandPublisher> commandPublisherProvider;
     final ConfigurableBeanFactory beanFactory;
+    final InteractionProfileService interactionProfileService;
 
     final InteractionScopeLifecycleHandler interactionScopeLifecycleHandler;
 
@@ -112,7 +116,8 @@ public InteractionServiceDefault(
             final InteractionAwareTransactionalBoundaryHandler txBoundaryHandler,
             final ClockService clockService,
             final Provider<CommandPublisher> commandPublisherProvider,
-            final ConfigurableBeanFactory beanFactory) {
+            final ConfigurableBeanFactory beanFactory,
+            final InteractionProfileService interactionProfileService) {
         this.runtimeEventService = runtimeEventService;
         this.specificationLoader = specificationLoader;
         this.serviceInjector = serviceInjector;
@@ -120,6 +125,7 @@ public InteractionServiceDefault(
         this.clockService = clockService;
         this.commandPublisherProvider = commandPublisherProvider;
         this.beanFactory = beanFactory;
+        this.interactionProfileService = interactionProfileService;
 
         this.interactionScopeLifecycleHandler = InteractionScopeBeanFactoryPostProcessor.lookupScope(beanFactory);
     }
@@ -143,23 +149,41 @@ public void init(final ContextRefreshedEvent event) {
         taskList.submit(_ConcurrentContext.forkJoin());
         taskList.await();
 
-        { // log any validation failures, experimental code however, not sure how to best propagate failures
-            val validationResult = specificationLoader.getOrAssessValidationResult();
-            if(validationResult.getNumberOfFailures()==0) {
-                log.info("Validation PASSED");
-            } else {
-                log.error("### Validation FAILED, failure count: {}", validationResult.getNumberOfFailures());
-                validationResult.forEach(failure->{
-                    log.error("# " + failure.getMessage());
-                });
-                //throw _Exceptions.unrecoverable("Validation FAILED");
-            }
+        val metaModelCompletion = specificationLoader.getMetaModelCompletion();
+        if(metaModelCompletion.isDone()) {
+            // log any validation failures, experimental code however, not sure how to best propagate failures
+            logValidationResult(metaModelCompletion.join());
+            runtimeEventService.fireAfterMetamodelLoaded();
+            return;
         }
 
-        runtimeEventService.fireAfterMetamodelLoaded();
+        // the metamodel is being completed in the background;
+        // post-metamodel listeners (eg. seeding, fixtures, the application feature repository) rely on all
+        // types being introspected, hence are notified by the completing thread, once done
+        metaModelCompletion
+            .thenAccept(validationResult->{
+                logValidationResult(validationResult);
+                runtimeEventService.fireAfterMetamodelLoaded();
+            })
+            .exceptionally(failure->{
+                log.error("failed to complete the metamodel in the background", failure);
+                return null;
+            });
 
     }
 
+    private void logValidationResult(final ValidationFailures validationResult) {
+        if(validationResult.getNumberOfFailures()==0) {
+            log.info("Validation PASSED");
+        } else {
+            log.error("### Validation FAILED, failure count: {}", validationResult.getNumberOfFailures());
+            validationResult.forEach(failure->{
+                log.error("# " + failure.getMessage());
+            });
+            //throw _Exceptions.unrecoverable("Validation FAILED");
+        }
+    }
+
     @Override
     public int getInteractionLayerCount() {
         return interactionLayerStack.get().size();
@@ -345,6 +369,9 @@ private boolean isAtTopLevel() {
 
     private void postInteractionOpened(final IsisInteraction interaction) {
         interactionId.set(interaction.getInteractionId());
+        if(interactionProfileService.isEnabled()) {
+            InteractionProfile.bind(interaction.getProfile());
+        }
         transactionBoundaryAwareBeans.forEach(bean->bean.beforeEnteringTransactionalBoundary(interaction));
         txBoundaryHandler.onOpen(interaction);
         val isSynchronizationActive = TransactionSynchronizationManager.isSynchronizationActive();
@@ -360,6 +387,7 @@ private void preInteractionClosed(final IsisInteraction interaction) {
         transactionBoundaryAwareBeans.forEach(bean->bean.afterLeavingTransactionalBoundary(interaction));
         interactionScopeLifecycleHandler.onTopLevelInteractionPreDestroy(); // cleanup the InteractionScope (Spring scope)
         interactionScopeLifecycleHandler.onTopLevelInteractionClosed(); // cleanup the InteractionScope (Spring scope)
+        interactionProfileService.record(interaction.getProfile());
         interaction.close(); // do this last
     }
 
@@ -384,6 +412,7 @@ private void closeInteractionLayerStackDownToStackSize(final int downToStackSize
             // cleanup thread-local
             interactionLayerStack.remove();
             interactionId.remove();
+            InteractionProfile.unbind();
         }
     }
 
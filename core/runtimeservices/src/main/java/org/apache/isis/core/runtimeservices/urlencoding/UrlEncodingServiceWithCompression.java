@@ -18,34 +18,232 @@
  */
 package org.apache.isis.core.runtimeservices.urlencoding;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.function.ToLongBiFunction;
 
 import javax.annotation.Priority;
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 import org.apache.isis.applib.annotation.PriorityPrecedence;
 import org.apache.isis.applib.services.urlencoding.UrlEncodingService;
 import org.apache.isis.commons.internal.base._Bytes;
 import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.commons.internal.hash._Hashes;
+import org.apache.isis.commons.internal.hash._Hashes.Algorithm;
+import org.apache.isis.core.config.IsisConfiguration;
 
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Compresses and base64 encodes (URL safe).
+ * <p>
+ * Optionally holds on to recent results, so that the same memento (eg. of a view model listed in
+ * many table rows, or re-created on every request) is compressed and encoded only once; and optionally
+ * keeps large mementos in a server-side, content-addressed store, such that URLs stay short.
+ *
+ * @see IsisConfiguration.Core.RuntimeServices.UrlEncoding
+ */
 @Service
 @Named("isis.runtimeservices.UrlEncodingServiceWithCompression")
 @Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Compression")
 public class UrlEncodingServiceWithCompression implements UrlEncodingService {
 
+    /**
+     * Marks an encoding as key into the memento store; not part of the (URL safe) base64 alphabet,
+     * hence never the first character of a regular encoding.
+     */
+    private static final char STORE_KEY_PREFIX = '~';
+
+    private final BoundedCache<ByteBuffer, Encoding> recentEncodings;
+    private final BoundedCache<String, byte[]> recentDecodings;
+    private final BoundedCache<String, String> mementoStore;
+    private final int mementoStoreThreshold;
+
+    /**
+     * Neither caches nor stores anything.
+     */
+    public UrlEncodingServiceWithCompression() {
+        this.recentEncodings = null;
+        this.recentDecodings = null;
+        this.mementoStore = null;
+        this.mementoStoreThreshold = Integer.MAX_VALUE;
+    }
+
+    @Inject
+    public UrlEncodingServiceWithCompression(final IsisConfiguration isisConfiguration) {
+        val config = isisConfiguration.getCore().getRuntimeServices().getUrlEncoding();
+        val cacheSize = config.getCacheSize();
+        val cacheMaxBytes = config.getCacheMaxBytes();
+        this.recentEncodings = cacheSize>0
+                ? new BoundedCache<>(cacheSize, cacheMaxBytes,
+                        (bytes, encoding)->bytes.capacity() + encoding.weight())
+                : null;
+        this.recentDecodings = cacheSize>0
+                ? new BoundedCache<>(cacheSize, cacheMaxBytes,
+                        (str, bytes)->str.length() + bytes.length)
+                : null;
+        val storeConfig = config.getMementoStore();
+        this.mementoStore = storeConfig.isEnabled()
+                ? new BoundedCache<>(storeConfig.getMaxEntries(), storeConfig.getMaxBytes(),
+                        (key, encoded)->key.length() + encoded.length())
+                : null;
+        this.mementoStoreThreshold = storeConfig.getThreshold();
+    }
+
     @Override
     public String encode(final byte[] bytes) {
-        return _Strings.ofBytes(_Bytes.asCompressedUrlBase64.apply(bytes), StandardCharsets.UTF_8);
+        if(bytes==null
+                || recentEncodings==null) {
+            return storeIfLarge(compressAndEncode(bytes)).toUrlSafe();
+        }
+        val key = ByteBuffer.wrap(bytes.clone()); // defensive copy, as the key must not change
+        val cached = recentEncodings.get(key);
+        if(cached!=null) {
+            // the memento store may have evicted the memento meanwhile, so (re-)store it,
+            // as the key handed out is only of use for as long as the store holds on to it
+            if(cached.storeKey!=null) {
+                mementoStore.put(cached.storeKey, cached.encoded);
+            }
+            return cached.toUrlSafe();
+        }
+        val encoding = storeIfLarge(compressAndEncode(bytes));
+        recentEncodings.put(key, encoding);
+        return encoding.toUrlSafe();
     }
 
     @Override
     public byte[] decode(final String str) {
+        if(str==null
+                || recentDecodings==null) {
+            return decodeAndDecompress(lookupIfStoreKey(str));
+        }
+        val cached = recentDecodings.get(str);
+        if(cached!=null) {
+            return cached.clone(); // don't let callers modify the cached result
+        }
+        val decoded = decodeAndDecompress(lookupIfStoreKey(str));
+        recentDecodings.put(str, decoded.clone());
+        return decoded;
+    }
+
+    // -- HELPER
+
+    private static String compressAndEncode(final byte[] bytes) {
+        return _Strings.ofBytes(_Bytes.asCompressedUrlBase64.apply(bytes), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] decodeAndDecompress(final String str) {
         return _Bytes.ofCompressedUrlBase64.apply(_Strings.toBytes(str, StandardCharsets.UTF_8));
     }
 
+    /**
+     * Keeps large encodings in the memento store (if enabled), keyed by a hash of their content.
+     */
+    private Encoding storeIfLarge(final String encoded) {
+        if(mementoStore==null
+                || encoded==null
+                || encoded.length() < mementoStoreThreshold) {
+            return new Encoding(encoded, null);
+        }
+        val hash = _Hashes.digest(Algorithm.SHA256, _Strings.toBytes(encoded, StandardCharsets.UTF_8))
+                .orElseThrow(()->_Exceptions.unrecoverable("failed to generate SHA-256 hash"));
+        val key = STORE_KEY_PREFIX
+                + _Strings.ofBytes(_Bytes.asUrlBase64.apply(hash), StandardCharsets.UTF_8);
+        mementoStore.put(key, encoded);
+        return new Encoding(encoded, key);
+    }
+
+    private String lookupIfStoreKey(final String str) {
+        if(_Strings.isEmpty(str)
+                || str.charAt(0)!=STORE_KEY_PREFIX) {
+            return str;
+        }
+        val encoded = mementoStore!=null
+                ? mementoStore.get(str)
+                : null;
+        if(encoded==null) {
+            throw _Exceptions.illegalArgument(
+                    "memento '%s' is no longer (or never was) held by the memento store", str);
+        }
+        return encoded;
+    }
+
+    /**
+     * The result of compressing and encoding, along with its key into the memento store, if stored there.
+     */
+    @RequiredArgsConstructor
+    private static final class Encoding {
+
+        private final String encoded;
+        private final @Nullable String storeKey;
+
+        String toUrlSafe() {
+            return storeKey!=null
+                    ? storeKey
+                    : encoded;
+        }
+
+        int weight() {
+            return (encoded!=null ? encoded.length() : 0)
+                    + (storeKey!=null ? storeKey.length() : 0);
+        }
+    }
+
+    /**
+     * Thread-safe, evicting the least recently used entries once either the maximum number of entries or their
+     * maximum (approximate) weight in bytes is exceeded; the entry just put is never evicted though.
+     */
+    static final class BoundedCache<K, V> {
+
+        private final int maxEntries;
+        private final long maxBytes;
+        private final ToLongBiFunction<K, V> weigher;
+        private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long bytes = 0L;
+
+        BoundedCache(final int maxEntries, final long maxBytes, final ToLongBiFunction<K, V> weigher) {
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+            this.weigher = weigher;
+        }
+
+        synchronized V get(final K key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(final K key, final V value) {
+            val previous = entries.put(key, value);
+            if(previous!=null) {
+                bytes -= weigher.applyAsLong(key, previous);
+            }
+            bytes += weigher.applyAsLong(key, value);
+            val eldestFirst = entries.entrySet().iterator();
+            while((entries.size() > maxEntries || bytes > maxBytes)
+                    && entries.size() > 1) {
+                val eldest = eldestFirst.next();
+                bytes -= weigher.applyAsLong(eldest.getKey(), eldest.getValue());
+                eldestFirst.remove();
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized long bytes() {
+            return bytes;
+        }
+
+    }
 
 }
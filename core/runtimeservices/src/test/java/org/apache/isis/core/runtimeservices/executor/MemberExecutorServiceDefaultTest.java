@@ -0,0 +1,210 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.executor;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.id.LogicalType;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.command.Command;
+import org.apache.isis.applib.services.iactn.PropertyEdit;
+import org.apache.isis.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.execution.InteractionInternal;
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
+import org.apache.isis.core.metamodel.execution.MemberExecutorService.PropertyExecutorFactory;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.facets.properties.property.modify.PropertySetterOrClearFacetForDomainEventAbstract.EditingVariant;
+import org.apache.isis.core.metamodel.interactions.InteractionHead;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.runtimeservices.profiling.SlowExecutionSampler;
+import org.apache.isis.core.runtimeservices.profiling.SlowExecutionTrace;
+
+import lombok.val;
+
+class MemberExecutorServiceDefaultTest {
+
+    public static class Customer {
+    }
+
+    private InteractionInternal interaction;
+    private OneToOneAssociation property;
+    private ManagedObject customer;
+    private ManagedObject newValue;
+    private ObjectManager objectManager;
+
+    private SlowExecutionSampler sampler;
+    private MemberExecutorServiceDefault memberExecutorService;
+
+    @BeforeEach
+    void setUp() {
+        val configuration = new IsisConfiguration(null);
+        val slowExecutions = configuration.getCore().getRuntimeServices().getProfiling().getSlowExecutions();
+        slowExecutions.setThresholdMillis(1L);
+        slowExecutions.setFlightRecorderEvents(false);
+        sampler = new SlowExecutionSampler(configuration);
+
+        interaction = mock(InteractionInternal.class);
+        when(interaction.getCommand()).thenReturn(mock(Command.class));
+        when(interaction.getInteractionId()).thenReturn(UUID.randomUUID());
+        when(interaction.getProfile()).thenReturn(new InteractionProfile(System.nanoTime()));
+
+        val interactionLayerTracker = mock(InteractionLayerTracker.class);
+        when(interactionLayerTracker.currentInteraction()).thenReturn(Optional.of(interaction));
+
+        val customerSpec = mock(ObjectSpecification.class);
+        when(customerSpec.isEntity()).thenReturn(true);
+        when(customerSpec.getLogicalTypeName()).thenReturn("customer.Customer");
+        when(customerSpec.getSingularName()).thenReturn("Customer");
+
+        property = mock(OneToOneAssociation.class);
+        when(property.getDeclaringType()).thenReturn(customerSpec);
+        when(property.getFeatureIdentifier()).thenReturn(
+                Identifier.propertyOrCollectionIdentifier(LogicalType.fqcn(Customer.class), "password"));
+        when(property.getFriendlyName(any())).thenReturn("Password");
+
+        customer = mock(ManagedObject.class);
+        when(customer.getPojo()).thenReturn(new Customer());
+        when(customer.getSpecification()).thenReturn(customerSpec);
+        when(customer.getBookmark()).thenReturn(Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("customer.Customer", "1")));
+
+        val stringSpec = mock(ObjectSpecification.class);
+        when(stringSpec.getLogicalTypeName()).thenReturn("java.lang.String");
+        newValue = mock(ManagedObject.class);
+        when(newValue.getPojo()).thenReturn("s3cr3t");
+        when(newValue.getSpecification()).thenReturn(stringSpec);
+
+        objectManager = mock(ObjectManager.class);
+        when(objectManager.adapt(any())).thenReturn(customer);
+
+        memberExecutorService = new MemberExecutorServiceDefault(
+                interactionLayerTracker, configuration, objectManager, null, ()->null, null, ()->null, null, null, sampler);
+    }
+
+    @Test
+    void samples_slow_property_edit() {
+
+        val execution = executeAs(edit->{
+            sleepBeyondThreshold();
+            return edit.getTarget();
+        });
+
+        val result = setProperty();
+
+        assertSame(customer, result);
+        val trace = singleTrace();
+        assertEquals(execution.get().getMemberIdentifier().getLogicalIdentityString("#"), trace.getLogicalMemberIdentifier());
+        assertEquals("customer.Customer:1", trace.getTarget());
+        assertEquals(Can.ofSingleton("<java.lang.String>"), trace.getArguments());
+        assertFalse(trace.getThrew().isPresent());
+    }
+
+    @Test
+    void samples_slow_property_edit_that_failed() {
+
+        executeAs(edit->{
+            sleepBeyondThreshold();
+            val ex = new IllegalStateException("constraint violated");
+            edit.setThrew(ex);
+            throw ex;
+        });
+
+        assertThrows(IllegalStateException.class, this::setProperty);
+
+        val trace = singleTrace();
+        assertEquals(Can.ofSingleton("<java.lang.String>"), trace.getArguments());
+        assertTrue(trace.getThrew().isPresent());
+        assertTrue(trace.getThrew().get().contains("IllegalStateException"));
+    }
+
+    @Test
+    void describes_values_by_type_only() {
+        assertEquals("<java.lang.String>", MemberExecutorServiceDefault.describe(newValue));
+        assertEquals("customer.Customer:1", MemberExecutorServiceDefault.describe(customer));
+        assertEquals("null", MemberExecutorServiceDefault.describe(null));
+    }
+
+    // -- HELPER
+
+    @FunctionalInterface
+    private static interface EditBehavior {
+        Object execute(PropertyEdit edit);
+    }
+
+    private AtomicReference<PropertyEdit> executeAs(final EditBehavior behavior) {
+        val execution = new AtomicReference<PropertyEdit>();
+        doAnswer(invocation->{
+            PropertyEdit edit = invocation.getArgument(1);
+            execution.set(edit);
+            return behavior.execute(edit);
+        })
+        .when(interaction).execute(any(), any(PropertyEdit.class), any(), any(), any());
+        when(interaction.getPriorExecution()).then(invocation->execution.get());
+        return execution;
+    }
+
+    private ManagedObject setProperty() {
+        return memberExecutorService.setOrClearProperty(
+                property,
+                InteractionHead.regular(customer),
+                newValue,
+                InteractionInitiatedBy.USER,
+                mock(PropertyExecutorFactory.class),
+                mock(FacetHolder.class),
+                EditingVariant.SET);
+    }
+
+    private SlowExecutionTrace singleTrace() {
+        val traces = sampler.getTraces();
+        assertEquals(1, traces.size());
+        val trace = traces.getFirstOrFail();
+        assertFalse(trace.toString().contains("s3cr3t"));
+        return trace;
+    }
+
+    private static void sleepBeyondThreshold() {
+        try {
+            Thread.sleep(10L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.i18n.po;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.isis.commons.internal.collections._Lists;
+
+public class TranslationTableTest {
+
+    private TranslationTable translationTable;
+
+    @Before
+    public void setUp() throws Exception {
+        final List<String> lines = _Lists.newArrayList();
+        lines.add("#: com.mycompany.Customer#placeOrder()");
+        lines.add("msgid \"Quantity\"");
+        lines.add("msgstr \"Menge \"");
+        lines.add("");
+        lines.add("#: com.mycompany.Order#quantity");
+        lines.add("msgid \"Quantity\"");
+        lines.add("msgstr \"Anzahl\"");
+        lines.add("");
+        lines.add("#: com.mycompany.Order#cancel()");
+        lines.add("msgid \"Cancel\"");
+        lines.add("msgstr \"\"");
+        translationTable = TranslationTable.compile(lines);
+    }
+
+    @Test
+    public void withContext() throws Exception {
+        assertThat(translationTable.lookup("com.mycompany.Order#quantity", "Quantity"), is(equalTo("Anzahl")));
+    }
+
+    @Test
+    public void trimmed() throws Exception {
+        assertThat(translationTable.lookup("com.mycompany.Customer#placeOrder()", "Quantity"), is(equalTo("Menge")));
+    }
+
+    @Test
+    public void unknownContext() throws Exception {
+        assertThat(translationTable.lookup("com.mycompany.Customer#quantity", "Quantity"), is(nullValue()));
+        assertThat(translationTable.lookup(null, "Quantity"), is(nullValue()));
+    }
+
+    @Test
+    public void emptyTranslationIsIgnored() throws Exception {
+        assertThat(translationTable.lookup("com.mycompany.Order#cancel()", "Cancel"), is(nullValue()));
+        assertThat(translationTable.size(), is(1));
+    }
+
+    @Test
+    public void unknownMsgId() throws Exception {
+        assertThat(translationTable.lookup("com.mycompany.Order#quantity", "Price"), is(nullValue()));
+        assertThat(translationTable.lookup("com.mycompany.Order#quantity", null), is(nullValue()));
+    }
+
+}
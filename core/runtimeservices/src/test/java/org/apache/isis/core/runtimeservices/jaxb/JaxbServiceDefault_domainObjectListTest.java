@@ -0,0 +1,106 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.jaxb;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.domain.DomainObjectList;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.bookmark.BookmarkService;
+import org.apache.isis.applib.services.inject.ServiceInjector;
+import org.apache.isis.core.metamodel._testing.MetaModelContext_forTesting.MetaModelContext_forTestingBuilder;
+import org.apache.isis.core.metamodel.facets.object.recreatable.RecreatableObjectFacetForXmlRootElementAnnotation;
+import org.apache.isis.core.metamodel.facets.object.viewmodel.ViewModelFacet;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.runtimeservices.RuntimeServicesTestAbstract;
+import org.apache.isis.core.runtimeservices.urlencoding.UrlEncodingServiceWithCompression;
+
+import lombok.val;
+
+/**
+ * Round-trips a {@link DomainObjectList} through its (XML) view model bookmark, which requires the
+ * {@link JaxbServiceDefault} to unmarshal twice.
+ */
+class JaxbServiceDefault_domainObjectListTest
+extends RuntimeServicesTestAbstract {
+
+    public static class Customer {
+    }
+
+    private final Customer customer = new Customer();
+
+    @Override
+    protected void onSetUp(final MetaModelContext_forTestingBuilder mmcBuilder) {
+
+        val customerBookmark = Bookmark.forLogicalTypeNameAndIdentifier("testing.Customer", "1");
+        val bookmarkService = mock(BookmarkService.class);
+        when(bookmarkService.bookmarkForElseFail(customer)).thenReturn(customerBookmark);
+        when(bookmarkService.lookup(any(Bookmark.class))).thenReturn(Optional.of(customer));
+
+        // the element type is not known to the metamodel, so the list's JAXBContext is used for the second pass
+        val specLoader = mock(SpecificationLoader.class);
+        when(specLoader.specForType(any())).thenReturn(Optional.empty());
+
+        val serviceInjector = new ServiceInjector() {
+            @Override
+            public <T> T injectServicesInto(final T domainObject) {
+                return getServiceInjector().injectServicesInto(domainObject);
+            }
+        };
+
+        mmcBuilder.singleton(bookmarkService);
+        mmcBuilder.singleton(new UrlEncodingServiceWithCompression());
+        mmcBuilder.singleton(new JaxbServiceDefault(serviceInjector, specLoader));
+    }
+
+    @Test
+    void roundtrip_viaViewModelBookmark() {
+
+        val spec = getSpecificationLoader().specForTypeElseFail(DomainObjectList.class);
+        val viewModelFacet = spec.getFacet(ViewModelFacet.class);
+        assertTrue(viewModelFacet instanceof RecreatableObjectFacetForXmlRootElementAnnotation);
+
+        val domainObjectList = new DomainObjectList(
+                "Customers", Customer.class.getName(), "customers.CustomerMenu", "listAll", null);
+        domainObjectList.getObjects().add(customer);
+
+        val bookmark = viewModelFacet.serializeToBookmark(ManagedObject.of(spec, domainObjectList));
+        assertNotNull(bookmark);
+
+        val recreated = (DomainObjectList) viewModelFacet.instantiate(DomainObjectList.class, bookmark);
+
+        assertEquals("Customers", recreated.title());
+        assertEquals(Customer.class.getName(), recreated.getElementTypeFqcn());
+        assertEquals("customers.CustomerMenu", recreated.getActionOwningFqcn());
+        assertEquals("listAll", recreated.getActionId());
+        assertEquals(1, recreated.getObjects().size());
+        assertEquals(customer, recreated.getObjects().get(0));
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.profiling;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
+import org.apache.isis.core.metamodel.execution.InteractionProfile.Counter;
+import org.apache.isis.core.metamodel.execution.InteractionProfile.Phase;
+
+import lombok.val;
+
+class MemberProfileTest {
+
+    @AfterEach
+    void tearDown() {
+        InteractionProfile.unbind();
+    }
+
+    @Test
+    void histogramBuckets() {
+        assertEquals(0, MemberProfile.bucketFor(TimeUnit.MICROSECONDS.toNanos(500)));
+        assertEquals(1, MemberProfile.bucketFor(TimeUnit.MILLISECONDS.toNanos(1)));
+        assertEquals(2, MemberProfile.bucketFor(TimeUnit.MILLISECONDS.toNanos(3)));
+        assertEquals(11, MemberProfile.bucketFor(TimeUnit.MILLISECONDS.toNanos(1500)));
+        assertEquals(MemberProfile.HISTOGRAM_BUCKETS - 1, MemberProfile.bucketFor(TimeUnit.HOURS.toNanos(2)));
+    }
+
+    @Test
+    void recordingIsNoopWhenNotBound() {
+        val profile = new InteractionProfile(System.nanoTime());
+
+        InteractionProfile.increment(Counter.SQL_STATEMENTS);
+        assertFalse(InteractionProfile.current().isPresent());
+        assertEquals(0L, profile.getCount(Counter.SQL_STATEMENTS));
+    }
+
+    @Test
+    void recordingAgainstBoundProfile() {
+        val profile = new InteractionProfile(System.nanoTime());
+        InteractionProfile.bind(profile);
+
+        InteractionProfile.increment(Counter.SQL_STATEMENTS);
+        InteractionProfile.add(Counter.SERIALIZED_BYTES, 1024L);
+        InteractionProfile.addPhaseNanos(Phase.SQL, TimeUnit.MILLISECONDS.toNanos(4));
+
+        assertTrue(InteractionProfile.current().isPresent());
+        assertEquals(1L, profile.getCount(Counter.SQL_STATEMENTS));
+        assertEquals(1024L, profile.getCount(Counter.SERIALIZED_BYTES));
+        assertTrue(profile.toTimingString().contains(",sql=4.0,"));
+        assertTrue(profile.toTimingString().contains(",serialized.bytes=1024"));
+    }
+
+    @Test
+    void aggregation() {
+        val memberProfile = new MemberProfile("simple.SimpleObject#updateName(java.lang.String)");
+
+        val profile = new InteractionProfile(System.nanoTime());
+        profile.count(Counter.SQL_STATEMENTS, 3L);
+
+        memberProfile.record(profile, TimeUnit.MILLISECONDS.toNanos(2));
+        memberProfile.record(profile, TimeUnit.MILLISECONDS.toNanos(6));
+
+        assertEquals(2L, memberProfile.getCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(4), memberProfile.getMeanNanos());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(6), memberProfile.getMaxNanos());
+        assertEquals(6L, memberProfile.getCounterTotal(Counter.SQL_STATEMENTS));
+        assertEquals(1L, memberProfile.getHistogram()[2]);
+        assertEquals(1L, memberProfile.getHistogram()[3]);
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.specloader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.isis.applib.annotation.Action;
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.Nature;
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.config.beans.IsisBeanMetaData;
+import org.apache.isis.core.config.beans.IsisBeanTypeRegistryDefault;
+import org.apache.isis.core.metamodel._testing.MetaModelContext_forTesting.MetaModelContext_forTestingBuilder;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.feature.ObjectMember;
+import org.apache.isis.core.metamodel.specloader.specimpl.IntrospectionState;
+import org.apache.isis.core.runtimeservices.RuntimeServicesTestAbstract;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.val;
+
+/**
+ * Requests specifications on demand from multiple threads, while the metamodel is still being completed
+ * in the background.
+ */
+class SpecificationLoaderDefault_completeInBackgroundTest
+extends RuntimeServicesTestAbstract {
+
+    private static final int THREAD_COUNT = 8;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private static final List<Class<?>> VIEW_MODEL_TYPES =
+            List.of(Customer.class, Order.class, Product.class, Invoice.class);
+
+    @DomainObject(nature = Nature.VIEW_MODEL, logicalTypeName = "testing.Customer")
+    public static class Customer {
+        @Getter @Setter private String name;
+        @Getter @Setter private Order lastOrder;
+        @Action public Order placeOrder(final Product product) { return null; }
+        @Action public Customer rename(final String name) { return this; }
+    }
+
+    @DomainObject(nature = Nature.VIEW_MODEL, logicalTypeName = "testing.Order")
+    public static class Order {
+        @Getter @Setter private String number;
+        @Getter @Setter private Customer customer;
+        @Getter @Setter private Product product;
+        @Action public Invoice invoice() { return null; }
+        @Action public Order cancel() { return this; }
+    }
+
+    @DomainObject(nature = Nature.VIEW_MODEL, logicalTypeName = "testing.Product")
+    public static class Product {
+        @Getter @Setter private String code;
+        @Getter @Setter private String description;
+        @Action public Product discontinue() { return this; }
+    }
+
+    @DomainObject(nature = Nature.VIEW_MODEL, logicalTypeName = "testing.Invoice")
+    public static class Invoice {
+        @Getter @Setter private String number;
+        @Getter @Setter private Order order;
+        @Getter @Setter private Customer customer;
+        @Action public Invoice pay() { return this; }
+    }
+
+    @Override
+    protected void onSetUp(final MetaModelContext_forTestingBuilder mmcBuilder) {
+        mmcBuilder.isisBeanTypeRegistry(new IsisBeanTypeRegistryDefault(
+                Can.ofCollection(VIEW_MODEL_TYPES)
+                .map(type->IsisBeanMetaData.of(type, BeanSort.VIEW_MODEL, type.getName()))));
+    }
+
+    @Override
+    protected void afterSetUp() {
+        getConfiguration().getCore().getMetaModel().getIntrospector().setCompleteInBackground(true);
+    }
+
+    @Test
+    void concurrent_onDemandIntrospection_whileCompletingInBackground() throws Exception {
+
+        val executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            val startSignal = new CountDownLatch(1);
+            val requests = new ArrayList<Future<List<String>>>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                val typesInRequestOrder = new ArrayList<Class<?>>(VIEW_MODEL_TYPES);
+                Collections.rotate(typesInRequestOrder, i); // vary the order in which types are requested
+                requests.add(executor.submit(requestSpecs(startSignal, typesInRequestOrder)));
+            }
+
+            getSpecificationLoader().createMetaModel(); // returns while still completing in the background
+            startSignal.countDown();
+
+            val expectedMembers = requests.get(0).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertFalse(expectedMembers.isEmpty());
+            for (val request : requests) {
+                assertEquals(expectedMembers, request.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+
+            // completes normally, and the members are the same as seen by the request threads
+            val validationFailures = getSpecificationLoader().getMetaModelCompletion()
+                    .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertNotNull(validationFailures);
+            assertEquals(expectedMembers, membersOf(VIEW_MODEL_TYPES));
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // -- HELPER
+
+    private Callable<List<String>> requestSpecs(
+            final CountDownLatch startSignal,
+            final List<Class<?>> typesInRequestOrder) {
+        return ()->{
+            startSignal.await();
+            for (val type : typesInRequestOrder) {
+                val spec = getSpecificationLoader().specForTypeElseFail(type);
+                spec.introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
+            }
+            return membersOf(VIEW_MODEL_TYPES);
+        };
+    }
+
+    private List<String> membersOf(final List<Class<?>> types) {
+        return types.stream()
+                .map(getSpecificationLoader()::specForTypeElseFail)
+                .flatMap(this::memberIdsOf)
+                .collect(Collectors.toList());
+    }
+
+    private Stream<String> memberIdsOf(final ObjectSpecification spec) {
+        return Stream.concat(
+                    spec.streamAssociations(MixedIn.EXCLUDED),
+                    spec.streamAnyActions(MixedIn.EXCLUDED))
+                .map(ObjectMember::getId)
+                .sorted()
+                .map(memberId->spec.getLogicalTypeName() + "#" + memberId);
+    }
+
+}
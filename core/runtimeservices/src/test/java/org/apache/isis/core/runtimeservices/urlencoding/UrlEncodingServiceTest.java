@@ -20,10 +20,15 @@
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.isis.applib.services.urlencoding.UrlEncodingService;
 import org.apache.isis.applib.services.urlencoding.UrlEncodingServiceUsingBaseEncodingAbstract;
+import org.apache.isis.core.config.IsisConfiguration;
+
+import lombok.val;
 
 public class UrlEncodingServiceTest {
 
@@ -46,6 +51,117 @@ public void roundtrip_with_compression() throws Exception {
         roundtrip(serviceWithCompression, true);
     }
 
+    @Test
+    public void roundtrip_with_compression_and_caching() throws Exception {
+        val configuration = new IsisConfiguration(null);
+        val service = new UrlEncodingServiceWithCompression(configuration);
+
+        roundtrip(service, true);
+        roundtrip(service, true); // served from cache
+    }
+
+    @Test
+    public void roundtrip_with_memento_store() throws Exception {
+        val configuration = new IsisConfiguration(null);
+        val storeConfig = configuration.getCore().getRuntimeServices().getUrlEncoding().getMementoStore();
+        storeConfig.setEnabled(true);
+        storeConfig.setThreshold(16);
+        val service = new UrlEncodingServiceWithCompression(configuration);
+
+        final String original = largeMemento();
+        final String encoded = service.encodeString(original);
+
+        assertTrue(encoded.startsWith("~"));
+        assertTrue(encoded.length() < 64);
+        assertEquals(original, service.decodeToString(encoded));
+
+        // content-addressed, so the same content maps to the same key (even if not cached)
+        configuration.getCore().getRuntimeServices().getUrlEncoding().setCacheSize(0);
+        val uncachedService = new UrlEncodingServiceWithCompression(configuration);
+        assertEquals(encoded, uncachedService.encodeString(original));
+    }
+
+    @Test
+    public void memento_store_key_unknown() throws Exception {
+        val configuration = new IsisConfiguration(null);
+        configuration.getCore().getRuntimeServices().getUrlEncoding().getMementoStore().setEnabled(true);
+        val service = new UrlEncodingServiceWithCompression(configuration);
+
+        assertThrows(IllegalArgumentException.class, ()->service.decode("~no-such-key"));
+    }
+
+    @Test
+    public void memento_store_key_survives_eviction_when_encoded_again() throws Exception {
+        val configuration = new IsisConfiguration(null);
+        val storeConfig = configuration.getCore().getRuntimeServices().getUrlEncoding().getMementoStore();
+        storeConfig.setEnabled(true);
+        storeConfig.setThreshold(16);
+        storeConfig.setMaxEntries(1);
+        val service = new UrlEncodingServiceWithCompression(configuration);
+
+        final String first = largeMemento(0);
+        final String second = largeMemento(1);
+
+        service.encodeString(first);
+        service.encodeString(second); // evicts the first memento from the store
+
+        // served from the cache of recent encodings, yet must still be resolvable
+        final String encoded = service.encodeString(first);
+        assertEquals(first, service.decodeToString(encoded));
+    }
+
+    @Test
+    public void bounded_cache_evicts_by_entries() throws Exception {
+        val cache = new UrlEncodingServiceWithCompression.BoundedCache<String, String>(
+                2, Long.MAX_VALUE, (key, value)->value.length());
+
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a"); // most recently used now
+        cache.put("c", "3");
+
+        assertEquals(2, cache.size());
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+    }
+
+    @Test
+    public void bounded_cache_evicts_by_bytes() throws Exception {
+        val cache = new UrlEncodingServiceWithCompression.BoundedCache<String, String>(
+                100, 10, (key, value)->value.length());
+
+        cache.put("a", "1234");
+        cache.put("b", "1234");
+        assertEquals(8, cache.bytes());
+
+        cache.put("c", "1234");
+        assertEquals(2, cache.size());
+        assertEquals(8, cache.bytes());
+        assertNull(cache.get("a"));
+
+        cache.put("b", "1"); // replacing an entry accounts for the replaced value
+        assertEquals(5, cache.bytes());
+
+        // an entry exceeding the bound on its own is still held on to, but evicts all others
+        cache.put("d", "12345678901234567890");
+        assertEquals(1, cache.size());
+        assertEquals(20, cache.bytes());
+        assertEquals("12345678901234567890", cache.get("d"));
+    }
+
+    private static String largeMemento() {
+        return largeMemento(0);
+    }
+
+    private static String largeMemento(final int variant) {
+        val sb = new StringBuilder();
+        for(int i=0; i<200; i++) {
+            sb.append("<item id=\"").append(i).append("\" variant=\"").append(variant).append("\"/>");
+        }
+        return sb.toString();
+    }
+
     private void roundtrip(UrlEncodingService service, boolean testIsCompressing) throws Exception {
 
         final String original = "0-theme-entityPageContainer-entity-rows-2-rowContents-1-col-tabGroups-1-panel-tabPanel-rows-1-rowContents-1-col-fieldSets-1-memberGroup-properties-1-property-scalarTypeContainer-scalarIfRegular-associatedActionLinksBelow-additionalLinkList-additionalLinkItem-0-additionalLink";
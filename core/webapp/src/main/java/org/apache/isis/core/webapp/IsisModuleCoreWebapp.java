@@ -30,7 +30,9 @@
 import org.apache.isis.core.runtime.IsisModuleCoreRuntime;
 import org.apache.isis.core.webapp.confmenu.ConfigurationViewServiceDefault;
 import org.apache.isis.core.webapp.health.HealthIndicatorUsingHealthCheckService;
+import org.apache.isis.core.webapp.health.MetamodelReadinessIndicator;
 import org.apache.isis.core.webapp.impersonation.ImpersonatedUserHolderUsingHttpSession;
+import org.apache.isis.core.webapp.metrics.InteractionProfileMeterBinder;
 import org.apache.isis.core.webapp.modules.logonlog.WebModuleLogOnExceptionLogger;
 import org.apache.isis.core.webapp.modules.templresources.WebModuleTemplateResources;
 import org.apache.isis.core.webapp.webappctx.IsisWebAppContextInitializer;
@@ -48,7 +50,9 @@
         // @Component's
 
         HealthIndicatorUsingHealthCheckService.class,
+        MetamodelReadinessIndicator.class,
         ImpersonatedUserHolderUsingHttpSession.class,
+        InteractionProfileMeterBinder.class,
 
         // (not annotated)
         IsisWebAppContextInitializer.class,
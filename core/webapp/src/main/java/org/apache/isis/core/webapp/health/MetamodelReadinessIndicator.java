@@ -0,0 +1,129 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.webapp.health;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.core.metamodel.events.MetamodelEvent;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+
+import lombok.val;
+
+/**
+ * Reports whether the metamodel has been fully introspected and validated, which is already the case when the
+ * application has started, unless the metamodel is configured to be
+ * {@link org.apache.isis.core.config.IsisConfiguration.Core.MetaModel.Introspector#isCompleteInBackground() completed in the background}.
+ *
+ * <p>
+ * In the latter case, also holds back the application's {@link ReadinessState readiness} (as used eg. by
+ * Kubernetes readiness probes) until completed, and until the post-metamodel listeners (eg. seeding) have run.
+ * </p>
+ */
+@Component
+@Named("isis.webapp.MetamodelReadiness") // logical name appears in the endpoint
+public class MetamodelReadinessIndicator extends AbstractHealthIndicator {
+
+    private final SpecificationLoader specificationLoader;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private boolean metamodelLoaded; // guarded by this
+    private boolean readinessRevoked; // guarded by this
+
+    @Inject
+    public MetamodelReadinessIndicator(
+            final SpecificationLoader specificationLoader,
+            final ApplicationEventPublisher eventPublisher) {
+        this.specificationLoader = specificationLoader;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Spring Boot signals readiness right after the application has started, so we revoke it, if
+     * the metamodel is still being completed, and signal it again once done.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void onApplicationReady() {
+        if(metamodelLoaded) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        readinessRevoked = true;
+    }
+
+    /**
+     * Ordered last, so that readiness is only signalled again, once all other post-metamodel listeners have run.
+     */
+    @EventListener(MetamodelEvent.class)
+    @Order(PriorityPrecedence.LAST)
+    public synchronized void onMetamodelEvent(final MetamodelEvent event) {
+        if(!event.isPostMetamodel()) {
+            return;
+        }
+        metamodelLoaded = true;
+        if(readinessRevoked) {
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+            readinessRevoked = false;
+        }
+    }
+
+    @Override
+    protected void doHealthCheck(final Health.Builder builder) throws Exception {
+        val completion = specificationLoader.getMetaModelCompletion();
+        if(!completion.isDone()) {
+            builder.outOfService()
+                .withDetail("metamodel", "being completed in the background");
+            return;
+        }
+        try {
+            val validationFailures = completion.join();
+            if(!isMetamodelLoaded()) {
+                builder.outOfService()
+                    .withDetail("metamodel", "being processed by post-metamodel listeners");
+                return;
+            }
+            builder.up()
+                .withDetail("validationFailures", validationFailures.getNumberOfFailures());
+        } catch (CompletionException e) {
+            builder.down(e.getCause());
+        } catch (CancellationException e) {
+            builder.outOfService()
+                .withDetail("metamodel", "disposed");
+        }
+    }
+
+    private synchronized boolean isMetamodelLoaded() {
+        return metamodelLoaded;
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.webapp.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Named;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.stereotype.Component;
+
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
+import org.apache.isis.core.metamodel.execution.InteractionProfileListener;
+
+import lombok.val;
+
+/**
+ * Publishes the {@link InteractionProfile} of every completed interaction as Micrometer meters,
+ * tagged by the action or property executed:
+ * <ul>
+ * <li><code>isis.interaction</code> - timer of the interaction's wall time</li>
+ * <li><code>isis.interaction.phase</code> - timer of the wall time per phase (additionally tagged by phase)</li>
+ * <li><code>isis.interaction.&lt;counter&gt;</code> - distribution summary per counter,
+ * eg. <code>isis.interaction.sql.statements</code></li>
+ * </ul>
+ * <p>
+ * Spring Boot's actuator binds this to its {@link MeterRegistry}; without a registry, this is a no-op.
+ *
+ * @since 2.0
+ */
+@Component
+@Named("isis.webapp.InteractionProfileMeterBinder")
+public class InteractionProfileMeterBinder
+implements MeterBinder, InteractionProfileListener {
+
+    private static final String METER_PREFIX = "isis.interaction";
+    private static final String MEMBER_TAG = "member";
+
+    private volatile MeterRegistry meterRegistry;
+
+    @Override
+    public void bindTo(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onInteractionCompleted(
+            final String logicalMemberIdentifier,
+            final InteractionProfile profile,
+            final long elapsedNanos) {
+
+        val registry = meterRegistry;
+        if(registry==null) {
+            return; // not bound
+        }
+
+        Timer.builder(METER_PREFIX)
+            .description("Wall time of interactions")
+            .tag(MEMBER_TAG, logicalMemberIdentifier)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        for(val phase : InteractionProfile.Phase.values()) {
+            Timer.builder(METER_PREFIX + ".phase")
+                .description("Wall time of interactions per phase")
+                .tag(MEMBER_TAG, logicalMemberIdentifier)
+                .tag("phase", phase.getKey())
+                .register(registry)
+                .record(profile.getPhaseNanos(phase), TimeUnit.NANOSECONDS);
+        }
+
+        for(val counter : InteractionProfile.Counter.values()) {
+            DistributionSummary.builder(METER_PREFIX + "." + counter.getKey())
+                .tag(MEMBER_TAG, logicalMemberIdentifier)
+                .register(registry)
+                .record(profile.getCount(counter));
+        }
+    }
+
+}
@@ -21,6 +21,7 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 
 import javax.servlet.ServletConfig;
 import javax.servlet.ServletException;
@@ -33,8 +34,8 @@
 import org.apache.isis.commons.internal.base._Bytes;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.core.config.RestEasyConfiguration;
+import org.apache.isis.core.config.environment.IsisSystemEnvironment;
 import org.apache.isis.core.config.viewer.web.WebAppContextPath;
-import org.apache.isis.core.metamodel.commons.InputStreamExtensions;
 import org.apache.isis.core.metamodel.commons.ResourceUtil;
 import org.apache.isis.core.metamodel.commons.StringExtensions;
 
@@ -46,15 +47,21 @@
 
 /**
  * Handles HTML-templates, where template's placeholders get replaced by their values.
+ * <p>
+ * Resources are served from an in-memory cache (templates already rendered), with a gzip variant
+ * and a content-hash based ETag, so that conditional requests can be answered with
+ * <code>304 Not Modified</code>. When prototyping, resources are reloaded on every request.
  */
 @Log4j2
 public class TemplateResourceServlet extends HttpServlet {
 
     private static final long serialVersionUID = 1L;
     private TemplateResourceServlet_HtmlTemplateVariables templateVariables;
+    private TemplateResourceServlet_ResourceCache resourceCache;
 
     @Autowired private RestEasyConfiguration restEasyConfiguration;
     @Autowired private WebAppContextPath webAppContextPath;
+    @Autowired private IsisSystemEnvironment isisSystemEnvironment;
 
     @Override
     public void init(ServletConfig config) throws ServletException {
@@ -63,6 +70,8 @@ public void init(ServletConfig config) throws ServletException {
         final String restfulPath = this.restEasyConfiguration.getJaxrs().getDefaultPath();
         final String restfulBase = webAppContextPath.prependContextPath(restfulPath);
         templateVariables = new TemplateResourceServlet_HtmlTemplateVariables(pair("restful-base", restfulBase));
+        resourceCache = new TemplateResourceServlet_ResourceCache(
+                !isisSystemEnvironment.getDeploymentType().isPrototyping());
     }
 
     @Override
@@ -77,31 +86,63 @@ protected void doGet(final HttpServletRequest request, final HttpServletResponse
 
     // -- HELPER
 
-    private void processRequest(final HttpServletRequest request, final HttpServletResponse response) {
+    private void processRequest(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
         final String servletPath = StringExtensions.stripLeadingSlash(request.getServletPath());
         log.debug("request: {}", servletPath);
 
+        val resourceIfAny = resourceCache.lookup(servletPath, ()->loadContent(request, servletPath));
+        if (!resourceIfAny.isPresent()) {
+            log.warn("failed to load resource from classpath or file system: {}", servletPath);
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        val resource = resourceIfAny.get();
+        val gzipped = resource.hasGzippedContent()
+                && acceptsGzip(request);
+
+        writeContentType(request, response);
+        response.setHeader("Vary", "Accept-Encoding");
+        response.setHeader("ETag", resource.getEtag(gzipped));
+
+        if(resource.matchesAnyOf(request.getHeader("If-None-Match"))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        final byte[] body = gzipped
+                ? resource.getGzippedContent()
+                : resource.getContent();
+        if(gzipped) {
+            response.setHeader("Content-Encoding", "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * @return the resource's content (templates rendered), or {@code null} if not found
+     */
+    private byte[] loadContent(final HttpServletRequest request, final String servletPath) {
         val resourceInputStream = ifPresentElseGet(
                 loadFromFileSystem(request), // try to load from file-system first
                 ()->loadFromClassPath(servletPath)); // otherwise, try to load from class-path
 
-        if (resourceInputStream != null) {
+        if (resourceInputStream == null) {
+            return null;
+        }
+        try {
+            return processContent(resourceInputStream, request);
+        } catch (Exception e) {
+            log.warn("failed to read resource: {}", servletPath, e);
+            return null;
+        } finally {
             try {
-                writeContentType(request, response);
-                processContent(resourceInputStream, request, response);
-                return;
-            } catch (Exception e) {
+                resourceInputStream.close();
+            } catch (IOException e) {
                 // fall through
-            } finally {
-                try {
-                    resourceInputStream.close();
-                } catch (IOException e) {
-                    // fall through
-                }
             }
         }
-
-        log.warn("failed to load resource from classpath or file system: {}", servletPath);
     }
 
     private InputStream loadFromFileSystem(HttpServletRequest request) {
@@ -129,32 +170,90 @@ private InputStream loadFromClassPath(String path) {
         return inputStream;
     }
 
-    private void processContent(
+    private byte[] processContent(
             final InputStream is,
-            final HttpServletRequest request,
-            final HttpServletResponse response)
+            final HttpServletRequest request)
                     throws IOException {
 
-        if(request.getServletPath().endsWith(".thtml")) {
+        if(isTemplate(request)) {
 
             final String templateContent = _Strings.ofBytes(_Bytes.of(is), StandardCharsets.UTF_8);
             final String htmlContent = templateVariables.applyTo(templateContent);
 
-            response.getWriter().append(htmlContent);
+            return htmlContent.getBytes(StandardCharsets.UTF_8);
 
         } else {
 
             // direct copy
-            InputStreamExtensions.copyTo(is, response.getOutputStream());
+            return _Bytes.of(is);
 
         }
     }
 
+    private static boolean isTemplate(final HttpServletRequest request) {
+        return request.getServletPath().endsWith(".thtml");
+    }
+
+    private static boolean acceptsGzip(final HttpServletRequest request) {
+        return acceptsGzip(request.getHeader("Accept-Encoding"));
+    }
+
+    /**
+     * Whether given <code>Accept-Encoding</code> request header value allows for a gzip encoded response,
+     * either explicitly or by means of the <code>*</code> wildcard, honoring quality values
+     * (so <code>gzip;q=0</code> does not).
+     */
+    static boolean acceptsGzip(final String acceptEncoding) {
+        if(acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for(val codingAndParams : acceptEncoding.split(",")) {
+            val parts = codingAndParams.split(";");
+            val coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if(coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality(parts);
+            } else if(coding.equals("*")) {
+                wildcardQuality = quality(parts);
+            }
+        }
+        val quality = gzipQuality != null
+                ? gzipQuality
+                : wildcardQuality;
+        return quality != null
+                && quality > 0;
+    }
+
+    /**
+     * @return the quality value amongst the parameters of a content-coding, defaulting to {@code 1};
+     * a malformed value is taken to be {@code 0}
+     */
+    private static double quality(final String[] codingAndParams) {
+        for(int i = 1; i < codingAndParams.length; i++) {
+            val param = codingAndParams[i].trim();
+            if(param.length() > 1
+                    && Character.toLowerCase(param.charAt(0)) == 'q'
+                    && param.substring(1).trim().startsWith("=")) {
+                try {
+                    return Double.parseDouble(param.substring(param.indexOf('=') + 1).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
     private static void writeContentType(final HttpServletRequest request, final HttpServletResponse response) {
         final String contentType = guessContentType(request.getServletPath());
         if(contentType != null) {
             response.setContentType(contentType);
         }
+        if(isTemplate(request)) {
+            // rendered templates are always UTF-8 encoded
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        }
     }
 
     private static String guessContentType(String servletPath) {
@@ -0,0 +1,163 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.webapp.modules.templresources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.hash._Hashes;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Package private mixin for ResourceServlet, that holds resources (templates already rendered)
+ * as immutable byte arrays, along with their gzip variant and a content-hash based ETag.
+ * <p>
+ * If not {@link #isEnabled() enabled} (as is the case when prototyping), resources are reloaded
+ * on every request, so that changes are picked up immediately.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor
+final class TemplateResourceServlet_ResourceCache {
+
+    /**
+     * Resources smaller than this (in bytes) are not worth compressing.
+     */
+    private static final int COMPRESSION_THRESHOLD = 256;
+
+    @Getter private final boolean enabled;
+
+    private final Map<String, CachedResource> resourcesByPath = _Maps.newConcurrentHashMap();
+
+    /**
+     * @param path - the key to cache the resource by
+     * @param loader - provides the resource's content on a cache miss, or {@code null} if not found
+     * (in which case nothing is cached)
+     */
+    public Optional<CachedResource> lookup(
+            final @NonNull String path,
+            final @NonNull Supplier<byte[]> loader) {
+
+        if(!enabled) {
+            return Optional.ofNullable(loader.get())
+                    .map(CachedResource::of);
+        }
+        return Optional.ofNullable(
+                resourcesByPath.computeIfAbsent(path, __->{
+                    val content = loader.get();
+                    return content!=null
+                            ? CachedResource.of(content)
+                            : null;
+                }));
+    }
+
+    // -- CACHED RESOURCE
+
+    @Value
+    static class CachedResource {
+
+        private final byte[] content;
+        private final @Nullable byte[] gzippedContent;
+        private final String etag;
+
+        static CachedResource of(final byte[] content) {
+            return new CachedResource(content, gzipIfWorthIt(content), etagFor(content));
+        }
+
+        public boolean hasGzippedContent() {
+            return gzippedContent!=null;
+        }
+
+        /**
+         * The ETag of the gzip variant has to differ from the one of the identity variant,
+         * as the two are not byte-for-byte equal.
+         */
+        public String getEtag(final boolean gzipped) {
+            return gzipped
+                    ? etag.substring(0, etag.length()-1) + "-gzip\""
+                    : etag;
+        }
+
+        /**
+         * Whether the value of an <code>If-None-Match</code> request header matches any variant
+         * of this resource.
+         */
+        public boolean matchesAnyOf(final @Nullable String ifNoneMatch) {
+            if(ifNoneMatch==null) {
+                return false;
+            }
+            for(val candidate : ifNoneMatch.split(",")) {
+                val tag = candidate.trim();
+                if("*".equals(tag)) {
+                    return true;
+                }
+                // weak comparison, as per RFC 7232 for If-None-Match
+                val opaqueTag = tag.startsWith("W/")
+                        ? tag.substring(2)
+                        : tag;
+                if(opaqueTag.equals(getEtag(false))
+                        || opaqueTag.equals(getEtag(true))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // -- HELPER
+
+        private static String etagFor(final byte[] content) {
+            val hash = _Hashes.digest(_Hashes.Algorithm.SHA256, content)
+                    .map(Base64.getUrlEncoder().withoutPadding()::encodeToString)
+                    .orElse("0");
+            return "\"" + hash + "\"";
+        }
+
+        private static byte[] gzipIfWorthIt(final byte[] content) {
+            if(content.length < COMPRESSION_THRESHOLD) {
+                return null;
+            }
+            val os = new ByteArrayOutputStream(content.length / 2);
+            try(val gos = new GZIPOutputStream(os)) {
+                gos.write(content);
+            } catch (IOException e) {
+                // not expected to happen when writing to memory; just skip compression
+                return null;
+            }
+            val gzipped = os.toByteArray();
+            return gzipped.length < content.length
+                    ? gzipped
+                    : null;
+        }
+
+    }
+
+}
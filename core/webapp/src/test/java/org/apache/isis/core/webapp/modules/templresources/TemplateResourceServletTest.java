@@ -0,0 +1,190 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.webapp.modules.templresources;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import org.apache.isis.core.config.RestEasyConfiguration;
+import org.apache.isis.core.config.environment.DeploymentType;
+import org.apache.isis.core.config.environment.IsisSystemEnvironment;
+import org.apache.isis.core.config.viewer.web.WebAppContextPath;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import lombok.val;
+
+class TemplateResourceServletTest {
+
+    private static final String TEMPLATE = "/templresources-test/index.thtml";
+    private static final String TINY = "/templresources-test/tiny.html";
+
+    private TemplateResourceServlet servlet;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        val isisSystemEnvironment = mock(IsisSystemEnvironment.class);
+        when(isisSystemEnvironment.getDeploymentType()).thenReturn(DeploymentType.PRODUCTION);
+
+        servlet = new TemplateResourceServlet();
+        ReflectionTestUtils.setField(servlet, "restEasyConfiguration", new RestEasyConfiguration());
+        ReflectionTestUtils.setField(servlet, "webAppContextPath", new WebAppContextPath());
+        ReflectionTestUtils.setField(servlet, "isisSystemEnvironment", isisSystemEnvironment);
+        servlet.init(new MockServletConfig());
+    }
+
+    @Test
+    void rendersTemplate() throws Exception {
+        val response = get(TEMPLATE, null, null);
+
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        assertTrue(response.getContentAsString().contains("<a href=\"/restful/\">/restful</a>"));
+        assertFalse(response.getContentAsString().contains("${restful-base}"));
+    }
+
+    @Test
+    void gzipped_whenAccepted() throws Exception {
+        val identity = get(TEMPLATE, null, null);
+        val gzipped = get(TEMPLATE, "deflate, gzip;q=0.8", null);
+
+        assertEquals("gzip", gzipped.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", gzipped.getHeader("Vary"));
+        assertEquals(gzipped.getContentAsByteArray().length, gzipped.getContentLength());
+        assertArrayEquals(identity.getContentAsByteArray(), gunzip(gzipped.getContentAsByteArray()));
+        assertNotEquals(identity.getHeader("ETag"), gzipped.getHeader("ETag"));
+    }
+
+    @Test
+    void notGzipped_whenRefused() throws Exception {
+        assertNull(get(TEMPLATE, "gzip;q=0", null).getHeader("Content-Encoding"));
+        assertNull(get(TEMPLATE, "*, gzip;q=0", null).getHeader("Content-Encoding"));
+        assertNull(get(TEMPLATE, "identity", null).getHeader("Content-Encoding"));
+    }
+
+    @Test
+    void notGzipped_whenTooSmall() throws Exception {
+        val response = get(TINY, "gzip", null);
+
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals("<p>tiny</p>\n", response.getContentAsString());
+    }
+
+    @Test
+    void etag_isStable() throws Exception {
+        val etag = get(TEMPLATE, null, null).getHeader("ETag");
+
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+        assertEquals(etag, get(TEMPLATE, null, null).getHeader("ETag"));
+    }
+
+    @Test
+    void notModified_whenEtagMatches() throws Exception {
+        val etag = get(TEMPLATE, null, null).getHeader("ETag");
+
+        val response = get(TEMPLATE, null, "\"other\", W/" + etag);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(etag, response.getHeader("ETag"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void notModified_whenEtagOfOtherEncodingMatches() throws Exception {
+        val gzippedEtag = get(TEMPLATE, "gzip", null).getHeader("ETag");
+
+        assertEquals(304, get(TEMPLATE, null, gzippedEtag).getStatus());
+    }
+
+    @Test
+    void modified_whenEtagIsStale() throws Exception {
+        val response = get(TEMPLATE, null, "\"stale\"");
+
+        assertEquals(200, response.getStatus());
+        assertTrue(response.getContentAsByteArray().length > 0);
+    }
+
+    @Test
+    void notFound() throws Exception {
+        assertEquals(404, get("/templresources-test/missing.html", null, null).getStatus());
+    }
+
+    @Test
+    void acceptsGzip() {
+        assertTrue(TemplateResourceServlet.acceptsGzip("gzip"));
+        assertTrue(TemplateResourceServlet.acceptsGzip("GZIP"));
+        assertTrue(TemplateResourceServlet.acceptsGzip("br, gzip;q=0.5"));
+        assertTrue(TemplateResourceServlet.acceptsGzip("x-gzip"));
+        assertTrue(TemplateResourceServlet.acceptsGzip("*"));
+        assertTrue(TemplateResourceServlet.acceptsGzip("gzip; q=1.0, *;q=0"));
+
+        assertFalse(TemplateResourceServlet.acceptsGzip(null));
+        assertFalse(TemplateResourceServlet.acceptsGzip(""));
+        assertFalse(TemplateResourceServlet.acceptsGzip("identity"));
+        assertFalse(TemplateResourceServlet.acceptsGzip("gzip;q=0"));
+        assertFalse(TemplateResourceServlet.acceptsGzip("gzip;q=0.000"));
+        assertFalse(TemplateResourceServlet.acceptsGzip("*;q=1, gzip;q=0"));
+        assertFalse(TemplateResourceServlet.acceptsGzip("gzip;q=oops"));
+    }
+
+    // -- HELPER
+
+    private MockHttpServletResponse get(
+            final String servletPath,
+            final String acceptEncoding,
+            final String ifNoneMatch) throws Exception {
+        val request = new MockHttpServletRequest("GET", servletPath);
+        request.setServletPath(servletPath);
+        if(acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        if(ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        val response = new MockHttpServletResponse();
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        servlet.service(request, response);
+        return response;
+    }
+
+    private static byte[] gunzip(final byte[] gzipped) throws Exception {
+        try(val is = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return is.readAllBytes();
+        }
+    }
+
+}
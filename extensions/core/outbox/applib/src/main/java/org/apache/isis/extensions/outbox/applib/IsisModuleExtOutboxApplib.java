@@ -0,0 +1,57 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.applib;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import org.apache.isis.extensions.outbox.applib.relay.OutboxRelay;
+import org.apache.isis.extensions.outbox.applib.relay.OutboxRelayScheduler;
+import org.apache.isis.extensions.outbox.applib.sink.FileOutboxSink;
+import org.apache.isis.extensions.outbox.applib.subscriber.CommandSubscriberForOutbox;
+import org.apache.isis.extensions.outbox.applib.subscriber.EntityChangesSubscriberForOutbox;
+import org.apache.isis.extensions.outbox.applib.subscriber.ExecutionSubscriberForOutbox;
+
+/**
+ * Transactional outbox: the framework's publishing SPIs (commands, executions and entity changes) are written as
+ * XML into an outbox table within the very transaction that produced them, and are subsequently relayed to an
+ * {@link org.apache.isis.extensions.outbox.applib.spi.OutboxSink} by the {@link OutboxRelay}.
+ *
+ * <p>
+ *     Requires a persistence implementation module, eg <code>IsisModuleExtOutboxJpa</code>, providing the
+ *     outbox entity and its repository.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Configuration
+@Import({
+        // @Service's
+        CommandSubscriberForOutbox.class,
+        ExecutionSubscriberForOutbox.class,
+        EntityChangesSubscriberForOutbox.class,
+        OutboxRelay.class,
+        OutboxRelayScheduler.class,
+        FileOutboxSink.class,
+})
+public class IsisModuleExtOutboxApplib {
+
+    public static final String NAMESPACE = "isis.ext.outbox";
+
+}
@@ -0,0 +1,159 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.applib.dom;
+
+import java.sql.Timestamp;
+
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.Editing;
+import org.apache.isis.applib.annotation.ObjectSupport;
+import org.apache.isis.applib.annotation.Property;
+import org.apache.isis.applib.annotation.PropertyLayout;
+import org.apache.isis.applib.annotation.Publishing;
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.extensions.outbox.applib.IsisModuleExtOutboxApplib;
+
+/**
+ * A serialized command, execution or set of entity changes, written within the transaction that produced it and
+ * awaiting delivery to the {@link org.apache.isis.extensions.outbox.applib.spi.OutboxSink}.
+ *
+ * <p>
+ *     Entries are delivered in {@link #getSequence() sequence} order; entries sharing the same
+ *     {@link #getOrderingKey() ordering key} are never delivered ahead of an earlier entry with that key that is
+ *     still pending (eg because its delivery failed and is awaiting retry).  Once delivered, an entry is deleted.
+ * </p>
+ *
+ * <p>
+ *     Entity change publishing is disabled for this type, so as not to publish changes to the outbox itself.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@DomainObject(
+        logicalTypeName = OutboxEntry.LOGICAL_TYPE_NAME,
+        editing = Editing.DISABLED,
+        entityChangePublishing = Publishing.DISABLED
+)
+public abstract class OutboxEntry {
+
+    public static final String LOGICAL_TYPE_NAME = IsisModuleExtOutboxApplib.NAMESPACE + ".OutboxEntry";
+
+    public static final String NAMED_QUERY_FIND_DELIVERABLE = "OutboxEntry.findDeliverable";
+    public static final String NAMED_QUERY_FIND_BY_INTERACTION_ID = "OutboxEntry.findByInteractionId";
+
+    public static final class OrderingKey {
+        public static final int MAX_LENGTH = 2000;
+    }
+
+    public static final class LastError {
+        public static final int MAX_LENGTH = 2000;
+    }
+
+    @ObjectSupport public String title() {
+        return getType() + " #" + getSequence();
+    }
+
+
+    // -- SEQUENCE
+
+    /**
+     * Assigned by the database; determines the order of delivery.
+     */
+    @Property
+    @PropertyLayout(fieldSetId = "identity", sequence = "1")
+    public abstract Long getSequence();
+
+
+    // -- TYPE
+
+    @Property
+    @PropertyLayout(fieldSetId = "identity", sequence = "2")
+    public abstract OutboxEntryType getType();
+    public abstract void setType(OutboxEntryType type);
+
+
+    // -- INTERACTION ID
+
+    @Property
+    @PropertyLayout(fieldSetId = "identity", sequence = "3")
+    public abstract String getInteractionId();
+    public abstract void setInteractionId(String interactionId);
+
+
+    // -- ORDERING KEY
+
+    /**
+     * The stringified {@link org.apache.isis.applib.services.bookmark.Bookmark} of the target object, or (for
+     * entity changes, which span many objects) the interaction id; <code>null</code> if unordered.
+     */
+    @Property(maxLength = OrderingKey.MAX_LENGTH)
+    @PropertyLayout(fieldSetId = "identity", sequence = "4")
+    public abstract String getOrderingKey();
+    public abstract void setOrderingKey(String orderingKey);
+
+
+    // -- CREATED AT
+
+    @Property
+    @PropertyLayout(fieldSetId = "delivery", sequence = "1")
+    public abstract Timestamp getCreatedAt();
+    public abstract void setCreatedAt(Timestamp createdAt);
+
+
+    // -- ATTEMPTS
+
+    /**
+     * Number of failed delivery attempts so far.
+     */
+    @Property
+    @PropertyLayout(fieldSetId = "delivery", sequence = "2")
+    public abstract int getAttempts();
+    public abstract void setAttempts(int attempts);
+
+
+    // -- NEXT ATTEMPT AT
+
+    /**
+     * If set, the entry (and any later entry with the same ordering key) is held back until this time.
+     */
+    @Property
+    @PropertyLayout(fieldSetId = "delivery", sequence = "3")
+    public abstract Timestamp getNextAttemptAt();
+    public abstract void setNextAttemptAt(Timestamp nextAttemptAt);
+
+
+    // -- LAST ERROR
+
+    @Property(maxLength = LastError.MAX_LENGTH)
+    @PropertyLayout(fieldSetId = "delivery", sequence = "4", multiLine = 5)
+    public abstract String getLastError();
+    public abstract void setLastError(String lastError);
+
+
+    // -- PAYLOAD
+
+    /**
+     * The XML memento; its schema depends upon the {@link #getType() type}.
+     */
+    @Property
+    @PropertyLayout(fieldSetId = "payload", sequence = "1", multiLine = 20, hidden = Where.ALL_TABLES)
+    public abstract String getPayload();
+    public abstract void setPayload(String payload);
+
+}
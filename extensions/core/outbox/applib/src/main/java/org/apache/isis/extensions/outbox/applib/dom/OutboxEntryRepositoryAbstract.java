@@ -0,0 +1,124 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.applib.dom;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.services.clock.ClockService;
+import org.apache.isis.applib.services.factory.FactoryService;
+import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.commons.internal.base._Strings;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Persistence-independent operations on {@link OutboxEntry}s, subclassed by each persistence implementation
+ * (which provides the concrete entity class and its named queries).
+ *
+ * @since 2.0 {@index}
+ */
+public abstract class OutboxEntryRepositoryAbstract<E extends OutboxEntry> {
+
+    @Inject private RepositoryService repositoryService;
+    @Inject private FactoryService factoryService;
+    @Inject private ClockService clockService;
+
+    private final Class<E> outboxEntryClass;
+
+    protected OutboxEntryRepositoryAbstract(final Class<E> outboxEntryClass) {
+        this.outboxEntryClass = outboxEntryClass;
+    }
+
+    /**
+     * Enlists a new entry into the current transaction.
+     */
+    public E add(
+            final @NonNull OutboxEntryType type,
+            final @Nullable String interactionId,
+            final @Nullable String orderingKey,
+            final @NonNull String payload) {
+
+        val entry = factoryService.detachedEntity(outboxEntryClass);
+        entry.setType(type);
+        entry.setInteractionId(interactionId);
+        entry.setOrderingKey(_Strings.isNullOrEmpty(orderingKey)
+                ? null
+                : _Strings.ellipsifyAtEnd(orderingKey, OutboxEntry.OrderingKey.MAX_LENGTH, "..."));
+        entry.setPayload(payload);
+        entry.setCreatedAt(clockService.getClock().nowAsJavaSqlTimestamp());
+        entry.setAttempts(0);
+        return repositoryService.persist(entry);
+    }
+
+    /**
+     * Up to <code>batchSize</code> entries that may be delivered at time <code>now</code>, in sequence order.
+     *
+     * <p>
+     *     An entry qualifies if it is not itself awaiting a retry, and there is no entry with the same ordering
+     *     key that is awaiting a retry.
+     * </p>
+     */
+    public List<E> findDeliverable(final @NonNull Timestamp now, final int batchSize) {
+        return repositoryService.allMatches(
+                Query.named(outboxEntryClass, OutboxEntry.NAMED_QUERY_FIND_DELIVERABLE)
+                    .withParameter("now", now)
+                    .withLimit(batchSize));
+    }
+
+    public List<E> findByInteractionId(final @NonNull String interactionId) {
+        return repositoryService.allMatches(
+                Query.named(outboxEntryClass, OutboxEntry.NAMED_QUERY_FIND_BY_INTERACTION_ID)
+                    .withParameter("interactionId", interactionId));
+    }
+
+    public List<E> findAll() {
+        return repositoryService.allInstances(outboxEntryClass);
+    }
+
+    /**
+     * Removes an entry once it has been handed over to the sink.
+     */
+    public void delivered(final @NonNull E entry) {
+        repositoryService.remove(entry);
+    }
+
+    /**
+     * Records a failed delivery attempt, holding back the entry (and any later entries with the same ordering key)
+     * until <code>nextAttemptAt</code>.
+     */
+    public void failed(
+            final @NonNull E entry,
+            final @NonNull Throwable cause,
+            final @NonNull Timestamp nextAttemptAt) {
+
+        entry.setAttempts(entry.getAttempts() + 1);
+        entry.setNextAttemptAt(nextAttemptAt);
+        entry.setLastError(_Strings.ellipsifyAtEnd(
+                cause.getClass().getName() + ": " + cause.getMessage(),
+                OutboxEntry.LastError.MAX_LENGTH, "..."));
+    }
+
+}
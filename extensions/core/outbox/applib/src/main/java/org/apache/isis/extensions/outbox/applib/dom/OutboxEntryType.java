@@ -0,0 +1,43 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.applib.dom;
+
+/**
+ * The kind of XML memento held by an {@link OutboxEntry}.
+ *
+ * @since 2.0 {@index}
+ */
+public enum OutboxEntryType {
+
+    /**
+     * Payload is a {@link org.apache.isis.schema.cmd.v2.CommandDto}.
+     */
+    COMMAND,
+
+    /**
+     * Payload is an {@link org.apache.isis.schema.ixn.v2.InteractionDto}.
+     */
+    EXECUTION,
+
+    /**
+     * Payload is a {@link org.apache.isis.schema.chg.v2.ChangesDto}.
+     */
+    ENTITY_CHANGES,
+
+}
@@ -0,0 +1,174 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.applib.relay;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.clock.ClockService;
+import org.apache.isis.applib.services.iactnlayer.InteractionService;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.internal.collections._Sets;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.extensions.outbox.applib.IsisModuleExtOutboxApplib;
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntry;
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntryRepositoryAbstract;
+import org.apache.isis.extensions.outbox.applib.spi.OutboxMessage;
+import org.apache.isis.extensions.outbox.applib.spi.OutboxSink;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Drains the outbox in batches to the {@link OutboxSink}.
+ *
+ * <p>
+ *     Each batch is relayed within its own transaction: entries are removed as they are delivered, so that if the
+ *     transaction fails to commit they are delivered again (<i>at-least-once</i>).  An entry that fails is retried
+ *     with exponential backoff; until then any later entries with the same ordering key are held back, preserving
+ *     the order per target.
+ * </p>
+ *
+ * <p>
+ *     Only one batch is relayed at a time within this JVM.  In a cluster the relay should be run on a single node
+ *     only, eg by disabling <code>isis.extensions.outbox.relay.auto-start</code> and triggering {@link #relay()}
+ *     from a clustered Quartz job.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(IsisModuleExtOutboxApplib.NAMESPACE + ".OutboxRelay")
+@javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class OutboxRelay {
+
+    private final OutboxEntryRepositoryAbstract<? extends OutboxEntry> outboxEntryRepository;
+    private final OutboxSink outboxSink;
+    private final InteractionService interactionService;
+    private final TransactionService transactionService;
+    private final ClockService clockService;
+    private final IsisConfiguration isisConfiguration;
+
+    private final ReentrantLock relayLock = new ReentrantLock();
+
+    /**
+     * Relays a single batch of deliverable entries.
+     *
+     * @return the number of entries processed (delivered or failed); <code>0</code> if there was nothing to relay,
+     * or if a batch is already being relayed by another thread.
+     */
+    public int relay() {
+        if(!relayLock.tryLock()) {
+            return 0;
+        }
+        try {
+            return interactionService.callAnonymous(() ->
+                    transactionService.callWithinCurrentTransactionElseCreateNew(
+                            () -> relayBatch(outboxEntryRepository))
+                    .presentElseFail());
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    /**
+     * Relays batches until the outbox holds no more deliverable entries.
+     *
+     * @return the total number of entries processed.
+     */
+    public int relayAll() {
+        val batchSize = isisConfiguration.getExtensions().getOutbox().getRelay().getBatchSize();
+        int total = 0;
+        int processed;
+        do {
+            processed = relay();
+            total += processed;
+        } while (processed >= batchSize);
+        return total;
+    }
+
+    // -- HELPER
+
+    private <E extends OutboxEntry> int relayBatch(final OutboxEntryRepositoryAbstract<E> repository) {
+
+        val relayConfig = isisConfiguration.getExtensions().getOutbox().getRelay();
+        val now = clockService.getClock().nowAsInstant();
+
+        val entries = repository.findDeliverable(Timestamp.from(now), relayConfig.getBatchSize());
+        val heldBackOrderingKeys = _Sets.<String>newHashSet();
+
+        for (val entry : entries) {
+
+            val orderingKey = entry.getOrderingKey();
+            if(orderingKey != null
+                    && heldBackOrderingKeys.contains(orderingKey)) {
+                // an earlier entry with this key failed during this batch
+                continue;
+            }
+
+            try {
+                outboxSink.deliver(OutboxMessage.of(entry));
+                repository.delivered(entry);
+            } catch (Exception ex) {
+                val attempt = entry.getAttempts() + 1;
+                val nextAttemptAt = now.plus(
+                        backoff(attempt, relayConfig.getInitialBackoff(), relayConfig.getMaxBackoff()));
+                log.warn("failed to deliver outbox entry {} (attempt {}); will retry at {}",
+                        entry.getSequence(), attempt, nextAttemptAt, ex);
+                repository.failed(entry, ex, Timestamp.from(nextAttemptAt));
+                if(orderingKey != null) {
+                    heldBackOrderingKeys.add(orderingKey);
+                }
+            }
+        }
+
+        return entries.size();
+    }
+
+    /**
+     * The delay before the given (1-based) attempt is retried: <code>initial</code>, doubled for each further
+     * attempt, but never more than <code>max</code>.
+     */
+    static Duration backoff(
+            final int attempt,
+            final @NonNull Duration initial,
+            final @NonNull Duration max) {
+
+        // bounded shift, so as not to overflow
+        val doublings = Math.min(Math.max(attempt - 1, 0), 30);
+        val candidate = initial.multipliedBy(1L << doublings);
+        return candidate.compareTo(max) > 0
+                ? max
+                : candidate;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.applib.relay;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.events.MetamodelEvent;
+import org.apache.isis.extensions.outbox.applib.IsisModuleExtOutboxApplib;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Once the metamodel is available, polls the outbox in the background (unless disabled by
+ * <code>isis.extensions.outbox.relay.auto-start</code>) by calling {@link OutboxRelay#relayAll()} on a single
+ * daemon thread, with the configured interval between polls.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(IsisModuleExtOutboxApplib.NAMESPACE + ".OutboxRelayScheduler")
+@javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class OutboxRelayScheduler {
+
+    private final OutboxRelay outboxRelay;
+    private final IsisConfiguration isisConfiguration;
+
+    private ScheduledExecutorService executor;
+
+    @EventListener(MetamodelEvent.class)
+    public synchronized void onMetamodelEvent(final MetamodelEvent event) {
+
+        val relayConfig = isisConfiguration.getExtensions().getOutbox().getRelay();
+        if(!event.isPostMetamodel()
+                || !relayConfig.isAutoStart()
+                || executor != null) {
+            return;
+        }
+
+        val pollIntervalMillis = relayConfig.getPollInterval().toMillis();
+        log.info("starting outbox relay, polling every {}ms", pollIntervalMillis);
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            val thread = new Thread(runnable, "isis-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(
+                this::poll, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if(executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    // -- HELPER
+
+    private void poll() {
+        try {
+            outboxRelay.relayAll();
+        } catch (Exception ex) {
+            // must not propagate, as that would cancel all further polls
+            log.error("failed to relay outbox", ex);
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.applib.sink;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.extensions.outbox.applib.IsisModuleExtOutboxApplib;
+import org.apache.isis.extensions.outbox.applib.spi.OutboxMessage;
+import org.apache.isis.extensions.outbox.applib.spi.OutboxSink;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Fallback {@link OutboxSink}, writing each message to its own file
+ * <code>&lt;sequence&gt;-&lt;type&gt;.xml</code> within the configured directory.
+ *
+ * <p>
+ *     Intended as a local stand-in for a real broker, eg for development and integration tests.  Files are written
+ *     atomically and named by sequence, so a redelivered message simply replaces its earlier copy.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(IsisModuleExtOutboxApplib.NAMESPACE + ".FileOutboxSink")
+@javax.annotation.Priority(PriorityPrecedence.LATE)
+public class FileOutboxSink implements OutboxSink {
+
+    @Getter
+    private final Path directory;
+
+    @Inject
+    public FileOutboxSink(final IsisConfiguration isisConfiguration) {
+        this(Paths.get(isisConfiguration.getExtensions().getOutbox().getFileSink().getDirectory()));
+    }
+
+    public FileOutboxSink(final @NonNull Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public void deliver(final OutboxMessage message) throws IOException {
+        Files.createDirectories(directory);
+        val target = directory.resolve(fileNameFor(message));
+        val tempFile = Files.createTempFile(directory, ".outbox-", ".tmp");
+        try {
+            Files.write(tempFile, message.getPayload().getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile, target,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // -- HELPER
+
+    static String fileNameFor(final OutboxMessage message) {
+        // zero padded, so that a directory listing is in delivery order
+        return String.format("%019d-%s.xml", message.getSequence(), message.getType().name());
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.applib.spi;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntry;
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntryType;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Immutable snapshot of an {@link OutboxEntry}, as handed to an {@link OutboxSink}.
+ *
+ * @since 2.0 {@index}
+ */
+@Value(staticConstructor = "of")
+public class OutboxMessage {
+
+    /**
+     * Unique and increasing; sinks may use it to discard redeliveries.
+     */
+    long sequence;
+
+    @NonNull OutboxEntryType type;
+
+    @Nullable String interactionId;
+
+    @Nullable String orderingKey;
+
+    /**
+     * The XML memento; its schema depends upon the {@link #getType() type}.
+     */
+    @NonNull String payload;
+
+    public static OutboxMessage of(final @NonNull OutboxEntry entry) {
+        return of(
+                entry.getSequence(),
+                entry.getType(),
+                entry.getInteractionId(),
+                entry.getOrderingKey(),
+                entry.getPayload());
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.applib.spi;
+
+/**
+ * SPI to deliver relayed outbox entries to an external broker (Kafka, JMS, a webhook and so on).
+ *
+ * <p>
+ *     Delivery is <i>at-least-once</i>: if the relay's transaction fails to commit after a message has been
+ *     delivered, then that message will be delivered again.  Implementations (or their consumers) should therefore
+ *     be idempotent, for example by keying on {@link OutboxMessage#getSequence()}.
+ * </p>
+ *
+ * <p>
+ *     If multiple implementations are registered, the one with the highest precedence (per
+ *     {@link javax.annotation.Priority}) is used; the framework provides
+ *     {@link org.apache.isis.extensions.outbox.applib.sink.FileOutboxSink} as a fallback.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface OutboxSink {
+
+    /**
+     * Delivers the message, or throws an exception if it could not be delivered; in which case it (and any later
+     * message with the same {@link OutboxMessage#getOrderingKey() ordering key}) will be retried later.
+     */
+    void deliver(OutboxMessage message) throws Exception;
+
+}
@@ -0,0 +1,75 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.applib.subscriber;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.command.Command;
+import org.apache.isis.applib.services.publishing.spi.CommandSubscriber;
+import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.extensions.outbox.applib.IsisModuleExtOutboxApplib;
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntry;
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntryRepositoryAbstract;
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntryType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Writes each completed {@link Command} that changed system state to the outbox, ordered by its target.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(IsisModuleExtOutboxApplib.NAMESPACE + ".CommandSubscriberForOutbox")
+@javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Outbox")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class CommandSubscriberForOutbox implements CommandSubscriber {
+
+    private final OutboxEntryRepositoryAbstract<? extends OutboxEntry> outboxEntryRepository;
+    private final IsisConfiguration isisConfiguration;
+
+    @Override
+    public boolean isEnabled() {
+        return isisConfiguration.getExtensions().getOutbox().isPublishCommands();
+    }
+
+    @Override
+    public void onCompleted(final Command command) {
+
+        if(!command.isSystemStateChanged()) {
+            return;
+        }
+
+        val target = command.getTarget();
+        outboxEntryRepository.add(
+                OutboxEntryType.COMMAND,
+                command.getInteractionId().toString(),
+                target != null ? target.stringify() : null,
+                CommandDtoUtils.toXml(command.getCommandDto()));
+    }
+
+}
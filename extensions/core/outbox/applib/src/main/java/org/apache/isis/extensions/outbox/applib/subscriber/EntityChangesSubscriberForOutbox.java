@@ -0,0 +1,77 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.applib.subscriber;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.publishing.spi.EntityChanges;
+import org.apache.isis.applib.services.publishing.spi.EntityChangesSubscriber;
+import org.apache.isis.applib.util.schema.ChangesDtoUtils;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.extensions.outbox.applib.IsisModuleExtOutboxApplib;
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntry;
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntryRepositoryAbstract;
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntryType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Writes the {@link EntityChanges} of each transaction to the outbox.
+ *
+ * <p>
+ *     As these are published just before the transaction completes, the entry commits (or rolls back) together
+ *     with the changes it describes.  Because a single set of changes spans many objects, entries are ordered by
+ *     interaction rather than by target.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(IsisModuleExtOutboxApplib.NAMESPACE + ".EntityChangesSubscriberForOutbox")
+@javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Outbox")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class EntityChangesSubscriberForOutbox implements EntityChangesSubscriber {
+
+    private final OutboxEntryRepositoryAbstract<? extends OutboxEntry> outboxEntryRepository;
+    private final IsisConfiguration isisConfiguration;
+
+    @Override
+    public boolean isEnabled() {
+        return isisConfiguration.getExtensions().getOutbox().isPublishEntityChanges();
+    }
+
+    @Override
+    public void onChanging(final EntityChanges entityChanges) {
+
+        val interactionId = entityChanges.getInteractionId().toString();
+        outboxEntryRepository.add(
+                OutboxEntryType.ENTITY_CHANGES,
+                interactionId,
+                interactionId,
+                ChangesDtoUtils.toXml(entityChanges.getDto()));
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.applib.subscriber;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.iactn.Execution;
+import org.apache.isis.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.isis.applib.util.schema.InteractionDtoUtils;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.extensions.outbox.applib.IsisModuleExtOutboxApplib;
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntry;
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntryRepositoryAbstract;
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntryType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Writes each published action invocation or property edit to the outbox, ordered by its target.
+ *
+ * <p>
+ *     Nested executions are published (and hence written) individually, so each entry holds a flat
+ *     {@link org.apache.isis.schema.ixn.v2.InteractionDto}.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(IsisModuleExtOutboxApplib.NAMESPACE + ".ExecutionSubscriberForOutbox")
+@javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Outbox")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class ExecutionSubscriberForOutbox implements ExecutionSubscriber {
+
+    private final OutboxEntryRepositoryAbstract<? extends OutboxEntry> outboxEntryRepository;
+    private final IsisConfiguration isisConfiguration;
+
+    @Override
+    public boolean isEnabled() {
+        return isisConfiguration.getExtensions().getOutbox().isPublishExecutions();
+    }
+
+    @Override
+    public void onExecution(final Execution<?, ?> execution) {
+
+        val interactionDto = InteractionDtoUtils.newInteractionDto(execution, InteractionDtoUtils.Strategy.FLAT);
+        val targetOid = execution.getDto().getTarget();
+
+        outboxEntryRepository.add(
+                OutboxEntryType.EXECUTION,
+                execution.getInteraction().getInteractionId().toString(),
+                targetOid != null ? Bookmark.forOidDto(targetOid).stringify() : null,
+                InteractionDtoUtils.toXml(interactionDto));
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.applib.relay;
+
+import java.time.Duration;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class OutboxRelay_backoff_Test {
+
+    private final Duration initial = Duration.ofSeconds(1);
+    private final Duration max = Duration.ofMinutes(1);
+
+    @Test
+    void first_attempt_uses_initial_backoff() {
+        Assertions.assertThat(OutboxRelay.backoff(1, initial, max)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void doubles_with_each_further_attempt() {
+        Assertions.assertThat(OutboxRelay.backoff(2, initial, max)).isEqualTo(Duration.ofSeconds(2));
+        Assertions.assertThat(OutboxRelay.backoff(4, initial, max)).isEqualTo(Duration.ofSeconds(8));
+    }
+
+    @Test
+    void capped_at_max() {
+        Assertions.assertThat(OutboxRelay.backoff(7, initial, max)).isEqualTo(max);
+        Assertions.assertThat(OutboxRelay.backoff(Integer.MAX_VALUE, initial, max)).isEqualTo(max);
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.applib.sink;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntryType;
+import org.apache.isis.extensions.outbox.applib.spi.OutboxMessage;
+
+import lombok.val;
+
+class FileOutboxSinkTest {
+
+    @TempDir Path tempDir;
+
+    @Test
+    void writes_one_file_per_message_named_in_delivery_order() throws Exception {
+        val sink = new FileOutboxSink(tempDir.resolve("outbox"));
+
+        sink.deliver(OutboxMessage.of(12L, OutboxEntryType.EXECUTION, "ia-1", "demo.Customer:1", "<b/>"));
+        sink.deliver(OutboxMessage.of(3L, OutboxEntryType.COMMAND, "ia-1", "demo.Customer:1", "<a/>"));
+
+        val fileNames = Files.list(sink.getDirectory())
+                .map(path -> path.getFileName().toString())
+                .sorted()
+                .collect(Collectors.toList());
+
+        Assertions.assertThat(fileNames).containsExactly(
+                "0000000000000000003-COMMAND.xml",
+                "0000000000000000012-EXECUTION.xml");
+        Assertions.assertThat(
+                new String(Files.readAllBytes(sink.getDirectory().resolve(fileNames.get(0))), StandardCharsets.UTF_8))
+            .isEqualTo("<a/>");
+    }
+
+    @Test
+    void redelivery_replaces_earlier_copy() throws Exception {
+        val sink = new FileOutboxSink(tempDir);
+
+        sink.deliver(OutboxMessage.of(7L, OutboxEntryType.ENTITY_CHANGES, "ia-2", "ia-2", "<first/>"));
+        sink.deliver(OutboxMessage.of(7L, OutboxEntryType.ENTITY_CHANGES, "ia-2", "ia-2", "<second/>"));
+
+        Assertions.assertThat(Files.list(tempDir).count()).isEqualTo(1L);
+        Assertions.assertThat(
+                new String(Files.readAllBytes(tempDir.resolve("0000000000000000007-ENTITY_CHANGES.xml")), StandardCharsets.UTF_8))
+            .isEqualTo("<second/>");
+    }
+
+}
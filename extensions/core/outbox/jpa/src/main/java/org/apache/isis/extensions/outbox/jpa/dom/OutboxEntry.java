@@ -0,0 +1,219 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.jpa.dom;
+
+import java.sql.Timestamp;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.Editing;
+import org.apache.isis.applib.annotation.Publishing;
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntryType;
+import org.apache.isis.persistence.jpa.applib.integration.IsisEntityListener;
+
+@Entity
+@Table(
+        schema = "isisExtensionsOutbox",
+        name = "OutboxEntry",
+        indexes = {
+                @Index(name = "OutboxEntry_orderingKey_IDX", columnList = "orderingKey"),
+                @Index(name = "OutboxEntry_interactionId_IDX", columnList = "interactionId")
+        }
+)
+@NamedQueries({
+    @NamedQuery(
+            name = org.apache.isis.extensions.outbox.applib.dom.OutboxEntry.NAMED_QUERY_FIND_DELIVERABLE,
+            query = "SELECT e "
+                  + "  FROM OutboxEntry e "
+                  + " WHERE (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) "
+                  + "   AND (e.orderingKey IS NULL "
+                  + "        OR e.orderingKey NOT IN ("
+                  + "            SELECT h.orderingKey "
+                  + "              FROM OutboxEntry h "
+                  + "             WHERE h.orderingKey IS NOT NULL "
+                  + "               AND h.nextAttemptAt > :now)) "
+                  + " ORDER BY e.sequence"),
+    @NamedQuery(
+            name = org.apache.isis.extensions.outbox.applib.dom.OutboxEntry.NAMED_QUERY_FIND_BY_INTERACTION_ID,
+            query = "SELECT e "
+                  + "  FROM OutboxEntry e "
+                  + " WHERE e.interactionId = :interactionId "
+                  + " ORDER BY e.sequence"),
+})
+@EntityListeners(IsisEntityListener.class)
+@DomainObject(
+        logicalTypeName = OutboxEntry.LOGICAL_TYPE_NAME,
+        editing = Editing.DISABLED,
+        entityChangePublishing = Publishing.DISABLED
+)
+public class OutboxEntry
+    extends org.apache.isis.extensions.outbox.applib.dom.OutboxEntry {
+
+
+    @Version
+    private Long version;
+
+
+    // -- SEQUENCE
+
+    @Id
+    @GeneratedValue
+    private Long sequence;
+
+    @Override
+    public Long getSequence() {
+        return sequence;
+    }
+
+
+    // -- TYPE
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private OutboxEntryType type;
+
+    @Override
+    public OutboxEntryType getType() {
+        return type;
+    }
+    @Override
+    public void setType(final OutboxEntryType type) {
+        this.type = type;
+    }
+
+
+    // -- INTERACTION ID
+
+    @Column(nullable = true, length = 36)
+    private String interactionId;
+
+    @Override
+    public String getInteractionId() {
+        return interactionId;
+    }
+    @Override
+    public void setInteractionId(final String interactionId) {
+        this.interactionId = interactionId;
+    }
+
+
+    // -- ORDERING KEY
+
+    @Column(nullable = true, length = OrderingKey.MAX_LENGTH)
+    private String orderingKey;
+
+    @Override
+    public String getOrderingKey() {
+        return orderingKey;
+    }
+    @Override
+    public void setOrderingKey(final String orderingKey) {
+        this.orderingKey = orderingKey;
+    }
+
+
+    // -- CREATED AT
+
+    @Column(nullable = false)
+    private Timestamp createdAt;
+
+    @Override
+    public Timestamp getCreatedAt() {
+        return createdAt;
+    }
+    @Override
+    public void setCreatedAt(final Timestamp createdAt) {
+        this.createdAt = createdAt;
+    }
+
+
+    // -- ATTEMPTS
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Override
+    public int getAttempts() {
+        return attempts;
+    }
+    @Override
+    public void setAttempts(final int attempts) {
+        this.attempts = attempts;
+    }
+
+
+    // -- NEXT ATTEMPT AT
+
+    @Column(nullable = true)
+    private Timestamp nextAttemptAt;
+
+    @Override
+    public Timestamp getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+    @Override
+    public void setNextAttemptAt(final Timestamp nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+
+    // -- LAST ERROR
+
+    @Column(nullable = true, length = LastError.MAX_LENGTH)
+    private String lastError;
+
+    @Override
+    public String getLastError() {
+        return lastError;
+    }
+    @Override
+    public void setLastError(final String lastError) {
+        this.lastError = lastError;
+    }
+
+
+    // -- PAYLOAD
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Override
+    public String getPayload() {
+        return payload;
+    }
+    @Override
+    public void setPayload(final String payload) {
+        this.payload = payload;
+    }
+
+}
@@ -0,0 +1,256 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.outbox.jpa.relay;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.annotation.PropertySources;
+import org.springframework.stereotype.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.core.runtimeservices.IsisModuleCoreRuntimeServices;
+import org.apache.isis.extensions.outbox.applib.dom.OutboxEntryType;
+import org.apache.isis.extensions.outbox.applib.relay.OutboxRelay;
+import org.apache.isis.extensions.outbox.applib.spi.OutboxMessage;
+import org.apache.isis.extensions.outbox.applib.spi.OutboxSink;
+import org.apache.isis.extensions.outbox.jpa.IsisModuleExtOutboxJpa;
+import org.apache.isis.extensions.outbox.jpa.dom.OutboxEntry;
+import org.apache.isis.extensions.outbox.jpa.dom.OutboxEntryRepository;
+import org.apache.isis.security.bypass.IsisModuleSecurityBypass;
+import org.apache.isis.testing.integtestsupport.applib.IsisIntegrationTestAbstract;
+
+import lombok.val;
+
+@SpringBootTest(
+        classes = OutboxRelay_IntegTest.AppManifest.class,
+        properties = {
+                "isis.persistence.schema.auto-create-schemas=isisExtensionsOutbox",
+                "isis.extensions.outbox.publish-commands=false",
+                "isis.extensions.outbox.publish-executions=false",
+                "isis.extensions.outbox.publish-entity-changes=false",
+                "isis.extensions.outbox.relay.auto-start=false",
+                "isis.extensions.outbox.relay.batch-size=2",
+                "isis.extensions.outbox.relay.initial-backoff=PT1H",
+        })
+class OutboxRelay_IntegTest extends IsisIntegrationTestAbstract {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import({
+            IsisModuleCoreRuntimeServices.class,
+            IsisModuleSecurityBypass.class,
+            IsisModuleExtOutboxJpa.class,
+
+            OutboxSinkForTesting.class,
+    })
+    @PropertySources({
+            @PropertySource(IsisPresets.UseLog4j2Test),
+            @PropertySource(IsisPresets.H2InMemory_withUniqueSchema),
+    })
+    public static class AppManifest {
+    }
+
+    /**
+     * Records the delivered payloads; fails to deliver any payload that has been set to fail.
+     */
+    @Service
+    @javax.annotation.Priority(PriorityPrecedence.EARLY)
+    public static class OutboxSinkForTesting implements OutboxSink {
+
+        final List<String> delivered = new CopyOnWriteArrayList<>();
+        final Set<String> failing = new CopyOnWriteArraySet<>();
+
+        @Override
+        public void deliver(final OutboxMessage message) throws Exception {
+            if(failing.contains(message.getPayload())) {
+                throw new IllegalStateException("broker unavailable for " + message.getPayload());
+            }
+            delivered.add(message.getPayload());
+        }
+    }
+
+    @Inject OutboxRelay outboxRelay;
+    @Inject OutboxEntryRepository outboxEntryRepository;
+    @Inject OutboxSinkForTesting outboxSink;
+
+    @BeforeEach
+    void setUp() {
+        outboxSink.delivered.clear();
+        outboxSink.failing.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionService.runWithinCurrentTransactionElseCreateNew(() ->
+                outboxEntryRepository.findAll().forEach(repositoryService::remove))
+        .optionalElseFail();
+    }
+
+    @Test
+    void relays_in_sequence_order_and_deletes_delivered_entries() {
+
+        // given
+        add("a-1", "a");
+        add("b-1", "b");
+        add("a-2", "a");
+        add("none-1", null);
+        add("b-2", "b");
+
+        // when (more entries than fit into a single batch)
+        val processed = outboxRelay.relayAll();
+
+        // then
+        assertThat(processed).isEqualTo(5);
+        assertThat(outboxSink.delivered).containsExactly("a-1", "b-1", "a-2", "none-1", "b-2");
+        assertThat(findAll()).isEmpty();
+    }
+
+    @Test
+    void failed_entry_is_retained_for_retry_and_holds_back_later_entries_with_same_ordering_key() {
+
+        // given
+        add("a-1", "a");
+        add("b-1", "b");
+        add("a-2", "a");
+        outboxSink.failing.add("a-1");
+
+        // when
+        val processed = outboxRelay.relay();
+
+        // then 'a-2' was held back, 'b-1' was delivered and deleted
+        assertThat(processed).isEqualTo(3);
+        assertThat(outboxSink.delivered).containsExactly("b-1");
+        assertThat(payloadsOf(findAll())).containsExactly("a-1", "a-2");
+
+        // and the failure is recorded against 'a-1' only
+        val failed = findAll().get(0);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isAfter(Timestamp.from(Instant.now()));
+        assertThat(failed.getLastError()).contains("IllegalStateException").contains("broker unavailable for a-1");
+        val heldBack = findAll().get(1);
+        assertThat(heldBack.getAttempts()).isZero();
+        assertThat(heldBack.getNextAttemptAt()).isNull();
+
+        // and neither entry is deliverable until the backoff has elapsed
+        assertThat(outboxRelay.relayAll()).isZero();
+        assertThat(payloadsOf(findDeliverable(Timestamp.from(Instant.now())))).isEmpty();
+        assertThat(payloadsOf(findDeliverable(failed.getNextAttemptAt()))).containsExactly("a-1", "a-2");
+    }
+
+    @Test
+    void failed_entry_is_retried_once_its_backoff_has_elapsed() {
+
+        // given
+        add("a-1", "a");
+        add("a-2", "a");
+        outboxSink.failing.add("a-1");
+        outboxRelay.relay();
+        assertThat(outboxSink.delivered).isEmpty();
+
+        // when the backoff has elapsed, and the sink has recovered
+        transactionService.runWithinCurrentTransactionElseCreateNew(() ->
+                outboxEntryRepository.findAll()
+                .forEach(entry -> {
+                    if(entry.getNextAttemptAt() != null) {
+                        entry.setNextAttemptAt(Timestamp.from(Instant.now().minusSeconds(1)));
+                    }
+                }))
+        .optionalElseFail();
+        outboxSink.failing.clear();
+
+        val processed = outboxRelay.relayAll();
+
+        // then
+        assertThat(processed).isEqualTo(2);
+        assertThat(outboxSink.delivered).containsExactly("a-1", "a-2");
+        assertThat(findAll()).isEmpty();
+    }
+
+    @Test
+    void find_deliverable_honours_batch_size_and_next_attempt() {
+
+        // given
+        add("a-1", "a");
+        add("b-1", "b");
+        add("c-1", "c");
+        val now = Timestamp.from(Instant.now());
+        val later = Timestamp.from(Instant.now().plusSeconds(60));
+        transactionService.runWithinCurrentTransactionElseCreateNew(() ->
+                outboxEntryRepository.findAll().stream()
+                .filter(entry -> entry.getPayload().equals("b-1"))
+                .forEach(entry -> entry.setNextAttemptAt(later)))
+        .optionalElseFail();
+
+        // then
+        assertThat(payloadsOf(transactionService.callWithinCurrentTransactionElseCreateNew(() ->
+                outboxEntryRepository.findDeliverable(now, 1)).presentElseFail()))
+        .containsExactly("a-1");
+        assertThat(payloadsOf(findDeliverable(now))).containsExactly("a-1", "c-1");
+        assertThat(payloadsOf(findDeliverable(later))).containsExactly("a-1", "b-1", "c-1");
+    }
+
+    // -- HELPER
+
+    private void add(final String payload, final String orderingKey) {
+        transactionService.runWithinCurrentTransactionElseCreateNew(() ->
+                outboxEntryRepository.add(OutboxEntryType.ENTITY_CHANGES, null, orderingKey, payload))
+        .optionalElseFail();
+    }
+
+    private List<OutboxEntry> findAll() {
+        return transactionService.callWithinCurrentTransactionElseCreateNew(() ->
+                outboxEntryRepository.findAll().stream()
+                .sorted(Comparator.comparing(OutboxEntry::getSequence))
+                .collect(Collectors.toList()))
+        .presentElseFail();
+    }
+
+    private List<OutboxEntry> findDeliverable(final Timestamp now) {
+        return transactionService.callWithinCurrentTransactionElseCreateNew(() ->
+                outboxEntryRepository.findDeliverable(now, 100))
+        .presentElseFail();
+    }
+
+    private static List<String> payloadsOf(final List<OutboxEntry> entries) {
+        return entries.stream()
+                .map(OutboxEntry::getPayload)
+                .collect(Collectors.toList());
+    }
+
+}
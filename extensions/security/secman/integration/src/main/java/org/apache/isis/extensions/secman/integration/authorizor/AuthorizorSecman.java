@@ -26,7 +26,7 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.isis.applib.Identifier;
-import org.apache.isis.applib.services.appfeat.ApplicationFeatureId;
+import org.apache.isis.applib.services.appfeat.ApplicationFeatureRepository;
 import org.apache.isis.applib.services.iactnlayer.InteractionContext;
 import org.apache.isis.core.security.authorization.Authorizor;
 import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
@@ -43,6 +43,7 @@
 public class AuthorizorSecman implements Authorizor {
 
     @Inject ApplicationUserRepository applicationUserRepository;
+    @Inject ApplicationFeatureRepository applicationFeatureRepository;
 
     @Override
     public boolean isVisible(final InteractionContext authentication, final Identifier identifier) {
@@ -65,7 +66,7 @@ private boolean grants(
         .findByUsername(authentication.getUser().getName())
         .map(ApplicationUser::getPermissionSet)
         .map(permissionSet->permissionSet.grants(
-                ApplicationFeatureId.fromIdentifier(identifier),
+                applicationFeatureRepository.featureIdFor(identifier),
                 permissionMode))
         .orElse(false);
     }
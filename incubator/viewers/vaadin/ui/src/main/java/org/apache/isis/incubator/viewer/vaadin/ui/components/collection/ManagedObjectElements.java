@@ -0,0 +1,150 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.incubator.viewer.vaadin.ui.components.collection;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * {@link PageableElements} over elements already held in memory (eg. a parented collection or an action's
+ * non-scalar result). Unless sorted or filtered, windows are served without touching any other element;
+ * otherwise the filtered and sorted view is computed once and reused for subsequent windows.
+ */
+@RequiredArgsConstructor
+final class ManagedObjectElements
+implements PageableElements<ManagedObject> {
+
+    private final @NonNull Can<ManagedObject> elements;
+    private final @NonNull Can<OneToOneAssociation> columnProperties;
+    private final @NonNull BiFunction<OneToOneAssociation, ManagedObject, String> cellRenderer;
+
+    // the grid fetches many windows for the same filter and sort order, so we keep the last view
+    private String filteredKey;
+    private List<ManagedObject> filtered;
+    private String sortedKey;
+    private List<ManagedObject> sorted;
+
+    @Override
+    public int count(final @Nullable String filter) {
+        return _Strings.isNullOrEmpty(filter)
+                ? elements.size()
+                : filtered(filter).size();
+    }
+
+    @Override
+    public Stream<ManagedObject> fetch(
+            final int offset,
+            final int limit,
+            final @NonNull List<QuerySortOrder> sortOrders,
+            final @Nullable String filter) {
+
+        val view = sortOrders.isEmpty()
+                ? _Strings.isNullOrEmpty(filter)
+                        ? elements.toList()
+                        : filtered(filter)
+                : sorted(filter, sortOrders);
+
+        return view.stream()
+                .skip(offset)
+                .limit(limit);
+    }
+
+    // -- HELPER
+
+    private List<ManagedObject> filtered(final String filter) {
+        if(!Objects.equals(filter, filteredKey)) {
+            val searchString = filter.toLowerCase(Locale.ROOT);
+            filtered = elements.stream()
+                    .filter(element->_Strings.nullToEmpty(element.titleString())
+                            .toLowerCase(Locale.ROOT)
+                            .contains(searchString))
+                    .collect(Collectors.toList());
+            filteredKey = filter;
+        }
+        return filtered;
+    }
+
+    private List<ManagedObject> sorted(final @Nullable String filter, final List<QuerySortOrder> sortOrders) {
+        val key = sortOrders.stream()
+                .map(order->order.getSorted() + ":" + order.getDirection())
+                .collect(Collectors.joining(",", _Strings.nullToEmpty(filter) + "|", ""));
+        if(!key.equals(sortedKey)) {
+
+            val sortProperties = sortOrders.stream()
+                    .map(order->columnProperties.stream()
+                            .filter(property->property.getId().equals(order.getSorted()))
+                            .findFirst()
+                            .orElse(null))
+                    .collect(Collectors.toList());
+
+            // render each sort key once per element, rather than once per comparison
+            val rows = (_Strings.isNullOrEmpty(filter) ? elements.toList() : filtered(filter))
+                    .stream()
+                    .map(element->new SortRow(element, sortProperties.stream()
+                            .map(property->property != null
+                                    ? cellRenderer.apply(property, element)
+                                    : "")
+                            .toArray(String[]::new)))
+                    .collect(Collectors.toList());
+
+            Comparator<SortRow> comparator = (a, b) -> 0;
+            for (int i = 0; i < sortOrders.size(); i++) {
+                final int keyIndex = i;
+                Comparator<SortRow> byKey = Comparator.comparing(row->row.keys[keyIndex], String.CASE_INSENSITIVE_ORDER);
+                comparator = comparator.thenComparing(
+                        sortOrders.get(i).getDirection() == SortDirection.DESCENDING
+                            ? byKey.reversed()
+                            : byKey);
+            }
+            rows.sort(comparator); // stable, so equal keys retain their natural order
+
+            sorted = rows.stream()
+                    .map(row->row.element)
+                    .collect(Collectors.toList());
+            sortedKey = key;
+        }
+        return sorted;
+    }
+
+    @RequiredArgsConstructor
+    private static final class SortRow {
+        final ManagedObject element;
+        final String[] keys;
+    }
+
+}
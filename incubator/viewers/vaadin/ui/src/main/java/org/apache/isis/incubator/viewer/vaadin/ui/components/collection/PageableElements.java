@@ -0,0 +1,79 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.incubator.viewer.vaadin.ui.components.collection;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.ConfigurableFilterDataProvider;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+
+import org.springframework.lang.Nullable;
+
+import lombok.NonNull;
+
+/**
+ * Source of (potentially very many) table rows, fetched window by window, with sorting and filtering applied
+ * by the source itself, eg. by a query against the object store.
+ *
+ * @param <T> - element type
+ */
+public interface PageableElements<T> {
+
+    /**
+     * Whether {@link #fetch(int, int, List, String)} honours sort orders and filter;
+     * if not, the table offers neither.
+     */
+    default boolean isSortableAndFilterable() {
+        return true;
+    }
+
+    /**
+     * Number of elements matching given {@code filter} (all elements if {@code null}).
+     */
+    int count(@Nullable String filter);
+
+    /**
+     * The window {@code [offset, offset + limit)} of elements matching given {@code filter},
+     * in given order (natural order if {@code sortOrders} is empty).
+     * @param sortOrders - keyed by property id
+     */
+    Stream<T> fetch(
+            int offset,
+            int limit,
+            @NonNull List<QuerySortOrder> sortOrders,
+            @Nullable String filter);
+
+    /**
+     * A lazy {@link DataProvider}, that only ever asks this source for the window of rows currently
+     * rendered; the search filter is set via {@link ConfigurableFilterDataProvider#setFilter(Object)}.
+     */
+    default ConfigurableFilterDataProvider<T, Void, String> toDataProvider() {
+        return DataProvider.<T, String>fromFilteringCallbacks(
+                query->fetch(
+                        query.getOffset(),
+                        query.getLimit(),
+                        query.getSortOrders(),
+                        query.getFilter().orElse(null)),
+                query->count(query.getFilter().orElse(null)))
+                .withConfigurableFilter();
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.incubator.viewer.vaadin.ui.components.collection;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.QuerySortOrder;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.query.QueryRange;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.objectmanager.query.ObjectBulkLoader;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * {@link PageableElements} backed by (unbounded) {@link Query queries}, that are run with the range of each window
+ * fetched, hence only materializing the rows rendered.
+ * <p>
+ * Rows are counted by the object store (eg. by a named count query), never by materializing them.
+ * Sorting and filtering are pushed into the queries, as built by a query factory for the requested sort orders
+ * and filter (eg. by choosing a named query and passing the filter as one of its parameters);
+ * if there is just a single query, the rows are neither sortable nor filterable.
+ */
+@RequiredArgsConstructor
+final class QueryElements
+implements PageableElements<ManagedObject> {
+
+    private final @NonNull ObjectManager objectManager;
+    private final @NonNull ObjectSpecification elementSpec;
+    private final @NonNull BiFunction<List<QuerySortOrder>, String, Query<?>> queryFactory;
+    private final @NonNull ToIntFunction<String> counter;
+    private final boolean sortableAndFilterable;
+
+    private String countedFilter;
+    private Integer count;
+
+    /**
+     * Neither sortable nor filterable.
+     * @param query - (unbounded) for all rows, in their natural order
+     * @param count - number of rows, as counted by the object store
+     */
+    static QueryElements of(
+            final @NonNull ObjectSpecification elementSpec,
+            final @NonNull Query<?> query,
+            final @NonNull IntSupplier count) {
+        verifyUnbounded(query);
+        return new QueryElements(elementSpec.getObjectManager(), elementSpec,
+                (sortOrders, filter)->query,
+                filter->count.getAsInt(),
+                false);
+    }
+
+    /**
+     * Sortable and filterable.
+     * @param queryFactory - (unbounded) query for the rows matching given filter (all rows if {@code null}),
+     *      in given order (natural order if the sort orders are empty)
+     * @param counter - number of rows matching given filter (all rows if {@code null}),
+     *      as counted by the object store
+     */
+    static QueryElements of(
+            final @NonNull ObjectSpecification elementSpec,
+            final @NonNull BiFunction<List<QuerySortOrder>, String, Query<?>> queryFactory,
+            final @NonNull ToIntFunction<String> counter) {
+        return new QueryElements(elementSpec.getObjectManager(), elementSpec, queryFactory, counter, true);
+    }
+
+    @Override
+    public boolean isSortableAndFilterable() {
+        return sortableAndFilterable;
+    }
+
+    @Override
+    public int count(final @Nullable String filter) {
+        // the data provider asks for the size on each refresh, while the filter is unchanged
+        if(count == null
+                || !Objects.equals(countedFilter, filter)) {
+            count = counter.applyAsInt(filter);
+            countedFilter = filter;
+        }
+        return count;
+    }
+
+    @Override
+    public Stream<ManagedObject> fetch(
+            final int offset,
+            final int limit,
+            final @NonNull List<QuerySortOrder> sortOrders,
+            final @Nullable String filter) {
+
+        if(limit <= 0) {
+            return Stream.empty(); // as a zero limit would not constrain the query
+        }
+        val query = verifyUnbounded(queryFactory.apply(sortOrders, filter));
+        return objectManager.queryObjects(ObjectBulkLoader.Request.of(
+                elementSpec,
+                query.withRange(QueryRange.start(offset).withLimit(limit))))
+                .stream();
+    }
+
+    // -- HELPER
+
+    private static Query<?> verifyUnbounded(final Query<?> query) {
+        if(!query.getRange().isUnconstrained()) {
+            throw _Exceptions.illegalArgument("query must not be bounded, as its range is set per window: %s", query);
+        }
+        return query;
+    }
+
+}
@@ -18,16 +18,24 @@
  */
 package org.apache.isis.incubator.viewer.vaadin.ui.components.collection;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.value.ValueChangeMode;
 
 import org.apache.isis.applib.annotation.Where;
-import org.apache.isis.applib.services.bookmark.Oid;
+import org.apache.isis.applib.query.Query;
 import org.apache.isis.commons.collections.Can;
-import org.apache.isis.commons.internal.collections._Multimaps;
+import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.core.metamodel.facets.collections.CollectionFacet;
 import org.apache.isis.core.metamodel.interactions.managed.ManagedCollection;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
@@ -95,7 +103,58 @@ public static Component forManagedCollection(
                 : new TableViewVaa(elementSpec, elements, where);
     }
 
-    private Can<OneToOneAssociation> columnProperties(final ObjectSpecification elementSpec, final Where where) {
+    /**
+     * Constructs a (page-able) {@link Grid} from given {@code elements}, that are fetched lazily, window by window,
+     * eg. by a query; sorting and filtering is delegated to the {@code elements} source.
+     * @param elementSpec - as is common to all elements
+     * @param elements - (wrapped) domain objects to be rendered by this table
+     * @param where
+     */
+    public static TableViewVaa forPageableElements(
+            final @NonNull ObjectSpecification elementSpec,
+            final @NonNull PageableElements<ManagedObject> elements,
+            final @NonNull Where where) {
+        return new TableViewVaa(elementSpec, where, columnProperties->elements);
+    }
+
+    /**
+     * Constructs a (page-able) {@link Grid} from given (unbounded) {@code query}, that is run for each window
+     * rendered, with the range of that window; the rows are neither sortable nor filterable.
+     * @param elementSpec - as is common to all elements
+     * @param query - for the (entity) elements to be rendered by this table
+     * @param count - number of elements, as counted by the object store (eg. by a named count query)
+     * @param where
+     * @see QueryElements
+     */
+    public static TableViewVaa forQuery(
+            final @NonNull ObjectSpecification elementSpec,
+            final @NonNull Query<?> query,
+            final @NonNull IntSupplier count,
+            final @NonNull Where where) {
+        return forPageableElements(elementSpec, QueryElements.of(elementSpec, query, count), where);
+    }
+
+    /**
+     * Constructs a (page-able) {@link Grid} from the (unbounded) queries built by given {@code queryFactory},
+     * that are run for each window rendered, with the range of that window; sorting and filtering are pushed
+     * into these queries.
+     * @param elementSpec - as is common to all elements
+     * @param queryFactory - query for the (entity) elements matching given filter (all if {@code null}),
+     *      in given order (keyed by property id)
+     * @param counter - number of elements matching given filter (all if {@code null}),
+     *      as counted by the object store (eg. by a named count query)
+     * @param where
+     * @see QueryElements
+     */
+    public static TableViewVaa forQuery(
+            final @NonNull ObjectSpecification elementSpec,
+            final @NonNull BiFunction<List<QuerySortOrder>, String, Query<?>> queryFactory,
+            final @NonNull ToIntFunction<String> counter,
+            final @NonNull Where where) {
+        return forPageableElements(elementSpec, QueryElements.of(elementSpec, queryFactory, counter), where);
+    }
+
+    private static Can<OneToOneAssociation> columnProperties(final ObjectSpecification elementSpec, final Where where) {
 
         //TODO honor column order (as per layout)
         return elementSpec.streamProperties(MixedIn.INCLUDED)
@@ -112,42 +171,36 @@ private TableViewVaa(
             final @NonNull ObjectSpecification elementSpec,
             final @NonNull Can<ManagedObject> objects,
             final @NonNull Where where) {
+        this(elementSpec, where, columnProperties->
+            new ManagedObjectElements(objects, columnProperties, TableViewVaa::stringifyPropertyValue));
+    }
 
-        //            final ComboBox<ManagedObject> listBox = new ComboBox<>();
-        //            listBox.setLabel(label + " #" + objects.size());
-        //            listBox.setItems(objects);
-        //            if (!objects.isEmpty()) {
-        //                listBox.setValue(objects.get(0));
-        //            }
-        //            listBox.setItemLabelGenerator(o -> o.titleString());
-
-        val objectGrid = new Grid<ManagedObject>();
-        add(objectGrid);
-
-        if (objects.isEmpty()) {
-            //TODO show placeholder: "No rows to display"
-            return;
-        }
+    private TableViewVaa(
+            final @NonNull ObjectSpecification elementSpec,
+            final @NonNull Where where,
+            final @NonNull Function<Can<OneToOneAssociation>, PageableElements<ManagedObject>> elementsFactory) {
 
         val columnProperties = columnProperties(elementSpec, where);
+        val elements = elementsFactory.apply(columnProperties);
+
+        // not counted up front, but by the data provider, once the grid asks for its size
+        //TODO show placeholder, if there are no rows: "No rows to display"
+        val dataProvider = elements.toDataProvider();
+
+        if(elements.isSortableAndFilterable()) {
+            val searchField = new TextField();
+            searchField.setPlaceholder("Search");
+            searchField.setClearButtonVisible(true);
+            searchField.setValueChangeMode(ValueChangeMode.LAZY);
+            searchField.addValueChangeListener(e->dataProvider.setFilter(_Strings.emptyToNull(e.getValue())));
+            add(searchField);
+        }
 
-        // rather prepare all table cells into a multi-map eagerly,
-        // than having to spawn new transactions/interactions for each table cell when rendered lazily
-        val table = _Multimaps.<Oid, String, String>newMapMultimap();
-
-        objects.stream()
-        .forEach(object->{
-
-            val id = object.getBookmark().orElse(null);
-            if(id==null) {
-                return;
-            }
-
-            columnProperties.forEach(property->{
-                table.putElement(id, property.getId(), stringifyPropertyValue(property, object));
-            });
+        val objectGrid = new Grid<ManagedObject>();
+        add(objectGrid);
 
-        });
+        // cells are rendered on demand, only for the rows fetched for the current window;
+        // (every request is served within an interaction, see IsisServletForVaadin)
 
         // object link as first column
         objectGrid.addColumn(targetObject->{
@@ -155,24 +208,26 @@ private TableViewVaa(
             return "obj. ref ["+targetObject.getBookmark().orElse(null)+"]";
         });
 
-        // property columns
+        // property columns, sorted server-side by property id
         columnProperties.forEach(property->{
-            objectGrid.addColumn(targetObject -> {
+            val column = objectGrid.addColumn(targetObject -> {
                 log.debug("about to get property value for property {}", property.getId());
                 return stringifyPropertyValue(property, targetObject);
             })
             .setHeader(property.getCanonicalFriendlyName());
+            if(elements.isSortableAndFilterable()) {
+                column.setSortProperty(property.getId());
+            }
             //TODO add column description as is provided via property.getColumnDescription()
         });
 
-        // populate the model
-        objectGrid.setItems(objects.toList());
-        objectGrid.recalculateColumnWidths();
+        // populate the model lazily
+        objectGrid.setItems(dataProvider);
         objectGrid.setColumnReorderingAllowed(true);
 
     }
 
-    private String stringifyPropertyValue(
+    private static String stringifyPropertyValue(
             final ObjectAssociation property,
             final ManagedObject targetObject) {
         try {
@@ -0,0 +1,171 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.incubator.viewer.vaadin.ui.components.collection;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.QuerySortOrder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.val;
+
+class ManagedObjectElementsTest {
+
+    private OneToOneAssociation nameProperty;
+    private OneToOneAssociation rankProperty;
+
+    private final Map<ManagedObject, String> titles = new HashMap<>();
+    private final Map<String, String> cellValues = new HashMap<>();
+    private final AtomicInteger cellsRendered = new AtomicInteger();
+
+    private ManagedObjectElements elements;
+
+    @BeforeEach
+    void setUp() {
+        nameProperty = property("name");
+        rankProperty = property("rank");
+
+        // natural order: (title, name, rank)
+        val objects = Can.ofCollection(List.of(
+                element("Delta", "delta", "2"),
+                element("alpha", "Alpha", "1"),
+                element("Charlie", "charlie", "2"),
+                element("Alphabet", "alphabet", "1"),
+                element("bravo", "Bravo", "3")));
+
+        elements = new ManagedObjectElements(
+                objects,
+                Can.ofCollection(List.of(nameProperty, rankProperty)),
+                (property, element) -> {
+                    cellsRendered.incrementAndGet();
+                    return cellValues.get(titles.get(element) + "." + property.getId());
+                });
+    }
+
+    @Test
+    void unsorted_and_unfiltered_windows_are_served_in_natural_order() {
+        assertEquals(5, elements.count(null));
+        assertEquals(List.of("alpha", "Charlie"), titlesOf(elements.fetch(1, 2, Collections.emptyList(), null)));
+        assertEquals(List.of("bravo"), titlesOf(elements.fetch(4, 10, Collections.emptyList(), "")));
+        assertEquals(0, cellsRendered.get());
+    }
+
+    @Test
+    void filters_by_title_ignoring_case() {
+        assertEquals(2, elements.count("ALPHA"));
+        assertEquals(List.of("alpha", "Alphabet"), titlesOf(elements.fetch(0, 10, Collections.emptyList(), "ALPHA")));
+        assertEquals(List.of("Alphabet"), titlesOf(elements.fetch(1, 10, Collections.emptyList(), "alpha")));
+        assertEquals(0, elements.count("zulu"));
+        assertEquals(List.of(), titlesOf(elements.fetch(0, 10, Collections.emptyList(), "zulu")));
+    }
+
+    @Test
+    void sorts_by_column_value_ignoring_case() {
+        assertEquals(
+                List.of("alpha", "Alphabet", "bravo", "Charlie", "Delta"),
+                titlesOf(elements.fetch(0, 10, QuerySortOrder.asc("name").build(), null)));
+        assertEquals(
+                List.of("Delta", "Charlie", "bravo", "Alphabet", "alpha"),
+                titlesOf(elements.fetch(0, 10, QuerySortOrder.desc("name").build(), null)));
+    }
+
+    @Test
+    void sorts_by_multiple_columns_retaining_natural_order_of_ties() {
+        // by rank only: ties retain their natural order
+        assertEquals(
+                List.of("alpha", "Alphabet", "Delta", "Charlie", "bravo"),
+                titlesOf(elements.fetch(0, 10, QuerySortOrder.asc("rank").build(), null)));
+        // by rank descending, then by name
+        assertEquals(
+                List.of("bravo", "Charlie", "Delta", "alpha", "Alphabet"),
+                titlesOf(elements.fetch(0, 10, QuerySortOrder.desc("rank").thenAsc("name").build(), null)));
+    }
+
+    @Test
+    void sorts_filtered_elements_only() {
+        assertEquals(
+                List.of("Alphabet", "alpha"),
+                titlesOf(elements.fetch(0, 10, QuerySortOrder.desc("name").build(), "alpha")));
+        assertEquals(
+                List.of("alpha"),
+                titlesOf(elements.fetch(1, 10, QuerySortOrder.desc("name").build(), "alpha")));
+    }
+
+    @Test
+    void unknown_sort_property_retains_natural_order() {
+        assertEquals(
+                List.of("Delta", "alpha", "Charlie", "Alphabet", "bravo"),
+                titlesOf(elements.fetch(0, 10, QuerySortOrder.asc("unknown").build(), null)));
+        assertEquals(0, cellsRendered.get());
+    }
+
+    @Test
+    void sort_keys_are_rendered_once_per_element_and_reused_across_windows() {
+        val sortOrders = QuerySortOrder.asc("name").build();
+
+        assertEquals(List.of("alpha", "Alphabet"), titlesOf(elements.fetch(0, 2, sortOrders, null)));
+        assertEquals(List.of("bravo", "Charlie"), titlesOf(elements.fetch(2, 2, sortOrders, null)));
+        assertEquals(List.of("Delta"), titlesOf(elements.fetch(4, 2, sortOrders, null)));
+        assertEquals(5, cellsRendered.get());
+
+        // a change of sort order sorts anew
+        elements.fetch(0, 2, QuerySortOrder.desc("name").build(), null);
+        assertEquals(10, cellsRendered.get());
+    }
+
+    // -- HELPER
+
+    private static OneToOneAssociation property(final String id) {
+        val property = mock(OneToOneAssociation.class);
+        when(property.getId()).thenReturn(id);
+        return property;
+    }
+
+    private ManagedObject element(final String title, final String name, final String rank) {
+        val element = mock(ManagedObject.class);
+        when(element.titleString()).thenReturn(title);
+        titles.put(element, title);
+        cellValues.put(title + ".name", name);
+        cellValues.put(title + ".rank", rank);
+        return element;
+    }
+
+    private List<String> titlesOf(final Stream<ManagedObject> elements) {
+        return elements
+                .map(titles::get)
+                .collect(Collectors.toList());
+    }
+
+}
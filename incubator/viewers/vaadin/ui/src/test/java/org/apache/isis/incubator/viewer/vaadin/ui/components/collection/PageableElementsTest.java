@@ -0,0 +1,169 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.incubator.viewer.vaadin.ui.components.collection;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.objectmanager.query.ObjectBulkLoader;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.val;
+
+class PageableElementsTest {
+
+    private static final int ROW_COUNT = 1_000_000;
+    private static final int PAGE_SIZE = 50;
+
+    /**
+     * Stands in for a query-backed collection: rows are only ever created when a window is fetched.
+     */
+    static class QueryBackedRows implements PageableElements<String> {
+
+        final AtomicLong rowsMaterialized = new AtomicLong();
+        final AtomicInteger largestWindow = new AtomicInteger();
+        String lastFilter;
+        List<QuerySortOrder> lastSortOrders;
+
+        @Override
+        public int count(final String filter) {
+            return filter == null ? ROW_COUNT : ROW_COUNT / 10;
+        }
+
+        @Override
+        public Stream<String> fetch(
+                final int offset,
+                final int limit,
+                final List<QuerySortOrder> sortOrders,
+                final String filter) {
+            lastFilter = filter;
+            lastSortOrders = sortOrders;
+            largestWindow.accumulateAndGet(limit, Math::max);
+            return IntStream.range(offset, Math.min(offset + limit, count(filter)))
+                    .peek(i->rowsMaterialized.incrementAndGet())
+                    .mapToObj(i->"row-" + i);
+        }
+    }
+
+    @Test
+    void scrolling_through_a_million_rows_only_materializes_the_requested_windows() {
+
+        val rows = new QueryBackedRows();
+        val dataProvider = rows.toDataProvider();
+
+        assertEquals(ROW_COUNT, dataProvider.size(new Query<>()));
+
+        long fetched = 0;
+        for (int offset = 0; offset < ROW_COUNT; offset += ROW_COUNT / 100) {
+            fetched += dataProvider
+                    .fetch(new Query<>(offset, PAGE_SIZE, Collections.emptyList(), null, null))
+                    .count();
+        }
+
+        assertEquals(100 * PAGE_SIZE, fetched);
+        // memory is bound by the page size, not by the number of rows
+        assertEquals(fetched, rows.rowsMaterialized.get());
+        assertEquals(PAGE_SIZE, rows.largestWindow.get());
+    }
+
+    @Test
+    void scrolling_through_a_million_queried_rows_only_materializes_the_requested_windows() {
+
+        val rowsMaterialized = new AtomicLong();
+        val largestWindow = new AtomicInteger();
+        val row = mock(ManagedObject.class);
+
+        // stands in for the object store, honouring the query's range
+        val objectManager = mock(ObjectManager.class);
+        when(objectManager.queryObjects(any(ObjectBulkLoader.Request.class))).thenAnswer(invocation->{
+            final ObjectBulkLoader.Request request = invocation.getArgument(0);
+            val range = request.getQuery().getRange();
+            val windowSize = range.hasLimit()
+                    ? Math.max(0, Math.min(range.getEndAsInt(), ROW_COUNT) - range.getStartAsInt())
+                    : ROW_COUNT;
+            rowsMaterialized.addAndGet(windowSize);
+            largestWindow.accumulateAndGet(windowSize, Math::max);
+            return Can.ofCollection(Collections.nCopies(windowSize, row));
+        });
+        val elementSpec = mock(ObjectSpecification.class);
+        when(elementSpec.getObjectManager()).thenReturn(objectManager);
+
+        val dataProvider = QueryElements.of(
+                elementSpec,
+                org.apache.isis.applib.query.Query.allInstances(Object.class),
+                ()->ROW_COUNT) // as counted by the object store
+                .toDataProvider();
+
+        assertEquals(ROW_COUNT, dataProvider.size(new Query<>()));
+        // counting does not materialize any rows
+        assertEquals(0, rowsMaterialized.get());
+
+        long fetched = 0;
+        for (int offset = 0; offset < ROW_COUNT; offset += ROW_COUNT / 100) {
+            fetched += dataProvider
+                    .fetch(new Query<>(offset, PAGE_SIZE, Collections.emptyList(), null, null))
+                    .count();
+        }
+
+        assertEquals(100 * PAGE_SIZE, fetched);
+        // memory is bound by the page size, not by the number of rows
+        assertEquals(fetched, rowsMaterialized.get());
+        assertTrue(largestWindow.get() <= PAGE_SIZE);
+    }
+
+    @Test
+    void sorting_and_filtering_are_delegated_to_the_source() {
+
+        val rows = new QueryBackedRows();
+        val dataProvider = rows.toDataProvider();
+        val sortOrders = QuerySortOrder.desc("name").build();
+
+        dataProvider.setFilter("abc");
+
+        assertEquals(ROW_COUNT / 10, dataProvider.size(new Query<>()));
+
+        val window = dataProvider
+                .fetch(new Query<>(ROW_COUNT / 10 - 10, PAGE_SIZE, sortOrders, null, null))
+                .count();
+
+        assertEquals(10, window);
+        assertEquals("abc", rows.lastFilter);
+        assertEquals(sortOrders, rows.lastSortOrders);
+        assertTrue(rows.rowsMaterialized.get() <= PAGE_SIZE);
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.incubator.viewer.vaadin.ui.components.collection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.query.NamedQuery;
+import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.query.QueryRange;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.objectmanager.query.ObjectBulkLoader;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.val;
+
+class QueryElementsTest {
+
+    private static final int ROW_COUNT = 2_500;
+
+    private final List<ManagedObject> rows = new ArrayList<>();
+    private final List<Query<?>> queriesRun = new ArrayList<>();
+    private final AtomicInteger countsQueried = new AtomicInteger();
+
+    private ObjectSpecification elementSpec;
+
+    @BeforeEach
+    void setUp() {
+        IntStream.range(0, ROW_COUNT).forEach(i->{
+            val row = mock(ManagedObject.class);
+            when(row.titleString()).thenReturn("row-" + i);
+            rows.add(row);
+        });
+
+        // stands in for the object store, honouring the named query's filter and order, and the query's range
+        val objectManager = mock(ObjectManager.class);
+        when(objectManager.queryObjects(any(ObjectBulkLoader.Request.class))).thenAnswer(invocation->{
+            final ObjectBulkLoader.Request request = invocation.getArgument(0);
+            val query = request.getQuery();
+            queriesRun.add(query);
+            val matching = matching(query);
+            val range = query.getRange();
+            val start = Math.min(range.getStartAsInt(), matching.size());
+            val end = range.hasLimit()
+                    ? Math.min(range.getEndAsInt(), matching.size())
+                    : matching.size();
+            return Can.ofCollection(matching.subList(start, end));
+        });
+
+        elementSpec = mock(ObjectSpecification.class);
+        when(elementSpec.getObjectManager()).thenReturn(objectManager);
+    }
+
+    @Test
+    void fetches_only_the_requested_window() {
+        val elements = unsortedQueryElements();
+
+        assertEquals(
+                List.of("row-100", "row-101", "row-102"),
+                titlesOf(elements.fetch(100, 3, Collections.emptyList(), null).collect(Collectors.toList())));
+        assertEquals(List.of(QueryRange.of(100, 3)), rangesQueried());
+    }
+
+    @Test
+    void counts_by_the_count_query_without_querying_rows() {
+        val elements = unsortedQueryElements();
+
+        assertEquals(ROW_COUNT, elements.count(null));
+        assertEquals(ROW_COUNT, elements.count(null));
+
+        assertEquals(1, countsQueried.get());
+        assertEquals(List.of(), queriesRun);
+    }
+
+    @Test
+    void single_query_is_neither_sortable_nor_filterable() {
+        assertFalse(unsortedQueryElements().isSortableAndFilterable());
+        assertTrue(sortableQueryElements().isSortableAndFilterable());
+    }
+
+    @Test
+    void sorting_and_filtering_are_pushed_into_the_query() {
+        val elements = sortableQueryElements();
+
+        assertEquals(11, elements.count("row-99"));  // row-99, row-990 .. row-999
+        assertEquals(
+                List.of("row-999", "row-998"),
+                titlesOf(elements.fetch(0, 2, QuerySortOrder.desc("index").build(), "row-99")
+                        .collect(Collectors.toList())));
+        assertEquals(
+                List.of("row-997"),
+                titlesOf(elements.fetch(2, 1, QuerySortOrder.desc("index").build(), "row-99")
+                        .collect(Collectors.toList())));
+        assertEquals(ROW_COUNT, elements.count(null));
+
+        assertEquals(2, countsQueried.get());
+        assertEquals(List.of(QueryRange.of(0, 2), QueryRange.of(2, 1)), rangesQueried());
+    }
+
+    @Test
+    void zero_limit_does_not_query() {
+        val elements = unsortedQueryElements();
+
+        assertEquals(0, elements.fetch(0, 0, Collections.emptyList(), null).count());
+        assertEquals(List.of(), queriesRun);
+    }
+
+    @Test
+    void bounded_query_is_rejected() {
+        assertThrows(IllegalArgumentException.class, ()->QueryElements.of(
+                elementSpec,
+                Query.allInstances(Object.class).withLimit(10),
+                ()->ROW_COUNT));
+
+        val elements = QueryElements.of(
+                elementSpec,
+                (sortOrders, filter)->Query.allInstances(Object.class).withLimit(10),
+                filter->ROW_COUNT);
+        assertThrows(IllegalArgumentException.class, ()->elements.fetch(0, 10, Collections.emptyList(), null));
+    }
+
+    // -- HELPER
+
+    private QueryElements unsortedQueryElements() {
+        return QueryElements.of(
+                elementSpec,
+                Query.allInstances(Object.class),
+                ()->{
+                    countsQueried.incrementAndGet();
+                    return ROW_COUNT;
+                });
+    }
+
+    private QueryElements sortableQueryElements() {
+        return QueryElements.of(
+                elementSpec,
+                (sortOrders, filter)->Query.named(Object.class, "findByTitle")
+                        .withParameter("title", filter)
+                        .withParameter("descending", sortOrders.stream()
+                                .anyMatch(order->order.getDirection() == SortDirection.DESCENDING)),
+                filter->{
+                    countsQueried.incrementAndGet();
+                    return matching(Query.named(Object.class, "findByTitle").withParameter("title", filter)).size();
+                });
+    }
+
+    /**
+     * Rows matching the named query's <code>title</code> parameter (if any), in the order as per its
+     * <code>descending</code> parameter (if any); all rows in natural order otherwise.
+     */
+    private List<ManagedObject> matching(final Query<?> query) {
+        if(!(query instanceof NamedQuery)) {
+            return rows;
+        }
+        val parameters = ((NamedQuery<?>) query).getParametersByName();
+        val title = (String) parameters.get("title");
+        val matching = rows.stream()
+                .filter(row->title == null || row.titleString().contains(title))
+                .collect(Collectors.toList());
+        if(Boolean.TRUE.equals(parameters.get("descending"))) {
+            matching.sort(Comparator.comparing(rows::indexOf).reversed());
+        }
+        return matching;
+    }
+
+    private List<QueryRange> rangesQueried() {
+        return queriesRun.stream()
+                .map(Query::getRange)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> titlesOf(final List<ManagedObject> elements) {
+        return elements.stream()
+                .map(ManagedObject::titleString)
+                .collect(Collectors.toList());
+    }
+
+}
@@ -19,11 +19,14 @@
 package org.apache.isis.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.jdo.FetchGroup;
+import javax.jdo.JDOHelper;
 import javax.jdo.PersistenceManager;
 
 import org.datanucleus.enhancement.Persistable;
@@ -327,6 +330,18 @@ public <T> T detach(final T pojo) {
         return getPersistenceManager().detachCopy(pojo);
     }
 
+    @Override
+    public Optional<Object> versionOf(final Object pojo) {
+        return Optional.ofNullable(JDOHelper.getVersion(pojo));
+    }
+
+    @Override
+    public void evictAll(final Collection<?> pojos) {
+        log.debug("about to evict {} entities", pojos.size());
+        // JDO has no means to release persistent-new instances before commit, these are left as they are
+        getPersistenceManager().evictAll(pojos);
+    }
+
     // -- HELPER
 
     private static boolean isPersistableType(final Class<?> type) {
@@ -20,7 +20,6 @@
 
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
@@ -47,10 +46,11 @@
 import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.isis.applib.services.xactn.TransactionId;
 import org.apache.isis.commons.collections.Can;
-import org.apache.isis.commons.internal.base._Lazy;
+import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.collections._Maps;
-import org.apache.isis.commons.internal.collections._Sets;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
 import org.apache.isis.core.metamodel.facets.object.callbacks.CallbackFacet;
 import org.apache.isis.core.metamodel.facets.object.callbacks.LoadedCallbackFacet;
 import org.apache.isis.core.metamodel.facets.object.callbacks.LoadedLifecycleEventFacet;
@@ -65,13 +65,10 @@
 import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatingCallbackFacet;
 import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatingLifecycleEventFacet;
 import org.apache.isis.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
-import org.apache.isis.core.metamodel.facets.properties.property.entitychangepublishing.EntityPropertyChangePublishingPolicyFacet;
 import org.apache.isis.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
-import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
 import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
-import org.apache.isis.core.metamodel.spec.feature.MixedIn;
 import org.apache.isis.core.transaction.changetracking.EntityChangeTracker;
 import org.apache.isis.core.transaction.changetracking.EntityChangesPublisher;
 import org.apache.isis.core.transaction.changetracking.EntityPropertyChangePublisher;
@@ -103,16 +100,20 @@
     HasEnlistedEntityChanges {
 
     /**
-     * Contains initial change records having set the pre-values of every property of every object that was enlisted.
+     * Contains the pre-values of every property of every object that was enlisted.
      */
-    private final Map<String,PropertyChangeRecord> propertyChangeRecordsById = _Maps.newLinkedHashMap();
+    private final _PropertyChangeRecords propertyChangeRecords;
 
     /**
-     * Contains pre- and post- values of every property of every object that actually changed. A lazy snapshot,
-     * triggered by internal call to {@link #snapshotPropertyChangeRecords()}.
+     * Set, once the post-values have been captured and the records have been drained for publishing;
+     * triggered by internal call to {@link #drainPropertyChangeRecords(Consumer)}.
      */
-    private final _Lazy<Set<PropertyChangeRecord>> entityPropertyChangeRecordsForPublishing
-        = _Lazy.threadSafe(this::capturePostValuesAndDrain);
+    private final AtomicBoolean propertyChangeRecordsDrained = new AtomicBoolean();
+
+    /**
+     * Number of properties that actually changed, as drained for publishing.
+     */
+    private final LongAdder numberPropertyChangesForPublishing = new LongAdder();
 
     @Getter(AccessLevel.PACKAGE)
     private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newLinkedHashMap();
@@ -122,11 +123,16 @@
     private final Provider<InteractionProvider> interactionProviderProvider;
 
     @Inject
-    public EntityChangeTrackerJdo(final EntityPropertyChangePublisher entityPropertyChangePublisher, final EntityChangesPublisher entityChangesPublisher, final EventBusService eventBusService, final Provider<InteractionProvider> interactionProviderProvider) {
+    public EntityChangeTrackerJdo(final EntityPropertyChangePublisher entityPropertyChangePublisher, final EntityChangesPublisher entityChangesPublisher, final EventBusService eventBusService, final Provider<InteractionProvider> interactionProviderProvider, final IsisConfiguration isisConfiguration) {
         super(eventBusService);
         this.entityPropertyChangePublisher = entityPropertyChangePublisher;
         this.entityChangesPublisher = entityChangesPublisher;
         this.interactionProviderProvider = interactionProviderProvider;
+
+        val entityChangeTrackingConfig = isisConfiguration.getPersistence().getEntityChangeTracking();
+        this.propertyChangeRecords = entityChangeTrackingConfig.isMemoryBounded()
+                ? _PropertyChangeRecords.memoryBounded(entityChangeTrackingConfig.getSpillThreshold())
+                : _PropertyChangeRecords.onHeap();
     }
 
     private boolean isEnlisted(final @NonNull ManagedObject adapter) {
@@ -140,7 +146,7 @@ private void enlistCreatedInternal(final @NonNull ManagedObject adapter) {
             return;
         }
         enlistForChangeKindPublishing(adapter, EntityChangeKind.CREATE);
-        enlistForPreAndPostValuePublishing(adapter, record->record.setPreValue(PropertyValuePlaceholder.NEW));
+        enlistForPreAndPostValuePublishing(adapter, true);
     }
 
     private void enlistUpdatingInternal(
@@ -149,7 +155,7 @@ private void enlistUpdatingInternal(
             return;
         }
         enlistForChangeKindPublishing(entity, EntityChangeKind.UPDATE);
-        enlistForPreAndPostValuePublishing(entity, PropertyChangeRecord::updatePreValue);
+        enlistForPreAndPostValuePublishing(entity, false);
     }
 
     private void enlistDeletingInternal(final @NonNull ManagedObject adapter) {
@@ -158,19 +164,36 @@ private void enlistDeletingInternal(final @NonNull ManagedObject adapter) {
         }
         final boolean enlisted = enlistForChangeKindPublishing(adapter, EntityChangeKind.DELETE);
         if(enlisted) {
-            enlistForPreAndPostValuePublishing(adapter, PropertyChangeRecord::updatePreValue);
+            enlistForPreAndPostValuePublishing(adapter, false);
         }
     }
 
-    Set<PropertyChangeRecord> snapshotPropertyChangeRecords() {
+    /**
+     * Captures the post-values and passes the records of all properties that actually changed
+     * to given {@code onPublishable}. Can only be called once per transaction.
+     */
+    void drainPropertyChangeRecords(final Consumer<PropertyChangeRecord> onPublishable) {
         // this code path has side-effects, it locks the result for this transaction,
         // such that cannot enlist on top of it
-        return entityPropertyChangeRecordsForPublishing.get();
+        if(propertyChangeRecordsDrained.getAndSet(true)) {
+            throw _Exceptions.illegalState("Entity property changes have already been drained for publishing.");
+        }
+        propertyChangeRecords.drain(record->{
+            numberPropertyChangesForPublishing.increment();
+            onPublishable.accept(record);
+        });
+    }
+
+    int numberPropertyChangesForPublishing() {
+        if(!propertyChangeRecordsDrained.get()) {
+            drainPropertyChangeRecords(record->{});
+        }
+        return numberPropertyChangesForPublishing.intValue();
     }
 
     private boolean isEntityEnabledForChangePublishing(final @NonNull ManagedObject adapter) {
 
-        if(entityPropertyChangeRecordsForPublishing.isMemoized()) {
+        if(propertyChangeRecordsDrained.get()) {
             throw _Exceptions.illegalState("Cannot enlist additional changes for auditing, "
                     + "since changedObjectPropertiesRef was already prepared (memoized) for auditing.");
         }
@@ -194,6 +217,7 @@ public void onTransactionCompleting(final TransactionBeforeCompletionEvent event
         try {
             doPublish();
         } finally {
+            recordMetrics();
             postPublishing();
         }
     }
@@ -206,11 +230,20 @@ private void doPublish() {
         entityChangesPublisher.publishChangingEntities(this);
     }
 
+    private void recordMetrics() {
+        val entitiesTracked = changeKindByEnlistedAdapter.size();
+        val bytesTracked = propertyChangeRecords.estimatedBytes();
+        log.debug("tracked {} entities taking an estimated {} bytes", entitiesTracked, bytesTracked);
+        InteractionProfile.add(InteractionProfile.Counter.ENTITIES_TRACKED, entitiesTracked);
+        InteractionProfile.add(InteractionProfile.Counter.ENTITIES_TRACKED_BYTES, bytesTracked);
+    }
+
     private void postPublishing() {
         log.debug("purging entity change records");
-        propertyChangeRecordsById.clear();
+        propertyChangeRecords.clear();
         changeKindByEnlistedAdapter.clear();
-        entityPropertyChangeRecordsForPublishing.clear();
+        propertyChangeRecordsDrained.set(false);
+        numberPropertyChangesForPublishing.reset();
         entityChangeEventCount.reset();
         numberEntitiesLoaded.reset();
     }
@@ -236,10 +269,20 @@ public Can<EntityPropertyChange> getPropertyChanges(
             final String userName,
             final TransactionId txId) {
 
-        return snapshotPropertyChangeRecords().stream()
-                .map(propertyChangeRecord->_EntityPropertyChangeFactory
-                        .createEntityPropertyChange(timestamp, userName, txId, propertyChangeRecord))
-                .collect(Can.toCan());
+        val propertyChanges = _Lists.<EntityPropertyChange>newArrayList();
+        forEachPropertyChange(timestamp, userName, txId, propertyChanges::add);
+        return Can.ofCollection(propertyChanges);
+    }
+
+    @Override
+    public void forEachPropertyChange(
+            final java.sql.Timestamp timestamp,
+            final String userName,
+            final TransactionId txId,
+            final Consumer<EntityPropertyChange> action) {
+
+        drainPropertyChangeRecords(propertyChangeRecord->action.accept(
+                _EntityPropertyChangeFactory.createEntityPropertyChange(timestamp, userName, txId, propertyChangeRecord)));
     }
 
     // -- DEPENDENCIES
@@ -292,41 +335,16 @@ private boolean enlistForChangeKindPublishing(
 
     private void enlistForPreAndPostValuePublishing(
             final ManagedObject entity,
-            final Consumer<PropertyChangeRecord> onNewChangeRecord) {
+            final boolean created) {
 
         log.debug("enlist entity's property changes for publishing {}", entity);
 
-        entity.getSpecification().streamProperties(MixedIn.EXCLUDED)
-        .filter(property->!EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property))
-        .map(property->PropertyChangeRecord.of(entity, property))
-        .filter(record->!propertyChangeRecordsById.containsKey(record.getPropertyId())) // already enlisted, so ignore
-        .forEach(record->{
-            onNewChangeRecord.accept(record);
-            propertyChangeRecordsById.put(record.getPropertyId(), record);
-        });
-    }
-
-    /**
-     * For any enlisted Object Properties collects those, that are meant for publishing,
-     * then clears enlisted objects.
-     */
-    private Set<PropertyChangeRecord> capturePostValuesAndDrain() {
-
-        val records = propertyChangeRecordsById.values().stream()
-                // set post values, which have been left empty up to now
-                .peek(PropertyChangeRecord::updatePostValue)
-                .filter(managedProperty->managedProperty.getPreAndPostValue().shouldPublish())
-                .collect(_Sets.toUnmodifiable());
-
-        propertyChangeRecordsById.clear();
-
-        return records;
-
+        propertyChangeRecords.enlist(entity, created);
     }
 
     // side-effect free, used by XRay
     long countPotentialPropertyChangeRecords() {
-        return propertyChangeRecordsById.size();
+        return propertyChangeRecords.countPotentialPropertyChangeRecords();
     }
 
     // -- METRICS SERVICE
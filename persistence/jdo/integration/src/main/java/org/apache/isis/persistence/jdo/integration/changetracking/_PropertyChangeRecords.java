@@ -0,0 +1,86 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.integration.changetracking;
+
+import java.util.function.Consumer;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.facets.properties.property.entitychangepublishing.EntityPropertyChangePublishingPolicyFacet;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+
+/**
+ * Holds the pre-values of the properties of all entities enlisted for change publishing
+ * within a transaction.
+ */
+interface _PropertyChangeRecords {
+
+    /**
+     * Captures the pre-values of the entity's properties, unless already enlisted.
+     * @param created - whether the entity was just created, in which case there are no pre-values
+     */
+    void enlist(ManagedObject entity, boolean created);
+
+    /**
+     * Captures the post-values, passes any records meant for publishing to given {@code onPublishable}
+     * and finally clears this store.
+     */
+    void drain(Consumer<PropertyChangeRecord> onPublishable);
+
+    void clear();
+
+    /**
+     * Side-effect free, used by XRay.
+     */
+    long countPotentialPropertyChangeRecords();
+
+    /**
+     * Estimated number of bytes taken by the pre-values held, including any spilled to disk.
+     */
+    long estimatedBytes();
+
+    // -- FACTORIES
+
+    static _PropertyChangeRecords onHeap() {
+        return new _PropertyChangeRecordsOnHeap();
+    }
+
+    static _PropertyChangeRecords memoryBounded(final long spillThreshold) {
+        return new _PropertyChangeRecordsMemoryBounded(spillThreshold);
+    }
+
+    // -- HELPER
+
+    static Can<OneToOneAssociation> publishedPropertiesOf(final ObjectSpecification spec) {
+        return spec.streamProperties(MixedIn.EXCLUDED)
+                .filter(property->!EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property))
+                .collect(Can.toCan());
+    }
+
+    static long estimateBytes(final String preString) {
+        // the PreAndPostValue with its references, plus the String itself
+        return 64L + (preString!=null
+                ? 2L * preString.length()
+                : 0L);
+    }
+
+}
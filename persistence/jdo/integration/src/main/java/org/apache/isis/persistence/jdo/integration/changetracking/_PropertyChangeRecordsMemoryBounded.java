@@ -0,0 +1,212 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.integration.changetracking;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PreAndPostValue;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Identifies the pre-values by the index of the enlisted entity and the index of the property within its
+ * published properties, rather than by a {@link PropertyChangeRecord} each.
+ * <p>
+ * Up to the spill threshold, the pre-values are kept in memory, one array per entity. Beyond that, the
+ * pre-values of any further entity are written to a {@link _SpillFile} (as strings), and read back
+ * record by record when drained.
+ */
+@Log4j2
+final class _PropertyChangeRecordsMemoryBounded implements _PropertyChangeRecords {
+
+    private final long spillThreshold;
+
+    private final Map<Bookmark, Integer> entityIndexByBookmark = _Maps.newHashMap();
+    private final List<ManagedObject> entities = _Lists.newArrayList();
+    /**
+     * Per entity index, the pre-values of its published properties, or {@code null} if spilled.
+     */
+    private final List<PreAndPostValue[]> preValuesByEntity = _Lists.newArrayList();
+    private final Map<ObjectSpecification, Can<OneToOneAssociation>> publishedPropertiesBySpec = _Maps.newHashMap();
+
+    private long estimatedBytesInMemory;
+    private long propertyCount;
+    private _SpillFile spillFile;
+    private long spilledBytes;
+
+    _PropertyChangeRecordsMemoryBounded(final long spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    @Override
+    public void enlist(final ManagedObject entity, final boolean created) {
+        val bookmark = ManagedObjects.bookmarkElseFail(entity);
+        if(entityIndexByBookmark.containsKey(bookmark)) {
+            return; // already enlisted, so ignore
+        }
+        val entityIndex = entities.size();
+        entityIndexByBookmark.put(bookmark, entityIndex);
+        entities.add(entity);
+
+        val properties = publishedPropertiesOf(entity.getSpecification());
+        propertyCount += properties.size();
+
+        if(spillFile==null
+                && estimatedBytesInMemory > spillThreshold) {
+            log.info("spilling pre-values of entities to disk, "
+                    + "having exceeded the threshold of {} bytes after {} entities", spillThreshold, entityIndex);
+            spillFile = _SpillFile.create();
+        }
+
+        if(spillFile!=null) {
+            for(int propertyIndex = 0; propertyIndex < properties.size(); ++propertyIndex) {
+                val preString = created
+                        ? null
+                        : PreAndPostValue.pre(preValueOf(entity, properties.getElseFail(propertyIndex))).getPreString();
+                spillFile.write(entityIndex, propertyIndex, created, preString);
+            }
+            preValuesByEntity.add(null);
+            return;
+        }
+
+        val preValues = new PreAndPostValue[properties.size()];
+        for(int propertyIndex = 0; propertyIndex < preValues.length; ++propertyIndex) {
+            val preValue = PreAndPostValue.pre(created
+                    ? PropertyValuePlaceholder.NEW
+                    : preValueOf(entity, properties.getElseFail(propertyIndex)));
+            preValues[propertyIndex] = preValue;
+            estimatedBytesInMemory += _PropertyChangeRecords.estimateBytes(preValue.getPreString());
+        }
+        preValuesByEntity.add(preValues);
+    }
+
+    @Override
+    public void drain(final Consumer<PropertyChangeRecord> onPublishable) {
+        try {
+            for(int entityIndex = 0; entityIndex < entities.size(); ++entityIndex) {
+                val preValues = preValuesByEntity.get(entityIndex);
+                if(preValues==null) {
+                    continue; // spilled
+                }
+                val entity = entities.get(entityIndex);
+                val properties = publishedPropertiesOf(entity.getSpecification());
+                for(int propertyIndex = 0; propertyIndex < preValues.length; ++propertyIndex) {
+                    val record = PropertyChangeRecord.of(entity, properties.getElseFail(propertyIndex),
+                            preValues[propertyIndex]);
+                    record.updatePostValue();
+                    if(record.getPreAndPostValue().shouldPublish()) {
+                        onPublishable.accept(record);
+                    }
+                }
+                preValuesByEntity.set(entityIndex, null); // allow for GC
+            }
+
+            if(spillFile!=null) {
+                spillFile.forEach((entityIndex, propertyIndex, created, preString)->{
+                    val entity = entities.get(entityIndex);
+                    val property = publishedPropertiesOf(entity.getSpecification()).getElseFail(propertyIndex);
+                    val record = PropertyChangeRecord.of(entity, property, PreAndPostValue.pre(created
+                            ? PropertyValuePlaceholder.NEW
+                            : preString));
+                    record.updatePostValue();
+                    if(shouldPublishSpilled(record.getPreAndPostValue())) {
+                        onPublishable.accept(record);
+                    }
+                });
+            }
+        } finally {
+            releaseRecords();
+        }
+    }
+
+    @Override
+    public void clear() {
+        releaseRecords();
+        propertyCount = 0L;
+        estimatedBytesInMemory = 0L;
+        spilledBytes = 0L;
+    }
+
+    @Override
+    public long countPotentialPropertyChangeRecords() {
+        return propertyCount;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return estimatedBytesInMemory
+                + (spillFile!=null
+                    ? spillFile.getSize()
+                    : spilledBytes);
+    }
+
+    // -- HELPER
+
+    /**
+     * Releases the memory and the spill file, but keeps the counters for metrics.
+     */
+    private void releaseRecords() {
+        entityIndexByBookmark.clear();
+        entities.clear();
+        preValuesByEntity.clear();
+        publishedPropertiesBySpec.clear();
+        if(spillFile!=null) {
+            spilledBytes = spillFile.getSize();
+            spillFile.close();
+            spillFile = null;
+        }
+    }
+
+    private Can<OneToOneAssociation> publishedPropertiesOf(final ObjectSpecification spec) {
+        return publishedPropertiesBySpec.computeIfAbsent(spec, _PropertyChangeRecords::publishedPropertiesOf);
+    }
+
+    private static Object preValueOf(final ManagedObject entity, final OneToOneAssociation property) {
+        // same as PropertyChangeRecord#updatePreValue, without having to create the record
+        return ManagedObjects.UnwrapUtil.single(property.get(entity, InteractionInitiatedBy.FRAMEWORK));
+    }
+
+    /**
+     * Having spilled only the string representation of the pre-value, unchanged values are detected by
+     * comparing the string representations.
+     */
+    private static boolean shouldPublishSpilled(final PreAndPostValue preAndPostValue) {
+        if(preAndPostValue.getPre() instanceof PropertyValuePlaceholder
+                || preAndPostValue.getPost() instanceof PropertyValuePlaceholder) {
+            return preAndPostValue.shouldPublish();
+        }
+        return !Objects.equals(preAndPostValue.getPreString(), preAndPostValue.getPostString());
+    }
+
+}
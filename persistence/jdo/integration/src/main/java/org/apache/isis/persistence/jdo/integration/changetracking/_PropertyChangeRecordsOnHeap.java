@@ -0,0 +1,89 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.integration.changetracking;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.apache.isis.commons.internal.collections._Sets;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+
+import lombok.val;
+
+/**
+ * Keeps a {@link PropertyChangeRecord} for every property of every enlisted entity in memory.
+ */
+final class _PropertyChangeRecordsOnHeap implements _PropertyChangeRecords {
+
+    /**
+     * Contains initial change records having set the pre-values of every property of every object that was enlisted.
+     * <p>
+     * Records are identified by the entity's bookmark and the property's id (as per their {@code equals}).
+     */
+    private final Set<PropertyChangeRecord> propertyChangeRecords = _Sets.newLinkedHashSet();
+
+    private long estimatedBytes;
+
+    @Override
+    public void enlist(final ManagedObject entity, final boolean created) {
+        _PropertyChangeRecords.publishedPropertiesOf(entity.getSpecification()).stream()
+        .map(property->PropertyChangeRecord.of(entity, property))
+        .filter(record->!propertyChangeRecords.contains(record)) // already enlisted, so ignore
+        .forEach(record->{
+            if(created) {
+                record.setPreValue(PropertyValuePlaceholder.NEW);
+            } else {
+                record.updatePreValue();
+            }
+            propertyChangeRecords.add(record);
+            estimatedBytes += _PropertyChangeRecords.estimateBytes(record.getPreAndPostValue().getPreString());
+        });
+    }
+
+    @Override
+    public void drain(final Consumer<PropertyChangeRecord> onPublishable) {
+        for(val record : propertyChangeRecords) {
+            // set post values, which have been left empty up to now
+            record.updatePostValue();
+            if(record.getPreAndPostValue().shouldPublish()) {
+                onPublishable.accept(record);
+            }
+        }
+        propertyChangeRecords.clear();
+    }
+
+    @Override
+    public void clear() {
+        propertyChangeRecords.clear();
+        estimatedBytes = 0L;
+    }
+
+    @Override
+    public long countPotentialPropertyChangeRecords() {
+        return propertyChangeRecords.size();
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+}
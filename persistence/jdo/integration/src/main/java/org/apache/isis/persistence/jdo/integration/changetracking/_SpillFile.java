@@ -0,0 +1,181 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.integration.changetracking;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * Append-only temporary file of pre-value records, each keyed by an entity index and a property index,
+ * written to and read from memory-mapped segments.
+ * <p>
+ * The file is deleted when closed.
+ */
+final class _SpillFile implements AutoCloseable {
+
+    @FunctionalInterface
+    interface RecordConsumer {
+        void accept(int entityIndex, int propertyIndex, boolean created, @Nullable String preString);
+    }
+
+    static final int SEGMENT_SIZE = 8 * 1024 * 1024;
+
+    private static final byte NULL = 0;
+    private static final byte CREATED = 1;
+    private static final byte VALUE = 2;
+
+    /** entityIndex, propertyIndex, kind */
+    private static final int HEADER_SIZE = 4 + 4 + 1;
+
+    private final FileChannel channel;
+    private final List<ByteBuffer> completedSegments = _Lists.newArrayList();
+    private MappedByteBuffer currentSegment;
+    private long mappedSize;
+
+    /**
+     * Number of bytes written so far.
+     */
+    @Getter private long size;
+
+    static _SpillFile create() {
+        try {
+            val path = Files.createTempFile("isis-entity-changes-", ".spill");
+            return new _SpillFile(FileChannel.open(path,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE));
+        } catch (IOException e) {
+            throw _Exceptions.unrecoverable("failed to create file to spill entity changes to", e);
+        }
+    }
+
+    private _SpillFile(final FileChannel channel) {
+        this.channel = channel;
+    }
+
+    void write(
+            final int entityIndex,
+            final int propertyIndex,
+            final boolean created,
+            final @Nullable String preString) {
+
+        val bytes = !created && preString!=null
+                ? preString.getBytes(StandardCharsets.UTF_8)
+                : null;
+        val recordSize = HEADER_SIZE + (bytes!=null
+                ? 4 + bytes.length
+                : 0);
+
+        val segment = segmentWithCapacity(recordSize);
+        segment.putInt(entityIndex);
+        segment.putInt(propertyIndex);
+        if(created) {
+            segment.put(CREATED);
+        } else if(bytes==null) {
+            segment.put(NULL);
+        } else {
+            segment.put(VALUE);
+            segment.putInt(bytes.length);
+            segment.put(bytes);
+        }
+        size += recordSize;
+    }
+
+    /**
+     * Reads all records, in the order written.
+     */
+    void forEach(final RecordConsumer consumer) {
+        completedSegments.forEach(segment->readSegment(segment.duplicate(), consumer));
+        if(currentSegment!=null) {
+            val segment = currentSegment.duplicate();
+            segment.flip();
+            readSegment(segment, consumer);
+        }
+    }
+
+    @Override
+    public void close() {
+        completedSegments.clear();
+        currentSegment = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw _Exceptions.unrecoverable("failed to close file that entity changes were spilled to", e);
+        }
+    }
+
+    // -- HELPER
+
+    private ByteBuffer segmentWithCapacity(final int recordSize) {
+        if(currentSegment!=null
+                && currentSegment.remaining() >= recordSize) {
+            return currentSegment;
+        }
+        if(currentSegment!=null) {
+            currentSegment.flip();
+            completedSegments.add(currentSegment);
+        }
+        val segmentSize = Math.max(SEGMENT_SIZE, recordSize);
+        try {
+            currentSegment = channel.map(FileChannel.MapMode.READ_WRITE, mappedSize, segmentSize);
+        } catch (IOException e) {
+            throw _Exceptions.unrecoverable("failed to map file that entity changes are spilled to", e);
+        }
+        mappedSize += segmentSize;
+        return currentSegment;
+    }
+
+    private static void readSegment(final ByteBuffer segment, final RecordConsumer consumer) {
+        while(segment.hasRemaining()) {
+            val entityIndex = segment.getInt();
+            val propertyIndex = segment.getInt();
+            val kind = segment.get();
+            switch (kind) {
+            case CREATED:
+                consumer.accept(entityIndex, propertyIndex, true, null);
+                break;
+            case NULL:
+                consumer.accept(entityIndex, propertyIndex, false, null);
+                break;
+            case VALUE:
+                final byte[] bytes = new byte[segment.getInt()];
+                segment.get(bytes);
+                consumer.accept(entityIndex, propertyIndex, false, new String(bytes, StandardCharsets.UTF_8));
+                break;
+            default:
+                throw _Exceptions.unrecoverableFormatted("corrupt record kind %d in entity changes spill file", kind);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.integration.changetracking;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.services.command.Command;
+import org.apache.isis.applib.services.eventbus.EventBusService;
+import org.apache.isis.applib.services.iactn.InteractionProvider;
+import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.isis.applib.services.xactn.TransactionId;
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.execution.InteractionInternal;
+import org.apache.isis.core.transaction.changetracking.EntityChangesPublisher;
+import org.apache.isis.core.transaction.changetracking.EntityPropertyChangePublisher;
+import org.apache.isis.persistence.jdo.integration.changetracking.TestCustomers.Customer;
+
+import lombok.val;
+
+class EntityChangeTrackerJdoTest {
+
+    private final Timestamp timestamp = new Timestamp(0L);
+
+    @Test
+    void streamedPropertyChanges_areCounted_inEntityChanges() {
+        assertStreamedPropertyChangesAreCounted(new IsisConfiguration(null));
+    }
+
+    @Test
+    void streamedPropertyChanges_areCounted_inEntityChanges_whenMemoryBounded() {
+        val configuration = new IsisConfiguration(null);
+        val entityChangeTrackingConfig = configuration.getPersistence().getEntityChangeTracking();
+        entityChangeTrackingConfig.setMemoryBounded(true);
+        entityChangeTrackingConfig.setSpillThreshold(0L); // spill all but the first entity
+        assertStreamedPropertyChangesAreCounted(configuration);
+    }
+
+    // -- HELPER
+
+    private void assertStreamedPropertyChangesAreCounted(final IsisConfiguration configuration) {
+        val tracker = newEntityChangeTracker(configuration);
+        val customers = new TestCustomers();
+
+        val alice = new Customer("1", "Alice", "London", false);
+        val bob = new Customer("2", "Bob", "Berlin", false);
+        val carol = new Customer("3", null, null, false);
+
+        tracker.enlistUpdating(customers.adapt(alice));
+        tracker.enlistUpdating(customers.adapt(bob));
+        tracker.enlistCreated(customers.adapt(carol));
+
+        alice.name = "Alicia";
+        carol.name = "Carol";
+        carol.city = "Paris";
+
+        // as done by the EntityPropertyChangePublisher, unless XRay is enabled
+        val streamed = _Lists.<EntityPropertyChange>newArrayList();
+        tracker.forEachPropertyChange(timestamp, "sven", TransactionId.of(UUID.randomUUID(), 0), streamed::add);
+
+        val entityChanges = tracker.getEntityChanges(timestamp, "sven").orElseThrow();
+
+        assertEquals(3, streamed.size());
+        assertEquals(streamed.size(), entityChanges.getNumberPropertiesModified());
+        assertEquals(1, entityChanges.getNumberCreated());
+        assertEquals(2, entityChanges.getNumberUpdated());
+    }
+
+    private static EntityChangeTrackerJdo newEntityChangeTracker(final IsisConfiguration configuration) {
+        val interaction = mock(InteractionInternal.class);
+        val interactionId = UUID.randomUUID();
+        when(interaction.getInteractionId()).thenReturn(interactionId);
+        when(interaction.getCommand()).thenReturn(new Command(interactionId));
+        when(interaction.getTransactionSequence()).thenReturn(new LongAdder());
+
+        val interactionProvider = mock(InteractionProvider.class);
+        when(interactionProvider.currentInteractionElseFail()).thenReturn(interaction);
+
+        return new EntityChangeTrackerJdo(
+                mock(EntityPropertyChangePublisher.class),
+                mock(EntityChangesPublisher.class),
+                mock(EventBusService.class),
+                ()->interactionProvider,
+                configuration);
+    }
+
+}
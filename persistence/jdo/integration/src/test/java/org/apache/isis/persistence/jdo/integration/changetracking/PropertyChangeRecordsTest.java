@@ -0,0 +1,118 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.integration.changetracking;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.persistence.jdo.integration.changetracking.TestCustomers.Customer;
+
+import lombok.val;
+
+/**
+ * The memory-bounded store is expected to publish the same changes as the (default) on-heap store,
+ * whether or not it spills to disk.
+ */
+class PropertyChangeRecordsTest {
+
+    @Test
+    void memoryBounded_belowSpillThreshold_publishesSameAsOnHeap() {
+        val expected = enlistChangeAndDrain(_PropertyChangeRecords::onHeap);
+        val actual = enlistChangeAndDrain(()->_PropertyChangeRecords.memoryBounded(Long.MAX_VALUE));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void memoryBounded_aboveSpillThreshold_publishesSameAsOnHeap() {
+        val expected = enlistChangeAndDrain(_PropertyChangeRecords::onHeap);
+        // keeps the first entity in memory, then spills all others
+        val actual = enlistChangeAndDrain(()->_PropertyChangeRecords.memoryBounded(0L));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void onHeap_publishesChangesOfAllEntities() {
+        assertEquals(List.of(
+                "testing.Customer:1#name: Alice -> Alicia",
+                "testing.Customer:3#city: Paris -> null",
+                "testing.Customer:4#name: [NEW] -> Dave",
+                "testing.Customer:4#city: [NEW] -> Rome",
+                "testing.Customer:5#name: Eve -> [DELETED]",
+                "testing.Customer:5#city: Oslo -> [DELETED]"),
+                enlistChangeAndDrain(_PropertyChangeRecords::onHeap));
+    }
+
+    @Test
+    void memoryBounded_aboveSpillThreshold_estimatesSpilledBytes() {
+        val records = _PropertyChangeRecords.memoryBounded(0L);
+        val customers = new TestCustomers();
+        records.enlist(customers.adapt(new Customer("1", "Alice", "London", false)), false);
+        val bytesInMemory = records.estimatedBytes();
+        records.enlist(customers.adapt(new Customer("2", "Bob", "Berlin", false)), false);
+
+        assertTrue(records.estimatedBytes() > bytesInMemory);
+        assertEquals(4L, records.countPotentialPropertyChangeRecords());
+
+        records.drain(record->{});
+        assertTrue(records.estimatedBytes() > bytesInMemory); // kept for metrics, after the spill file is gone
+        records.clear();
+        assertEquals(0L, records.estimatedBytes());
+    }
+
+    // -- HELPER
+
+    private static List<String> enlistChangeAndDrain(final Supplier<_PropertyChangeRecords> storeFactory) {
+        val records = storeFactory.get();
+        val customers = new TestCustomers();
+
+        val alice = new Customer("1", "Alice", "London", false);
+        val bob = new Customer("2", "Bob", "Berlin", false);
+        val carol = new Customer("3", "Carol", "Paris", false);
+        val dave = new Customer("4", null, null, false);
+        val eve = new Customer("5", "Eve", "Oslo", false);
+
+        records.enlist(customers.adapt(alice), false);
+        records.enlist(customers.adapt(bob), false);
+        records.enlist(customers.adapt(carol), false);
+        records.enlist(customers.adapt(dave), true);
+        records.enlist(customers.adapt(eve), false);
+
+        alice.name = "Alicia";
+        records.enlist(customers.adapt(alice), false); // already enlisted, so ignored
+        carol.city = null;
+        dave.name = "Dave";
+        dave.city = "Rome";
+        eve.removed = true;
+
+        val published = _Lists.<String>newArrayList();
+        records.drain(record->published.add(String.format("%s#%s: %s -> %s",
+                record.getBookmark().stringify(),
+                record.getPropertyId(),
+                record.getPreAndPostValue().getPreString(),
+                record.getPreAndPostValue().getPostString())));
+        return published;
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.integration.changetracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.collections._Lists;
+
+import lombok.val;
+
+class SpillFileTest {
+
+    @Test
+    void roundtrip() {
+        val records = _Lists.<String>newArrayList();
+        try(final _SpillFile spillFile = _SpillFile.create()) {
+            spillFile.write(0, 0, true, null);
+            spillFile.write(0, 1, false, null);
+            spillFile.write(1, 2, false, "Grüße");
+            spillFile.forEach((entityIndex, propertyIndex, created, preString)->
+                records.add(entityIndex + ":" + propertyIndex + ":" + created + ":" + preString));
+        }
+        assertEquals(List.of("0:0:true:null", "0:1:false:null", "1:2:false:Grüße"), records);
+    }
+
+    @Test
+    void acrossSegments() {
+        // each record takes more than half a segment, so every record is written to a new segment
+        val largeValue = _Strings.padEnd("", _SpillFile.SEGMENT_SIZE / 2 + 1, 'x');
+        val hugeValue = _Strings.padEnd("", _SpillFile.SEGMENT_SIZE + 1, 'y');
+        val lengths = _Lists.<Integer>newArrayList();
+        try(final _SpillFile spillFile = _SpillFile.create()) {
+            spillFile.write(0, 0, false, largeValue);
+            spillFile.write(1, 0, false, largeValue);
+            spillFile.write(2, 0, false, hugeValue);
+            spillFile.write(3, 0, false, "small");
+            spillFile.forEach((entityIndex, propertyIndex, created, preString)->
+                lengths.add(preString.length()));
+        }
+        assertEquals(List.of(largeValue.length(), largeValue.length(), hugeValue.length(), 5), lengths);
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.integration.changetracking;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.id.LogicalType;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.repository.EntityState;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.isis.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.AllArgsConstructor;
+import lombok.val;
+
+/**
+ * Mocked up metamodel of a {@link Customer} entity with 2 published properties, as needed to track
+ * its changes.
+ */
+final class TestCustomers {
+
+    @AllArgsConstructor
+    static class Customer {
+        final String id;
+        String name;
+        String city;
+        boolean removed;
+    }
+
+    private final ObjectSpecification spec = mock(ObjectSpecification.class);
+    private final OneToOneAssociation nameProperty = property("name");
+    private final OneToOneAssociation cityProperty = property("city");
+
+    TestCustomers() {
+        when(spec.isEntity()).thenReturn(true);
+        when(spec.getSingularName()).thenReturn("Customer");
+        when(spec.streamProperties(MixedIn.EXCLUDED)).thenAnswer(invocation->Stream.of(nameProperty, cityProperty));
+
+        val entityFacet = mock(EntityFacet.class);
+        when(entityFacet.getEntityState(any())).thenAnswer(invocation->
+            ((Customer)invocation.getArgument(0)).removed
+                ? EntityState.PERSISTABLE_REMOVED
+                : EntityState.PERSISTABLE_ATTACHED);
+        when(spec.getFacet(EntityFacet.class)).thenReturn(entityFacet);
+        when(spec.getFacet(EntityChangePublishingFacet.class)).thenReturn(mock(EntityChangePublishingFacet.class));
+    }
+
+    ManagedObject adapt(final Customer customer) {
+        val entity = mock(ManagedObject.class);
+        when(entity.getSpecification()).thenReturn(spec);
+        when(entity.getPojo()).thenReturn(customer);
+        when(entity.getBookmark()).thenReturn(
+                Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("testing.Customer", customer.id)));
+        return entity;
+    }
+
+    // -- HELPER
+
+    private static OneToOneAssociation property(final String propertyId) {
+        val property = mock(OneToOneAssociation.class);
+        val stringSpec = mock(ObjectSpecification.class);
+        doReturn(String.class).when(stringSpec).getCorrespondingClass();
+
+        when(property.getId()).thenReturn(propertyId);
+        when(property.getFeatureIdentifier()).thenReturn(
+                Identifier.propertyOrCollectionIdentifier(LogicalType.fqcn(Customer.class), propertyId));
+        when(property.getElementType()).thenReturn(stringSpec);
+        when(property.get(any(), any(InteractionInitiatedBy.class))).thenAnswer(invocation->{
+            val customer = (Customer) ((ManagedObject)invocation.getArgument(0)).getPojo();
+            val value = propertyId.equals("name")
+                    ? customer.name
+                    : customer.city;
+            val valueAdapter = mock(ManagedObject.class);
+            when(valueAdapter.getPojo()).thenReturn(value);
+            return valueAdapter;
+        });
+        return property;
+    }
+
+}
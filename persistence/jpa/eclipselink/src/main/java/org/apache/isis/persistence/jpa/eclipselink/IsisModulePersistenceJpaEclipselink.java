@@ -31,6 +31,8 @@
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataAccessException;
+import org.springframework.instrument.classloading.InstrumentationLoadTimeWeaver;
+import org.springframework.instrument.classloading.LoadTimeWeaver;
 import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
 import org.springframework.jdbc.support.SQLExceptionTranslator;
 import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
@@ -54,7 +56,7 @@
  * <p>
  * Sets up EclipseLink as the implementation provider for Spring Data JPA.
  *
- * @implNote does not (yet) support weaving, explicitly disables it
+ * @implNote weaving is disabled unless enabled via {@code eclipselink.weaving}, see {@link ElSettings}
  * @see <a href="https://www.baeldung.com/spring-eclipselink">baeldung.com</a>
  *
  * @since 2.0 {@index}
@@ -68,6 +70,7 @@
 public class IsisModulePersistenceJpaEclipselink extends JpaBaseConfiguration {
 
     @Inject private ElSettings elSettings;
+    @Inject private ObjectProvider<LoadTimeWeaver> loadTimeWeaverProvider;
 
     protected IsisModulePersistenceJpaEclipselink(
             IsisConfiguration isisConfiguration,
@@ -96,6 +99,18 @@ public EclipseLinkJpaDialect getJpaDialect() {
 
     @Override
     protected Map<String, Object> getVendorProperties() {
+        if(elSettings.isDynamicWeaving()) {
+            if(loadTimeWeaverProvider.getIfAvailable() == null
+                    && !InstrumentationLoadTimeWeaver.isInstrumentationAvailable()) {
+                throw _Exceptions.unrecoverable(
+                        "dynamic weaving (eclipselink.weaving=true) requires a LoadTimeWeaver, "
+                        + "eg. use @EnableLoadTimeWeaving or start the JVM with the spring-instrument agent; "
+                        + "alternatively weave the entities at build time and use eclipselink.weaving=static");
+            }
+            log.info("using dynamic weaving");
+        } else if(elSettings.isStaticWeaving()) {
+            log.info("using static weaving");
+        }
         return elSettings.asMap();
     }
 
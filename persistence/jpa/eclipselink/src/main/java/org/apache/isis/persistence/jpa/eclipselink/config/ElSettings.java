@@ -42,6 +42,21 @@
 import lombok.val;
 
 /**
+ * EclipseLink specific settings, as mapped by {@code eclipselink.*}.
+ * <p>
+ * Weaving is disabled by default. It may be enabled with either
+ * <ul>
+ * <li>{@code eclipselink.weaving=static}, for entities woven at build time
+ * (eg. using the {@code isis-app-starter-eclipselinkweave} profile of the starter parent), or</li>
+ * <li>{@code eclipselink.weaving=true}, for dynamic weaving, which requires a Spring
+ * {@link org.springframework.instrument.classloading.LoadTimeWeaver} to be available
+ * (eg. by means of {@code @EnableLoadTimeWeaving}).</li>
+ * </ul>
+ * Once enabled, lazy fetching of to-one relationships and fetch groups are woven as well (unless explicitly
+ * configured otherwise). Attribute change tracking is not, as EclipseLink would otherwise default to:
+ * it does not detect changes made to mutable attribute values (eg. a {@code java.util.Date}) in place,
+ * so has to be opted into with {@code eclipselink.weaving.changetracking=true}.
+ *
  * @since 2.0
  */
 @Configuration
@@ -63,6 +78,29 @@ public Map<String, Object> asMap() {
         return map.get();
     }
 
+    /**
+     * Whether weaving was enabled (either static or dynamic).
+     */
+    public boolean isWeaving() {
+        return isStaticWeaving()
+                || isDynamicWeaving();
+    }
+
+    /**
+     * Whether entities are expected to be woven at build time.
+     */
+    public boolean isStaticWeaving() {
+        return "static".equalsIgnoreCase(weavingMode());
+    }
+
+    /**
+     * Whether entities are to be woven when loaded, which requires a
+     * {@link org.springframework.instrument.classloading.LoadTimeWeaver}.
+     */
+    public boolean isDynamicWeaving() {
+        return "true".equalsIgnoreCase(weavingMode());
+    }
+
     // -- HELPER
 
     private final _Lazy<Map<String, Object>> map = _Lazy.threadSafe(this::createMap);
@@ -72,6 +110,11 @@ protected Map<String, Object> createMap() {
 
         // setup defaults
         jpaProps.put(PersistenceUnitProperties.WEAVING, "false");
+        if(isWeaving()) {
+            jpaProps.put(PersistenceUnitProperties.WEAVING_LAZY, "true");
+            jpaProps.put(PersistenceUnitProperties.WEAVING_FETCHGROUPS, "true");
+            jpaProps.put(PersistenceUnitProperties.WEAVING_CHANGE_TRACKING, "false"); // opt-in, see class javadoc
+        }
         //jpaProps.put(PersistenceUnitProperties.LOGGING_LEVEL, SessionLog.FINER_LABEL); //debug logging
         jpaProps.put(PersistenceUnitProperties.DDL_GENERATION, PersistenceUnitProperties.CREATE_OR_EXTEND);
         jpaProps.put(PersistenceUnitProperties.CDI_BEANMANAGER, new BeanManagerForEntityListeners(serviceInjectorProvider));
@@ -81,4 +124,9 @@ protected Map<String, Object> createMap() {
         return jpaProps;
     }
 
+    private String weavingMode() {
+        // keys are relative to 'eclipselink.'
+        return getEclipselink().getOrDefault("weaving", "false").trim();
+    }
+
 }
@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jpa.eclipselink.config;
+
+import java.util.Map;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class ElSettingsTest {
+
+    @Test
+    void weaving_disabled_by_default() {
+        val elSettings = elSettings(Map.of());
+
+        assertFalse(elSettings.isWeaving());
+        assertFalse(elSettings.isStaticWeaving());
+        assertFalse(elSettings.isDynamicWeaving());
+
+        val map = elSettings.asMap();
+        assertEquals("false", map.get(PersistenceUnitProperties.WEAVING));
+        assertFalse(map.containsKey(PersistenceUnitProperties.WEAVING_LAZY));
+        assertFalse(map.containsKey(PersistenceUnitProperties.WEAVING_FETCHGROUPS));
+        assertFalse(map.containsKey(PersistenceUnitProperties.WEAVING_CHANGE_TRACKING));
+    }
+
+    @Test
+    void static_weaving() {
+        val elSettings = elSettings(Map.of("weaving", "static"));
+
+        assertTrue(elSettings.isWeaving());
+        assertTrue(elSettings.isStaticWeaving());
+        assertFalse(elSettings.isDynamicWeaving());
+
+        val map = elSettings.asMap();
+        assertEquals("static", map.get(PersistenceUnitProperties.WEAVING));
+        assertWovenDefaults(map);
+    }
+
+    @Test
+    void dynamic_weaving() {
+        val elSettings = elSettings(Map.of("weaving", " TRUE "));
+
+        assertTrue(elSettings.isWeaving());
+        assertFalse(elSettings.isStaticWeaving());
+        assertTrue(elSettings.isDynamicWeaving());
+
+        assertWovenDefaults(elSettings.asMap());
+    }
+
+    @Test
+    void woven_defaults_can_be_overridden() {
+        val map = elSettings(Map.of(
+                "weaving", "static",
+                "weaving.lazy", "false",
+                "weaving.changetracking", "true"))
+                .asMap();
+
+        assertEquals("false", map.get(PersistenceUnitProperties.WEAVING_LAZY));
+        assertEquals("true", map.get(PersistenceUnitProperties.WEAVING_FETCHGROUPS));
+        assertEquals("true", map.get(PersistenceUnitProperties.WEAVING_CHANGE_TRACKING));
+    }
+
+    // -- HELPER
+
+    private static ElSettings elSettings(final Map<String, String> eclipselink) {
+        val elSettings = new ElSettings();
+        elSettings.setEclipselink(eclipselink);
+        return elSettings;
+    }
+
+    /**
+     * Lazy to-one fetching and fetch groups are woven, but attribute change tracking is opt-in.
+     */
+    private static void assertWovenDefaults(final Map<String, Object> map) {
+        assertEquals("true", map.get(PersistenceUnitProperties.WEAVING_LAZY));
+        assertEquals("true", map.get(PersistenceUnitProperties.WEAVING_FETCHGROUPS));
+        assertEquals("false", map.get(PersistenceUnitProperties.WEAVING_CHANGE_TRACKING));
+    }
+
+}
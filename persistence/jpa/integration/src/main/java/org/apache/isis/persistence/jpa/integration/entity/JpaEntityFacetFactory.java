@@ -18,7 +18,10 @@
  */
 package org.apache.isis.persistence.jpa.integration.entity;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.Optional;
 
 import javax.inject.Inject;
@@ -26,6 +29,7 @@
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceUnitUtil;
 import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
 
 import org.springframework.data.jpa.repository.JpaContext;
 
@@ -46,6 +50,7 @@
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.commons.internal.memento._Mementos;
 import org.apache.isis.commons.internal.memento._Mementos.SerializingAdapter;
+import org.apache.isis.commons.internal.reflection._Reflect;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.facetapi.Facet;
 import org.apache.isis.core.metamodel.facetapi.FacetAbstract;
@@ -56,6 +61,7 @@
 import org.apache.isis.core.metamodel.facets.object.entity.PersistenceStandard;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.persistence.jpa.metamodel.object.weaving.EclipselinkWeaving;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -310,7 +316,8 @@ public EntityState getEntityState(final Object pojo) {
 
         @Override
         public boolean isProxyEnhancement(final Method method) {
-            return false;
+            // methods introduced by weaving are delegated to the underlying entity (not intercepted)
+            return EclipselinkWeaving.isWovenMethod(method);
         }
 
         @Override
@@ -319,6 +326,18 @@ public <T> T detach(final T pojo) {
             return pojo;
         }
 
+        @Override
+        public Optional<Object> versionOf(final Object pojo) {
+            return jpaVersionAttributeRef.get()
+                    .flatMap(versionAttribute->readMember(versionAttribute.getJavaMember(), pojo));
+        }
+
+        @Override
+        public void evictAll(final Collection<?> pojos) {
+            val entityManager = getEntityManager();
+            pojos.forEach(entityManager::detach);
+        }
+
         // -- JPA METAMODEL
 
         private final _Lazy<Optional<EntityType<?>>> jpaEntityTypeRef = _Lazy.threadSafe(this::queryJpaMetamodel);
@@ -336,6 +355,35 @@ private Optional<EntityType<?>> queryJpaMetamodel() {
             .findFirst();
         }
 
+        private final _Lazy<Optional<SingularAttribute<?, ?>>> jpaVersionAttributeRef =
+                _Lazy.threadSafe(this::queryJpaVersionAttribute);
+
+        /** find the JPA <code>@Version</code> attribute of this entity, if any*/
+        private Optional<SingularAttribute<?, ?>> queryJpaVersionAttribute() {
+            return jpaEntityTypeRef.get()
+            .filter(EntityType::hasVersionAttribute)
+            .flatMap(entityType->entityType.getSingularAttributes()
+                    .stream()
+                    .filter(SingularAttribute::isVersion)
+                    .<SingularAttribute<?, ?>>map(attribute->attribute)
+                    .findFirst());
+        }
+
+        private static Optional<Object> readMember(final Member member, final Object pojo) {
+            if(member instanceof Field) {
+                try {
+                    return Optional.ofNullable(_Reflect.getFieldOn((Field) member, pojo));
+                } catch (IllegalAccessException e) {
+                    throw _Exceptions.unrecoverable(e);
+                }
+            }
+            if(member instanceof Method) {
+                return _Reflect.invokeMethodOn((Method) member, pojo)
+                        .optionalElseFail();
+            }
+            throw _Exceptions.unsupportedOperation("cannot read version attribute from member %s", member);
+        }
+
         // -- OBJECT ID SERIALIZATION
 
         private final _Lazy<JpaObjectIdSerializer<Object>> objectIdSerializerRef = _Lazy.threadSafe(this::createObjectIdSerializer);
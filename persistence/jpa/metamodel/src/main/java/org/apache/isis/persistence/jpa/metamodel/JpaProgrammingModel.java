@@ -27,6 +27,7 @@
 import org.apache.isis.persistence.jpa.metamodel.facets.prop.column.MandatoryFromJpaColumnAnnotationFacetFactory;
 import org.apache.isis.persistence.jpa.metamodel.facets.prop.transients.JpaTransientAnnotationFacetFactory;
 import org.apache.isis.persistence.jpa.metamodel.object.table.JpaTableAnnotationFacetFactory;
+import org.apache.isis.persistence.jpa.metamodel.object.weaving.RemoveEclipselinkWovenMethodsFacetFactory;
 
 import lombok.val;
 
@@ -38,9 +39,14 @@ public class JpaProgrammingModel implements MetaModelRefiner {
     @Override
     public void refineProgrammingModel(final ProgrammingModel pm) {
 
-        val step = ProgrammingModel.FacetProcessingOrder.A2_AFTER_FALLBACK_DEFAULTS;
         val mmc = pm.getMetaModelContext();
 
+        // ignore any methods introduced by (static or dynamic) weaving
+        pm.addFactory(ProgrammingModel.FacetProcessingOrder.C2_AFTER_METHOD_REMOVING,
+                new RemoveEclipselinkWovenMethodsFacetFactory(mmc), Marker.JPA);
+
+        val step = ProgrammingModel.FacetProcessingOrder.A2_AFTER_FALLBACK_DEFAULTS;
+
         pm.addFactory(step, new JpaTableAnnotationFacetFactory(mmc), Marker.JPA);
         pm.addFactory(step, new JpaTransientAnnotationFacetFactory(mmc), Marker.JPA);
         pm.addFactory(step, new MandatoryFromJpaColumnAnnotationFacetFactory(mmc), Marker.JPA);
@@ -0,0 +1,71 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jpa.metamodel.object.weaving;
+
+import java.lang.reflect.Method;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Recognizes classes and members introduced by EclipseLink (static or dynamic) weaving,
+ * without requiring EclipseLink on the class-path.
+ * <p>
+ * Weaving makes entities implement <code>org.eclipse.persistence.internal.weaving.PersistenceWeaved</code>
+ * and adds public fields and methods prefixed <code>_persistence_</code> (eg. for lazy to-one value holders,
+ * fetch groups and attribute change tracking); these must neither be introspected as domain object members
+ * nor intercepted by domain object proxies.
+ *
+ * @since 2.0
+ */
+@UtilityClass
+public class EclipselinkWeaving {
+
+    /** name prefix of all fields and methods introduced by weaving */
+    public static final String WOVEN_MEMBER_PREFIX = "_persistence_";
+
+    private static final String PERSISTENCE_WEAVED_INTERFACE_NAME =
+            "org.eclipse.persistence.internal.weaving.PersistenceWeaved";
+
+    /**
+     * Whether given class (or any of its super classes) was woven by EclipseLink.
+     */
+    public static boolean isWoven(final @Nullable Class<?> cls) {
+        if(cls == null) {
+            return false;
+        }
+        for(Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(cls)) {
+            if(PERSISTENCE_WEAVED_INTERFACE_NAME.equals(type.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether given method was introduced by EclipseLink weaving.
+     */
+    public static boolean isWovenMethod(final @Nullable Method method) {
+        return method != null
+                && method.getName().startsWith(WOVEN_MEMBER_PREFIX);
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jpa.metamodel.object.weaving;
+
+import javax.inject.Inject;
+
+import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.facetapi.FeatureType;
+import org.apache.isis.core.metamodel.facets.FacetFactoryAbstract;
+
+/**
+ * Removes all methods introduced by EclipseLink weaving (prefixed "_persistence_"),
+ * for entities that are woven.
+ *
+ * @see EclipselinkWeaving
+ */
+public class RemoveEclipselinkWovenMethodsFacetFactory
+extends FacetFactoryAbstract {
+
+    @Inject
+    public RemoveEclipselinkWovenMethodsFacetFactory(final MetaModelContext mmc) {
+        super(mmc, FeatureType.OBJECTS_ONLY);
+    }
+
+    @Override
+    public void process(final ProcessClassContext context) {
+
+        if(!EclipselinkWeaving.isWoven(context.getCls())) {
+            return;
+        }
+
+        getClassCache()
+        .streamPublicMethods(context.getCls())
+        .filter(EclipselinkWeaving::isWovenMethod)
+        .forEach(context::removeMethod);
+
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jpa.metamodel.object.weaving;
+
+import org.eclipse.persistence.internal.weaving.PersistenceWeaved;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.facetapi.MethodRemover;
+import org.apache.isis.core.metamodel.facets.FacetFactory.ProcessClassContext;
+
+class RemoveEclipselinkWovenMethodsFacetFactoryTest {
+
+    public static class WovenCustomer implements PersistenceWeaved {
+        public String getName() { return null; }
+        public Object _persistence_get(final String attributeName) { return null; }
+        public void _persistence_set(final String attributeName, final Object value) { }
+    }
+
+    public static class WovenPreferredCustomer extends WovenCustomer {
+        public int getDiscount() { return 0; }
+    }
+
+    public static class NotWovenCustomer {
+        public String getName() { return null; }
+        public Object _persistence_get(final String attributeName) { return null; }
+    }
+
+    private RemoveEclipselinkWovenMethodsFacetFactory facetFactory;
+    private MethodRemover mockMethodRemover;
+    private FacetHolder mockFacetHolder;
+
+    @BeforeEach
+    void setUp() {
+        facetFactory = new RemoveEclipselinkWovenMethodsFacetFactory(mock(MetaModelContext.class));
+        mockMethodRemover = mock(MethodRemover.class);
+        mockFacetHolder = mock(FacetHolder.class);
+    }
+
+    @Test
+    void removes_woven_methods() throws Exception {
+        process(WovenCustomer.class);
+
+        verify(mockMethodRemover).removeMethod(WovenCustomer.class.getMethod("_persistence_get", String.class));
+        verify(mockMethodRemover).removeMethod(WovenCustomer.class.getMethod("_persistence_set", String.class, Object.class));
+        verifyNoMoreInteractions(mockMethodRemover);
+    }
+
+    @Test
+    void removes_woven_methods_of_subclasses() throws Exception {
+        process(WovenPreferredCustomer.class);
+
+        verify(mockMethodRemover).removeMethod(WovenPreferredCustomer.class.getMethod("_persistence_get", String.class));
+        verify(mockMethodRemover).removeMethod(WovenPreferredCustomer.class.getMethod("_persistence_set", String.class, Object.class));
+        verifyNoMoreInteractions(mockMethodRemover);
+    }
+
+    @Test
+    void ignores_types_not_woven() {
+        process(NotWovenCustomer.class);
+
+        verify(mockMethodRemover, never()).removeMethod(any());
+    }
+
+    @Test
+    void recognizes_woven_types() {
+        assertTrue(EclipselinkWeaving.isWoven(WovenCustomer.class));
+        assertTrue(EclipselinkWeaving.isWoven(WovenPreferredCustomer.class));
+        assertFalse(EclipselinkWeaving.isWoven(NotWovenCustomer.class));
+        assertFalse(EclipselinkWeaving.isWoven(null));
+    }
+
+    // -- HELPER
+
+    private void process(final Class<?> type) {
+        facetFactory.process(ProcessClassContext.forTesting(type, mockMethodRemover, mockFacetHolder));
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Compares the (throughput) scores of a JMH run, as written with <code>-rf json</code>, against a stored baseline
+ * of the same format, failing if any benchmark's throughput has dropped by more than the given threshold.
+ *
+ * <p>
+ *     Usage: <code>BenchmarkBaselineComparison &lt;result.json&gt; &lt;baseline.json&gt; &lt;threshold-percent&gt;</code>
+ * </p>
+ *
+ * <p>
+ *     Benchmarks not present in the baseline are reported but never fail the comparison; to update the baseline,
+ *     copy the result file over the baseline file.
+ * </p>
+ *
+ * <p>
+ *     A missing baseline, or one without any throughput scores, fails the comparison: scores are only comparable
+ *     when recorded on the same machine, hence a baseline has to be recorded (once) before regressions can be
+ *     detected.
+ * </p>
+ */
+@Log4j2
+public final class BenchmarkBaselineComparison {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(final String[] args) throws IOException {
+        if(args.length != 3) {
+            throw _Exceptions.illegalArgument(
+                    "usage: %s <result.json> <baseline.json> <threshold-percent>",
+                    BenchmarkBaselineComparison.class.getSimpleName());
+        }
+        val resultFile = Paths.get(args[0]);
+        val baselineFile = Paths.get(args[1]);
+        val thresholdPercent = Double.parseDouble(args[2]);
+
+        val regressions = compare(
+                readBaselineScores(baselineFile, resultFile),
+                readThroughputScores(resultFile),
+                thresholdPercent);
+
+        if(!regressions.isEmpty()) {
+            throw _Exceptions.illegalState(
+                    "%d benchmark(s) dropped by more than %.1f%% against baseline %s:%n\t%s",
+                    regressions.size(),
+                    thresholdPercent,
+                    baselineFile,
+                    String.join("\n\t", regressions));
+        }
+        log.info("no benchmark dropped by more than {}% against baseline {}", thresholdPercent, baselineFile);
+    }
+
+    /**
+     * Returns a description of each benchmark whose throughput has dropped by more than the threshold.
+     */
+    static List<String> compare(
+            final @NonNull Map<String, Double> baselineScores,
+            final @NonNull Map<String, Double> resultScores,
+            final double thresholdPercent) {
+
+        final List<String> regressions = new ArrayList<>();
+
+        resultScores.forEach((benchmark, score)->{
+            val baselineScore = baselineScores.get(benchmark);
+            if(baselineScore == null) {
+                log.info("{}: {} (no baseline)", benchmark, score);
+                return;
+            }
+            val changePercent = baselineScore > 0
+                    ? 100. * (score - baselineScore) / baselineScore
+                    : 0.;
+            val line = String.format("%s: %.3f -> %.3f (%+.1f%%)", benchmark, baselineScore, score, changePercent);
+            if(-changePercent > thresholdPercent) {
+                regressions.add(line);
+                log.warn(line);
+            } else {
+                log.info(line);
+            }
+        });
+
+        return regressions;
+    }
+
+    /**
+     * Reads the throughput scores of the baseline, failing if there are none to compare against.
+     */
+    static Map<String, Double> readBaselineScores(
+            final @NonNull Path baselineFile,
+            final @NonNull Path resultFile) throws IOException {
+        if(!Files.exists(baselineFile)) {
+            throw _Exceptions.illegalState(
+                    "no baseline found at %s; to record one, copy %s over it",
+                    baselineFile, resultFile);
+        }
+        val baselineScores = readThroughputScores(baselineFile);
+        if(baselineScores.isEmpty()) {
+            throw _Exceptions.illegalState(
+                    "baseline %s has no throughput scores to compare against; to record one, copy %s over it",
+                    baselineFile, resultFile);
+        }
+        return baselineScores;
+    }
+
+    static Map<String, Double> readThroughputScores(final Path jsonFile) throws IOException {
+        try(final InputStream in = Files.newInputStream(jsonFile)) {
+            return readThroughputScores(in);
+        }
+    }
+
+    /**
+     * Reads the scores of all benchmarks run in throughput mode, keyed by benchmark name and parameters.
+     */
+    static Map<String, Double> readThroughputScores(final InputStream json) throws IOException {
+        val root = MAPPER.readTree(json);
+        if(root == null
+                || !root.isArray()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Double> scores = new TreeMap<>();
+        for (val run : root) {
+            if(!"thrpt".equals(run.path("mode").asText())) {
+                continue;
+            }
+            scores.put(keyOf(run), run.path("primaryMetric").path("score").asDouble());
+        }
+        return scores;
+    }
+
+    private static String keyOf(final JsonNode run) {
+        val benchmark = run.path("benchmark").asText();
+        val params = run.path("params");
+        if(!params.isObject()
+                || params.size() == 0) {
+            return benchmark;
+        }
+        final Map<String, String> sortedParams = new TreeMap<>();
+        params.fields().forEachRemaining(entry->sortedParams.put(entry.getKey(), entry.getValue().asText()));
+        return benchmark + sortedParams;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import org.apache.isis.applib.services.iactnlayer.InteractionService;
+import org.apache.isis.commons.internal.base._Lazy;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.testdomain.model.interaction.InteractionDemo;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Boots (once per JMH fork) the {@link Configuration_forBenchmarks} application and provides access to its beans.
+ *
+ * <p>
+ *     Benchmark states are expected to call {@link #openInteraction()} from their trial-level setup, and
+ *     {@link #closeInteraction()} from their trial-level tear-down, as JMH runs these on the benchmark's thread.
+ * </p>
+ */
+public final class BenchmarkEnvironment {
+
+    private static final _Lazy<BenchmarkEnvironment> INSTANCE =
+            _Lazy.threadSafe(BenchmarkEnvironment::boot);
+
+    public static BenchmarkEnvironment get() {
+        return INSTANCE.get();
+    }
+
+    private final ConfigurableApplicationContext springContext;
+
+    private BenchmarkEnvironment(final ConfigurableApplicationContext springContext) {
+        this.springContext = springContext;
+    }
+
+    private static BenchmarkEnvironment boot() {
+        val springContext = new SpringApplicationBuilder(Configuration_forBenchmarks.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run();
+        Runtime.getRuntime().addShutdownHook(new Thread(springContext::close));
+        return new BenchmarkEnvironment(springContext);
+    }
+
+    public <T> T lookup(final @NonNull Class<T> requiredType) {
+        return springContext.getBean(requiredType);
+    }
+
+    // -- INTERACTION
+
+    public void openInteraction() {
+        lookup(InteractionService.class).openInteraction();
+    }
+
+    public void closeInteraction() {
+        lookup(InteractionService.class).closeInteractionLayers();
+    }
+
+    // -- SAMPLE DOMAIN OBJECT
+
+    public SpecificationLoader getSpecificationLoader() {
+        return lookup(SpecificationLoader.class);
+    }
+
+    public ObjectSpecification getDemoSpecification() {
+        return getSpecificationLoader().specForTypeElseFail(InteractionDemo.class);
+    }
+
+    public InteractionDemo newDemo() {
+        val demo = new InteractionDemo();
+        demo.setStringDisabled("disabled");
+        demo.setStringMultiline("multi\nline");
+        demo.setString2("Hello");
+        return demo;
+    }
+
+    public ManagedObject newDemoAdapter() {
+        return ManagedObject.of(getDemoSpecification(), newDemo());
+    }
+
+}
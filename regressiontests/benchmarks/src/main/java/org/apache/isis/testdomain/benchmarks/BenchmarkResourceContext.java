@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.core.MediaType;
+
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.services.iactn.InteractionProvider;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.viewer.restfulobjects.rendering.IResourceContext;
+import org.apache.isis.viewer.restfulobjects.rendering.ListQuery;
+import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.DomainObjectLinkTo;
+import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.ObjectAdapterLinkTo;
+import org.apache.isis.viewer.restfulobjects.rendering.service.RepresentationService;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stands in for the RESTful Objects viewer's request-scoped context, using the default configuration
+ * (other than for {@link #streamCollections()}).
+ */
+@RequiredArgsConstructor
+class BenchmarkResourceContext implements IResourceContext {
+
+    @Getter private final MetaModelContext metaModelContext;
+    @Getter private final InteractionProvider interactionProvider;
+    private final boolean streamCollections;
+
+    @Getter private ObjectAdapterLinkTo objectAdapterLinkTo = new DomainObjectLinkTo();
+
+    @Override public String restfulUrlFor(final String url) { return "http://localhost:8080/restful/" + url; }
+    @Override public String applicationUrlFor(final String url) { return "http://localhost:8080/" + url; }
+    @Override public List<MediaType> getAcceptableMediaTypes() { return Collections.singletonList(MediaType.APPLICATION_JSON_TYPE); }
+    @Override public InteractionInitiatedBy getInteractionInitiatedBy() { return InteractionInitiatedBy.USER; }
+    @Override public Where getWhere() { return Where.OBJECT_FORMS; }
+    @Override public List<List<String>> getFollowLinks() { return Collections.emptyList(); }
+    @Override public boolean isValidateOnly() { return false; }
+    @Override public ListQuery getListQuery() { return ListQuery.UNCONSTRAINED; }
+    @Override public boolean honorUiHints() { return false; }
+    @Override public boolean objectPropertyValuesOnly() { return false; }
+    @Override public boolean suppressDescribedByLinks() { return false; }
+    @Override public boolean suppressUpdateLink() { return false; }
+    @Override public boolean suppressMemberId() { return false; }
+    @Override public boolean suppressMemberLinks() { return false; }
+    @Override public boolean suppressMemberExtensions() { return false; }
+    @Override public boolean suppressMemberDisabledReason() { return false; }
+    @Override public boolean streamCollections() { return streamCollections; }
+    @Override public boolean canEagerlyRender(final ManagedObject objectAdapter) { return true; }
+    @Override public RepresentationService.Intent getIntent() { return RepresentationService.Intent.ALREADY_PERSISTENT; }
+
+}
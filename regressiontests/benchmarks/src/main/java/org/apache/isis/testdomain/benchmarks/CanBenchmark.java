@@ -0,0 +1,94 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.apache.isis.commons.collections.Can;
+
+/**
+ * Operations on {@link Can}, used pervasively throughout the metamodel and the viewers.
+ *
+ * <p>
+ *     Does not require the metamodel.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CanBenchmark {
+
+    @Param({"1", "10", "1000"})
+    public int size;
+
+    private List<String> list;
+    private Can<String> can;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = IntStream.range(0, size)
+                .mapToObj(Integer::toString)
+                .collect(Collectors.toList());
+        can = Can.ofCollection(list);
+    }
+
+    @Benchmark
+    public Can<String> ofCollection() {
+        return Can.ofCollection(list);
+    }
+
+    @Benchmark
+    public Can<Integer> map() {
+        return can.map(String::length);
+    }
+
+    @Benchmark
+    public Can<String> filter() {
+        return can.filter(s->s.endsWith("0"));
+    }
+
+    @Benchmark
+    public Can<String> add() {
+        return can.add("x");
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return can.contains("x");
+    }
+
+    @Benchmark
+    public long stream() {
+        return can.stream().filter(s->s.length()>1).count();
+    }
+
+}
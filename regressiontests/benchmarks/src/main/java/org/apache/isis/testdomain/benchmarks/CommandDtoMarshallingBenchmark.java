@@ -0,0 +1,123 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import org.apache.isis.applib.util.JaxbUtil;
+import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.interactions.InteractionHead;
+import org.apache.isis.core.metamodel.services.command.CommandDtoFactory;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+
+import lombok.val;
+
+/**
+ * Creation and XML (un)marshalling of {@link CommandDto}s, as done for every command that is persisted,
+ * published or replayed.
+ *
+ * <p>
+ *     The <i>unpooled</i> variants create a new {@link Marshaller} per call, for comparison with the pooled ones.
+ * </p>
+ */
+public class CommandDtoMarshallingBenchmark extends BenchmarkAbstract {
+
+    private CommandDtoFactory commandDtoFactory;
+    private Can<InteractionHead> targets;
+    private ManagedObject demo;
+    private ManagedObject newValue;
+
+    private CommandDto commandDto;
+    private String commandDtoXml;
+    private byte[] commandDtoXmlBytes;
+
+    @Override
+    protected void setUp() {
+        commandDtoFactory = env.lookup(CommandDtoFactory.class);
+        demo = env.newDemoAdapter();
+        targets = Can.ofSingleton(InteractionHead.regular(demo));
+        newValue = ManagedObject.lazy(env.getSpecificationLoader(), "new value");
+
+        commandDto = newCommandDto();
+        commandDtoXml = CommandDtoUtils.toXml(commandDto);
+        commandDtoXmlBytes = commandDtoXml.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public CommandDto create() {
+        return newCommandDto();
+    }
+
+    @Benchmark
+    public String marshal() {
+        return CommandDtoUtils.toXml(commandDto);
+    }
+
+    @Benchmark
+    public String marshalUnpooled() throws JAXBException {
+        val marshaller = JaxbUtil.jaxbContextFor(CommandDto.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        val writer = new StringWriter();
+        marshaller.marshal(commandDto, writer);
+        return writer.toString();
+    }
+
+    @Benchmark
+    public byte[] marshalToStream() {
+        val out = new ByteArrayOutputStream(commandDtoXmlBytes.length);
+        CommandDtoUtils.toXml(commandDto, out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public CommandDto unmarshal() {
+        return CommandDtoUtils.fromXml(commandDtoXml);
+    }
+
+    @Benchmark
+    public CommandDto unmarshalUnpooled() throws JAXBException {
+        return (CommandDto) JaxbUtil.jaxbContextFor(CommandDto.class).createUnmarshaller()
+                .unmarshal(new StringReader(commandDtoXml));
+    }
+
+    @Benchmark
+    public CommandDto unmarshalFromStream() {
+        return CommandDtoUtils.fromXml(new ByteArrayInputStream(commandDtoXmlBytes));
+    }
+
+    // -- HELPER
+
+    private CommandDto newCommandDto() {
+        val property = demo.getSpecification().getPropertyElseFail("stringMultiline");
+        return commandDtoFactory.asCommandDto(UUID.randomUUID(), targets, property, newValue);
+    }
+
+}
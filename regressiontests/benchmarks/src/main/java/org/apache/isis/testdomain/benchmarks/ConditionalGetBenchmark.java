@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.benchmarks;
+
+import javax.ws.rs.core.EntityTag;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import org.apache.isis.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.isis.viewer.restfulobjects.rendering.EntityTags;
+import org.apache.isis.viewer.restfulobjects.rendering.IResourceContext;
+import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.DomainObjectReprRenderer;
+import org.apache.isis.viewer.restfulobjects.rendering.util.JsonWriterUtil;
+
+import lombok.val;
+
+/**
+ * The work done per <code>GET /objects/{domainType}/{instanceId}</code> by the RESTful Objects viewer,
+ * without revalidation (rendering and serializing the full representation) and with revalidation
+ * (deriving the entity tag, which is all that is needed to respond with <i>304 Not Modified</i>).
+ */
+public class ConditionalGetBenchmark extends BenchmarkAbstract {
+
+    private IResourceContext resourceContext;
+    private ManagedObject demo;
+    private EntityTag clientEntityTag;
+
+    @Override
+    protected void setUp() {
+        resourceContext = new BenchmarkResourceContext(
+                env.lookup(MetaModelContext.class),
+                env.lookup(InteractionLayerTracker.class),
+                false);
+        demo = env.newDemoAdapter();
+        clientEntityTag = EntityTags.entityTagFor(resourceContext, demo)
+                .orElseThrow(()->new IllegalStateException("demo view model expected to have an entity tag"));
+    }
+
+    @Benchmark
+    public String withoutRevalidation() {
+        val renderer = new DomainObjectReprRenderer(resourceContext, null, JsonRepresentation.newMap());
+        renderer.with(demo).includesSelf();
+        return JsonWriterUtil.jsonFor(renderer.render(), JsonMapper.PrettyPrinting.DISABLE);
+    }
+
+    @Benchmark
+    public boolean withRevalidation() {
+        return EntityTags.entityTagFor(resourceContext, demo)
+                .map(clientEntityTag::equals)
+                .orElse(false);
+    }
+
+}
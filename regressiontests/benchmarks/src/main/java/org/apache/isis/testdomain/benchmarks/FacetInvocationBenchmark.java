@@ -0,0 +1,70 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.benchmarks;
+
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.core.metamodel.consent.Consent;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.facets.object.title.TitleFacet;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+
+/**
+ * Facet lookup and invocation of the facets backing property access and usability, as performed for every
+ * rendered property.
+ */
+public class FacetInvocationBenchmark extends BenchmarkAbstract {
+
+    private ObjectSpecification spec;
+    private OneToOneAssociation property;
+    private ManagedObject demo;
+
+    @Override
+    protected void setUp() {
+        spec = env.getDemoSpecification();
+        property = spec.getPropertyElseFail("stringMultiline");
+        demo = env.newDemoAdapter();
+    }
+
+    @Benchmark
+    public Optional<TitleFacet> lookupFacet() {
+        return spec.lookupFacet(TitleFacet.class);
+    }
+
+    @Benchmark
+    public ManagedObject propertyGet() {
+        return property.get(demo, InteractionInitiatedBy.FRAMEWORK);
+    }
+
+    @Benchmark
+    public Consent propertyVisibility() {
+        return property.isVisible(demo, InteractionInitiatedBy.USER, Where.OBJECT_FORMS);
+    }
+
+    @Benchmark
+    public Consent propertyUsability() {
+        return property.isUsable(demo, InteractionInitiatedBy.USER, Where.OBJECT_FORMS);
+    }
+
+}
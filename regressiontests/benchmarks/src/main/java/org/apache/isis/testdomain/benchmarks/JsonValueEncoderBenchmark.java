@@ -0,0 +1,108 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.JsonValueEncoder;
+
+import lombok.val;
+
+/**
+ * Conversions of values to and from their JSON representation, as performed by the RESTful Objects viewer
+ * for every rendered property and every parsed argument.
+ */
+public class JsonValueEncoderBenchmark extends BenchmarkAbstract {
+
+    private JsonValueEncoder jsonValueEncoder;
+
+    private ObjectSpecification stringSpec;
+    private ObjectSpecification intSpec;
+    private ObjectSpecification bigDecimalSpec;
+    private ObjectSpecification localDateSpec;
+
+    private ManagedObject stringValue;
+    private ManagedObject intValue;
+    private ManagedObject bigDecimalValue;
+    private ManagedObject localDateValue;
+
+    private JsonRepresentation stringRepr;
+    private JsonRepresentation localDateRepr;
+
+    @Override
+    protected void setUp() {
+        val specificationLoader = env.getSpecificationLoader();
+        jsonValueEncoder = JsonValueEncoder.forTesting(specificationLoader);
+
+        stringSpec = specificationLoader.specForTypeElseFail(String.class);
+        intSpec = specificationLoader.specForTypeElseFail(int.class);
+        bigDecimalSpec = specificationLoader.specForTypeElseFail(BigDecimal.class);
+        localDateSpec = specificationLoader.specForTypeElseFail(LocalDate.class);
+
+        stringValue = ManagedObject.of(stringSpec, "Hello World");
+        intValue = ManagedObject.of(intSpec, 42);
+        bigDecimalValue = ManagedObject.of(bigDecimalSpec, new BigDecimal("1234.56"));
+        localDateValue = ManagedObject.of(localDateSpec, LocalDate.of(2021, 12, 24));
+
+        stringRepr = JsonRepresentation.newMap();
+        jsonValueEncoder.appendValueAndFormat(stringValue, stringSpec, stringRepr, null, false);
+        stringRepr = stringRepr.getRepresentation("value");
+
+        localDateRepr = JsonRepresentation.newMap();
+        jsonValueEncoder.appendValueAndFormat(localDateValue, localDateSpec, localDateRepr, null, false);
+        localDateRepr = localDateRepr.getRepresentation("value");
+    }
+
+    @Benchmark
+    public Object appendString() {
+        return jsonValueEncoder.appendValueAndFormat(stringValue, stringSpec, JsonRepresentation.newMap(), null, false);
+    }
+
+    @Benchmark
+    public Object appendInt() {
+        return jsonValueEncoder.appendValueAndFormat(intValue, intSpec, JsonRepresentation.newMap(), null, false);
+    }
+
+    @Benchmark
+    public Object appendBigDecimal() {
+        return jsonValueEncoder.appendValueAndFormat(bigDecimalValue, bigDecimalSpec, JsonRepresentation.newMap(), null, false);
+    }
+
+    @Benchmark
+    public Object appendLocalDate() {
+        return jsonValueEncoder.appendValueAndFormat(localDateValue, localDateSpec, JsonRepresentation.newMap(), null, false);
+    }
+
+    @Benchmark
+    public ManagedObject parseString() {
+        return jsonValueEncoder.asAdapter(stringSpec, stringRepr, null);
+    }
+
+    @Benchmark
+    public ManagedObject parseLocalDate() {
+        return jsonValueEncoder.asAdapter(localDateSpec, localDateRepr, null);
+    }
+
+}
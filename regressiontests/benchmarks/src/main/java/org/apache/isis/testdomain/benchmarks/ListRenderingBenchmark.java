@@ -0,0 +1,123 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import org.apache.isis.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.Rel;
+import org.apache.isis.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.isis.viewer.restfulobjects.rendering.IResourceContext;
+import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.ListReprRenderer;
+import org.apache.isis.viewer.restfulobjects.rendering.util.JsonWriterUtil;
+
+import lombok.val;
+
+/**
+ * Rendering a list representation (as returned by an action returning a collection) of {@link #size}
+ * elements, and writing it to the response's output stream: either building the entire JSON tree and
+ * serializing it to a string first (as is the default), or
+ * {@link IResourceContext#streamCollections() streaming} each element as it is rendered.
+ *
+ * <p>
+ *     The elements are produced lazily, as would be the case for a query.  Run with <code>-prof gc</code>
+ *     to compare the allocations per operation; the heap needed by the tree rendering grows with the
+ *     {@link #size}, as is apparent when running with a small heap (eg <code>-jvmArgsAppend -Xmx64m</code>),
+ *     whereas that needed by the streaming rendering is constant.
+ * </p>
+ */
+public class ListRenderingBenchmark extends BenchmarkAbstract {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private IResourceContext treeResourceContext;
+    private IResourceContext streamingResourceContext;
+    private ObjectSpecification spec;
+
+    @Override
+    protected void setUp() {
+        val metaModelContext = env.lookup(MetaModelContext.class);
+        val interactionLayerTracker = env.lookup(InteractionLayerTracker.class);
+        treeResourceContext = new BenchmarkResourceContext(metaModelContext, interactionLayerTracker, false);
+        streamingResourceContext = new BenchmarkResourceContext(metaModelContext, interactionLayerTracker, true);
+        spec = env.getDemoSpecification();
+    }
+
+    @Benchmark
+    public long treeRendering() throws IOException {
+        val json = JsonWriterUtil.jsonFor(render(treeResourceContext), JsonMapper.PrettyPrinting.DISABLE);
+        val outputStream = new CountingOutputStream();
+        outputStream.write(json.getBytes(StandardCharsets.UTF_8));
+        return outputStream.count;
+    }
+
+    @Benchmark
+    public long streamingRendering() throws IOException {
+        val outputStream = new CountingOutputStream();
+        JsonWriterUtil.streamingJsonFor(render(streamingResourceContext), JsonMapper.PrettyPrinting.DISABLE)
+            .write(outputStream);
+        return outputStream.count;
+    }
+
+    // -- HELPER
+
+    private JsonRepresentation render(final IResourceContext resourceContext) {
+        return new ListReprRenderer(resourceContext, null, JsonRepresentation.newMap())
+                .withElementRel(Rel.ELEMENT)
+                .with(elements())
+                .withElementType(spec)
+                .render();
+    }
+
+    private Stream<ManagedObject> elements() {
+        return IntStream.range(0, size)
+                .mapToObj(i->ManagedObject.of(spec, env.newDemo()));
+    }
+
+    /**
+     * Discards what is written, as would a network socket.
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(final int b) {
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            count += len;
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.benchmarks;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.testdomain.model.interaction.InteractionDemo;
+
+/**
+ * Adaptation of pojos into {@link ManagedObject}s, as done for every member value and action result.
+ */
+public class ManagedObjectsBenchmark extends BenchmarkAbstract {
+
+    @Param({"10", "1000"})
+    public int size;
+
+    private SpecificationLoader specificationLoader;
+    private ObjectSpecification spec;
+    private InteractionDemo demo;
+    private List<InteractionDemo> demos;
+
+    @Override
+    protected void setUp() {
+        specificationLoader = env.getSpecificationLoader();
+        spec = env.getDemoSpecification();
+        demo = env.newDemo();
+        demos = IntStream.range(0, size)
+                .mapToObj(i->env.newDemo())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public ManagedObject adaptWithSpec() {
+        return ManagedObject.of(spec, demo);
+    }
+
+    @Benchmark
+    public ManagedObject adaptLazily() {
+        return ManagedObject.lazy(specificationLoader, demo);
+    }
+
+    @Benchmark
+    public ObjectSpecification adaptLazilyThenResolveSpec() {
+        return ManagedObject.lazy(specificationLoader, demo).getSpecification();
+    }
+
+    @Benchmark
+    public Can<ManagedObject> adaptMultipleOfType() {
+        return ManagedObjects.adaptMultipleOfType(spec, demos);
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import org.apache.isis.core.metamodel.objectmanager.memento.ObjectMemento;
+import org.apache.isis.core.metamodel.objectmanager.memento.ObjectMementoService;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+
+/**
+ * Creation, (Java) serialization and reconstruction of {@link ObjectMemento}s, as done by the Wicket viewer
+ * for every model held in a page.
+ */
+public class ObjectMementoBenchmark extends BenchmarkAbstract {
+
+    private ObjectMementoService objectMementoService;
+    private ManagedObject demo;
+    private ObjectMemento memento;
+    private byte[] serializedMemento;
+
+    @Override
+    protected void setUp() {
+        objectMementoService = env.lookup(ObjectMementoService.class);
+        demo = env.newDemoAdapter();
+        memento = objectMementoService.mementoForObject(demo);
+        serializedMemento = serialize(memento);
+    }
+
+    @Benchmark
+    public ObjectMemento mementoForObject() {
+        return objectMementoService.mementoForObject(demo);
+    }
+
+    @Benchmark
+    public byte[] serializeMemento() {
+        return serialize(memento);
+    }
+
+    @Benchmark
+    public Object deserializeMemento() {
+        return deserialize(serializedMemento);
+    }
+
+    @Benchmark
+    public ManagedObject reconstructObject() {
+        return objectMementoService.reconstructObject(memento);
+    }
+
+    // -- HELPER
+
+    private static byte[] serialize(final ObjectMemento memento) {
+        try(final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(memento);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object deserialize(final byte[] serialized) {
+        try(final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
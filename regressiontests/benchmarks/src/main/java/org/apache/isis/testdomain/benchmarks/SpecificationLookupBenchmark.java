@@ -0,0 +1,70 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.benchmarks;
+
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.testdomain.model.interaction.InteractionDemo;
+
+/**
+ * Lookup of {@link ObjectSpecification}s by type and by logical type name, and of their members.
+ */
+public class SpecificationLookupBenchmark extends BenchmarkAbstract {
+
+    private SpecificationLoader specificationLoader;
+    private ObjectSpecification spec;
+
+    @Override
+    protected void setUp() {
+        specificationLoader = env.getSpecificationLoader();
+        spec = env.getDemoSpecification();
+    }
+
+    @Benchmark
+    public Optional<ObjectSpecification> specForType() {
+        return specificationLoader.specForType(InteractionDemo.class);
+    }
+
+    @Benchmark
+    public Optional<ObjectSpecification> specForValueType() {
+        return specificationLoader.specForType(String.class);
+    }
+
+    @Benchmark
+    public Optional<ObjectSpecification> specForLogicalTypeName() {
+        return specificationLoader.specForLogicalTypeName("regressiontests.InteractionDemo");
+    }
+
+    @Benchmark
+    public Optional<ObjectAssociation> association() {
+        return spec.getAssociation("stringMultiline");
+    }
+
+    @Benchmark
+    public Optional<ObjectAction> action() {
+        return spec.getAction("doSomethingWithItems");
+    }
+
+}
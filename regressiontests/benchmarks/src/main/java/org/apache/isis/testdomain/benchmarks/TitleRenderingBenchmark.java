@@ -0,0 +1,55 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
+
+/**
+ * Title rendering of domain objects and of values, as performed for every link and table cell.
+ */
+public class TitleRenderingBenchmark extends BenchmarkAbstract {
+
+    private ManagedObject demo;
+    private ManagedObject value;
+
+    @Override
+    protected void setUp() {
+        demo = env.newDemoAdapter();
+        value = ManagedObject.lazy(env.getSpecificationLoader(), "Hello World");
+    }
+
+    @Benchmark
+    public String domainObjectTitle() {
+        return demo.titleString();
+    }
+
+    @Benchmark
+    public String valueTitle() {
+        return value.titleString();
+    }
+
+    @Benchmark
+    public String abbreviatedTitle() {
+        return ManagedObjects.abbreviatedTitleOf(demo, 12, "...");
+    }
+
+}
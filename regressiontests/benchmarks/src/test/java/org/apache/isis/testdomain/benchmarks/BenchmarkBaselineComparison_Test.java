@@ -0,0 +1,121 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class BenchmarkBaselineComparison_Test {
+
+    private static final String BASELINE = "["
+            + "{\"benchmark\":\"a.CanBenchmark.map\",\"mode\":\"thrpt\",\"params\":{\"size\":\"10\"},"
+            +   "\"primaryMetric\":{\"score\":1000.0,\"scoreUnit\":\"ops/ms\"}},"
+            + "{\"benchmark\":\"a.CanBenchmark.map\",\"mode\":\"thrpt\",\"params\":{\"size\":\"1000\"},"
+            +   "\"primaryMetric\":{\"score\":100.0,\"scoreUnit\":\"ops/ms\"}},"
+            + "{\"benchmark\":\"a.Other.avg\",\"mode\":\"avgt\","
+            +   "\"primaryMetric\":{\"score\":5.0,\"scoreUnit\":\"ms/op\"}}"
+            + "]";
+
+    @Test
+    void readsThroughputScoresOnly() throws IOException {
+        val scores = read(BASELINE);
+
+        assertEquals(2, scores.size());
+        assertEquals(1000.0, scores.get("a.CanBenchmark.map{size=10}"));
+        assertEquals(100.0, scores.get("a.CanBenchmark.map{size=1000}"));
+    }
+
+    @Test
+    void whenWithinThreshold() throws IOException {
+        val result = "["
+                + "{\"benchmark\":\"a.CanBenchmark.map\",\"mode\":\"thrpt\",\"params\":{\"size\":\"10\"},"
+                +   "\"primaryMetric\":{\"score\":950.0}},"
+                + "{\"benchmark\":\"a.CanBenchmark.map\",\"mode\":\"thrpt\",\"params\":{\"size\":\"1000\"},"
+                +   "\"primaryMetric\":{\"score\":200.0}}"
+                + "]";
+
+        assertTrue(BenchmarkBaselineComparison.compare(read(BASELINE), read(result), 10.).isEmpty());
+    }
+
+    @Test
+    void whenDroppedBeyondThreshold() throws IOException {
+        val result = "["
+                + "{\"benchmark\":\"a.CanBenchmark.map\",\"mode\":\"thrpt\",\"params\":{\"size\":\"10\"},"
+                +   "\"primaryMetric\":{\"score\":850.0}},"
+                + "{\"benchmark\":\"a.CanBenchmark.filter\",\"mode\":\"thrpt\",\"params\":{\"size\":\"10\"},"
+                +   "\"primaryMetric\":{\"score\":1.0}}"
+                + "]";
+
+        val regressions = BenchmarkBaselineComparison.compare(read(BASELINE), read(result), 10.);
+
+        // the new benchmark (not in baseline) is not considered a regression
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).startsWith("a.CanBenchmark.map{size=10}"));
+    }
+
+    @Test
+    void whenBaselineMissing(@TempDir final Path tempDir) throws IOException {
+        val result = write(tempDir.resolve("result.json"), BASELINE);
+
+        assertThrows(IllegalStateException.class, ()->
+            BenchmarkBaselineComparison.readBaselineScores(tempDir.resolve("baseline.json"), result));
+    }
+
+    @Test
+    void whenBaselineEmpty(@TempDir final Path tempDir) throws IOException {
+        val result = write(tempDir.resolve("result.json"), BASELINE);
+        val baseline = write(tempDir.resolve("baseline.json"), "[]");
+
+        assertThrows(IllegalStateException.class, ()->
+            BenchmarkBaselineComparison.readBaselineScores(baseline, result));
+    }
+
+    @Test
+    void whenBaselinePresent(@TempDir final Path tempDir) throws IOException {
+        val result = write(tempDir.resolve("result.json"), BASELINE);
+        val baseline = write(tempDir.resolve("baseline.json"), BASELINE);
+
+        assertEquals(2, BenchmarkBaselineComparison.readBaselineScores(baseline, result).size());
+    }
+
+    // -- HELPER
+
+    private static Path write(final Path file, final String json) throws IOException {
+        return Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, Double> read(final String json) throws IOException {
+        return BenchmarkBaselineComparison.readThroughputScores(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.persistence.jdo;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.isis.applib.services.repository.EntityState;
+import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
+import org.apache.isis.testdomain.conf.Configuration_usingJdo;
+import org.apache.isis.testdomain.jdo.JdoTestDomainPersona;
+import org.apache.isis.testdomain.jdo.entities.JdoBook;
+import org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScripts;
+
+import lombok.val;
+
+@SpringBootTest(
+        classes = {
+                Configuration_usingJdo.class,
+        },
+        properties = {
+                "isis.core.runtime-services.repository-service.bulk.flush-interval=2",
+        })
+@TestPropertySource(IsisPresets.UseLog4j2Test)
+@Transactional
+class JdoBulkRepositoryTest {
+
+    @Inject private RepositoryService repository;
+    @Inject private ObjectManager objectManager;
+    @Inject private FixtureScripts fixtureScripts;
+
+    @BeforeEach
+    void setUp() {
+        fixtureScripts.runPersona(JdoTestDomainPersona.PurgeAll);
+    }
+
+    @Test
+    void persistAll_shouldPersistAll() {
+
+        val unrelated = repository.persistAndFlush(newBook("unrelated"));
+
+        repository.persistAll(newBooks(5));
+
+        assertEquals(6, repository.allInstances(JdoBook.class).size());
+
+        // the caller's other entities are not affected
+        assertEquals(EntityState.PERSISTABLE_ATTACHED, entityStateOf(unrelated));
+    }
+
+    @Test
+    void removeAll_shouldRemoveOnlyThoseGiven() {
+
+        repository.persistAndFlush(newBook("unrelated"));
+        repository.persistAll(newBooks(5));
+
+        val toRemove = repository.allMatches(JdoBook.class,
+                book->!"unrelated".equals(book.getName()));
+        assertEquals(5, toRemove.size());
+
+        repository.removeAll(toRemove);
+
+        val remaining = repository.allInstances(JdoBook.class);
+        assertEquals(1, remaining.size());
+        assertEquals("unrelated", remaining.get(0).getName());
+    }
+
+    // -- HELPER
+
+    private static List<JdoBook> newBooks(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i->newBook("bulk-" + i))
+                .collect(Collectors.toList());
+    }
+
+    private static JdoBook newBook(final String name) {
+        return JdoBook.of(name, "description", 1.0, "author", "isbn-" + name, "publisher");
+    }
+
+    private EntityState entityStateOf(final Object pojo) {
+        return ManagedObjects.EntityUtil.getEntityState(objectManager.adapt(pojo));
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.persistence.jpa;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.services.repository.EntityState;
+import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
+import org.apache.isis.testdomain.conf.Configuration_usingJpa;
+import org.apache.isis.testdomain.jpa.entities.JpaEntityGeneratedLongId;
+
+import lombok.val;
+
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+        },
+        properties = {
+                "isis.core.runtime-services.repository-service.bulk.flush-interval=2",
+        })
+@TestPropertySource(IsisPresets.UseLog4j2Test)
+@Transactional
+class JpaBulkRepositoryTest {
+
+    @Inject private RepositoryService repository;
+    @Inject private ObjectManager objectManager;
+
+    @BeforeEach
+    void setUp() {
+        repository.removeAll(JpaEntityGeneratedLongId.class);
+    }
+
+    @Test
+    void persistAll_shouldPersistAll_andEvictOnlyThoseFlushed() {
+
+        val unrelated = repository.persistAndFlush(new JpaEntityGeneratedLongId("unrelated"));
+        val entities = newEntities(5);
+
+        repository.persistAll(entities);
+
+        assertEquals(6, repository.allInstances(JpaEntityGeneratedLongId.class).size());
+
+        // the caller's other entities are still attached
+        assertEquals(EntityState.PERSISTABLE_ATTACHED, entityStateOf(unrelated));
+
+        // the ones persisted in bulk have been evicted, having been flushed
+        entities.forEach(entity->{
+            assertTrue(entity.getId() != null);
+            assertEquals(EntityState.PERSISTABLE_DETACHED, entityStateOf(entity));
+        });
+    }
+
+    @Test
+    void removeAll_shouldRemoveOnlyThoseGiven() {
+
+        val unrelated = repository.persistAndFlush(new JpaEntityGeneratedLongId("unrelated"));
+        repository.persistAll(newEntities(5));
+
+        val toRemove = repository.allMatches(JpaEntityGeneratedLongId.class,
+                entity->!"unrelated".equals(entity.getName()));
+        assertEquals(5, toRemove.size());
+
+        repository.removeAll(toRemove);
+
+        val remaining = repository.allInstances(JpaEntityGeneratedLongId.class);
+        assertEquals(1, remaining.size());
+        assertEquals(unrelated.getId(), remaining.get(0).getId());
+    }
+
+    @Test
+    void nullOrEmpty_shouldBeIgnored() {
+        repository.persistAll(null);
+        repository.persistAll(List.of());
+        repository.removeAll((Iterable<?>)null);
+
+        assertEquals(0, repository.allInstances(JpaEntityGeneratedLongId.class).size());
+    }
+
+    // -- HELPER
+
+    private static List<JpaEntityGeneratedLongId> newEntities(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i->new JpaEntityGeneratedLongId("bulk-" + i))
+                .collect(Collectors.toList());
+    }
+
+    private EntityState entityStateOf(final Object pojo) {
+        return ManagedObjects.EntityUtil.getEntityState(objectManager.adapt(pojo));
+    }
+
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.isis.testing.fixtures.applib.fixturescripts;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -104,7 +105,47 @@ public List<FixtureResult> getResults() {
         return Collections.unmodifiableList(list);
     }
 
+    /**
+     * Adds all of the results (and execution times) of the other list to this list; used to collect together the
+     * results of fixture scripts that were executed concurrently, each with their own
+     * {@link FixtureScript.ExecutionContext}.
+     */
+    void addAll(final FixtureResultList other) {
+        for (FixtureResult fixtureResult : other.list) {
+            list.add(fixtureResult);
+            fixtureResultByKey.put(fixtureResult.getKey(), fixtureResult);
+        }
+        for (FixtureScript fixtureScript : other.fixtureScriptList) {
+            if(!fixtureScriptList.contains(fixtureScript)) {
+                fixtureScriptList.add(fixtureScript);
+            }
+        }
+        other.executionTimeByQualifiedName.forEach(this::addExecutionTime);
+    }
+
+    // -- execution times
+
+    private final Map<String, Duration> executionTimeByQualifiedName = _Maps.newLinkedHashMap();
 
+    void recordExecutionTime(final FixtureScript script, final Duration executionTime) {
+        addExecutionTime(script.getQualifiedName(), executionTime);
+    }
+
+    private void addExecutionTime(final String qualifiedName, final Duration executionTime) {
+        executionTimeByQualifiedName.merge(qualifiedName, executionTime, Duration::plus);
+    }
+
+    /**
+     * The time taken to execute each {@link FixtureScript}, keyed by its
+     * {@link FixtureScript#getQualifiedName() qualified name}, in order of completion.
+     *
+     * <p>
+     *     The time of each fixture script includes the time taken by any child fixture scripts that it executed.
+     * </p>
+     */
+    public Map<String, Duration> getExecutionTimes() {
+        return Collections.unmodifiableMap(executionTimeByQualifiedName);
+    }
 
     // -- nextItemFor
 
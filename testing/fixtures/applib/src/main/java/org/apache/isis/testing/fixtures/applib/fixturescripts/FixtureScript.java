@@ -22,6 +22,7 @@
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -55,6 +56,7 @@
 
 import lombok.Getter;
 import lombok.Setter;
+import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -180,6 +182,11 @@ public <T> T addResult(final FixtureScript script, final String key, final T obj
             public List<FixtureResult> getResults() {
                 return Collections.emptyList();
             }
+
+            @Override
+            public Map<String, Duration> getExecutionTimes() {
+                return Collections.emptyMap();
+            }
         };
 
         private final ExecutionParameters executionParameters;
@@ -420,15 +427,27 @@ public List<FixtureResult> getResults() {
             return fixtureResultList.getResults();
         }
 
+        /**
+         * The time taken to execute each of the fixture scripts executed so far, keyed by qualified name.
+         *
+         * @see FixtureResultList#getExecutionTimes()
+         */
+        @Programmatic
+        public Map<String, Duration> getExecutionTimes() {
+            return fixtureResultList.getExecutionTimes();
+        }
+
         @Programmatic
         public <T> T addResult(final FixtureScript script, final T object) {
             fixtureResultList.add(script, object);
+            flushIfBatchComplete();
             return object;
         }
 
         @Programmatic
         public <T> T addResult(final FixtureScript script, final String key, final T object) {
             fixtureResultList.add(script, key, object);
+            flushIfBatchComplete();
             return object;
         }
 
@@ -504,6 +523,42 @@ public void executeChildren(
             fixtureScripts.forEach(fixtureScript -> executeChild(callingFixtureScript, fixtureScript));
         }
 
+        /**
+         * Executes the child {@link FixtureScript fixture script}s, respecting any dependencies between them
+         * declared through {@link FixtureScriptWithDependencies}, but otherwise concurrently (bounded by
+         * {@link FixtureScriptsSpecification#getMaxConcurrentScripts()}).
+         *
+         * <p>
+         *     Each child fixture script (along with any fixture scripts that it in turn executes) is run in its
+         *     own interaction and its own transaction, which is committed before any dependent fixture scripts are
+         *     started.  The child fixture scripts therefore cannot see any uncommitted changes made by the
+         *     calling fixture script.
+         * </p>
+         *
+         * <p>
+         *     Each child fixture script sees those fixture scripts that had been executed prior to this call
+         *     (as per the {@link FixtureScripts.MultipleExecutionStrategy}), but not those executed concurrently
+         *     by its siblings.  Once all have completed, their results are added to this execution context.
+         * </p>
+         */
+        @Programmatic
+        public void executeChildrenConcurrently(
+                final FixtureScript callingFixtureScript,
+                final List<FixtureScript> childFixtureScripts) {
+
+            val interactionContext = fixtureScripts.currentInteractionContext();
+
+            FixtureScriptScheduler.of(
+                    fixtureScripts.getMaxConcurrentScripts(),
+                    childFixtureScript->{
+                        val childExecutionContext = newConcurrentExecutionContext();
+                        fixtureScripts.runInOwnInteractionAndTransaction(interactionContext, ()->
+                            childExecutionContext.executeChild(callingFixtureScript, childFixtureScript));
+                        mergeConcurrentExecutionContext(childExecutionContext);
+                    })
+            .execute(childFixtureScripts);
+        }
+
         /**
          * Executes a child {@link FixtureScript fixture script}, injecting services into it first, and (for any results
          * that are {@link FixtureScript.ExecutionContext#addResult(FixtureScript, Object)} added),
@@ -578,7 +633,7 @@ private <T extends FixtureScript> T executeChildIfNotAlready(final T childFixtur
             case EXECUTE_ONCE_BY_CLASS:
                 previouslyExecutedScript = fixtureScriptByClass.get(childFixtureScript.getClass());
                 if (previouslyExecutedScript == null) {
-                    childFixtureScript.execute(this);
+                    executeAndRecordExecutionTime(childFixtureScript);
                     this.previouslyExecuted.add(childFixtureScript);
                     fixtureScriptByClass.put(childFixtureScript.getClass(), childFixtureScript);
                     return childFixtureScript;
@@ -590,7 +645,7 @@ private <T extends FixtureScript> T executeChildIfNotAlready(final T childFixtur
                 return executeChildIfNotAlreadyWithValueSemantics(childFixtureScript);
 
             case EXECUTE:
-                childFixtureScript.execute(this);
+                executeAndRecordExecutionTime(childFixtureScript);
                 this.previouslyExecuted.add(childFixtureScript);
                 return childFixtureScript;
 
@@ -599,6 +654,12 @@ private <T extends FixtureScript> T executeChildIfNotAlready(final T childFixtur
             }
         }
 
+        private void executeAndRecordExecutionTime(final FixtureScript childFixtureScript) {
+            val t0 = System.nanoTime();
+            childFixtureScript.execute(this);
+            fixtureResultList.recordExecutionTime(childFixtureScript, Duration.ofNanos(System.nanoTime() - t0));
+        }
+
         private <T extends FixtureScript> FixtureScripts.MultipleExecutionStrategy determineExecutionStrategy(final T childFixtureScript) {
             final FixtureScripts.MultipleExecutionStrategy executionStrategy;
 
@@ -615,7 +676,7 @@ private <T extends FixtureScript> FixtureScripts.MultipleExecutionStrategy deter
         private <T extends FixtureScript> T executeChildIfNotAlreadyWithValueSemantics(final T childFixtureScript) {
             FixtureScript previouslyExecutedScript = fixtureScriptByValue.get(childFixtureScript);
             if (previouslyExecutedScript == null) {
-                childFixtureScript.execute(this);
+                executeAndRecordExecutionTime(childFixtureScript);
                 this.previouslyExecuted.add(childFixtureScript);
                 fixtureScriptByValue.put(childFixtureScript, childFixtureScript);
                 return childFixtureScript;
@@ -663,6 +724,46 @@ public List<FixtureScript> getPreviouslyExecuted() {
 
 
 
+        // -- concurrent execution
+
+        /**
+         * A new execution context for a fixture script that is to be executed concurrently, sharing the parameters
+         * of this context and seeded with the fixture scripts previously executed.
+         */
+        private synchronized ExecutionContext newConcurrentExecutionContext() {
+            val executionContext = new ExecutionContext(executionParameters, fixtureScripts);
+            executionContext.previouslyExecuted.addAll(previouslyExecuted);
+            executionContext.fixtureScriptByClass.putAll(fixtureScriptByClass);
+            executionContext.fixtureScriptByValue.putAll(fixtureScriptByValue);
+            executionContext.userData.putAll(userData);
+            return executionContext;
+        }
+
+        private synchronized void mergeConcurrentExecutionContext(final ExecutionContext executionContext) {
+            fixtureResultList.addAll(executionContext.fixtureResultList);
+            executionContext.previouslyExecuted.stream()
+                .filter(fixtureScript->!previouslyExecuted.contains(fixtureScript))
+                .forEach(previouslyExecuted::add);
+            executionContext.fixtureScriptByClass.forEach(fixtureScriptByClass::putIfAbsent);
+            executionContext.fixtureScriptByValue.forEach(fixtureScriptByValue::putIfAbsent);
+        }
+
+        // -- batched flushing
+
+        private int resultsSinceFlush;
+
+        private void flushIfBatchComplete() {
+            if(fixtureScripts == null) {
+                return;
+            }
+            val flushBatchSize = fixtureScripts.getFlushBatchSize();
+            if(flushBatchSize > 0
+                    && ++resultsSinceFlush >= flushBatchSize) {
+                resultsSinceFlush = 0;
+                fixtureScripts.flushTransaction();
+            }
+        }
+
         static int roundup(final int n, final int roundTo) {
             return ((n / roundTo) + 1) * roundTo;
         }
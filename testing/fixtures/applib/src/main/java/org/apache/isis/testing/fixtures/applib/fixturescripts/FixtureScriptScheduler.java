@@ -0,0 +1,230 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testing.fixtures.applib.fixturescripts;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Executes a list of {@link FixtureScript}s in an order consistent with the dependencies declared by those that
+ * implement {@link FixtureScriptWithDependencies}, running fixture scripts that are independent of each other
+ * concurrently on a bounded pool.
+ *
+ * <p>
+ *     How each individual fixture script is executed (in particular, within which interaction and transaction)
+ *     is the responsibility of the provided <code>executor</code>.
+ * </p>
+ *
+ * @since 2.x
+ */
+@RequiredArgsConstructor(staticName = "of")
+@Log4j2
+class FixtureScriptScheduler {
+
+    private final int maxConcurrentScripts;
+    private final @NonNull Consumer<FixtureScript> executor;
+
+    /**
+     * Executes all of the provided fixture scripts, blocking until they have all completed.
+     *
+     * <p>
+     *     If any fixture script fails, then any fixture scripts that (transitively) depend upon it are skipped, and
+     *     the first failure is rethrown once all other running fixture scripts have completed.
+     * </p>
+     */
+    void execute(final @NonNull List<FixtureScript> fixtureScripts) {
+
+        val dependencies = dependenciesOf(fixtureScripts);
+        val sorted = topologicalOrder(fixtureScripts, dependencies);
+        if(sorted.isEmpty()) {
+            return;
+        }
+
+        val poolSize = Math.max(1, Math.min(maxConcurrentScripts, sorted.size()));
+        val threadCount = new AtomicInteger();
+        final ExecutorService executorService = Executors.newFixedThreadPool(poolSize, runnable->{
+            val thread = new Thread(runnable, "fixture-script-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            final Map<FixtureScript, CompletableFuture<Void>> futureByScript = new IdentityHashMap<>();
+            final List<CompletableFuture<Void>> futures = new ArrayList<>(sorted.size());
+
+            for (val fixtureScript : sorted) {
+                val prerequisites = dependencies.get(fixtureScript).stream()
+                        .map(futureByScript::get)
+                        .toArray(CompletableFuture[]::new);
+                val future = CompletableFuture.allOf(prerequisites)
+                        .thenRunAsync(()->executor.accept(fixtureScript), executorService);
+                futureByScript.put(fixtureScript, future);
+                futures.add(future);
+            }
+
+            awaitAll(futures);
+
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    // -- HELPERS
+
+    /**
+     * Returns the fixture scripts in an order such that every fixture script appears after all of its dependencies
+     * (and otherwise preserving the original order).
+     *
+     * @throws IllegalArgumentException - if the dependencies are cyclic.
+     */
+    static List<FixtureScript> topologicalOrder(final @NonNull List<FixtureScript> fixtureScripts) {
+        return topologicalOrder(fixtureScripts, dependenciesOf(fixtureScripts));
+    }
+
+    private static List<FixtureScript> topologicalOrder(
+            final List<FixtureScript> fixtureScripts,
+            final Map<FixtureScript, List<FixtureScript>> dependencies) {
+
+        final Map<FixtureScript, Integer> remainingByScript = new IdentityHashMap<>();
+        final Map<FixtureScript, List<FixtureScript>> dependentsByScript = new IdentityHashMap<>();
+        for (val fixtureScript : fixtureScripts) {
+            remainingByScript.put(fixtureScript, dependencies.get(fixtureScript).size());
+            for (val dependency : dependencies.get(fixtureScript)) {
+                dependentsByScript.computeIfAbsent(dependency, __->_Lists.newArrayList()).add(fixtureScript);
+            }
+        }
+
+        final Deque<FixtureScript> ready = new ArrayDeque<>();
+        fixtureScripts.stream()
+        .filter(fixtureScript->remainingByScript.get(fixtureScript) == 0)
+        .forEach(ready::add);
+
+        final List<FixtureScript> sorted = new ArrayList<>(fixtureScripts.size());
+        while(!ready.isEmpty()) {
+            val fixtureScript = ready.removeFirst();
+            sorted.add(fixtureScript);
+            for (val dependent : dependentsByScript.getOrDefault(fixtureScript, Collections.emptyList())) {
+                val remaining = remainingByScript.get(dependent) - 1;
+                remainingByScript.put(dependent, remaining);
+                if(remaining == 0) {
+                    ready.addLast(dependent);
+                }
+            }
+        }
+
+        if(sorted.size() != fixtureScripts.size()) {
+            throw _Exceptions.illegalArgument(
+                    "Cyclic dependencies between fixture scripts: %s",
+                    fixtureScripts.stream()
+                        .filter(fixtureScript->remainingByScript.get(fixtureScript) > 0)
+                        .map(FixtureScript::getFriendlyName)
+                        .collect(Collectors.joining(", ")));
+        }
+        return sorted;
+    }
+
+    /**
+     * For each fixture script, those other fixture scripts in the list that are instances of any of the classes
+     * declared as its {@link FixtureScriptWithDependencies#getDependencies() dependencies}.
+     * <p>
+     * Declared dependencies without any such instance in the list are logged (but otherwise ignored).
+     */
+    private static Map<FixtureScript, List<FixtureScript>> dependenciesOf(final List<FixtureScript> fixtureScripts) {
+        final Map<FixtureScript, List<FixtureScript>> dependenciesByScript = new IdentityHashMap<>();
+        for (val fixtureScript : fixtureScripts) {
+            final List<FixtureScript> dependencies = _Lists.newArrayList();
+            if(fixtureScript instanceof FixtureScriptWithDependencies) {
+                val dependencyClasses = ((FixtureScriptWithDependencies) fixtureScript).getDependencies();
+                for (val candidate : fixtureScripts) {
+                    if(candidate != fixtureScript
+                            && dependencyClasses.stream().anyMatch(cls->cls.isInstance(candidate))) {
+                        dependencies.add(candidate);
+                    }
+                }
+                val unresolved = unresolvedDependencies(fixtureScript, fixtureScripts);
+                if(!unresolved.isEmpty()) {
+                    log.warn("fixture script {} declares dependencies not within the list of fixture scripts "
+                            + "to be executed, these are ignored: {}",
+                            fixtureScript.getFriendlyName(),
+                            unresolved.stream().map(Class::getName).collect(Collectors.joining(", ")));
+                }
+            }
+            dependenciesByScript.put(fixtureScript, dependencies);
+        }
+        return dependenciesByScript;
+    }
+
+    /**
+     * The {@link FixtureScriptWithDependencies#getDependencies() dependencies} declared by given fixture script,
+     * that no other fixture script within given list is an instance of.
+     */
+    static List<Class<? extends FixtureScript>> unresolvedDependencies(
+            final @NonNull FixtureScript fixtureScript,
+            final @NonNull List<FixtureScript> fixtureScripts) {
+        if(!(fixtureScript instanceof FixtureScriptWithDependencies)) {
+            return Collections.emptyList();
+        }
+        return ((FixtureScriptWithDependencies) fixtureScript).getDependencies().stream()
+                .filter(cls->fixtureScripts.stream()
+                        .noneMatch(candidate->candidate != fixtureScript && cls.isInstance(candidate)))
+                .collect(Collectors.toList());
+    }
+
+    private static void awaitAll(final Iterable<CompletableFuture<Void>> futures) {
+        RuntimeException firstFailure = null;
+        for (val future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException ex) {
+                if(firstFailure == null) {
+                    val cause = ex.getCause();
+                    firstFailure = cause instanceof RuntimeException
+                            ? (RuntimeException) cause
+                            : ex;
+                } else {
+                    log.debug("suppressed subsequent fixture script failure", ex);
+                }
+            }
+        }
+        if(firstFailure != null) {
+            throw firstFailure;
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testing.fixtures.applib.fixturescripts;
+
+import java.util.Collection;
+
+import org.apache.isis.applib.annotation.Programmatic;
+
+/**
+ * Interface for {@link org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScript}s to optionally implement,
+ * declaring the (classes of) other fixture scripts that must have completed before this fixture script can be
+ * executed.
+ *
+ * <p>
+ *     This is used when a list of fixture scripts is executed using
+ *     {@link FixtureScripts#runConcurrently(FixtureScript...)} or
+ *     {@link FixtureScript.ExecutionContext#executeChildrenConcurrently(FixtureScript, java.util.List)}: fixture
+ *     scripts whose dependencies have all completed are executed concurrently, each within its own interaction and
+ *     transaction.  Fixture scripts that do not implement this interface are assumed to have no dependencies.
+ * </p>
+ *
+ * <p>
+ *     Only dependencies upon other fixture scripts within the same list are considered; dependencies on fixture
+ *     scripts outside of that list are ignored (and logged as a warning).
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+public interface FixtureScriptWithDependencies {
+
+    @Programmatic
+    Collection<Class<? extends FixtureScript>> getDependencies();
+}
@@ -18,9 +18,11 @@
  */
 package org.apache.isis.testing.fixtures.applib.fixturescripts;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -30,6 +32,8 @@
 import javax.inject.Inject;
 import javax.xml.bind.annotation.XmlRootElement;
 
+import org.springframework.transaction.annotation.Propagation;
+
 import org.apache.isis.applib.ViewModel;
 import org.apache.isis.applib.annotation.Action;
 import org.apache.isis.applib.annotation.ActionLayout;
@@ -45,6 +49,8 @@
 import org.apache.isis.applib.annotation.Programmatic;
 import org.apache.isis.applib.annotation.RestrictTo;
 import org.apache.isis.applib.services.eventbus.EventBusService;
+import org.apache.isis.applib.services.iactnlayer.InteractionContext;
+import org.apache.isis.applib.services.iactnlayer.InteractionLayerTracker;
 import org.apache.isis.applib.services.iactnlayer.InteractionService;
 import org.apache.isis.applib.services.inject.ServiceInjector;
 import org.apache.isis.applib.services.jaxb.JaxbService;
@@ -52,6 +58,7 @@
 import org.apache.isis.applib.services.repository.RepositoryService;
 import org.apache.isis.applib.services.title.TitleService;
 import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.functional.ThrowingRunnable;
 import org.apache.isis.commons.internal.base._Casts;
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
@@ -92,6 +99,7 @@ public class FixtureScripts {
     @Inject private TransactionService transactionService;
     @Inject private ExecutionParametersService executionParametersService;
     @Inject private InteractionService interactionService;
+    @Inject private InteractionLayerTracker interactionLayerTracker;
 
     @Inject private EventBusService eventBusService;
 
@@ -246,6 +254,23 @@ public boolean isExecute() {
     @Getter(onMethod_ = {@Programmatic})
     private final MultipleExecutionStrategy multipleExecutionStrategy;
 
+    /**
+     * Global setting as to how many fixture scripts may be executed concurrently by
+     * {@link #runConcurrently(FixtureScript...)}.
+     *
+     * @see FixtureScriptsSpecification#getMaxConcurrentScripts()
+     */
+    @Getter(onMethod_ = {@Programmatic})
+    private final int maxConcurrentScripts;
+
+    /**
+     * Global setting as to after how many added results the current transaction is flushed.
+     *
+     * @see FixtureScriptsSpecification#getFlushBatchSize()
+     */
+    @Getter(onMethod_ = {@Programmatic})
+    private final int flushBatchSize;
+
     /**
      * Maps all discovered {@link FixtureScript}s to a friendly name for display in the UI (that is, for the
      * {@link #runFixtureScript(String, String)} menu action parameters).
@@ -268,6 +293,8 @@ public FixtureScripts(
         this.specification = fixtureScriptsSpecificationProvider.getSpecification();
         this.nonPersistedObjectsStrategy = specification.getNonPersistedObjectsStrategy();
         this.multipleExecutionStrategy = specification.getMultipleExecutionStrategy();
+        this.maxConcurrentScripts = specification.getMaxConcurrentScripts();
+        this.flushBatchSize = specification.getFlushBatchSize();
 
         val packagePrefix = specification.getPackagePrefix();
         this.fixtureScriptByFriendlyName =
@@ -427,6 +454,29 @@ public void run(final FixtureScript... fixtureScriptList) {
 
     }
 
+    /**
+     * Runs the fixture scripts, respecting any dependencies between them declared through
+     * {@link FixtureScriptWithDependencies}, but otherwise concurrently, each within its own interaction and
+     * transaction.
+     *
+     * @return the results of all of the fixture scripts (along with their
+     * {@link FixtureScript.ExecutionContext#getExecutionTimes() execution times}).
+     *
+     * @see FixtureScript.ExecutionContext#executeChildrenConcurrently(FixtureScript, List)
+     */
+    @Programmatic
+    public List<FixtureResult> runConcurrently(final FixtureScript... fixtureScriptList) {
+
+        val parentScript = new FixtureScript() {
+            @Override
+            protected void execute(final ExecutionContext executionContext) {
+                executionContext.executeChildrenConcurrently(this, Arrays.asList(fixtureScriptList));
+            }
+        };
+
+        return interactionService.callAnonymous(()->runScript(parentScript, null));
+    }
+
     @SafeVarargs
     @Programmatic
     public final void runPersonas(final PersonaWithBuilderScript<? extends BuilderScriptAbstract<?>> ... personaScripts) {
@@ -553,6 +603,33 @@ String titleOf(final FixtureResult fixtureResult) {
         return object != null? titleService.titleOf(object): "(null)";
     }
 
+    Optional<InteractionContext> currentInteractionContext() {
+        return interactionLayerTracker.currentInteractionContext();
+    }
+
+    /**
+     * Runs the runnable (typically on some other thread) within a new interaction, using the provided
+     * {@link InteractionContext} if any (else anonymously), and within a new transaction.
+     */
+    void runInOwnInteractionAndTransaction(
+            final Optional<InteractionContext> interactionContext,
+            final ThrowingRunnable runnable) {
+
+        final ThrowingRunnable transactional = ()->
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, runnable)
+            .optionalElseFail();
+
+        if(interactionContext.isPresent()) {
+            interactionService.run(interactionContext.get(), transactional);
+        } else {
+            interactionService.runAnonymous(transactional);
+        }
+    }
+
+    void flushTransaction() {
+        transactionService.flushTransaction();
+    }
+
     // -- HELPERS - LOCAL
 
     private static FixtureScript toSingleScript(final FixtureScript[] fixtureScriptList) {
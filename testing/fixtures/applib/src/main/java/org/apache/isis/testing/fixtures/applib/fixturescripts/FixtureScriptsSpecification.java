@@ -47,11 +47,36 @@ public FixtureScriptsSpecification(
             final FixtureScripts.MultipleExecutionStrategy multipleExecutionStrategy,
             final Class<? extends FixtureScript> runScriptDefaultScriptClass,
             final Class<? extends FixtureScript> recreateScriptClass) {
+        this(packagePrefix, nonPersistedObjectsStrategy, multipleExecutionStrategy,
+                runScriptDefaultScriptClass, recreateScriptClass, 1, 0);
+    }
+
+    /**
+     * Typically preferable to use the create using the {@link FixtureScriptsSpecification.Builder}
+     * (obtained from {@link #builder(Class)}).
+     * @param packagePrefix  - to search for fixture script implementations, eg "com.mycompany".
+     * @param nonPersistedObjectsStrategy - how to handle any non-persisted objects that are added to a {@link FixtureResultList}.
+     * @param multipleExecutionStrategy - whether more than one instance of the same fixture script class can be run multiple times
+     * @param runScriptDefaultScriptClass - the fixture script to provide as a default in {@link FixtureScripts#runFixtureScript(String, String)} action.
+     * @param recreateScriptClass - if specified, then make the {@link FixtureScripts#recreateObjectsAndReturnFirst()} action visible.
+     * @param maxConcurrentScripts - the size of the pool used by {@link FixtureScripts#runConcurrently(FixtureScript...)}.
+     * @param flushBatchSize - number of results added after which the transaction is flushed; 0 to disable.
+     */
+    public FixtureScriptsSpecification(
+            final String packagePrefix,
+            final FixtureScripts.NonPersistedObjectsStrategy nonPersistedObjectsStrategy,
+            final FixtureScripts.MultipleExecutionStrategy multipleExecutionStrategy,
+            final Class<? extends FixtureScript> runScriptDefaultScriptClass,
+            final Class<? extends FixtureScript> recreateScriptClass,
+            final int maxConcurrentScripts,
+            final int flushBatchSize) {
         this.packagePrefix = packagePrefix;
         this.nonPersistedObjectsStrategy = nonPersistedObjectsStrategy;
         this.multipleExecutionStrategy = multipleExecutionStrategy;
         this.recreateScriptClass = recreateScriptClass;
         this.runScriptDefaultScriptClass = runScriptDefaultScriptClass;
+        this.maxConcurrentScripts = Math.max(1, maxConcurrentScripts);
+        this.flushBatchSize = Math.max(0, flushBatchSize);
     }
 
     private final String packagePrefix;
@@ -61,6 +86,9 @@ public FixtureScriptsSpecification(
     private final Class<? extends FixtureScript> recreateScriptClass;
     private final Class<? extends FixtureScript> runScriptDefaultScriptClass;
 
+    private final int maxConcurrentScripts;
+    private final int flushBatchSize;
+
     @Programmatic
     public String getPackagePrefix() {
         return packagePrefix;
@@ -90,12 +118,33 @@ public Class<? extends FixtureScript> getRecreateScriptClass() {
         return recreateScriptClass;
     }
 
+    /**
+     * The maximum number of (independent) fixture scripts that are executed concurrently by
+     * {@link FixtureScripts#runConcurrently(FixtureScript...)}
+     * and {@link FixtureScript.ExecutionContext#executeChildrenConcurrently(FixtureScript, java.util.List)}.
+     */
+    @Programmatic
+    public int getMaxConcurrentScripts() {
+        return maxConcurrentScripts;
+    }
+
+    /**
+     * The number of results added through an {@link FixtureScript.ExecutionContext} after which the
+     * current transaction is flushed; 0 if batched flushing is disabled.
+     */
+    @Programmatic
+    public int getFlushBatchSize() {
+        return flushBatchSize;
+    }
+
     public static class Builder {
         private final String packagePrefix;
         private FixtureScripts.NonPersistedObjectsStrategy nonPersistedObjectsStrategy = FixtureScripts.NonPersistedObjectsStrategy.PERSIST;
         private FixtureScripts.MultipleExecutionStrategy multipleExecutionStrategy = FixtureScripts.MultipleExecutionStrategy.EXECUTE_ONCE_BY_CLASS;
         private Class<? extends FixtureScript> recreateScriptClass = null;
         private Class<? extends FixtureScript> defaultScriptClass = null;
+        private int maxConcurrentScripts = 1;
+        private int flushBatchSize = 0;
 
         public Builder(final Class<?> contextClass) {
             this(contextClass.getPackage().getName());
@@ -125,12 +174,21 @@ public Builder withRunScriptDefault(Class<? extends FixtureScript> defaultScript
             this.defaultScriptClass = defaultScriptClass;
             return this;
         }
+        public Builder withMaxConcurrentScripts(int maxConcurrentScripts) {
+            this.maxConcurrentScripts = maxConcurrentScripts;
+            return this;
+        }
+        public Builder withFlushBatchSize(int flushBatchSize) {
+            this.flushBatchSize = flushBatchSize;
+            return this;
+        }
 
         public FixtureScriptsSpecification build() {
             return new FixtureScriptsSpecification(
                     packagePrefix,
                     nonPersistedObjectsStrategy, multipleExecutionStrategy,
-                    defaultScriptClass, recreateScriptClass
+                    defaultScriptClass, recreateScriptClass,
+                    maxConcurrentScripts, flushBatchSize
                     );
         }
     }
@@ -56,6 +56,8 @@ FixtureScriptsSpecificationProvider fixtureScriptsSpecificationProvider(final Is
         builder.with(FixtureScripts.MultipleExecutionStrategy.valueOf(fixturesConfig.getMultipleExecutionStrategy().name()));
         builder.withRecreate((Class) fixturesConfig.getRecreate());
         builder.withRunScriptDefault((Class) fixturesConfig.getRunScriptDefault());
+        builder.withMaxConcurrentScripts(fixturesConfig.getMaxConcurrentScripts());
+        builder.withFlushBatchSize(fixturesConfig.getFlushBatchSize());
 
         return builder::build;
     }
@@ -0,0 +1,177 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testing.fixtures.applib.fixturescripts;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import lombok.val;
+
+public class FixtureScriptScheduler_Test {
+
+    static class Teardown extends FixtureScript {
+        @Override
+        protected void execute(final ExecutionContext executionContext) {
+        }
+    }
+
+    static class Customers extends FixtureScript implements FixtureScriptWithDependencies {
+        @Override
+        protected void execute(final ExecutionContext executionContext) {
+        }
+        @Override
+        public Collection<Class<? extends FixtureScript>> getDependencies() {
+            return Collections.singletonList(Teardown.class);
+        }
+    }
+
+    static class Products extends FixtureScript implements FixtureScriptWithDependencies {
+        @Override
+        protected void execute(final ExecutionContext executionContext) {
+        }
+        @Override
+        public Collection<Class<? extends FixtureScript>> getDependencies() {
+            return Collections.singletonList(Teardown.class);
+        }
+    }
+
+    static class Orders extends FixtureScript implements FixtureScriptWithDependencies {
+        @Override
+        protected void execute(final ExecutionContext executionContext) {
+        }
+        @Override
+        public Collection<Class<? extends FixtureScript>> getDependencies() {
+            return Arrays.asList(Customers.class, Products.class);
+        }
+    }
+
+    static class Cyclic extends FixtureScript implements FixtureScriptWithDependencies {
+        @Override
+        protected void execute(final ExecutionContext executionContext) {
+        }
+        @Override
+        public Collection<Class<? extends FixtureScript>> getDependencies() {
+            return Collections.singletonList(Teardown2.class);
+        }
+    }
+
+    static class Teardown2 extends FixtureScript implements FixtureScriptWithDependencies {
+        @Override
+        protected void execute(final ExecutionContext executionContext) {
+        }
+        @Override
+        public Collection<Class<? extends FixtureScript>> getDependencies() {
+            return Collections.singletonList(Cyclic.class);
+        }
+    }
+
+    @Test
+    public void dependencies_are_ordered_first() throws Exception {
+        val orders = new Orders();
+        val customers = new Customers();
+        val products = new Products();
+        val teardown = new Teardown();
+
+        final List<FixtureScript> sorted = FixtureScriptScheduler.topologicalOrder(
+                Arrays.asList(orders, customers, products, teardown));
+
+        assertThat(sorted, is(Arrays.<FixtureScript>asList(teardown, customers, products, orders)));
+    }
+
+    @Test
+    public void independent_scripts_retain_their_order() throws Exception {
+        val teardown = new Teardown();
+        val teardown2 = new Teardown();
+
+        final List<FixtureScript> sorted = FixtureScriptScheduler.topologicalOrder(
+                Arrays.asList(teardown2, teardown));
+
+        assertThat(sorted, is(Arrays.<FixtureScript>asList(teardown2, teardown)));
+    }
+
+    @Test
+    public void cyclic_dependencies_are_rejected() throws Exception {
+        assertThrows(IllegalArgumentException.class, ()->
+            FixtureScriptScheduler.topologicalOrder(Arrays.asList(new Cyclic(), new Teardown2())));
+    }
+
+    @Test
+    public void reports_dependencies_outside_of_the_list() throws Exception {
+        val orders = new Orders();
+        val customers = new Customers();
+
+        final List<FixtureScript> fixtureScripts = Arrays.asList(orders, customers);
+
+        assertThat(FixtureScriptScheduler.unresolvedDependencies(orders, fixtureScripts),
+                is(Arrays.<Class<? extends FixtureScript>>asList(Products.class)));
+        assertThat(FixtureScriptScheduler.unresolvedDependencies(customers, fixtureScripts),
+                is(Arrays.<Class<? extends FixtureScript>>asList(Teardown.class)));
+        assertThat(FixtureScriptScheduler.unresolvedDependencies(new Teardown(), fixtureScripts).isEmpty(), is(true));
+
+        // still executable, the undeclared dependencies are ignored
+        assertThat(FixtureScriptScheduler.topologicalOrder(fixtureScripts),
+                is(Arrays.<FixtureScript>asList(customers, orders)));
+    }
+
+    @Test
+    public void executes_every_script_after_its_dependencies() throws Exception {
+        val orders = new Orders();
+        val customers = new Customers();
+        val products = new Products();
+        val teardown = new Teardown();
+
+        final List<FixtureScript> executed = new CopyOnWriteArrayList<>();
+        FixtureScriptScheduler.of(4, executed::add)
+        .execute(Arrays.asList(orders, customers, products, teardown));
+
+        assertThat(executed.size(), is(4));
+        assertThat(executed.get(0), is(teardown));
+        assertThat(executed.get(3), is(orders));
+    }
+
+    @Test
+    public void skips_dependents_of_a_failed_script() throws Exception {
+        val orders = new Orders();
+        val customers = new Customers();
+        val teardown = new Teardown();
+
+        final List<FixtureScript> executed = new CopyOnWriteArrayList<>();
+        val ex = assertThrows(IllegalStateException.class, ()->
+            FixtureScriptScheduler.of(2, fixtureScript->{
+                if(fixtureScript == customers) {
+                    throw new IllegalStateException("customers failed");
+                }
+                executed.add(fixtureScript);
+            })
+            .execute(Arrays.asList(orders, customers, teardown)));
+
+        assertThat(ex.getMessage(), is("customers failed"));
+        assertThat(executed, is(Arrays.<FixtureScript>asList(teardown)));
+    }
+
+}
@@ -18,14 +18,13 @@
  */
 package org.apache.isis.valuetypes.asciidoc.applib.value;
 
-import java.util.Optional;
-
 import org.asciidoctor.Asciidoctor;
 import org.asciidoctor.Attributes;
 import org.asciidoctor.Options;
 import org.asciidoctor.SafeMode;
 import org.springframework.lang.Nullable;
 
+import org.apache.isis.commons.internal.base._HtmlRendering;
 import org.apache.isis.commons.internal.base._Strings;
 
 import lombok.Getter;
@@ -59,12 +58,13 @@ final class Converter {
      * @param options - if {@code null} uses built-in default options
      */
     public static String adocToHtml(final @Nullable String adoc, final @Nullable Options options) {
-        return _Strings.isEmpty(adoc)
-                ? ""
-                : convert(adoc,
-                    Optional
-                    .ofNullable(options)
-                    .orElseGet(Converter::getDefaultOptions));
+        if(_Strings.isEmpty(adoc)) {
+            return "";
+        }
+        // only conversions using the default options are cached
+        return options == null
+                ? getHtmlRendering().render(adoc)
+                : convert(adoc, options);
     }
 
     /**
@@ -74,8 +74,28 @@ public static String adocToHtml(final String adoc) {
         return adocToHtml(adoc, null);
     }
 
+    /**
+     * Schedules the conversion (using default options) in the background, such that a subsequent
+     * {@link #adocToHtml(String)} of the same content is served from the cache.
+     */
+    public static void prerenderAdocToHtml(final @Nullable String adoc) {
+        getHtmlRendering().prerender(adoc);
+    }
+
     // -- HELPER
 
+    /**
+     * All conversions share a single (JRuby backed) {@link Asciidoctor} instance, so running more than a few
+     * in parallel only adds contention.
+     */
+    private static final int MAX_CONCURRENT_CONVERSIONS = 2;
+
+    @Getter(lazy = true)
+    private final static _HtmlRendering.Engine htmlRendering = _HtmlRendering.engine(
+            "adoc",
+            MAX_CONCURRENT_CONVERSIONS,
+            adoc->convert(adoc, getDefaultOptions()));
+
     private static String convert(final String content, final Options options) {
         return getAsciidoctor()
             .convert(content, options);
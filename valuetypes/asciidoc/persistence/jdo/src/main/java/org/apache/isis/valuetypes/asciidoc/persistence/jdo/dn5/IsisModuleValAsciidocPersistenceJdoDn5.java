@@ -18,10 +18,14 @@
  */
 package org.apache.isis.valuetypes.asciidoc.persistence.jdo.dn5;
 
+import javax.inject.Inject;
+
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.valuetypes.asciidoc.applib.IsisModuleValAsciidocApplib;
+import org.apache.isis.valuetypes.asciidoc.persistence.jdo.dn5.converters.IsisAsciiDocConverter;
 
 /**
  * @since 2.0 {@index}
@@ -31,4 +35,11 @@
     IsisModuleValAsciidocApplib.class
 })
 public class IsisModuleValAsciidocPersistenceJdoDn5 {
+
+    @Inject
+    public IsisModuleValAsciidocPersistenceJdoDn5(final IsisConfiguration isisConfiguration) {
+        IsisAsciiDocConverter.setPrerenderOnLoad(
+                isisConfiguration.getValueTypes().getAsciidoc().isPrerenderOnLoad());
+    }
+
 }
@@ -18,10 +18,13 @@
  */
 package org.apache.isis.valuetypes.asciidoc.persistence.jpa;
 
+import javax.inject.Inject;
+
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.valuetypes.asciidoc.applib.IsisModuleValAsciidocApplib;
 import org.apache.isis.valuetypes.asciidoc.persistence.jpa.converters.IsisAsciiDocConverter;
 
@@ -38,4 +41,11 @@
         IsisAsciiDocConverter.class
 })
 public class IsisModuleValAsciidocPersistenceJpa {
+
+    @Inject
+    public IsisModuleValAsciidocPersistenceJpa(final IsisConfiguration isisConfiguration) {
+        IsisAsciiDocConverter.setPrerenderOnLoad(
+                isisConfiguration.getValueTypes().getAsciidoc().isPrerenderOnLoad());
+    }
+
 }
@@ -39,8 +39,27 @@ public String convertToDatabaseColumn(final AsciiDoc memberValue) {
     @Override
     public AsciiDoc convertToEntityAttribute(final String datastoreValue) {
         return datastoreValue != null
-                ? AsciiDoc.valueOf(datastoreValue)
+                ? prerenderIfEnabled(AsciiDoc.valueOf(datastoreValue))
                 : null;
     }
 
+    // -- PRERENDER ON LOAD
+
+    private static volatile boolean prerenderOnLoad = false;
+
+    /**
+     * Whether loaded values are rendered to HTML in the background, as configured by
+     * <code>isis.value-types.asciidoc.prerender-on-load</code>.
+     */
+    public static void setPrerenderOnLoad(final boolean prerenderOnLoad) {
+        IsisAsciiDocConverter.prerenderOnLoad = prerenderOnLoad;
+    }
+
+    private static AsciiDoc prerenderIfEnabled(final AsciiDoc memberValue) {
+        // warms the rendering cache off-request, in case the value is going to be displayed
+        return prerenderOnLoad
+                ? memberValue.prerender()
+                : memberValue;
+    }
+
 }
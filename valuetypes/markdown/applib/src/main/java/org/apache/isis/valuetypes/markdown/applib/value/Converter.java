@@ -26,6 +26,10 @@
 import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.util.data.MutableDataSet;
 
+import org.apache.isis.commons.internal.base._HtmlRendering;
+
+import lombok.Getter;
+
 /**
  * @since 2.0 {@index}
  */
@@ -56,16 +60,33 @@ public final class Converter {
      *
      * @param markdown - formated input to be converted to HTML
      */
-    public static String mdToHtml(String markdown) {
-        if(markdownSupport==null) {
-            markdownSupport = new MarkdownSupport();
-        }
-        return markdownSupport.toHtml(markdown);
+    public static String mdToHtml(final String markdown) {
+        return getHtmlRendering().render(markdown);
+    }
+
+    /**
+     * Schedules the conversion in the background, such that a subsequent {@link #mdToHtml(String)} of the
+     * same content is served from the cache.
+     */
+    public static void prerenderMdToHtml(final String markdown) {
+        getHtmlRendering().prerender(markdown);
     }
 
     // -- HELPER
 
-    private static MarkdownSupport markdownSupport;
+    /**
+     * Parser and renderer are immutable and may be shared by threads.
+     */
+    private static final int MAX_CONCURRENT_CONVERSIONS = Runtime.getRuntime().availableProcessors();
+
+    @Getter(lazy = true)
+    private final static MarkdownSupport markdownSupport = new MarkdownSupport();
+
+    @Getter(lazy = true)
+    private final static _HtmlRendering.Engine htmlRendering = _HtmlRendering.engine(
+            "md",
+            MAX_CONCURRENT_CONVERSIONS,
+            markdown->getMarkdownSupport().toHtml(markdown));
 
     private static class MarkdownSupport {
         private Parser parser;
@@ -67,6 +67,15 @@ public String asHtml() {
         return html();
     }
 
+    /**
+     * Schedules the rendering of this value's HTML in the background, such that a later {@link #asHtml()}
+     * (of this or any other instance with the same content) is served from the rendering cache.
+     */
+    public Markdown prerender() {
+        Converter.prerenderMdToHtml(markdown);
+        return this;
+    }
+
     public boolean isEqualTo(final Markdown other) {
         return Objects.equals(this, other);
     }
@@ -18,10 +18,14 @@
  */
 package org.apache.isis.valuetypes.markdown.persistence.jdo.dn5;
 
+import javax.inject.Inject;
+
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.valuetypes.markdown.applib.IsisModuleValMarkdownApplib;
+import org.apache.isis.valuetypes.markdown.persistence.jdo.dn5.converters.IsisMarkdownConverter;
 
 /**
  * @since 2.0 {@index}
@@ -31,4 +35,11 @@
     IsisModuleValMarkdownApplib.class
 })
 public class IsisModuleValMarkdownPersistenceJdoDn5 {
+
+    @Inject
+    public IsisModuleValMarkdownPersistenceJdoDn5(final IsisConfiguration isisConfiguration) {
+        IsisMarkdownConverter.setPrerenderOnLoad(
+                isisConfiguration.getValueTypes().getMarkdown().isPrerenderOnLoad());
+    }
+
 }
@@ -18,10 +18,13 @@
  */
 package org.apache.isis.valuetypes.markdown.persistence.jpa;
 
+import javax.inject.Inject;
+
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.valuetypes.markdown.applib.IsisModuleValMarkdownApplib;
 import org.apache.isis.valuetypes.markdown.persistence.jpa.converters.IsisMarkdownConverter;
 
@@ -38,4 +41,11 @@
         IsisMarkdownConverter.class
 })
 public class IsisModuleValMarkdownPersistenceJpa {
+
+    @Inject
+    public IsisModuleValMarkdownPersistenceJpa(final IsisConfiguration isisConfiguration) {
+        IsisMarkdownConverter.setPrerenderOnLoad(
+                isisConfiguration.getValueTypes().getMarkdown().isPrerenderOnLoad());
+    }
+
 }
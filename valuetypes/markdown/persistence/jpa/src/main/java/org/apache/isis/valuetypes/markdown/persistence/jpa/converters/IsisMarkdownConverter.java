@@ -39,8 +39,27 @@ public String convertToDatabaseColumn(final Markdown memberValue) {
     @Override
     public Markdown convertToEntityAttribute(final String datastoreValue) {
         return datastoreValue != null
-                ? Markdown.valueOf(datastoreValue)
+                ? prerenderIfEnabled(Markdown.valueOf(datastoreValue))
                 : null;
     }
 
+    // -- PRERENDER ON LOAD
+
+    private static volatile boolean prerenderOnLoad = false;
+
+    /**
+     * Whether loaded values are rendered to HTML in the background, as configured by
+     * <code>isis.value-types.markdown.prerender-on-load</code>.
+     */
+    public static void setPrerenderOnLoad(final boolean prerenderOnLoad) {
+        IsisMarkdownConverter.prerenderOnLoad = prerenderOnLoad;
+    }
+
+    private static Markdown prerenderIfEnabled(final Markdown memberValue) {
+        // warms the rendering cache off-request, in case the value is going to be displayed
+        return prerenderOnLoad
+                ? memberValue.prerender()
+                : memberValue;
+    }
+
 }
@@ -66,6 +66,10 @@ public String toString() {
         public static final RequestParameter<List<String>> SORT_BY = new RequestParameter<List<String>>("x-ro-sort-by", Parser.forListOfStrings(), Collections.<String> emptyList());
         public static final RequestParameter<DomainModel> DOMAIN_MODEL = new RequestParameter<DomainModel>("x-ro-domain-model", DomainModel.parser(), DomainModel.FORMAL);
         public static final RequestParameter<Boolean> VALIDATE_ONLY = new RequestParameter<Boolean>("x-ro-validate-only", Parser.forBoolean(), false);
+        /**
+         * Not part of the RO Spec v1.0; the properties to render for each element of a list or collection.
+         */
+        public static final RequestParameter<List<String>> PROPERTIES = new RequestParameter<List<String>>("x-isis-properties", Parser.forListOfStrings(), Collections.<String> emptyList());
 
         private final String name;
         private final Parser<Q> parser;
@@ -175,6 +175,15 @@ public String asString(final Boolean t) {
     public static Parser<Integer> forInteger() {
         return new Parser<Integer>() {
 
+            @Override
+            public Integer valueOf(final JsonRepresentation jsonRepresentation) {
+                // query string arguments that look like numbers are held as such
+                if (jsonRepresentation != null && jsonRepresentation.isInt()) {
+                    return jsonRepresentation.asInt();
+                }
+                return super.valueOf(jsonRepresentation);
+            }
+
             @Override
             public Integer valueOf(final String str) {
                 if (str == null) {
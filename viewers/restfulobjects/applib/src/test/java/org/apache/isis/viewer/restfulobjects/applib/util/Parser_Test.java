@@ -28,6 +28,8 @@
 import org.hamcrest.TypeSafeMatcher;
 import org.junit.Test;
 
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -166,6 +168,15 @@ public void forInteger() {
         }
     }
 
+    @Test
+    public void forInteger_whenHeldAsInt() {
+        final Parser<Integer> parser = Parser.forInteger();
+
+        final JsonRepresentation map = JsonRepresentation.newMap();
+        map.mapPut("x-ro-page", 2);
+        assertThat(parser.valueOf(map.getRepresentation("x-ro-page")), is(equalTo(2)));
+    }
+
     private static <T> Matcher<List<T>> sameContentsAs(final List<T> expected) {
         return new TypeSafeMatcher<List<T>>() {
 
@@ -0,0 +1,133 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MediaType;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.commons.internal.base._Bytes;
+import org.apache.isis.commons.internal.base._Lazy;
+import org.apache.isis.commons.internal.hash._Hashes;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * A representation that has been serialized up-front, held as bytes (and lazily also as gzipped bytes),
+ * along with a strong {@link EntityTag} derived from its content.
+ *
+ * @see Responses#ofCached(javax.ws.rs.core.Request, javax.ws.rs.core.HttpHeaders, CachedRepresentation, Caching)
+ * @since 2.0
+ */
+public final class CachedRepresentation {
+
+    @Getter private final @NonNull MediaType mediaType;
+    @Getter private final @NonNull EntityTag entityTag;
+    private final byte[] bytes;
+    private final _Lazy<byte[]> gzippedBytes;
+
+    /**
+     * The (absolute) base URI of any links within this representation, if these are to be
+     * {@link #rebase(String) rebased}.
+     */
+    @Getter private final @Nullable String baseUri;
+
+    public static CachedRepresentation of(
+            final @NonNull MediaType mediaType,
+            final @NonNull String content) {
+        return new CachedRepresentation(mediaType, content.getBytes(StandardCharsets.UTF_8), null);
+    }
+
+    /**
+     * For representations holding absolute links, rendered against the given base URI.
+     * <p>
+     * As the base URI is derived from the request (its <code>Host</code> header), such representations
+     * should be cached independently of it, and {@link #rebase(String) rebased} onto the base URI of
+     * each request.
+     */
+    public static CachedRepresentation of(
+            final @NonNull MediaType mediaType,
+            final @NonNull String content,
+            final @NonNull String baseUri) {
+        return new CachedRepresentation(mediaType, content.getBytes(StandardCharsets.UTF_8), baseUri);
+    }
+
+    private CachedRepresentation(final MediaType mediaType, final byte[] bytes, final String baseUri) {
+        this.mediaType = mediaType;
+        this.bytes = bytes;
+        this.baseUri = baseUri;
+        this.entityTag = new EntityTag(entityTagValueFor(bytes));
+        this.gzippedBytes = _Lazy.threadSafe(()->gzip(bytes));
+    }
+
+    /**
+     * The serialized representation; must not be modified by the caller.
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * The serialized representation, gzipped; must not be modified by the caller.
+     */
+    public byte[] getGzippedBytes() {
+        return gzippedBytes.get();
+    }
+
+    /**
+     * Returns this representation if its links already have the given base URI (or it has no links
+     * to rebase), otherwise a (new, uncached) representation with the links rebased onto it.
+     */
+    public CachedRepresentation rebase(final @NonNull String baseUri) {
+        if(this.baseUri == null
+                || this.baseUri.equals(baseUri)) {
+            return this;
+        }
+        val content = new String(bytes, StandardCharsets.UTF_8).replace(this.baseUri, baseUri);
+        return of(mediaType, content, baseUri);
+    }
+
+    // -- HELPER
+
+    private static String entityTagValueFor(final byte[] bytes) {
+        val digest = _Hashes.digest(_Hashes.Algorithm.SHA256, bytes)
+                .orElseThrow(()->new IllegalStateException("SHA-256 not available"));
+        return new String(_Bytes.asUrlBase64.apply(digest), StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] gzip(final byte[] bytes) {
+        val os = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try(GZIPOutputStream gzos = new GZIPOutputStream(os)) {
+            gzos.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return os.toByteArray();
+    }
+
+}
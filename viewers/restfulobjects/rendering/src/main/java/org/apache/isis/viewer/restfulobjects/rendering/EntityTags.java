@@ -0,0 +1,139 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.core.EntityTag;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.commons.internal.base._NullSafe;
+import org.apache.isis.commons.internal.base._Bytes;
+import org.apache.isis.commons.internal.hash._Hashes;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Derives the (strong) {@link EntityTag} of a domain object's representation, without having to render it.
+ *
+ * <p>
+ *     For entities, the tag is derived from the entity's bookmark and its optimistic-locking version
+ *     (JDO or JPA <code>@Version</code>); entities that are not versioned have no tag.
+ *     For view models, the tag is derived from the view model's memento, which encodes its state.
+ *     In either case the current user (and roles) and locale also contribute, as these determine
+ *     which members are visible or usable and how they are rendered.
+ * </p>
+ *
+ * @since 2.0
+ */
+public final class EntityTags {
+
+    private EntityTags(){}
+
+    /**
+     * Matches a single entity-tag within an <code>If-Match</code> header value (which may hold a
+     * comma-separated list of these), or <code>*</code>.
+     */
+    private static final Pattern IF_MATCH_ELEMENT = Pattern.compile("\\*|(W/)?\"([^\"]*)\"");
+
+    public static Optional<EntityTag> entityTagFor(
+            final @NonNull IResourceContext resourceContext,
+            final @NonNull ManagedObject objectAdapter) {
+
+        val spec = objectAdapter.getSpecification();
+        if(spec.isEntity()) {
+            return Optional.ofNullable(spec.getFacet(EntityFacet.class))
+                    .flatMap(entityFacet->entityFacet.versionOf(objectAdapter.getPojo()))
+                    .flatMap(version->objectAdapter.getBookmark()
+                            .map(bookmark->entityTagFor(resourceContext, bookmark.stringify() + "@" + version)));
+        }
+        if(spec.isViewModel()) {
+            return objectAdapter.getBookmarkRefreshed()
+                    .map(Bookmark::stringify)
+                    .map(memento->entityTagFor(resourceContext, memento));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Whether the given <code>If-Match</code> request header values match the current entity tag of a
+     * resource, using the strong comparison (RFC 7232, section 3.1), so weak tags never match;
+     * <code>*</code> matches any current tag.
+     *
+     * <p>
+     *     Unlike {@link javax.ws.rs.core.Request#evaluatePreconditions(EntityTag)}, this only considers
+     *     <code>If-Match</code>, not any of the other conditional request headers (<code>If-None-Match</code>
+     *     in particular).
+     * </p>
+     *
+     * @param ifMatchHeaderValues - the values of the <code>If-Match</code> request header (if any)
+     * @param currentEntityTag - the resource's current tag (a strong one)
+     */
+    public static boolean ifMatch(
+            final @Nullable List<String> ifMatchHeaderValues,
+            final @NonNull EntityTag currentEntityTag) {
+
+        if(_NullSafe.isEmpty(ifMatchHeaderValues)) {
+            return false;
+        }
+        for (String headerValue : ifMatchHeaderValues) {
+            val matcher = IF_MATCH_ELEMENT.matcher(headerValue);
+            while(matcher.find()) {
+                if(matcher.group().equals("*")) {
+                    return true;
+                }
+                val weak = matcher.group(1) != null;
+                if(!weak
+                        && !currentEntityTag.isWeak()
+                        && matcher.group(2).equals(currentEntityTag.getValue())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // -- HELPER
+
+    private static EntityTag entityTagFor(
+            final IResourceContext resourceContext,
+            final String objectState) {
+
+        val interactionContext = resourceContext.getInteractionProvider().currentInteractionContext();
+        val seed = new StringBuilder(objectState);
+        interactionContext.ifPresent(ctx->seed
+                .append('|').append(ctx.getUser().getName())
+                .append('|').append(ctx.getUser().streamRoleNames().sorted().collect(Collectors.joining(",")))
+                .append('|').append(ctx.getLocale().toLanguageTag()));
+
+        val digest = _Hashes.digest(_Hashes.Algorithm.SHA256, seed.toString().getBytes(StandardCharsets.UTF_8))
+                .orElseThrow(()->new IllegalStateException("SHA-256 not available"));
+        return new EntityTag(new String(_Bytes.asUrlBase64.apply(digest), StandardCharsets.US_ASCII));
+    }
+
+}
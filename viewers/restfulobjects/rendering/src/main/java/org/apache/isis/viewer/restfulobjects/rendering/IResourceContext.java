@@ -74,6 +74,11 @@ public interface IResourceContext {
     List<List<String>> getFollowLinks();
     boolean isValidateOnly();
 
+    /**
+     * The paging, sorting and projection to apply to the elements of a list or (standalone) collection.
+     */
+    ListQuery getListQuery();
+
     boolean honorUiHints();
 
     boolean objectPropertyValuesOnly();
@@ -85,6 +90,14 @@ public interface IResourceContext {
     boolean suppressMemberExtensions();
     boolean suppressMemberDisabledReason();
 
+    /**
+     * Whether list and (standalone) collection representations are to be rendered lazily, element by element,
+     * while the response is being written.
+     *
+     * @see StreamingJsonArray
+     */
+    boolean streamCollections();
+
     /**
      * To avoid infinite loops when eagerly rendering graphs
      * of objects as {@link DomainObjectReprRenderer#asEventSerialization() events}.
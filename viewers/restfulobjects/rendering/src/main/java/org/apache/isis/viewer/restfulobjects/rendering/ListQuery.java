@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import org.apache.isis.applib.query.QueryRange;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.RestfulRequest.RequestParameter;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * The paging, sorting and property projection requested for the elements of a list (as returned by an action)
+ * or of a standalone collection, using the {@link RequestParameter#PAGE}, {@link RequestParameter#PAGE_SIZE},
+ * {@link RequestParameter#SORT_BY} and {@link RequestParameter#PROPERTIES} request parameters.
+ *
+ * @since 2.0 {@index}
+ */
+@Value(staticConstructor = "of")
+public class ListQuery {
+
+    public static final ListQuery UNCONSTRAINED = ListQuery.of(1, 0, Can.empty(), Can.empty());
+
+    /**
+     * The requested page, starting at 1; only applies if {@link #isPaged() paged}.
+     */
+    int page;
+
+    /**
+     * The number of elements per page, or 0 if not {@link #isPaged() paged}.
+     */
+    int pageSize;
+
+    /**
+     * The ids of the properties to sort by, each optionally prefixed by <code>-</code> for a descending order.
+     */
+    @NonNull Can<String> sortBy;
+
+    /**
+     * The ids of the properties to render for each element.
+     */
+    @NonNull Can<String> properties;
+
+    public boolean isPaged() {
+        return pageSize > 0;
+    }
+
+    public boolean isSorted() {
+        return sortBy.isNotEmpty();
+    }
+
+    public boolean isProjected() {
+        return properties.isNotEmpty();
+    }
+
+    /**
+     * The (zero-based) range of the elements of the requested page.
+     */
+    public QueryRange getRange() {
+        return isPaged()
+                ? QueryRange.start((long) (page - 1) * pageSize).withLimit(pageSize)
+                : QueryRange.unconstrained();
+    }
+
+    /**
+     * The request parameters to select the given page, keeping the same page size, sorting and projection.
+     */
+    public JsonRepresentation argumentsForPage(final int page) {
+        val arguments = JsonRepresentation.newMap();
+        arguments.mapPut(RequestParameter.PAGE.getName(), page);
+        arguments.mapPut(RequestParameter.PAGE_SIZE.getName(), pageSize);
+        if(isSorted()) {
+            arguments.mapPut(RequestParameter.SORT_BY.getName(),
+                    RequestParameter.SORT_BY.getParser().asString(sortBy.toList()));
+        }
+        if(isProjected()) {
+            arguments.mapPut(RequestParameter.PROPERTIES.getName(),
+                    RequestParameter.PROPERTIES.getParser().asString(properties.toList()));
+        }
+        return arguments;
+    }
+
+}
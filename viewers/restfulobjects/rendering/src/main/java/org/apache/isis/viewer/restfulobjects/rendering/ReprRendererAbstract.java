@@ -100,6 +100,16 @@ protected void addMediaTypeParams(final String param, final String paramValue) {
         mediaTypeParams.put(param, paramValue);
     }
 
+    /**
+     * Whether the representation (as rendered) holds a {@link StreamingJsonArray}, in which case it must be
+     * written directly to the response's output stream, and just the once.
+     *
+     * @see Responses#inferStreaming(ReprRenderer)
+     */
+    public boolean isStreaming() {
+        return false;
+    }
+
     public <R extends ReprRendererAbstract<T>> R includesSelf() {
         this.includesSelf = true;
         return _Casts.uncheckedCast(this);
@@ -20,10 +20,13 @@
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 
 import org.apache.isis.applib.services.clock.ClockService;
@@ -81,11 +84,74 @@ public static Response.ResponseBuilder ofOk(
                 .header("Date", dateFormat.format(now))
                 .type(mediaType)
                 .cacheControl(caching.getCacheControl())
-                .entity(JsonWriterUtil.jsonFor(entityRepresentation, inferPrettyPrinting(renderer)));
+                .entity(inferStreaming(renderer)
+                        ? JsonWriterUtil.streamingJsonFor(entityRepresentation, inferPrettyPrinting(renderer))
+                        : JsonWriterUtil.jsonFor(entityRepresentation, inferPrettyPrinting(renderer)));
 
         return response;
     }
 
+    /**
+     * Serves a {@link CachedRepresentation}, honouring any <code>If-None-Match</code> request header
+     * (in which case the response is a <i>304 Not Modified</i> with no body), and sending the gzipped
+     * bytes if the client accepts that encoding.
+     */
+    public static Response.ResponseBuilder ofCached(
+            final Request request,
+            final HttpHeaders httpHeaders,
+            final CachedRepresentation cachedRepresentation,
+            final Caching caching) {
+
+        final Response.ResponseBuilder notModified =
+                request.evaluatePreconditions(cachedRepresentation.getEntityTag());
+        if(notModified != null) {
+            return notModified
+                    .cacheControl(caching.getCacheControl())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        final Response.ResponseBuilder response =
+                of(RestfulResponse.HttpStatusCode.OK)
+                .type(cachedRepresentation.getMediaType())
+                .cacheControl(caching.getCacheControl())
+                .tag(cachedRepresentation.getEntityTag())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        return acceptsGzip(httpHeaders)
+                ? response
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .entity(cachedRepresentation.getGzippedBytes())
+                : response
+                    .entity(cachedRepresentation.getBytes());
+    }
+
+    private static boolean acceptsGzip(final HttpHeaders httpHeaders) {
+        final List<String> acceptEncodings = httpHeaders.getRequestHeader(HttpHeaders.ACCEPT_ENCODING);
+        if(acceptEncodings == null) {
+            return false;
+        }
+        for (String acceptEncoding : acceptEncodings) {
+            for (String coding : acceptEncoding.split(",")) {
+                val codingAndParams = coding.trim().split(";");
+                if("gzip".equalsIgnoreCase(codingAndParams[0].trim())
+                        && !isZeroQuality(codingAndParams)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(final String[] codingAndParams) {
+        for (int i = 1; i < codingAndParams.length; i++) {
+            val param = codingAndParams[i].trim().replace(" ", "");
+            if(param.equals("q=0") || param.startsWith("q=0.") && param.substring(4).chars().allMatch(c->c=='0')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static Date now(final ReprRenderer<?> renderer) {
         if(renderer instanceof ReprRendererAbstract) {
             ((ReprRendererAbstract<?>)renderer).getResourceContext().getMetaModelContext().getServiceRegistry()
@@ -119,4 +185,19 @@ public static JsonMapper.PrettyPrinting inferPrettyPrinting(final ReprRenderer<?
 
     }
 
+    /**
+     * Whether the entity should be written directly to the response's output stream (rather than first
+     * being serialized to a string), in which case any {@link StreamingJsonArray}s within the representation
+     * are only rendered at that point.
+     * <p>
+     * Only the case for (already rendered) list and collection representations that actually hold such an array,
+     * see {@link ReprRendererAbstract#isStreaming()}.
+     *
+     * @see IResourceContext#streamCollections()
+     */
+    public static boolean inferStreaming(final ReprRenderer<?> renderer) {
+        return renderer instanceof ReprRendererAbstract
+                && ((ReprRendererAbstract<?>) renderer).isStreaming();
+    }
+
 }
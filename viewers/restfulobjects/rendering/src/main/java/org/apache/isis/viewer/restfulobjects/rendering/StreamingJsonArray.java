@@ -0,0 +1,82 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A JSON array whose elements are only rendered when the enclosing {@link JsonRepresentation}
+ * is serialized, each element being written to the {@link JsonGenerator} and then discarded.
+ *
+ * <p>
+ *     Put into a representation (using {@link JsonRepresentation#mapPut(String, Object)}) in place of
+ *     a fully built array of the same shape, so that - when the representation is written directly to
+ *     the response's output stream - memory use is independent of the number of elements.
+ * </p>
+ *
+ * <p>
+ *     The underlying {@link Stream} is consumed by the (one and only) serialization.
+ * </p>
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class StreamingJsonArray<T> implements JsonSerializable {
+
+    private final @NonNull Stream<T> elements;
+    private final @NonNull Function<T, JsonRepresentation> elementRenderer;
+    private final AtomicBoolean consumed = new AtomicBoolean();
+
+    @Override
+    public void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+        if(!consumed.compareAndSet(false, true)) {
+            throw _Exceptions.illegalState("a streaming JSON array can only be serialized once");
+        }
+        gen.writeStartArray();
+        try(final Stream<T> elements = this.elements) {
+            final Iterator<T> iterator = elements.iterator();
+            while(iterator.hasNext()) {
+                gen.writeTree(elementRenderer.apply(iterator.next()).asJsonNode());
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(
+            final JsonGenerator gen,
+            final SerializerProvider serializers,
+            final TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+}
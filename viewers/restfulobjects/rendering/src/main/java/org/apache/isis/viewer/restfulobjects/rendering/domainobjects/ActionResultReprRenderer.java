@@ -19,6 +19,7 @@
 package org.apache.isis.viewer.restfulobjects.rendering.domainobjects;
 
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.node.NullNode;
@@ -48,6 +49,7 @@
     private ManagedObject returnedAdapter;
     private final SelfLink selfLink;
     private ObjectAndActionInvocation objectAndActionInvocation;
+    private ReprRendererAbstract<?> resultRenderer;
 
     public enum SelfLink {
         INCLUDED, EXCLUDED
@@ -77,6 +79,12 @@ public ActionResultReprRenderer with(final ObjectAndActionInvocation objectAndAc
         return this;
     }
 
+    @Override
+    public boolean isStreaming() {
+        return resultRenderer != null
+                && resultRenderer.isStreaming();
+    }
+
     public void using(final ObjectAdapterLinkTo adapterLinkTo) {
         this.adapterLinkTo = adapterLinkTo.with(objectAdapter);
     }
@@ -124,9 +132,9 @@ private void addResultTo(
 
         // we have a returnedAdapter with a spec, but it might hold no pojo (null)
 
-        final ReprRendererAbstract<?> renderer = buildResultRenderer(resultType, representation);
-        if(renderer != null) {
-            renderer.render();
+        resultRenderer = buildResultRenderer(resultType, representation);
+        if(resultRenderer != null) {
+            resultRenderer.render();
         }
     }
 
@@ -144,10 +152,13 @@ private ReprRendererAbstract<?> buildResultRenderer(
                 CollectionFacet.streamAdapters(returnedAdapter);
 
             final ListReprRenderer listReprRenderer =
-                    new ListReprRenderer(resourceContext, null, representation).withElementRel(Rel.ELEMENT);
+                    new ListReprRenderer(resourceContext, null, representation)
+                    .withElementRel(Rel.ELEMENT)
+                    .asResponseEntity();
             listReprRenderer.with(collectionAdapters)
             .withReturnType(action.getReturnType())
-            .withElementType(returnedAdapter.getElementSpecification().orElse(null));
+            .withElementType(returnedAdapter.getElementSpecification().orElse(null))
+            .withListQuery(resourceContext.getListQuery(), pageLinkFactory());
 
             return listReprRenderer;
 
@@ -194,13 +205,7 @@ private void representationWithSelfFor(final ObjectAction action, final JsonRepr
 
         final LinkBuilder selfLinkBuilder = adapterLinkTo.memberBuilder(Rel.SELF, MemberType.ACTION, action, RepresentationType.ACTION_RESULT, "invoke");
 
-        // TODO: remove duplication with AbstractObjectMember#addLinkTo
-        final MemberType memberType = MemberType.of(action);
-        final Map<String, MutatorSpec> mutators = memberType.getMutators();
-
-        final String mutator = InvokeKeys.getKeyFor(action.getSemantics());
-        final MutatorSpec mutatorSpec = mutators.get(mutator);
-        selfLinkBuilder.withHttpMethod(mutatorSpec.httpMethod);
+        selfLinkBuilder.withHttpMethod(invokeHttpMethod());
 
         final JsonRepresentation selfLink = selfLinkBuilder.build();
 
@@ -214,4 +219,43 @@ private void representationWithSelfFor(final ObjectAction action, final JsonRepr
 
     }
 
+    private RestfulHttpMethod invokeHttpMethod() {
+        // TODO: remove duplication with AbstractObjectMember#addLinkTo
+        final MemberType memberType = MemberType.of(action);
+        final Map<String, MutatorSpec> mutators = memberType.getMutators();
+
+        final String mutator = InvokeKeys.getKeyFor(action.getSemantics());
+        final MutatorSpec mutatorSpec = mutators.get(mutator);
+        return mutatorSpec.httpMethod;
+    }
+
+    /**
+     * Links to other pages of the returned list re-invoke the action, so are only provided for actions that are
+     * safe in nature; following a page link of an idempotent or non-idempotent action would run its side effects
+     * again.  For these, just the requested page is returned, without any links to navigate to other pages.
+     */
+    private BiFunction<Rel, JsonRepresentation, JsonRepresentation> pageLinkFactory() {
+        return action.getSemantics().isSafeInNature()
+                ? this::linkToPage
+                : null;
+    }
+
+    /**
+     * Link to (re-)invoke the action with the same arguments, selecting a different page of the returned list.
+     */
+    private JsonRepresentation linkToPage(final Rel rel, final JsonRepresentation pageArguments) {
+        final JsonRepresentation invokeArguments = JsonRepresentation.newMap();
+        if(arguments != null && arguments.isMap()) {
+            arguments.streamMapEntries()
+            .forEach(entry->invokeArguments.mapPut(entry.getKey(), entry.getValue()));
+        }
+        pageArguments.streamMapEntries()
+        .forEach(entry->invokeArguments.mapPut(entry.getKey(), entry.getValue()));
+
+        return adapterLinkTo.memberBuilder(rel, MemberType.ACTION, action, RepresentationType.ACTION_RESULT, "invoke")
+                .withHttpMethod(invokeHttpMethod())
+                .withArguments(invokeArguments)
+                .build();
+    }
+
 }
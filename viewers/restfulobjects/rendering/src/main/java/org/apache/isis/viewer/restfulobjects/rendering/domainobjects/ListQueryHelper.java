@@ -0,0 +1,223 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering.domainobjects;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.core.metamodel.interactions.managed.ManagedProperty;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.Rel;
+import org.apache.isis.viewer.restfulobjects.applib.RestfulRequest.RequestParameter;
+import org.apache.isis.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
+import org.apache.isis.viewer.restfulobjects.rendering.IResourceContext;
+import org.apache.isis.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.isis.viewer.restfulobjects.rendering.ListQuery;
+import org.apache.isis.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Applies a {@link ListQuery} to the elements of a list or collection representation.
+ *
+ * <p>
+ *     The elements have already been obtained from the domain object (or action) by the time they are rendered,
+ *     so the query cannot be pushed down any further than the stream of elements; but only the elements of the
+ *     requested page are rendered (and, unless sorted, adapted).
+ * </p>
+ */
+@RequiredArgsConstructor
+final class ListQueryHelper {
+
+    private static final LinkFollowSpecs NO_FOLLOW_LINKS = LinkFollowSpecs.create(Collections.emptyList());
+
+    private final @NonNull IResourceContext resourceContext;
+    private final @NonNull ListQuery listQuery;
+
+    /**
+     * Sorts then pages the elements, adding {@link Rel#PREVIOUS previous} and {@link Rel#NEXT next} links
+     * (as built by the <code>pageLinkFactory</code>, given the rel and the arguments selecting the page) to the
+     * provided links, unless no <code>pageLinkFactory</code> is given.
+     *
+     * <p>
+     *     Sorting requires all elements to be read, whereas paging reads only up to one element beyond the
+     *     requested page (to determine whether there is a next page).
+     * </p>
+     */
+    Stream<ManagedObject> apply(
+            final Stream<ManagedObject> elements,
+            final ObjectSpecification elementType,
+            final JsonRepresentation links,
+            final @Nullable BiFunction<Rel, JsonRepresentation, JsonRepresentation> pageLinkFactory) {
+
+        final Stream<ManagedObject> sorted = listQuery.isSorted()
+                ? sorted(elements, elementType)
+                : elements;
+
+        if(!listQuery.isPaged()) {
+            return sorted;
+        }
+
+        val range = listQuery.getRange();
+        final List<ManagedObject> pageAndOneMore = sorted
+                .skip(range.getStart())
+                .limit(range.getLimit() + 1)
+                .collect(Collectors.toList());
+        final boolean hasNext = pageAndOneMore.size() > range.getLimit();
+
+        if(pageLinkFactory != null) {
+            if(listQuery.getPage() > 1) {
+                links.arrayAdd(pageLinkFactory.apply(Rel.PREVIOUS, listQuery.argumentsForPage(listQuery.getPage() - 1)));
+            }
+            if(hasNext) {
+                links.arrayAdd(pageLinkFactory.apply(Rel.NEXT, listQuery.argumentsForPage(listQuery.getPage() + 1)));
+            }
+        }
+
+        return pageAndOneMore.stream()
+                .limit(range.getLimit());
+    }
+
+    /**
+     * Adds the values of the requested (and visible) properties of the element to the link, keyed by
+     * property id, under <code>properties</code>.
+     */
+    void addProjection(final JsonRepresentation linkToElement, final ManagedObject element) {
+        if(!listQuery.isProjected()) {
+            return;
+        }
+        val propertyValues = JsonRepresentation.newMap();
+        listQuery.getProperties()
+        .forEach(propertyId->visibleProperty(element, propertyId)
+            .ifPresent(property->{
+                val renderer = new ObjectPropertyReprRenderer(
+                        resourceContext, NO_FOLLOW_LINKS, property.getId(), JsonRepresentation.newMap());
+                renderer.with(ManagedProperty.of(element, property, resourceContext.getWhere()))
+                .usingLinkTo(new DomainObjectLinkTo());
+                propertyValues.mapPut(property.getId(), renderer.render().getRepresentation("value"));
+            }));
+        linkToElement.mapPut("properties", propertyValues);
+    }
+
+    // -- SORTING
+
+    @Value
+    private static class SortKey {
+
+        String propertyId;
+        boolean descending;
+
+        static SortKey parse(final String sortBy) {
+            return sortBy.startsWith("-")
+                    ? new SortKey(sortBy.substring(1), true)
+                    : new SortKey(sortBy, false);
+        }
+    }
+
+    @Value
+    private static class SortableElement {
+        ManagedObject element;
+        List<Comparable<Object>> keys;
+    }
+
+    private Stream<ManagedObject> sorted(final Stream<ManagedObject> elements, final ObjectSpecification elementType) {
+        final List<SortKey> sortKeys = listQuery.getSortBy().map(SortKey::parse).toList();
+        if(elementType != null) {
+            sortKeys.forEach(sortKey->ensurePropertyOf(elementType, sortKey.getPropertyId()));
+        }
+        return elements
+                // read each element's sort keys just the once
+                .map(element->new SortableElement(element, sortKeys.stream()
+                        .map(sortKey->sortKeyValueOf(element, sortKey.getPropertyId()))
+                        .collect(Collectors.toList())))
+                .sorted(comparatorFor(sortKeys))
+                .map(SortableElement::getElement);
+    }
+
+    private static Comparator<SortableElement> comparatorFor(final List<SortKey> sortKeys) {
+        Comparator<SortableElement> comparator = (a, b) -> 0;
+        for (int i = 0; i < sortKeys.size(); i++) {
+            final int keyIndex = i;
+            final Comparator<Comparable<Object>> keyComparator = sortKeys.get(keyIndex).isDescending()
+                    ? ListQueryHelper.<Comparable<Object>>naturalOrderAcrossTypes().reversed()
+                    : ListQueryHelper.<Comparable<Object>>naturalOrderAcrossTypes();
+            comparator = comparator.thenComparing(
+                    sortable->sortable.getKeys().get(keyIndex),
+                    Comparator.nullsLast(keyComparator));
+        }
+        return comparator;
+    }
+
+    /**
+     * Elements of a list might be of different (sub-)types, so might have values of differing types for
+     * the same property; these are grouped by type.
+     */
+    private static <T extends Comparable<Object>> Comparator<T> naturalOrderAcrossTypes() {
+        return (a, b) -> a.getClass().equals(b.getClass())
+                ? a.compareTo(b)
+                : a.getClass().getName().compareTo(b.getClass().getName());
+    }
+
+    private static void ensurePropertyOf(final ObjectSpecification elementType, final String propertyId) {
+        if(!elementType.getProperty(propertyId).isPresent()) {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.BAD_REQUEST,
+                    "%s: '%s' is not a property of %s",
+                    RequestParameter.SORT_BY, propertyId, elementType.getLogicalTypeName());
+        }
+    }
+
+    /**
+     * The property's value if comparable, else its title; <code>null</code> if not visible.
+     */
+    @SuppressWarnings("unchecked")
+    private Comparable<Object> sortKeyValueOf(final ManagedObject element, final String propertyId) {
+        return visibleProperty(element, propertyId)
+                .map(property->property.get(element, resourceContext.getInteractionInitiatedBy()))
+                .filter(value->!ManagedObjects.isNullOrUnspecifiedOrEmpty(value))
+                .map(value->value.getPojo() instanceof Comparable
+                        ? (Comparable<Object>) value.getPojo()
+                        : (Comparable<Object>) (Comparable<?>) value.titleString())
+                .orElse(null);
+    }
+
+    // -- HELPER
+
+    private Optional<OneToOneAssociation> visibleProperty(final ManagedObject element, final String propertyId) {
+        return element.getSpecification().getProperty(propertyId)
+                .filter(property->property.isVisible(
+                        element,
+                        resourceContext.getInteractionInitiatedBy(),
+                        resourceContext.getWhere()).isAllowed());
+    }
+
+}
@@ -18,10 +18,11 @@
  */
 package org.apache.isis.viewer.restfulobjects.rendering.domainobjects;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
@@ -29,16 +30,22 @@
 import org.apache.isis.viewer.restfulobjects.applib.RepresentationType;
 import org.apache.isis.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.isis.viewer.restfulobjects.rendering.ListQuery;
 import org.apache.isis.viewer.restfulobjects.rendering.ReprRendererAbstract;
+import org.apache.isis.viewer.restfulobjects.rendering.StreamingJsonArray;
 
 public class ListReprRenderer
 extends ReprRendererAbstract<Stream<ManagedObject>> {
 
     private ObjectAdapterLinkTo linkTo;
-    private List<ManagedObject> objectAdapters;
+    private Stream<ManagedObject> objectAdapters;
     private ObjectSpecification elementType;
     private ObjectSpecification returnType;
     private Rel elementRel;
+    private ListQueryHelper listQueryHelper;
+    private BiFunction<Rel, JsonRepresentation, JsonRepresentation> pageLinkFactory;
+    private boolean responseEntity;
+    private boolean streaming;
 
     public ListReprRenderer(
             final IResourceContext resourceContext,
@@ -46,6 +53,7 @@ public ListReprRenderer(
             final JsonRepresentation representation) {
         super(resourceContext, linkFollower, RepresentationType.LIST, representation);
         usingLinkToBuilder(new DomainObjectLinkTo());
+        this.listQueryHelper = new ListQueryHelper(resourceContext, ListQuery.UNCONSTRAINED);
     }
 
     public ListReprRenderer usingLinkToBuilder(final ObjectAdapterLinkTo objectAdapterLinkToBuilder) {
@@ -58,9 +66,8 @@ public ListReprRenderer with(final Stream<ManagedObject> objectAdapters) {
         this.objectAdapters = objectAdapters!=null
                 ? objectAdapters
                         .filter(adapter->!adapter.getSpecification().isHidden())
-                        .collect(Collectors.toList())
                         : null;
-                        return this;
+        return this;
     }
 
     public ListReprRenderer withElementRel(final Rel elementRel) {
@@ -78,6 +85,34 @@ public ListReprRenderer withElementType(final ObjectSpecification elementType) {
         return this;
     }
 
+    /**
+     * Pages, sorts and projects the elements as per the {@link ListQuery}.
+     *
+     * @param pageLinkFactory - builds the links to the previous and next pages, given the rel and the
+     * arguments selecting the page; if {@code null}, only the requested page is returned, without such links
+     */
+    public ListReprRenderer withListQuery(
+            final ListQuery listQuery,
+            final @Nullable BiFunction<Rel, JsonRepresentation, JsonRepresentation> pageLinkFactory) {
+        this.listQueryHelper = new ListQueryHelper(resourceContext, listQuery);
+        this.pageLinkFactory = pageLinkFactory;
+        return this;
+    }
+
+    /**
+     * The list is (the result within) the entity of the response, so is serialized just the once;
+     * its elements may therefore be streamed, if {@link IResourceContext#streamCollections() so configured}.
+     */
+    public ListReprRenderer asResponseEntity() {
+        this.responseEntity = true;
+        return this;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return streaming;
+    }
+
     @Override
     public JsonRepresentation render() {
 
@@ -100,28 +135,42 @@ private void addValue() {
             return;
         }
 
+        final Stream<ManagedObject> elements =
+                listQueryHelper.apply(objectAdapters, elementType, getLinks(), pageLinkFactory);
+
+        if(responseEntity
+                && resourceContext.streamCollections()) {
+            representation.mapPut("value", StreamingJsonArray.of(elements, this::linkToElement));
+            streaming = true;
+            return;
+        }
+
         final JsonRepresentation values = JsonRepresentation.newArray();
 
-        objectAdapters
-        .forEach(adapter->{
-            final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
-            values.arrayAdd(linkToObject);
-
-            final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
-            if (linkFollower.matches(linkToObject)) {
-                final DomainObjectReprRenderer renderer =
-                        new DomainObjectReprRenderer(
-                                getResourceContext(),
-                                linkFollower,
-                                JsonRepresentation.newMap());
-                final JsonRepresentation domainObject = renderer.with(adapter).render();
-                linkToObject.mapPut("value", domainObject);
-            }
-        });
+        elements
+        .map(this::linkToElement)
+        .forEach(values::arrayAdd);
 
         representation.mapPut("value", values);
     }
 
+    private JsonRepresentation linkToElement(final ManagedObject adapter) {
+        final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
+
+        final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
+        if (linkFollower.matches(linkToObject)) {
+            final DomainObjectReprRenderer renderer =
+                    new DomainObjectReprRenderer(
+                            getResourceContext(),
+                            linkFollower,
+                            JsonRepresentation.newMap());
+            final JsonRepresentation domainObject = renderer.with(adapter).render();
+            linkToObject.mapPut("value", domainObject);
+        }
+        listQueryHelper.addProjection(linkToObject, adapter);
+        return linkToObject;
+    }
+
 
     protected void addLinkToReturnType() {
         addLink(Rel.RETURN_TYPE, returnType);
@@ -20,9 +20,11 @@
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.isis.applib.annotation.Where;
-import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.core.metamodel.facets.collections.CollectionFacet;
 import org.apache.isis.core.metamodel.facets.collections.collection.defaultview.DefaultViewFacet;
 import org.apache.isis.core.metamodel.interactions.managed.ManagedCollection;
@@ -35,6 +37,8 @@
 import org.apache.isis.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkBuilder;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.isis.viewer.restfulobjects.rendering.ListQuery;
+import org.apache.isis.viewer.restfulobjects.rendering.StreamingJsonArray;
 import org.apache.isis.viewer.restfulobjects.rendering.domaintypes.CollectionDescriptionReprRenderer;
 
 import lombok.val;
@@ -42,6 +46,8 @@
 public class ObjectCollectionReprRenderer
 extends AbstractObjectMemberReprRenderer<OneToManyAssociation> {
 
+    private boolean streaming;
+
     public ObjectCollectionReprRenderer(
             final IResourceContext resourceContext,
             final LinkFollowSpecs linkFollowSpecs,
@@ -56,6 +62,11 @@ public ObjectCollectionReprRenderer(
                 Where.PARENTED_TABLES);
     }
 
+    @Override
+    public boolean isStreaming() {
+        return streaming;
+    }
+
     @Override
     public JsonRepresentation render() {
 
@@ -102,10 +113,15 @@ private void addValue(final LinkFollowSpecs linkFollower) {
                 && renderEagerly(valueAdapter)
                 || !followHref.isTerminated();
 
-        final List<JsonRepresentation> list = _Lists.newArrayList();
+        // only standalone (or mutated) representations are the entity of a response
+        final boolean isResponseEntity = mode.isStandalone() || mode.isMutated();
+
+        final ListQueryHelper listQueryHelper = new ListQueryHelper(resourceContext,
+                isResponseEntity ? resourceContext.getListQuery() : ListQuery.UNCONSTRAINED);
+        final Stream<ManagedObject> elements = listQueryHelper.apply(
+                CollectionFacet.streamAdapters(valueAdapter), objectMember.getElementType(), getLinks(), this::linkToPage);
 
-        CollectionFacet.streamAdapters(valueAdapter)
-        .forEach(elementAdapter->{
+        final Function<ManagedObject, JsonRepresentation> elementRenderer = elementAdapter->{
             final LinkBuilder valueLinkBuilder = DomainObjectReprRenderer
                     .newLinkToBuilder(resourceContext, Rel.VALUE, elementAdapter);
             if(eagerlyRender) {
@@ -119,12 +135,32 @@ && renderEagerly(valueAdapter)
                 valueLinkBuilder.withValue(domainObjectReprRenderer.render());
             }
 
-            list.add(valueLinkBuilder.build());
-        });
+            final JsonRepresentation valueLink = valueLinkBuilder.build();
+            listQueryHelper.addProjection(valueLink, elementAdapter);
+            return valueLink;
+        };
+
+        // being the response entity, is written just the once
+        if(isResponseEntity
+                && resourceContext.streamCollections()) {
+            representation.mapPut("value", StreamingJsonArray.of(elements, elementRenderer));
+            streaming = true;
+            return;
+        }
+
+        final List<JsonRepresentation> list = elements
+                .map(elementRenderer)
+                .collect(Collectors.toList());
 
         representation.mapPut("value", list);
     }
 
+    private JsonRepresentation linkToPage(final Rel rel, final JsonRepresentation pageArguments) {
+        return linkTo.memberBuilder(rel, MemberType.COLLECTION, objectMember)
+                .withArguments(pageArguments)
+                .build();
+    }
+
     private boolean renderEagerly(final ManagedObject valueAdapter) {
         return renderEagerly() && resourceContext.canEagerlyRender(valueAdapter);
     }
@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.events.MetamodelEvent;
+import org.apache.isis.viewer.restfulobjects.rendering.CachedRepresentation;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Holds the pre-serialized representations of the (immutable) metamodel, that is the
+ * <code>/domain-types</code> resources and the <code>/swagger</code> specs.
+ *
+ * <p>
+ *     The cache is keyed by the caller, who must include in the key anything that the representation
+ *     depends upon (the resource path, the locale and so on); it must however not include anything
+ *     that the client controls freely (such as the base URI, derived from the <code>Host</code> header),
+ *     as the cache is not bounded otherwise.
+ *     It is discarded whenever the metamodel is (re)loaded.
+ * </p>
+ *
+ * @see IsisConfiguration.Viewer.Restfulobjects#isCacheMetamodelRepresentations()
+ * @since 2.0
+ */
+@Service
+@Named("isis.viewer.ro.MetamodelRepresentationCache")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+public class MetamodelRepresentationCache {
+
+    @Getter private final boolean enabled;
+    private final Map<String, CachedRepresentation> representationsByKey = new ConcurrentHashMap<>();
+
+    @Inject
+    public MetamodelRepresentationCache(final IsisConfiguration isisConfiguration) {
+        this.enabled = isisConfiguration.getViewer().getRestfulobjects().isCacheMetamodelRepresentations();
+    }
+
+    /**
+     * Returns the cached representation for the given key, using the factory to render it if absent
+     * (or always, if caching is disabled).
+     */
+    public CachedRepresentation computeIfAbsent(
+            final @NonNull String key,
+            final @NonNull Supplier<CachedRepresentation> factory) {
+
+        if(!enabled) {
+            return factory.get();
+        }
+        val existing = representationsByKey.get(key);
+        if(existing != null) {
+            return existing;
+        }
+        // rendering is not done under the map's lock; should two threads race, the first one wins
+        val rendered = factory.get();
+        val raced = representationsByKey.putIfAbsent(key, rendered);
+        return raced != null
+                ? raced
+                : rendered;
+    }
+
+    public void clear() {
+        representationsByKey.clear();
+    }
+
+    @EventListener(MetamodelEvent.class)
+    public void onMetamodelEvent(final MetamodelEvent event) {
+        clear();
+    }
+
+}
@@ -45,6 +45,7 @@
 import org.apache.isis.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.viewer.restfulobjects.applib.RestfulRequest.RequestParameter;
 
 import lombok.val;
 
@@ -472,6 +473,9 @@ void appendServiceActionInvokePath(
                         .required(false)
                         .type("string"));
             }
+            if(serviceAction.getReturnType().isParentedOrFreeCollection()) {
+                appendListQueryParameters(invokeOperation);
+            }
 
         } else {
             if (semantics.isIdempotentInNature()) {
@@ -535,6 +539,7 @@ void appendCollectionTo(
                         .type("string"));
 
         path.get(collectionOperation);
+        appendListQueryParameters(collectionOperation);
         collectionOperation
         .response(
                 200, new Response()
@@ -543,6 +548,35 @@ void appendCollectionTo(
                 );
     }
 
+    /**
+     * Query parameters for paging, sorting and projecting the elements of a collection or of a list
+     * returned by an action.
+     */
+    private static void appendListQueryParameters(final Operation operation) {
+        operation
+        .parameter(new QueryParameter()
+                .name(RequestParameter.PAGE.getName())
+                .description("page to return (starting at 1); "
+                        + "links to the previous and next pages are provided for collections and safe actions only")
+                .required(false)
+                .type("integer"))
+        .parameter(new QueryParameter()
+                .name(RequestParameter.PAGE_SIZE.getName())
+                .description("number of elements per page")
+                .required(false)
+                .type("integer"))
+        .parameter(new QueryParameter()
+                .name(RequestParameter.SORT_BY.getName())
+                .description("comma-separated ids of the properties to sort by, each prefixed with '-' for descending order")
+                .required(false)
+                .type("string"))
+        .parameter(new QueryParameter()
+                .name(RequestParameter.PROPERTIES.getName())
+                .description("comma-separated ids of the properties to render for each element")
+                .required(false)
+                .type("string"));
+    }
+
     void appendObjectActionInvokePath(
             final ObjectSpecification objectSpec,
             final ObjectAction objectAction) {
@@ -591,6 +625,9 @@ void appendObjectActionInvokePath(
                         .required(false)
                         .type("string"));
             }
+            if(objectAction.getReturnType().isParentedOrFreeCollection()) {
+                appendListQueryParameters(invokeOperation);
+            }
 
         } else {
             if (semantics.isIdempotentInNature()) {
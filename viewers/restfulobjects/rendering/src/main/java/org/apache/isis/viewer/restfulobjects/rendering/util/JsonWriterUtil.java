@@ -20,6 +20,8 @@
 
 import java.io.IOException;
 
+import javax.ws.rs.core.StreamingOutput;
+
 import org.springframework.lang.Nullable;
 
 import org.apache.isis.core.config.environment.IsisSystemEnvironment;
@@ -39,6 +41,14 @@ public static String jsonFor(Object object, JsonMapper.PrettyPrinting prettyPrin
         }
     }
 
+    /**
+     * As per {@link #jsonFor(Object, JsonMapper.PrettyPrinting)}, but deferring serialization until the
+     * response body is written, and then writing directly to the response's output stream.
+     */
+    public static StreamingOutput streamingJsonFor(Object object, JsonMapper.PrettyPrinting prettyPrinting) {
+        return outputStream->JsonMapper.instance(prettyPrinting).write(object, outputStream);
+    }
+
     public static String jsonFor(Object object, @Nullable IsisSystemEnvironment systemEnvironment) {
         val prettyPrinting = (systemEnvironment!=null && systemEnvironment.isPrototyping())
                 ? JsonMapper.PrettyPrinting.ENABLE
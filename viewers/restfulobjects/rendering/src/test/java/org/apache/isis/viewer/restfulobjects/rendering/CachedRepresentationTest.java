@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import javax.ws.rs.core.MediaType;
+
+import org.junit.Test;
+
+import org.apache.isis.commons.internal.base._Bytes;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CachedRepresentationTest {
+
+    @Test
+    public void same_content_has_same_strong_entity_tag() throws Exception {
+        final CachedRepresentation repr1 = CachedRepresentation.of(MediaType.APPLICATION_JSON_TYPE, "{\"a\":1}");
+        final CachedRepresentation repr2 = CachedRepresentation.of(MediaType.APPLICATION_JSON_TYPE, "{\"a\":1}");
+
+        assertThat(repr1.getEntityTag(), is(repr2.getEntityTag()));
+        assertThat(repr1.getEntityTag().isWeak(), is(false));
+    }
+
+    @Test
+    public void different_content_has_different_entity_tag() throws Exception {
+        final CachedRepresentation repr1 = CachedRepresentation.of(MediaType.APPLICATION_JSON_TYPE, "{\"a\":1}");
+        final CachedRepresentation repr2 = CachedRepresentation.of(MediaType.APPLICATION_JSON_TYPE, "{\"a\":2}");
+
+        assertThat(repr1.getEntityTag(), is(not(repr2.getEntityTag())));
+    }
+
+    @Test
+    public void gzipped_bytes_roundtrip() throws Exception {
+        final String content = "{\"members\":[\"" + "x".repeat(1000) + "\"]}";
+        final CachedRepresentation repr = CachedRepresentation.of(MediaType.APPLICATION_JSON_TYPE, content);
+
+        try(GZIPInputStream gzis = new GZIPInputStream(new ByteArrayInputStream(repr.getGzippedBytes()))) {
+            assertThat(new String(_Bytes.of(gzis), StandardCharsets.UTF_8), is(content));
+        }
+        assertThat(new String(repr.getBytes(), StandardCharsets.UTF_8), is(content));
+    }
+
+    @Test
+    public void rebase_onto_same_base_uri_is_noop() throws Exception {
+        final CachedRepresentation repr = CachedRepresentation.of(MediaType.APPLICATION_JSON_TYPE,
+                "{\"href\":\"http://localhost:8080/restful/domain-types\"}", "http://localhost:8080/restful/");
+
+        assertThat(repr.rebase("http://localhost:8080/restful/"), is(sameInstance(repr)));
+    }
+
+    @Test
+    public void rebase_onto_other_base_uri() throws Exception {
+        final CachedRepresentation repr = CachedRepresentation.of(MediaType.APPLICATION_JSON_TYPE,
+                "{\"href\":\"http://localhost:8080/restful/domain-types\"}", "http://localhost:8080/restful/");
+
+        final CachedRepresentation rebased = repr.rebase("https://example.com/api/");
+
+        assertThat(new String(rebased.getBytes(), StandardCharsets.UTF_8),
+                is("{\"href\":\"https://example.com/api/domain-types\"}"));
+        assertThat(rebased.getBaseUri(), is("https://example.com/api/"));
+        assertThat(rebased.getEntityTag(), is(not(repr.getEntityTag())));
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import javax.ws.rs.core.EntityTag;
+
+import org.jmock.Expectations;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.iactn.InteractionProvider;
+import org.apache.isis.applib.services.iactnlayer.InteractionContext;
+import org.apache.isis.applib.services.user.UserMemento;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2.Mode;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class EntityTagsTest {
+
+    @Rule public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    private static final EntityTag CURRENT = new EntityTag("abc");
+
+    private int mockCount;
+
+    // -- ENTITY TAG FOR
+
+    @Test
+    public void versioned_entity_has_strong_tag() throws Exception {
+        final Optional<EntityTag> tag = entityTagFor(entity(Optional.of(1L)), "sven");
+
+        assertThat(tag.isPresent(), is(true));
+        assertThat(tag.get().isWeak(), is(false));
+        assertThat(entityTagFor(entity(Optional.of(1L)), "sven"), is(tag));
+    }
+
+    @Test
+    public void tag_changes_with_version() throws Exception {
+        assertThat(entityTagFor(entity(Optional.of(2L)), "sven"),
+                is(not(entityTagFor(entity(Optional.of(1L)), "sven"))));
+    }
+
+    @Test
+    public void tag_depends_on_user() throws Exception {
+        assertThat(entityTagFor(entity(Optional.of(1L)), "dick"),
+                is(not(entityTagFor(entity(Optional.of(1L)), "sven"))));
+    }
+
+    @Test
+    public void unversioned_entity_has_no_tag() throws Exception {
+        assertThat(entityTagFor(entity(Optional.empty()), "sven").isPresent(), is(false));
+    }
+
+    // -- IF MATCH
+
+    @Test
+    public void if_match_absent() throws Exception {
+        assertThat(EntityTags.ifMatch(null, CURRENT), is(false));
+        assertThat(EntityTags.ifMatch(Collections.emptyList(), CURRENT), is(false));
+    }
+
+    @Test
+    public void if_match_same_tag() throws Exception {
+        assertThat(EntityTags.ifMatch(List.of("\"abc\""), CURRENT), is(true));
+    }
+
+    @Test
+    public void if_match_any_of_list() throws Exception {
+        assertThat(EntityTags.ifMatch(List.of("\"xyz\", \"abc\""), CURRENT), is(true));
+        assertThat(EntityTags.ifMatch(List.of("\"xyz\"", "\"abc\""), CURRENT), is(true));
+    }
+
+    @Test
+    public void if_match_star() throws Exception {
+        assertThat(EntityTags.ifMatch(List.of("*"), CURRENT), is(true));
+    }
+
+    @Test
+    public void if_match_other_tag() throws Exception {
+        assertThat(EntityTags.ifMatch(List.of("\"xyz\""), CURRENT), is(false));
+        assertThat(EntityTags.ifMatch(List.of("\"ab\""), CURRENT), is(false));
+    }
+
+    @Test
+    public void if_match_uses_strong_comparison() throws Exception {
+        assertThat(EntityTags.ifMatch(List.of("W/\"abc\""), CURRENT), is(false));
+    }
+
+    // -- HELPER
+
+    private ManagedObject entity(final Optional<Object> version) {
+        final String suffix = "" + (++mockCount);
+        final ManagedObject mockAdapter = context.mock(ManagedObject.class, "adapter" + suffix);
+        final ObjectSpecification mockSpec = context.mock(ObjectSpecification.class, "spec" + suffix);
+        final EntityFacet mockEntityFacet = context.mock(EntityFacet.class, "entityFacet" + suffix);
+        final Object pojo = new Object();
+
+        context.checking(new Expectations() {{
+            allowing(mockAdapter).getSpecification();
+            will(returnValue(mockSpec));
+            allowing(mockAdapter).getPojo();
+            will(returnValue(pojo));
+            allowing(mockAdapter).getBookmark();
+            will(returnValue(Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("customer.Customer", "1"))));
+
+            allowing(mockSpec).isEntity();
+            will(returnValue(true));
+            allowing(mockSpec).getFacet(EntityFacet.class);
+            will(returnValue(mockEntityFacet));
+
+            allowing(mockEntityFacet).versionOf(pojo);
+            will(returnValue(version));
+        }});
+        return mockAdapter;
+    }
+
+    private Optional<EntityTag> entityTagFor(final ManagedObject adapter, final String userName) {
+        final String suffix = "" + (++mockCount);
+        final InteractionProvider mockInteractionProvider = context.mock(InteractionProvider.class, "interactionProvider" + suffix);
+        final IResourceContext mockResourceContext = context.mock(IResourceContext.class, "resourceContext" + suffix);
+
+        context.checking(new Expectations() {{
+            allowing(mockResourceContext).getInteractionProvider();
+            will(returnValue(mockInteractionProvider));
+            allowing(mockInteractionProvider).currentInteractionContext();
+            will(returnValue(Optional.of(InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName(userName)))));
+        }});
+        return EntityTags.entityTagFor(mockResourceContext, adapter);
+    }
+
+}
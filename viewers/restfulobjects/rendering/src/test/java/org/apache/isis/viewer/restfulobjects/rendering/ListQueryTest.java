@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import org.junit.Test;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ListQueryTest {
+
+    @Test
+    public void unconstrained() throws Exception {
+        final ListQuery listQuery = ListQuery.UNCONSTRAINED;
+
+        assertThat(listQuery.isPaged(), is(false));
+        assertThat(listQuery.isSorted(), is(false));
+        assertThat(listQuery.isProjected(), is(false));
+        assertThat(listQuery.getRange().isUnconstrained(), is(true));
+    }
+
+    @Test
+    public void range_of_page() throws Exception {
+        final ListQuery listQuery = ListQuery.of(3, 10, Can.empty(), Can.empty());
+
+        assertThat(listQuery.isPaged(), is(true));
+        assertThat(listQuery.getRange().getStart(), is(20L));
+        assertThat(listQuery.getRange().getLimit(), is(10L));
+    }
+
+    @Test
+    public void arguments_for_page_retain_sorting_and_projection() throws Exception {
+        final ListQuery listQuery = ListQuery.of(2, 10, Can.ofArray(new String[] {"name", "-age"}), Can.ofSingleton("name"));
+
+        final JsonRepresentation arguments = listQuery.argumentsForPage(3);
+
+        assertThat(arguments.getInt("x-ro-page"), is(3));
+        assertThat(arguments.getInt("x-ro-page-size"), is(10));
+        assertThat(arguments.getString("x-ro-sort-by"), is("name,-age"));
+        assertThat(arguments.getString("x-isis-properties"), is("name"));
+    }
+
+}
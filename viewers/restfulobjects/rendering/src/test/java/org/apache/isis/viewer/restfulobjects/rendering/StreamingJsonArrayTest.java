@@ -0,0 +1,77 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.util.JsonMapper;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+public class StreamingJsonArrayTest {
+
+    private static JsonRepresentation elementFor(final String name) {
+        final JsonRepresentation element = JsonRepresentation.newMap();
+        element.mapPut("name", name);
+        return element;
+    }
+
+    @Test
+    public void same_json_as_when_fully_built() throws Exception {
+        final JsonRepresentation tree = JsonRepresentation.newMap();
+        final JsonRepresentation values = JsonRepresentation.newArray();
+        values.arrayAdd(elementFor("a"));
+        values.arrayAdd(elementFor("b"));
+        tree.mapPut("value", values);
+
+        final JsonRepresentation streaming = JsonRepresentation.newMap();
+        streaming.mapPut("value", StreamingJsonArray.of(Stream.of("a", "b"), StreamingJsonArrayTest::elementFor));
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonMapper.instance(JsonMapper.PrettyPrinting.DISABLE).write(streaming, outputStream);
+
+        assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8),
+                is(JsonMapper.instance(JsonMapper.PrettyPrinting.DISABLE).write(tree)));
+    }
+
+    @Test
+    public void can_only_be_serialized_once() throws Exception {
+        final JsonRepresentation streaming = JsonRepresentation.newMap();
+        streaming.mapPut("value", StreamingJsonArray.of(Stream.of("a"), StreamingJsonArrayTest::elementFor));
+
+        final JsonMapper jsonMapper = JsonMapper.instance(JsonMapper.PrettyPrinting.DISABLE);
+        jsonMapper.write(streaming);
+        try {
+            jsonMapper.write(streaming);
+            fail("expected the second serialization to fail");
+        } catch (Exception ex) {
+            // jackson may wrap the exception thrown by the serializer
+            assertThat(_Exceptions.getRootCause(ex) instanceof IllegalStateException, is(true));
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering.domainobjects;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.Rel;
+import org.apache.isis.viewer.restfulobjects.rendering.IResourceContext;
+import org.apache.isis.viewer.restfulobjects.rendering.ListQuery;
+
+public class ListQueryHelperTest_paging {
+
+    @Rule public JUnitRuleMockery2 context =
+            JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    @Mock private IResourceContext mockResourceContext;
+
+    private List<ManagedObject> elements;
+    private JsonRepresentation links;
+
+    private final BiFunction<Rel, JsonRepresentation, JsonRepresentation> pageLinkFactory = (rel, pageArguments)->{
+        final JsonRepresentation link = JsonRepresentation.newMap();
+        link.mapPut("rel", rel.getName());
+        link.mapPut("page", pageArguments.getInt("x-ro-page"));
+        return link;
+    };
+
+    @Before
+    public void setUp() throws Exception {
+        elements = IntStream.range(0, 25)
+                .mapToObj(i->context.mock(ManagedObject.class, "element" + i))
+                .collect(Collectors.toList());
+        links = JsonRepresentation.newArray();
+    }
+
+    @Test
+    public void links_to_previous_and_next_page() throws Exception {
+        final List<ManagedObject> page = apply(2, pageLinkFactory);
+
+        assertThat(page, is(elements.subList(10, 20)));
+        assertThat(links.size(), is(2));
+        assertThat(links.arrayGet(0).getString("rel"), is(Rel.PREVIOUS.getName()));
+        assertThat(links.arrayGet(0).getInt("page"), is(1));
+        assertThat(links.arrayGet(1).getString("rel"), is(Rel.NEXT.getName()));
+        assertThat(links.arrayGet(1).getInt("page"), is(3));
+    }
+
+    @Test
+    public void no_link_to_next_page_beyond_the_last() throws Exception {
+        final List<ManagedObject> page = apply(3, pageLinkFactory);
+
+        assertThat(page, is(elements.subList(20, 25)));
+        assertThat(links.size(), is(1));
+        assertThat(links.arrayGet(0).getString("rel"), is(Rel.PREVIOUS.getName()));
+    }
+
+    @Test
+    public void no_links_without_page_link_factory() throws Exception {
+        // as for actions that are not safe, which would have to be invoked again to follow a page link
+        final List<ManagedObject> page = apply(2, null);
+
+        assertThat(page, is(elements.subList(10, 20)));
+        assertThat(links.size(), is(0));
+    }
+
+    // -- HELPER
+
+    private List<ManagedObject> apply(
+            final int pageNumber,
+            final BiFunction<Rel, JsonRepresentation, JsonRepresentation> pageLinkFactory) {
+        final ListQuery listQuery = ListQuery.of(pageNumber, 10, Can.empty(), Can.empty());
+        return new ListQueryHelper(mockResourceContext, listQuery)
+                .apply(elements.stream(), null, links, pageLinkFactory)
+                .collect(Collectors.toList());
+    }
+
+}
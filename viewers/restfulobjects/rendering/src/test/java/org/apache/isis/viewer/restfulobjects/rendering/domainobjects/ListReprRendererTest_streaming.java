@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering.domainobjects;
+
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.rendering.IResourceContext;
+import org.apache.isis.viewer.restfulobjects.rendering.Responses;
+import org.apache.isis.viewer.restfulobjects.rendering.StreamingJsonArray;
+
+public class ListReprRendererTest_streaming {
+
+    @Rule public JUnitRuleMockery2 context =
+            JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    @Mock private IResourceContext mockResourceContext;
+    @Mock private SpecificationLoader mockSpecificationLoader;
+
+    @Before
+    public void setUp() throws Exception {
+        final MetaModelContext_forTesting metaModelContext = MetaModelContext_forTesting.builder()
+                .specificationLoader(mockSpecificationLoader)
+                .singleton(JsonValueEncoder.forTesting(mockSpecificationLoader))
+                .build();
+
+        context.checking(new Expectations() {{
+            allowing(mockResourceContext).getMetaModelContext();
+            will(returnValue(metaModelContext));
+
+            allowing(mockResourceContext).getInteractionInitiatedBy();
+            will(returnValue(InteractionInitiatedBy.USER));
+
+            allowing(mockResourceContext).getFollowLinks();
+            will(returnValue(Collections.emptyList()));
+
+            allowing(mockResourceContext).streamCollections();
+            will(returnValue(true));
+        }});
+    }
+
+    @Test
+    public void nested_list_is_not_streamed() throws Exception {
+        final ListReprRenderer renderer = new ListReprRenderer(mockResourceContext, null, JsonRepresentation.newMap())
+                .with(Stream.<ManagedObject>empty());
+
+        final JsonRepresentation representation = renderer.render();
+
+        assertThat(representation.getArray("value").size(), is(0));
+        assertThat(renderer.isStreaming(), is(false));
+        assertThat(Responses.inferStreaming(renderer), is(false));
+    }
+
+    @Test
+    public void list_as_response_entity_is_streamed() throws Exception {
+        final ListReprRenderer renderer = new ListReprRenderer(mockResourceContext, null, JsonRepresentation.newMap())
+                .asResponseEntity()
+                .with(Stream.<ManagedObject>empty());
+
+        final JsonRepresentation representation = renderer.render();
+
+        final JsonNode value = representation.asJsonNode().get("value");
+        assertThat(value instanceof POJONode
+                && ((POJONode) value).getPojo() instanceof StreamingJsonArray, is(true));
+        assertThat(renderer.isStreaming(), is(true));
+        assertThat(Responses.inferStreaming(renderer), is(true));
+    }
+
+}
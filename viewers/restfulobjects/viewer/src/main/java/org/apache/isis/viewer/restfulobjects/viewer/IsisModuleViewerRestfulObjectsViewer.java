@@ -28,6 +28,8 @@
 import org.apache.isis.viewer.restfulobjects.viewer.mappers.ExceptionMapperForObjectNotFound;
 import org.apache.isis.viewer.restfulobjects.viewer.mappers.ExceptionMapperForRestfulObjectsApplication;
 import org.apache.isis.viewer.restfulobjects.viewer.mappers.ExceptionMapperForRuntimeException;
+import org.apache.isis.viewer.restfulobjects.viewer.profiling.InteractionProfileResponseFilter;
+import org.apache.isis.viewer.restfulobjects.viewer.resources.BatchResource;
 import org.apache.isis.viewer.restfulobjects.viewer.resources.DomainObjectResourceServerside;
 import org.apache.isis.viewer.restfulobjects.viewer.resources.DomainServiceResourceServerside;
 import org.apache.isis.viewer.restfulobjects.viewer.resources.DomainTypeResourceServerside;
@@ -58,12 +60,14 @@
         DomainServiceResourceServerside.class,
         VersionResourceServerside.class,
         SwaggerSpecResource.class,
+        BatchResource.class,
 
         ExceptionMapperForRestfulObjectsApplication.class,
         ExceptionMapperForRuntimeException.class,
         ExceptionMapperForObjectNotFound.class,
         AcceptHeaderServiceForRest.RequestFilter.class,
         AcceptHeaderServiceForRest.ResponseFilter.class,
+        InteractionProfileResponseFilter.class,
 
 })
 public class IsisModuleViewerRestfulObjectsViewer {
@@ -33,6 +33,7 @@
 
 import org.apache.isis.applib.annotation.Where;
 import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.collections._Sets;
 import org.apache.isis.commons.internal.primitives._Ints;
@@ -47,6 +48,7 @@
 import org.apache.isis.viewer.restfulobjects.applib.RestfulRequest.RequestParameter;
 import org.apache.isis.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
 import org.apache.isis.viewer.restfulobjects.rendering.IResourceContext;
+import org.apache.isis.viewer.restfulobjects.rendering.ListQuery;
 import org.apache.isis.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
 import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.ObjectAdapterLinkTo;
 import org.apache.isis.viewer.restfulobjects.rendering.service.RepresentationService;
@@ -73,6 +75,7 @@
 
     @Getter private List<List<String>> followLinks;
     @Getter private boolean validateOnly;
+    @Getter private ListQuery listQuery;
 
     private final Where where;
     private final RepresentationService.Intent intent;
@@ -127,6 +130,33 @@ void init(final RepresentationType representationType) {
 
         this.followLinks = Collections.unmodifiableList(getArg(RequestParameter.FOLLOW_LINKS));
         this.validateOnly = getArg(RequestParameter.VALIDATE_ONLY);
+        this.listQuery = listQueryFromArgs();
+    }
+
+    private ListQuery listQueryFromArgs() {
+        final JsonRepresentation args = getQueryStringAsJsonRepr();
+        final boolean paged = args != null
+                && args.isMap()
+                && (args.mapHas(RequestParameter.PAGE.getName())
+                        || args.mapHas(RequestParameter.PAGE_SIZE.getName()));
+        final int page;
+        final int pageSize;
+        try {
+            page = getArg(RequestParameter.PAGE);
+            pageSize = getArg(RequestParameter.PAGE_SIZE);
+        } catch (IllegalArgumentException ex) { // includes NumberFormatException
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.BAD_REQUEST,
+                    "%s and %s must be integers", RequestParameter.PAGE, RequestParameter.PAGE_SIZE);
+        }
+        if(paged && (page < 1 || pageSize < 1)) {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.BAD_REQUEST,
+                    "%s and %s must be positive", RequestParameter.PAGE, RequestParameter.PAGE_SIZE);
+        }
+        return ListQuery.of(
+                page,
+                paged ? pageSize : 0,
+                Can.ofCollection(getArg(RequestParameter.SORT_BY)),
+                Can.ofCollection(getArg(RequestParameter.PROPERTIES)));
     }
 
     private void ensureDomainModelQueryParamSupported() {
@@ -157,7 +187,9 @@ protected JsonRepresentation requestArgsAsMap(final Map<String, String[]> params
             for(String paramName: params.keySet()) {
                 String paramValue = params.get(paramName)[0];
                 // this is rather hacky :-(
-                final String key = paramName.startsWith("x-ro") ? paramName : paramName + ".value";
+                final String key = paramName.startsWith("x-ro") || paramName.startsWith("x-isis")
+                        ? paramName
+                        : paramName + ".value";
 
                 // test whether we can parse as an int
                 val parseResult = _Ints.parseInt(paramValue, 10);
@@ -271,6 +303,11 @@ public boolean suppressMemberDisabledReason() {
         return getMetaModelContext().getConfiguration().getViewer().getRestfulobjects().isSuppressMemberDisabledReason();
     }
 
+    @Override
+    public boolean streamCollections() {
+        return getMetaModelContext().getConfiguration().getViewer().getRestfulobjects().isStreamCollections();
+    }
+
     @Override
     public String restfulUrlFor(final @NonNull String url) {
         return restfulAbsoluteBase + url;
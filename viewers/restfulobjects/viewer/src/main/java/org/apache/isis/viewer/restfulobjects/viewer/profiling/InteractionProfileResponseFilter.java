@@ -0,0 +1,120 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.viewer.profiling;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.springframework.stereotype.Component;
+
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
+
+import lombok.val;
+
+/**
+ * Adds the <code>X-Isis-Timing</code> header, holding the {@link InteractionProfile} of the
+ * interaction that handled the request (so far), and contributes the time spent writing the
+ * response body and the number of bytes written to that profile.
+ *
+ * @since 2.0
+ */
+@Component
+@Provider
+@Singleton
+public class InteractionProfileResponseFilter
+implements ContainerResponseFilter, WriterInterceptor {
+
+    public static final String TIMING_HEADER = "X-Isis-Timing";
+
+    private final boolean timingHeader;
+
+    @Inject
+    public InteractionProfileResponseFilter(final IsisConfiguration isisConfiguration) {
+        this.timingHeader = isisConfiguration.getViewer().getRestfulobjects().isTimingHeader();
+    }
+
+    @Override
+    public void filter(
+            final ContainerRequestContext requestContext,
+            final ContainerResponseContext responseContext) throws IOException {
+
+        if(!timingHeader) {
+            return;
+        }
+        InteractionProfile.current()
+        .ifPresent(profile->
+            responseContext.getHeaders().putSingle(TIMING_HEADER, profile.toTimingString()));
+    }
+
+    @Override
+    public void aroundWriteTo(final WriterInterceptorContext context) throws IOException, WebApplicationException {
+
+        if(!InteractionProfile.current().isPresent()) {
+            context.proceed();
+            return;
+        }
+
+        val countingOutputStream = new CountingOutputStream(context.getOutputStream());
+        context.setOutputStream(countingOutputStream);
+        val startedAt = System.nanoTime();
+        try {
+            context.proceed();
+        } finally {
+            InteractionProfile.addPhaseNanos(InteractionProfile.Phase.RENDERING, System.nanoTime() - startedAt);
+            InteractionProfile.add(InteractionProfile.Counter.SERIALIZED_BYTES, countingOutputStream.count);
+        }
+    }
+
+    // -- HELPER
+
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.viewer.resources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.PUT;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.RepresentationType;
+import org.apache.isis.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
+import org.apache.isis.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.isis.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+import org.apache.isis.viewer.restfulobjects.rendering.service.RepresentationService;
+import org.apache.isis.viewer.restfulobjects.rendering.util.JsonWriterUtil;
+import org.apache.isis.viewer.restfulobjects.rendering.util.Util;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Executes a number of RO requests in a single round trip, so that the client pays for authentication and for
+ * the setup of the interaction only once.
+ *
+ * <p>
+ *     The body is a JSON array of sub-requests, each a map with keys <code>method</code> (defaults to
+ *     <code>GET</code>), <code>href</code> (either absolute, or relative to the RO base URI; optionally with a
+ *     query string), <code>headers</code> (optional) and <code>body</code> (optional).  The response is a JSON
+ *     array - in the same order - of maps with keys <code>status</code>, <code>headers</code> and (if any)
+ *     <code>body</code>.
+ * </p>
+ *
+ * <p>
+ *     The sub-requests are executed one after the other, within the interaction - and the transaction - of the
+ *     batch request.  They therefore share the same {@link org.apache.isis.applib.services.queryresultscache.QueryResultsCache},
+ *     but equally, a sub-request that fails such that the transaction is rolled back will affect those that
+ *     follow it.
+ * </p>
+ *
+ * <p>
+ *     This is an extension to the RO spec v1.0.
+ * </p>
+ *
+ * @see IsisConfiguration.Viewer.Restfulobjects#getMaxBatchSize()
+ */
+@Component
+@Path("/batch")
+@Log4j2
+public class BatchResource
+extends ResourceAbstract {
+
+    @Inject
+    public BatchResource(
+            final MetaModelContext metaModelContext,
+            final IsisConfiguration isisConfiguration,
+            final InteractionLayerTracker iInteractionLayerTracker) {
+        super(metaModelContext, isisConfiguration, iInteractionLayerTracker);
+        log.debug("<init>");
+    }
+
+    /**
+     * @param batchRequest - injected as a parameter (rather than using the proxy held by this singleton),
+     *      because the sub-requests delegate to it while they are themselves being dispatched.
+     * @param batchResponse - as for <code>batchRequest</code>
+     */
+    @POST
+    @Consumes({ MediaType.WILDCARD }) // to save the client having to specify a Content-Type: application/json
+    @Produces({ MediaType.APPLICATION_JSON })
+    public Response batch(
+            @Context final HttpServletRequest batchRequest,
+            @Context final HttpServletResponse batchResponse,
+            final InputStream body) {
+
+        val resourceContext = createResourceContext(
+                RepresentationType.GENERIC, Where.NOWHERE, RepresentationService.Intent.NOT_APPLICABLE);
+
+        val batch = readBatch(Util.asStringUtf8(body));
+
+        val dispatcher = _BatchDispatcher.of(batchRequest, batchResponse, resourceContext.restfulUrlFor(""));
+
+        // parse them all up-front, so that a malformed batch is rejected without side effects
+        val subRequests = IntStream.range(0, batch.size())
+                .mapToObj(index->dispatcher.subRequest(index, batch.arrayGet(index)))
+                .collect(Collectors.toList());
+
+        val responses = JsonRepresentation.newArray(subRequests.size());
+        subRequests.forEach(subRequest->responses.arrayAdd(dispatcher.dispatch(subRequest)));
+
+        return _EndpointLogging.response(log, "POST /batch",
+                Response.ok(
+                        JsonWriterUtil.jsonFor(responses, metaModelContext.getSystemEnvironment()),
+                        MediaType.APPLICATION_JSON_TYPE)
+                .build());
+    }
+
+    @GET
+    public Response getBatchNotAllowed() {
+        throw _EndpointLogging.error(log, "GET /batch",
+                RestfulObjectsApplicationException
+                .createWithMessage(
+                        HttpStatusCode.METHOD_NOT_ALLOWED,
+                        "Getting the batch resource is not allowed."));
+    }
+
+    @DELETE
+    public Response deleteBatchNotAllowed() {
+        throw _EndpointLogging.error(log, "DELETE /batch",
+                RestfulObjectsApplicationException
+                .createWithMessage(
+                        HttpStatusCode.METHOD_NOT_ALLOWED,
+                        "Deleting the batch resource is not allowed."));
+    }
+
+    @PUT
+    public Response putBatchNotAllowed() {
+        throw _EndpointLogging.error(log, "PUT /batch",
+                RestfulObjectsApplicationException
+                .createWithMessage(
+                        HttpStatusCode.METHOD_NOT_ALLOWED,
+                        "Putting to the batch resource is not allowed."));
+    }
+
+    // -- HELPER
+
+    private JsonRepresentation readBatch(final String body) {
+        final JsonRepresentation batch;
+        try {
+            batch = JsonMapper.instance().read(body);
+        } catch (JsonParseException e) {
+            throw RestfulObjectsApplicationException
+                .createWithCauseAndMessage(HttpStatusCode.BAD_REQUEST, e, "could not parse body");
+        } catch (IOException e) {
+            throw RestfulObjectsApplicationException
+                .createWithCauseAndMessage(HttpStatusCode.BAD_REQUEST, e, "could not read body");
+        }
+        if(batch == null || !batch.isArray()) {
+            throw RestfulObjectsApplicationException
+                .createWithMessage(HttpStatusCode.BAD_REQUEST, "body must be a JSON array of sub-requests");
+        }
+        val maxBatchSize = isisConfiguration.getViewer().getRestfulobjects().getMaxBatchSize();
+        if(batch.size() > maxBatchSize) {
+            throw RestfulObjectsApplicationException
+                .createWithMessage(HttpStatusCode.BAD_REQUEST,
+                        "batch of %d sub-requests exceeds the maximum of %d", batch.size(), maxBatchSize);
+        }
+        return batch;
+    }
+
+}
@@ -20,6 +20,7 @@
 
 import java.io.InputStream;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
@@ -32,6 +33,7 @@
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -45,6 +47,7 @@
 import org.apache.isis.applib.layout.grid.Grid;
 import org.apache.isis.applib.layout.links.Link;
 import org.apache.isis.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.codec._UrlDecoderUtil;
 import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.metamodel.consent.Consent;
@@ -64,6 +67,7 @@
 import org.apache.isis.viewer.restfulobjects.applib.RestfulResponse;
 import org.apache.isis.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
 import org.apache.isis.viewer.restfulobjects.applib.domainobjects.DomainObjectResource;
+import org.apache.isis.viewer.restfulobjects.rendering.EntityTags;
 import org.apache.isis.viewer.restfulobjects.rendering.Responses;
 import org.apache.isis.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
 import org.apache.isis.viewer.restfulobjects.rendering.service.RepresentationService;
@@ -180,10 +184,9 @@ public Response object(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "GET /objects/{}/{}", domainType, instanceId, roEx));
-        val domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "GET /objects/{}/{}", domainType, instanceId,
-                domainResourceHelper.objectRepresentation());
+                objectRepresentationUnlessNotModified(resourceContext, objectAdapter));
     }
 
 
@@ -214,6 +217,9 @@ public Response object(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}", domainType, instanceId, roEx));
+        ifMatchElseThrow(resourceContext, objectAdapter,
+                roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}", domainType, instanceId, roEx));
+
         final ObjectAdapterUpdateHelper updateHelper = new ObjectAdapterUpdateHelper(resourceContext, objectAdapter);
 
         if (!updateHelper.copyOverProperties(argRepr, ObjectAdapterUpdateHelper.Intent.UPDATE_EXISTING)) {
@@ -234,7 +240,7 @@ public Response object(
         val domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "PUT /objects/{}/{}", domainType, instanceId,
-                domainResourceHelper.objectRepresentation());
+                withEntityTag(resourceContext, objectAdapter, domainResourceHelper.objectRepresentation()));
     }
 
     @DELETE
@@ -456,6 +462,8 @@ public Response modifyProperty(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
+        ifMatchElseThrow(resourceContext, objectAdapter,
+                roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
 
         PropertyInteraction.start(objectAdapter, propertyId, resourceContext.getWhere())
         .checkVisibility()
@@ -493,6 +501,8 @@ public Response clearProperty(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "DELETE /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
+        ifMatchElseThrow(resourceContext, objectAdapter,
+                roEx->_EndpointLogging.error(log, "DELETE /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
 
         PropertyInteraction.start(objectAdapter, propertyId, resourceContext.getWhere())
         .checkVisibility()
@@ -742,6 +752,8 @@ public Response invokeActionIdempotent(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId, roEx));
+        ifMatchElseThrow(resourceContext, objectAdapter,
+                roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId, roEx));
         val domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "PUT /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId,
@@ -770,6 +782,8 @@ public Response invokeAction(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "POST /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId, roEx));
+        ifMatchElseThrow(resourceContext, objectAdapter,
+                roEx->_EndpointLogging.error(log, "POST /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId, roEx));
         val domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "POST /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId,
@@ -791,4 +805,77 @@ public Response deleteInvokeActionNotAllowed(
                         "Deleting an action invocation resource is not allowed."));
     }
 
+
+    // -- ENTITY TAGS
+
+    /**
+     * Renders the object, unless the client's <code>If-None-Match</code> header shows that it already
+     * holds the current representation, in which case responds with <i>304 Not Modified</i> without
+     * rendering anything.
+     *
+     * @see EntityTags
+     */
+    private Response objectRepresentationUnlessNotModified(
+            final ResourceContext resourceContext,
+            final ManagedObject objectAdapter) {
+
+        val entityTag = EntityTags.entityTagFor(resourceContext, objectAdapter);
+        if(entityTag.isPresent()) {
+            val notModified = request.evaluatePreconditions(entityTag.get());
+            if(notModified != null) {
+                return notModified.build();
+            }
+        }
+        val response = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter)
+                .objectRepresentation();
+        return entityTag.isPresent()
+                ? Response.fromResponse(response).tag(entityTag.get()).build()
+                : response;
+    }
+
+    /**
+     * Adds the object's entity tag (if any) to the response, as evaluated after the object representation
+     * has been rendered; as rendering flushes the transaction, this reflects any new version.
+     */
+    private Response withEntityTag(
+            final ResourceContext resourceContext,
+            final ManagedObject objectAdapter,
+            final Response response) {
+
+        if(response.getStatus() != HttpStatusCode.OK.getStatusCode()) {
+            return response;
+        }
+        return EntityTags.entityTagFor(resourceContext, objectAdapter)
+                .map(entityTag->Response.fromResponse(response).tag(entityTag).build())
+                .orElse(response);
+    }
+
+    /**
+     * If the client provided an <code>If-Match</code> header, then checks that it matches the object's
+     * current entity tag, failing with <i>412 Precondition Failed</i> if not (or if the object has none).
+     */
+    void ifMatchElseThrow(
+            final ResourceContext resourceContext,
+            final ManagedObject objectAdapter,
+            final @NonNull UnaryOperator<RestfulObjectsApplicationException> onRoException) {
+
+        val ifMatch = httpHeaders.getRequestHeader(HttpHeaders.IF_MATCH);
+        if(_NullSafe.isEmpty(ifMatch)
+                || ifMatch.stream().allMatch("*"::equals)) {
+            return;
+        }
+        val entityTag = EntityTags.entityTagFor(resourceContext, objectAdapter)
+                .orElseThrow(()->onRoException.apply(
+                        RestfulObjectsApplicationException
+                        .createWithMessage(HttpStatusCode.PRECONDITION_FAILED,
+                                "Objects of type '%s' have no entity tag (are not versioned), so If-Match is not supported",
+                                objectAdapter.getSpecification().getLogicalTypeName())));
+        if(!EntityTags.ifMatch(ifMatch, entityTag)) {
+            throw onRoException.apply(
+                    RestfulObjectsApplicationException
+                    .createWithMessage(HttpStatusCode.PRECONDITION_FAILED,
+                            "Object has been modified since it was retrieved (If-Match does not match its current entity tag)"));
+        }
+    }
+
 }
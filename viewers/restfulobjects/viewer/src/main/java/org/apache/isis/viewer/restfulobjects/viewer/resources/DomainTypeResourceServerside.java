@@ -18,6 +18,8 @@
  */
 package org.apache.isis.viewer.restfulobjects.viewer.resources;
 
+import java.util.Locale;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import javax.inject.Inject;
@@ -32,6 +34,7 @@
 import org.springframework.stereotype.Component;
 
 import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.services.iactnlayer.InteractionContext;
 import org.apache.isis.applib.services.iactnlayer.InteractionLayerTracker;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.core.config.IsisConfiguration;
@@ -47,8 +50,10 @@
 import org.apache.isis.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
 import org.apache.isis.viewer.restfulobjects.applib.domaintypes.DomainTypeResource;
 import org.apache.isis.viewer.restfulobjects.applib.util.UrlEncodingUtils;
+import org.apache.isis.viewer.restfulobjects.rendering.CachedRepresentation;
 import org.apache.isis.viewer.restfulobjects.rendering.Caching;
 import org.apache.isis.viewer.restfulobjects.rendering.LinkBuilder;
+import org.apache.isis.viewer.restfulobjects.rendering.ReprRenderer;
 import org.apache.isis.viewer.restfulobjects.rendering.Responses;
 import org.apache.isis.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
 import org.apache.isis.viewer.restfulobjects.rendering.domaintypes.ActionDescriptionReprRenderer;
@@ -62,8 +67,11 @@
 import org.apache.isis.viewer.restfulobjects.rendering.domaintypes.PropertyDescriptionReprRenderer;
 import org.apache.isis.viewer.restfulobjects.rendering.domaintypes.TypeActionResultReprRenderer;
 import org.apache.isis.viewer.restfulobjects.rendering.domaintypes.TypeListReprRenderer;
+import org.apache.isis.viewer.restfulobjects.rendering.service.MetamodelRepresentationCache;
 import org.apache.isis.viewer.restfulobjects.rendering.service.RepresentationService;
+import org.apache.isis.viewer.restfulobjects.rendering.util.JsonWriterUtil;
 import org.apache.isis.viewer.restfulobjects.rendering.util.Util;
+import org.apache.isis.viewer.restfulobjects.viewer.context.ResourceContext;
 import org.apache.isis.viewer.restfulobjects.viewer.util.UrlParserUtils;
 
 import lombok.NonNull;
@@ -82,12 +90,16 @@
 extends ResourceAbstract
 implements DomainTypeResource {
 
+    private final MetamodelRepresentationCache metamodelRepresentationCache;
+
     @Inject
     public DomainTypeResourceServerside(
             final MetaModelContext metaModelContext,
             final IsisConfiguration isisConfiguration,
-            final InteractionLayerTracker iInteractionLayerTracker) {
+            final InteractionLayerTracker iInteractionLayerTracker,
+            final MetamodelRepresentationCache metamodelRepresentationCache) {
         super(metaModelContext, isisConfiguration, iInteractionLayerTracker);
+        this.metamodelRepresentationCache = metamodelRepresentationCache;
         log.debug("<init>");
     }
 
@@ -105,12 +117,13 @@ public Response domainTypes() {
         val domainTypeSpecifications = getSpecificationLoader().snapshotSpecifications()
                 .filter(spec->spec.isEntityOrViewModel()); // concrete types only, no abstract types
 
-        final TypeListReprRenderer renderer =
-                new TypeListReprRenderer(resourceContext, null, JsonRepresentation.newMap());
-        renderer.with(domainTypeSpecifications).includesSelf();
-
         return _EndpointLogging.response(log, "GET /domain-types/",
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                cachedResponse(resourceContext, "domain-types/", ()->{
+                    final TypeListReprRenderer renderer =
+                            new TypeListReprRenderer(resourceContext, null, JsonRepresentation.newMap());
+                    renderer.with(domainTypeSpecifications).includesSelf();
+                    return renderer;
+                }));
     }
 
     @Override
@@ -127,11 +140,12 @@ public Response domainType(
 
         val objectSpec = getSpecificationLoader().specForLogicalTypeName(domainType).orElse(null);
 
-        val renderer = new DomainTypeReprRenderer(resourceContext, null, JsonRepresentation.newMap());
-        renderer.with(objectSpec).includesSelf();
-
         return _EndpointLogging.response(log, "GET /domain-types/{}", domainType,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                cachedResponse(resourceContext, "domain-types/" + domainType, ()->{
+                    val renderer = new DomainTypeReprRenderer(resourceContext, null, JsonRepresentation.newMap());
+                    renderer.with(objectSpec).includesSelf();
+                    return renderer;
+                }));
     }
 
     @Override
@@ -192,11 +206,12 @@ public Response typeProperty(
         }
         final OneToOneAssociation property = (OneToOneAssociation) objectMember;
 
-        final PropertyDescriptionReprRenderer renderer = new PropertyDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
-        renderer.with(new ParentSpecAndProperty(parentSpec, property)).includesSelf();
-
         return _EndpointLogging.response(log, "GET /domain-types/{}/properties/{}", domainType, propertyId,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                cachedResponse(resourceContext, "domain-types/" + domainType + "/properties/" + propertyId, ()->{
+                    final PropertyDescriptionReprRenderer renderer = new PropertyDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
+                    renderer.with(new ParentSpecAndProperty(parentSpec, property)).includesSelf();
+                    return renderer;
+                }));
     }
 
     @Override
@@ -229,11 +244,12 @@ public Response typeCollection(
         }
         final OneToManyAssociation collection = (OneToManyAssociation) objectMember;
 
-        final CollectionDescriptionReprRenderer renderer = new CollectionDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
-        renderer.with(new ParentSpecAndCollection(parentSpec, collection)).includesSelf();
-
         return _EndpointLogging.response(log, "GET /domain-types/{}/collections/{}", domainType, collectionId,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                cachedResponse(resourceContext, "domain-types/" + domainType + "/collections/" + collectionId, ()->{
+                    final CollectionDescriptionReprRenderer renderer = new CollectionDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
+                    renderer.with(new ParentSpecAndCollection(parentSpec, collection)).includesSelf();
+                    return renderer;
+                }));
     }
 
     @Override
@@ -259,11 +275,12 @@ public Response typeAction(
                 .orElseThrow(()->_EndpointLogging.error(log, "GET /domain-types/{}/actions/{}", domainType, actionId,
                         RestfulObjectsApplicationException.create(HttpStatusCode.NOT_FOUND)));
 
-        final ActionDescriptionReprRenderer renderer = new ActionDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
-        renderer.with(new ParentSpecAndAction(parentSpec, action)).includesSelf();
-
         return _EndpointLogging.response(log, "GET /domain-types/{}/actions/{}", domainType, actionId,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                cachedResponse(resourceContext, "domain-types/" + domainType + "/actions/" + actionId, ()->{
+                    final ActionDescriptionReprRenderer renderer = new ActionDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
+                    renderer.with(new ParentSpecAndAction(parentSpec, action)).includesSelf();
+                    return renderer;
+                }));
     }
 
     @Override
@@ -292,11 +309,12 @@ public Response typeActionParam(
 
         final ObjectActionParameter actionParam = parentAction.getParameterByName(paramName);
 
-        final ActionParameterDescriptionReprRenderer renderer = new ActionParameterDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
-        renderer.with(new ParentSpecAndActionParam(parentSpec, actionParam)).includesSelf();
-
         return _EndpointLogging.response(log, "GET /domain-types/{}/actions/{}/params/{}", domainType, actionId, paramName,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                cachedResponse(resourceContext, "domain-types/" + domainType + "/actions/" + actionId + "/params/" + paramName, ()->{
+                    final ActionParameterDescriptionReprRenderer renderer = new ActionParameterDescriptionReprRenderer(resourceContext, null, JsonRepresentation.newMap());
+                    renderer.with(new ParentSpecAndActionParam(parentSpec, actionParam)).includesSelf();
+                    return renderer;
+                }));
     }
 
     // //////////////////////////////////////////////////////////
@@ -386,6 +404,46 @@ public Response domainTypeIsSupertypeOf(
                 Responses.ofOk(renderer, Caching.ONE_DAY).build());
     }
 
+    // -- HELPER
+
+    /**
+     * The formal domain-type representations depend only on the (immutable) metamodel, so - unless the
+     * request has a query string - are rendered once per locale, then served from the
+     * {@link MetamodelRepresentationCache}.
+     * <p>
+     * The base URI is deliberately not part of the cache key, as it is derived from the (client controlled)
+     * <code>Host</code> header; instead, the links of the cached representation are rebased onto the base URI
+     * of the request, if it differs from the one the representation was rendered against.
+     */
+    private Response cachedResponse(
+            final ResourceContext resourceContext,
+            final String path,
+            final Supplier<? extends ReprRenderer<?>> rendererFactory) {
+
+        if(_Strings.isNotEmpty(resourceContext.getUrlUnencodedQueryString())) {
+            return Responses.ofOk(rendererFactory.get(), Caching.ONE_DAY).build();
+        }
+
+        val locale = iInteractionLayerTracker.currentInteractionContext()
+                .map(InteractionContext::getLocale)
+                .orElseGet(Locale::getDefault);
+
+        val baseUri = resourceContext.restfulUrlFor("");
+
+        val cachedRepresentation = metamodelRepresentationCache.computeIfAbsent(
+                path + "@" + locale.toLanguageTag(),
+                ()->{
+                    val renderer = rendererFactory.get();
+                    val json = JsonWriterUtil.jsonFor(renderer.render(), Responses.inferPrettyPrinting(renderer));
+                    return CachedRepresentation.of(renderer.getMediaType(), json, baseUri);
+                });
+
+        return Responses.ofCached(
+                resourceContext.getRequest(), resourceContext.getHttpHeaders(),
+                cachedRepresentation.rebase(baseUri), Caching.ONE_DAY)
+                .build();
+    }
+
     private static String domainTypeFor(
             final String domainTypeStr,
             final String argsAsUrlEncodedQueryString,
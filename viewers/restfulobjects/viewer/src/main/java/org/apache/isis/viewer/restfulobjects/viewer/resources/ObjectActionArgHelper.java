@@ -82,7 +82,7 @@ private static List<JsonRepresentation> argListFor(final ObjectAction action, fi
         // ensure that we have no arguments that are not parameters
         arguments.streamMapEntries()
         .map(Map.Entry::getKey)
-        .filter(argName->!argName.startsWith("x-ro"))
+        .filter(argName->!argName.startsWith("x-ro") && !argName.startsWith("x-isis"))
         .forEach(argName->{
             if (action.getParameterById(argName) == null) {
                 String reason = String.format("Argument '%s' found but no such parameter", argName);
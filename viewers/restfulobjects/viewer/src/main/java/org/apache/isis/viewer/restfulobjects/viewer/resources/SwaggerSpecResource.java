@@ -30,6 +30,8 @@
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 
 import org.springframework.stereotype.Component;
 
@@ -37,6 +39,10 @@
 import org.apache.isis.applib.services.swagger.Format;
 import org.apache.isis.applib.services.swagger.SwaggerService;
 import org.apache.isis.applib.services.swagger.Visibility;
+import org.apache.isis.viewer.restfulobjects.rendering.CachedRepresentation;
+import org.apache.isis.viewer.restfulobjects.rendering.Caching;
+import org.apache.isis.viewer.restfulobjects.rendering.Responses;
+import org.apache.isis.viewer.restfulobjects.rendering.service.MetamodelRepresentationCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -49,16 +55,20 @@ public class SwaggerSpecResource {
 
     private final SwaggerService swaggerService;
     private final InteractionService interactionService;
+    private final MetamodelRepresentationCache metamodelRepresentationCache;
 
     @Context HttpHeaders httpHeaders;
     @Context HttpServletRequest httpServletRequest;
+    @Context Request request;
 
     @Inject
     public SwaggerSpecResource(
             final SwaggerService swaggerService,
-            final InteractionService interactionService) {
+            final InteractionService interactionService,
+            final MetamodelRepresentationCache metamodelRepresentationCache) {
         this.swaggerService = swaggerService;
         this.interactionService = interactionService;
+        this.metamodelRepresentationCache = metamodelRepresentationCache;
         log.debug("<init>");
     }
 
@@ -68,8 +78,8 @@ public SwaggerSpecResource(
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrivate() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/private",
+    public Response swaggerPrivate() {
+        return _EndpointLogging.response(log, "GET /swagger/private",
                 swagger(Visibility.PRIVATE));
     }
 
@@ -79,8 +89,8 @@ public String swaggerPrivate() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrototyping() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/prototyping",
+    public Response swaggerPrototyping() {
+        return _EndpointLogging.response(log, "GET /swagger/prototyping",
                 swagger(Visibility.PRIVATE_WITH_PROTOTYPING));
     }
 
@@ -90,20 +100,32 @@ public String swaggerPrototyping() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPublic() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/public",
+    public Response swaggerPublic() {
+        return _EndpointLogging.response(log, "GET /swagger/public",
                 swagger(Visibility.PUBLIC));
     }
 
     // -- HELPER
 
-    private String swagger(final Visibility visibility) {
+    private Response swagger(final Visibility visibility) {
 
         val format = deriveFrom(httpHeaders);
-        val callable = new MyCallable(swaggerService, visibility, format);
 
-        val spec = interactionService.callAnonymous(callable);
-        return spec;
+        val cachedRepresentation = metamodelRepresentationCache.computeIfAbsent(
+                "swagger/" + visibility.name() + "/" + format.name(),
+                ()->{
+                    val callable = new MyCallable(swaggerService, visibility, format);
+                    val spec = interactionService.callAnonymous(callable);
+                    return CachedRepresentation.of(mediaTypeFor(format), spec);
+                });
+
+        return Responses.ofCached(request, httpHeaders, cachedRepresentation, Caching.NONE).build();
+    }
+
+    private static MediaType mediaTypeFor(final Format format) {
+        return format == Format.YAML
+                ? new MediaType("text", "yaml")
+                : MediaType.APPLICATION_JSON_TYPE;
     }
 
     private Format deriveFrom(final HttpHeaders httpHeaders) {
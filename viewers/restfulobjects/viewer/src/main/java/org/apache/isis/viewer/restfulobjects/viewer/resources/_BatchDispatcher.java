@@ -0,0 +1,616 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.viewer.resources;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.codec._UrlDecoderUtil;
+import org.apache.isis.commons.internal.collections._Sets;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
+import org.apache.isis.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.isis.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Dispatches the sub-requests of a {@link BatchResource batch} to the servlet serving the RO viewer, in-process
+ * and on the calling thread.
+ *
+ * <p>
+ *     Each sub-request is <i>forwarded</i>, with the request wrapped so as to present the sub-request's method,
+ *     path, query string, headers and body, and with the response wrapped so as to capture its status, headers
+ *     and body.  (Forwarding rather than including, because the container ignores any status or headers set by
+ *     an included servlet.)  Because the <code>IsisRestfulObjectsInteractionFilter</code> is only mapped for
+ *     <code>REQUEST</code> dispatches, the sub-requests run within the interaction set up for the batch request,
+ *     without being authenticated again.
+ * </p>
+ */
+@RequiredArgsConstructor(staticName = "of")
+@Log4j2
+final class _BatchDispatcher {
+
+    /**
+     * Headers of the batch request that are not inherited by its sub-requests; they either describe the body
+     * of the batch request, or would apply to the batch response as a whole.
+     */
+    private static final Set<String> NON_INHERITED_HEADERS = _Sets.newTreeSet(String.CASE_INSENSITIVE_ORDER);
+    static {
+        NON_INHERITED_HEADERS.addAll(List.of(
+                HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_ENCODING,
+                HttpHeaders.ACCEPT_ENCODING, "Transfer-Encoding",
+                HttpHeaders.IF_MATCH, HttpHeaders.IF_NONE_MATCH,
+                HttpHeaders.IF_MODIFIED_SINCE, HttpHeaders.IF_UNMODIFIED_SINCE));
+    }
+
+    private static final Set<String> METHODS = Set.of("GET", "PUT", "POST", "DELETE");
+
+    private final @NonNull HttpServletRequest batchRequest;
+    private final @NonNull HttpServletResponse batchResponse;
+
+    /**
+     * eg. <code>http://localhost:8080/ctx/restful/</code>
+     */
+    private final @NonNull String restfulAbsoluteBase;
+
+    /**
+     * Parses the sub-request held at given {@code index} of the batch, throwing a <i>400 Bad Request</i> if it is
+     * malformed or refers to a resource outside of the RO viewer.
+     */
+    SubRequest subRequest(final int index, final JsonRepresentation subRequestRepr) {
+        if(!subRequestRepr.isMap()) {
+            throw badRequest(index, "is not a JSON map");
+        }
+        try {
+            val method = _Strings.nonEmpty(subRequestRepr.getString("method"))
+                    .map(x->x.toUpperCase(Locale.ROOT))
+                    .orElse("GET");
+            if(!METHODS.contains(method)) {
+                throw badRequest(index, "has unsupported method '%s'", method);
+            }
+
+            val href = _Strings.nonEmpty(subRequestRepr.getString("href"))
+                    .orElseThrow(()->badRequest(index, "has no href"));
+            val pathAndQuery = relativeToRestfulBase(href);
+            if(pathAndQuery == null) {
+                throw badRequest(index, "has href '%s' not within '%s'", href, restfulAbsoluteBase);
+            }
+            val queryStart = pathAndQuery.indexOf('?');
+            val path = queryStart < 0 ? pathAndQuery : pathAndQuery.substring(0, queryStart);
+            val queryString = queryStart < 0 ? null : pathAndQuery.substring(queryStart + 1);
+            // validate the path as the servlet will see it, that is after decoding, so that
+            // eg. '%2e%2e' or '%62atch' cannot be used to get around the checks that follow
+            val decodedPath = _UrlDecoderUtil.urlDecode(path);
+            val segments = decodedPath.split("/", -1);
+            for (int i = 0; i < segments.length; i++) {
+                val segment = withoutPathParameters(segments[i]);
+                if(segment.equals(".") || segment.equals("..")) {
+                    throw badRequest(index, "has href '%s' with relative path segments", href);
+                }
+                if(segment.isEmpty() && i < segments.length - 1) {
+                    throw badRequest(index, "has href '%s' with empty path segments", href);
+                }
+            }
+            if(withoutPathParameters(segments[0]).equalsIgnoreCase("batch")) {
+                throw badRequest(index, "may not itself be a batch");
+            }
+
+            val headers = inheritedHeaders();
+            val headersRepr = subRequestRepr.getMap("headers");
+            if(headersRepr != null) {
+                headersRepr.streamMapEntries()
+                .forEach(entry->headers.put(entry.getKey(), Collections.singletonList(entry.getValue().asArg())));
+            }
+
+            val bodyRepr = subRequestRepr.getRepresentation("body");
+            final byte[] body;
+            if(bodyRepr == null) {
+                body = new byte[0];
+            } else if(bodyRepr.isString()) {
+                body = bodyRepr.asString().getBytes(StandardCharsets.UTF_8);
+            } else {
+                body = bodyRepr.asJsonNode().toString().getBytes(StandardCharsets.UTF_8);
+                headers.putIfAbsent(HttpHeaders.CONTENT_TYPE,
+                        Collections.singletonList(MediaType.APPLICATION_JSON));
+            }
+
+            return new SubRequest(batchRequest, method, path, decodedPath, queryString, headers, body);
+
+        } catch (IllegalArgumentException e) {
+            throw RestfulObjectsApplicationException
+                .createWithCauseAndMessage(HttpStatusCode.BAD_REQUEST, e, "sub-request #%d is malformed", index);
+        }
+    }
+
+    /**
+     * Executes the sub-request, returning its response as a map with keys <code>status</code>,
+     * <code>headers</code> and (if any) <code>body</code>.
+     */
+    JsonRepresentation dispatch(final SubRequest subRequest) {
+        val subResponse = new CapturingResponse(batchResponse);
+        val dispatcher = batchRequest.getServletContext()
+                .getRequestDispatcher(batchRequest.getServletPath() + "/" + subRequest.path);
+        if(dispatcher == null) {
+            subResponse.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return subResponse.asJson();
+        }
+        try {
+            dispatcher.forward(subRequest, subResponse);
+        } catch (ServletException | IOException | RuntimeException e) {
+            log.warn("sub-request {} {} failed", subRequest.getMethod(), subRequest.path, e);
+            subResponse.resetBuffer();
+            subResponse.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+        return subResponse.asJson();
+    }
+
+    // -- HELPER
+
+    private String relativeToRestfulBase(final String href) {
+        if(href.startsWith(restfulAbsoluteBase)) {
+            return href.substring(restfulAbsoluteBase.length());
+        }
+        if(href.contains("://")) {
+            return null;
+        }
+        val restfulRelativeBase = batchRequest.getContextPath() + batchRequest.getServletPath() + "/";
+        if(href.startsWith(restfulRelativeBase)) {
+            return href.substring(restfulRelativeBase.length());
+        }
+        return href.startsWith("/") ? href.substring(1) : href;
+    }
+
+    /**
+     * Strips any (matrix) path parameters, eg. <code>..;x=1</code>, which are ignored when matching the segment.
+     */
+    private static String withoutPathParameters(final String segment) {
+        val semicolon = segment.indexOf(';');
+        return semicolon < 0 ? segment : segment.substring(0, semicolon);
+    }
+
+    private Map<String, List<String>> inheritedHeaders() {
+        val headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+        for (val headerNames = batchRequest.getHeaderNames(); headerNames.hasMoreElements(); ) {
+            val headerName = headerNames.nextElement();
+            if(!NON_INHERITED_HEADERS.contains(headerName)) {
+                headers.put(headerName, Collections.list(batchRequest.getHeaders(headerName)));
+            }
+        }
+        return headers;
+    }
+
+    private static RestfulObjectsApplicationException badRequest(
+            final int index, final String format, final Object... args) {
+        return RestfulObjectsApplicationException
+                .createWithMessage(HttpStatusCode.BAD_REQUEST,
+                        "sub-request #" + index + " " + format, args);
+    }
+
+    // -- REQUEST
+
+    /**
+     * Presents the sub-request to the servlet; anything not specific to the sub-request (the remote address,
+     * the session, the security principal etc.) is delegated to the batch request.
+     */
+    static final class SubRequest extends HttpServletRequestWrapper {
+
+        private final String method;
+        private final String path;
+        private final String decodedPath;
+        private final String queryString;
+        private final Map<String, String[]> parameters;
+        private final Map<String, List<String>> headers;
+        private final byte[] body;
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        private SubRequest(
+                final HttpServletRequest batchRequest,
+                final String method,
+                final String path,
+                final String decodedPath,
+                final String queryString,
+                final Map<String, List<String>> headers,
+                final byte[] body) {
+            super(batchRequest);
+            this.method = method;
+            this.path = path;
+            this.decodedPath = decodedPath;
+            this.queryString = queryString;
+            this.parameters = Collections.unmodifiableMap(parse(queryString));
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override public String getMethod() { return method; }
+        @Override public String getPathInfo() { return "/" + decodedPath; }
+        @Override public String getPathTranslated() { return null; }
+        @Override public String getQueryString() { return queryString; }
+
+        @Override
+        public String getRequestURI() {
+            return super.getContextPath() + super.getServletPath() + "/" + path;
+        }
+
+        @Override
+        public StringBuffer getRequestURL() {
+            val batchRequestURL = super.getRequestURL().toString();
+            val serverBase = batchRequestURL.substring(0, batchRequestURL.length() - super.getRequestURI().length());
+            return new StringBuffer(serverBase).append(getRequestURI());
+        }
+
+        // -- PARAMETERS
+
+        @Override public Map<String, String[]> getParameterMap() { return parameters; }
+        @Override public Enumeration<String> getParameterNames() { return Collections.enumeration(parameters.keySet()); }
+        @Override public String[] getParameterValues(final String name) { return parameters.get(name); }
+
+        @Override
+        public String getParameter(final String name) {
+            val values = parameters.get(name);
+            return values != null ? values[0] : null;
+        }
+
+        // -- HEADERS
+
+        @Override
+        public String getHeader(final String name) {
+            val values = headers.get(name);
+            return values != null && !values.isEmpty() ? values.get(0) : null;
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(final String name) {
+            return Collections.enumeration(headers.getOrDefault(name, Collections.emptyList()));
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(headers.keySet());
+        }
+
+        @Override
+        public int getIntHeader(final String name) {
+            val value = getHeader(name);
+            return value != null ? Integer.parseInt(value) : -1;
+        }
+
+        @Override
+        public long getDateHeader(final String name) {
+            val value = getHeader(name);
+            return value != null
+                    ? Instant.from(DateTimeFormatter.RFC_1123_DATE_TIME.parse(value)).toEpochMilli()
+                    : -1L;
+        }
+
+        // -- BODY
+
+        @Override public String getContentType() { return getHeader(HttpHeaders.CONTENT_TYPE); }
+        @Override public int getContentLength() { return body.length; }
+        @Override public long getContentLengthLong() { return body.length; }
+        @Override public String getCharacterEncoding() { return StandardCharsets.UTF_8.name(); }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            val in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override public int read() { return in.read(); }
+                @Override public int read(final byte[] b, final int off, final int len) { return in.read(b, off, len); }
+                @Override public boolean isFinished() { return in.available() == 0; }
+                @Override public boolean isReady() { return true; }
+                @Override public void setReadListener(final ReadListener readListener) {
+                    throw new UnsupportedOperationException("sub-requests are not asynchronous");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        // -- ATTRIBUTES
+
+        /*
+         * attributes set while handling the sub-request are kept local to it,
+         * so do not leak into the handling of the sub-requests that follow
+         */
+
+        @Override
+        public Object getAttribute(final String name) {
+            return attributes.containsKey(name)
+                    ? attributes.get(name)
+                    : super.getAttribute(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            val names = _Sets.<String>newLinkedHashSet();
+            names.addAll(Collections.list(super.getAttributeNames()));
+            attributes.forEach((name, value)->{
+                if(value != null) {
+                    names.add(name);
+                } else {
+                    names.remove(name);
+                }
+            });
+            return Collections.enumeration(names);
+        }
+
+        @Override
+        public void setAttribute(final String name, final Object value) {
+            attributes.put(name, value);
+        }
+
+        @Override
+        public void removeAttribute(final String name) {
+            attributes.put(name, null); // masks any attribute of the batch request
+        }
+
+        private static Map<String, String[]> parse(final String queryString) {
+            val parameters = new LinkedHashMap<String, List<String>>();
+            if(queryString != null) {
+                for (String pair : queryString.split("&")) {
+                    if(pair.isEmpty()) {
+                        continue;
+                    }
+                    val eq = pair.indexOf('=');
+                    val name = decode(eq < 0 ? pair : pair.substring(0, eq));
+                    val value = eq < 0 ? "" : decode(pair.substring(eq + 1));
+                    parameters.computeIfAbsent(name, __->new ArrayList<>()).add(value);
+                }
+            }
+            val parameterArrays = new LinkedHashMap<String, String[]>();
+            parameters.forEach((name, values)->parameterArrays.put(name, values.toArray(new String[0])));
+            return parameterArrays;
+        }
+
+        private static String decode(final String encoded) {
+            try {
+                return URLDecoder.decode(encoded, StandardCharsets.UTF_8.name());
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e); // UTF-8 is always supported
+            }
+        }
+    }
+
+    // -- RESPONSE
+
+    /**
+     * Captures the status, headers and body of the sub-request's response; nothing is written to the batch
+     * response.
+     */
+    static final class CapturingResponse extends HttpServletResponseWrapper {
+
+        private int status = HttpServletResponse.SC_OK;
+        private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private String characterEncoding = StandardCharsets.UTF_8.name();
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        private CapturingResponse(final HttpServletResponse batchResponse) {
+            super(batchResponse);
+        }
+
+        // -- STATUS
+
+        @Override public int getStatus() { return status; }
+        @Override public void setStatus(final int status) { this.status = status; }
+        @Override public void sendError(final int status) { sendError(status, null); }
+
+        @Override
+        public void sendError(final int status, final String message) {
+            resetBuffer();
+            this.status = status;
+            if(message != null) {
+                setContentType(MediaType.TEXT_PLAIN);
+                body.writeBytes(message.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        @Override
+        public void sendRedirect(final String location) {
+            resetBuffer();
+            this.status = HttpServletResponse.SC_FOUND;
+            setHeader(HttpHeaders.LOCATION, location);
+        }
+
+        // -- HEADERS
+
+        @Override public boolean containsHeader(final String name) { return headers.containsKey(name); }
+        @Override public String getHeader(final String name) { return headers.containsKey(name) ? headers.get(name).get(0) : null; }
+        @Override public Collection<String> getHeaders(final String name) { return headers.getOrDefault(name, Collections.emptyList()); }
+        @Override public Collection<String> getHeaderNames() { return headers.keySet(); }
+
+        @Override
+        public void setHeader(final String name, final String value) {
+            if(value == null) {
+                headers.remove(name);
+                return;
+            }
+            val values = new ArrayList<String>(1);
+            values.add(value);
+            headers.put(name, values);
+        }
+
+        @Override
+        public void addHeader(final String name, final String value) {
+            if(value != null) {
+                headers.computeIfAbsent(name, __->new ArrayList<>(1)).add(value);
+            }
+        }
+
+        @Override public void setIntHeader(final String name, final int value) { setHeader(name, Integer.toString(value)); }
+        @Override public void addIntHeader(final String name, final int value) { addHeader(name, Integer.toString(value)); }
+        @Override public void setDateHeader(final String name, final long date) { setHeader(name, formatDate(date)); }
+        @Override public void addDateHeader(final String name, final long date) { addHeader(name, formatDate(date)); }
+        @Override public void addCookie(final Cookie cookie) { /* cookies are not relayed */ }
+
+        // -- BODY
+
+        @Override public String getContentType() { return getHeader(HttpHeaders.CONTENT_TYPE); }
+        @Override public void setContentType(final String type) { setHeader(HttpHeaders.CONTENT_TYPE, type); }
+        @Override public void setContentLength(final int len) { /* computed from the captured body */ }
+        @Override public void setContentLengthLong(final long len) { /* computed from the captured body */ }
+        @Override public String getCharacterEncoding() { return characterEncoding; }
+        @Override public void setCharacterEncoding(final String charset) { this.characterEncoding = charset; }
+        @Override public boolean isCommitted() { return false; }
+        @Override public void setBufferSize(final int size) { /* unbounded */ }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if(outputStream == null) {
+                outputStream = new ServletOutputStream() {
+                    @Override public void write(final int b) { body.write(b); }
+                    @Override public void write(final byte[] b, final int off, final int len) { body.write(b, off, len); }
+                    @Override public boolean isReady() { return true; }
+                    @Override public void setWriteListener(final WriteListener writeListener) {
+                        throw new UnsupportedOperationException("sub-requests are not asynchronous");
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if(writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), charset()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() {
+            if(writer != null) {
+                writer.flush();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            flushBuffer();
+            body.reset();
+        }
+
+        @Override
+        public void reset() {
+            resetBuffer();
+            status = HttpServletResponse.SC_OK;
+            headers.clear();
+        }
+
+        JsonRepresentation asJson() {
+            flushBuffer();
+            val repr = JsonRepresentation.newMap();
+            repr.mapPut("status", status);
+            // not using mapPut(...), which would interpret any '.' in a header name as a path
+            val headersNode = JsonNodeFactory.instance.objectNode();
+            headers.forEach((name, values)->headersNode.put(name, String.join(",", values)));
+            repr.mapPut("headers", headersNode);
+            if(body.size() > 0) {
+                val bodyAsString = new String(body.toByteArray(), charset());
+                val bodyAsJson = isJson() ? readJsonIfPossible(bodyAsString) : null;
+                if(bodyAsJson != null) {
+                    repr.mapPut("body", bodyAsJson);
+                } else {
+                    repr.mapPut("body", bodyAsString);
+                }
+            }
+            return repr;
+        }
+
+        private boolean isJson() {
+            val contentType = getContentType();
+            if(contentType == null) {
+                return false;
+            }
+            try {
+                val mediaType = MediaType.valueOf(contentType);
+                return mediaType.getSubtype().equals("json") || mediaType.getSubtype().endsWith("+json");
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+
+        private static JsonRepresentation readJsonIfPossible(final String json) {
+            try {
+                return JsonMapper.instance().read(json);
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        private Charset charset() {
+            try {
+                return Charset.forName(characterEncoding);
+            } catch (IllegalArgumentException e) {
+                return StandardCharsets.UTF_8;
+            }
+        }
+
+        private static String formatDate(final long date) {
+            return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC));
+        }
+    }
+
+}
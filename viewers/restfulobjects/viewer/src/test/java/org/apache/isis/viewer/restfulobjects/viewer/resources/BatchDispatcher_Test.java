@@ -0,0 +1,262 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.viewer.resources;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import javax.servlet.RequestDispatcher;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2.Mode;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
+import org.apache.isis.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+
+import lombok.val;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+public class BatchDispatcher_Test {
+
+    @Rule public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock private HttpServletRequest mockBatchRequest;
+    @Mock private HttpServletResponse mockBatchResponse;
+    @Mock private ServletContext mockServletContext;
+
+    private _BatchDispatcher dispatcher;
+
+    @Before
+    public void setUp() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockBatchRequest).getContextPath();
+            will(returnValue("/ctx"));
+
+            allowing(mockBatchRequest).getServletPath();
+            will(returnValue("/restful"));
+
+            allowing(mockBatchRequest).getHeaderNames();
+            will(returnEnumeration(List.of("Authorization", "If-None-Match")));
+
+            allowing(mockBatchRequest).getHeaders("Authorization");
+            will(returnEnumeration(List.of("Basic c3ZlbjpwYXNz")));
+
+            allowing(mockBatchRequest).getHeaders("If-None-Match");
+            will(returnEnumeration(List.of("\"123\"")));
+        }});
+
+        dispatcher = _BatchDispatcher.of(mockBatchRequest, mockBatchResponse, "http://localhost:8080/ctx/restful/");
+    }
+
+    @Test
+    public void relativeHref() throws Exception {
+        val subRequest = dispatcher.subRequest(0, JsonRepresentation.newMap(
+                "href", "objects/simple.SimpleObject/1?x-ro-page=2&x-ro-sort-by=name"));
+
+        assertThat(subRequest.getMethod(), equalTo("GET"));
+        assertThat(subRequest.getPathInfo(), equalTo("/objects/simple.SimpleObject/1"));
+        assertThat(subRequest.getRequestURI(), equalTo("/ctx/restful/objects/simple.SimpleObject/1"));
+        assertThat(subRequest.getQueryString(), equalTo("x-ro-page=2&x-ro-sort-by=name"));
+        assertThat(subRequest.getParameter("x-ro-page"), equalTo("2"));
+        assertThat(subRequest.getParameter("x-ro-sort-by"), equalTo("name"));
+    }
+
+    @Test
+    public void absoluteHref() throws Exception {
+        val subRequest = dispatcher.subRequest(0, JsonRepresentation.newMap(
+                "method", "post",
+                "href", "http://localhost:8080/ctx/restful/services/simple.SimpleObjects/actions/create/invoke"));
+
+        assertThat(subRequest.getMethod(), equalTo("POST"));
+        assertThat(subRequest.getPathInfo(), equalTo("/services/simple.SimpleObjects/actions/create/invoke"));
+        assertThat(subRequest.getQueryString(), is(nullValue()));
+    }
+
+    @Test
+    public void inheritsHeadersOtherThanPreconditions() throws Exception {
+        val subRequestRepr = JsonRepresentation.newMap("href", "objects/simple.SimpleObject/1");
+        subRequestRepr.mapPut("headers.Accept", "application/json");
+
+        val subRequest = dispatcher.subRequest(0, subRequestRepr);
+
+        assertThat(subRequest.getHeader("authorization"), equalTo("Basic c3ZlbjpwYXNz"));
+        assertThat(subRequest.getHeader("Accept"), equalTo("application/json"));
+        assertThat(subRequest.getHeader("If-None-Match"), is(nullValue()));
+        assertThat(Collections.list(subRequest.getHeaderNames()).size(), equalTo(2));
+    }
+
+    @Test
+    public void body() throws Exception {
+        val subRequestRepr = JsonRepresentation.newMap(
+                "method", "PUT",
+                "href", "objects/simple.SimpleObject/1/properties/name");
+        subRequestRepr.mapPut("body.value", "Fred");
+
+        val subRequest = dispatcher.subRequest(0, subRequestRepr);
+
+        assertThat(subRequest.getContentType(), equalTo("application/json"));
+        assertThat(new String(subRequest.getInputStream().readAllBytes(), "UTF-8"), equalTo("{\"value\":\"Fred\"}"));
+    }
+
+    @Test
+    public void rejectsHrefOutsideOfRestfulBase() throws Exception {
+        assertBadRequest(JsonRepresentation.newMap("href", "http://example.com/restful/objects/simple.SimpleObject/1"));
+    }
+
+    @Test
+    public void rejectsRelativePathSegments() throws Exception {
+        assertBadRequest(JsonRepresentation.newMap("href", "objects/../../wicket/"));
+    }
+
+    @Test
+    public void rejectsEncodedRelativePathSegments() throws Exception {
+        assertBadRequest(JsonRepresentation.newMap("href", "objects/%2e%2e/%2E%2E/wicket/"));
+        assertBadRequest(JsonRepresentation.newMap("href", "objects%2f..%2f..%2fwicket/"));
+        assertBadRequest(JsonRepresentation.newMap("href", "objects/..;x=1/../wicket/"));
+    }
+
+    @Test
+    public void rejectsEmptyPathSegments() throws Exception {
+        assertBadRequest(JsonRepresentation.newMap("href", "objects//simple.SimpleObject/1"));
+    }
+
+    @Test
+    public void decodesPath() throws Exception {
+        val subRequest = dispatcher.subRequest(0, JsonRepresentation.newMap(
+                "href", "objects/simple.SimpleObject/a%2Fb"));
+
+        assertThat(subRequest.getPathInfo(), equalTo("/objects/simple.SimpleObject/a/b"));
+        assertThat(subRequest.getRequestURI(), equalTo("/ctx/restful/objects/simple.SimpleObject/a%2Fb"));
+    }
+
+    @Test
+    public void rejectsNestedBatch() throws Exception {
+        assertBadRequest(JsonRepresentation.newMap("method", "POST", "href", "batch"));
+    }
+
+    @Test
+    public void rejectsEncodedNestedBatch() throws Exception {
+        assertBadRequest(JsonRepresentation.newMap("method", "POST", "href", "%62atch"));
+        assertBadRequest(JsonRepresentation.newMap("method", "POST", "href", "%62%61%74%63%68/"));
+        assertBadRequest(JsonRepresentation.newMap("method", "POST", "href", "batch;x=1"));
+    }
+
+    @Test
+    public void dispatchCapturesStatusHeadersAndJsonBody() throws Exception {
+        givenServlet(new RequestDispatcher() {
+            @Override
+            public void forward(final ServletRequest request, final ServletResponse response) throws IOException {
+                val httpRequest = (HttpServletRequest) request;
+                val httpResponse = (HttpServletResponse) response;
+                if(httpRequest.getPathInfo().equals("/objects/simple.SimpleObject/1")) {
+                    httpResponse.setStatus(HttpServletResponse.SC_OK);
+                    httpResponse.setHeader("ETag", "\"123\"");
+                    httpResponse.setContentType("application/json;profile=\"urn:org.restfulobjects:repr-types/object\"");
+                    httpResponse.getWriter().write("{\"title\":\"Fred\"}");
+                } else {
+                    httpResponse.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                    httpResponse.setContentType("application/json");
+                    httpResponse.getOutputStream().write("{\"message\":\"no such object\"}".getBytes("UTF-8"));
+                }
+            }
+            @Override
+            public void include(final ServletRequest request, final ServletResponse response) {
+                fail("the container ignores any status or headers set by an included servlet");
+            }
+        });
+
+        val found = dispatcher.dispatch(dispatcher.subRequest(0, JsonRepresentation.newMap(
+                "href", "objects/simple.SimpleObject/1")));
+        val notFound = dispatcher.dispatch(dispatcher.subRequest(1, JsonRepresentation.newMap(
+                "href", "objects/simple.SimpleObject/2")));
+
+        assertThat(found.getInt("status"), equalTo(200));
+        assertThat(found.getRepresentation("headers").getString("ETag"), equalTo("\"123\""));
+        assertThat(found.getRepresentation("body").isMap(), is(true));
+        assertThat(found.getString("body.title"), equalTo("Fred"));
+
+        assertThat(notFound.getInt("status"), equalTo(404));
+        assertThat(notFound.getRepresentation("headers").getString("Content-Type"), equalTo("application/json"));
+        assertThat(notFound.getRepresentation("body").isMap(), is(true));
+        assertThat(notFound.getString("body.message"), equalTo("no such object"));
+    }
+
+    @Test
+    public void dispatchCapturesFailureAsInternalServerError() throws Exception {
+        givenServlet(new RequestDispatcher() {
+            @Override
+            public void forward(final ServletRequest request, final ServletResponse response) throws IOException {
+                response.getWriter().write("partial");
+                throw new IllegalStateException("boom");
+            }
+            @Override
+            public void include(final ServletRequest request, final ServletResponse response) {
+                fail();
+            }
+        });
+
+        val response = dispatcher.dispatch(dispatcher.subRequest(0, JsonRepresentation.newMap(
+                "href", "objects/simple.SimpleObject/1")));
+
+        assertThat(response.getInt("status"), equalTo(500));
+        assertThat(response.getRepresentation("body"), is(nullValue()));
+    }
+
+    private void givenServlet(final RequestDispatcher requestDispatcher) {
+        context.checking(new Expectations() {{
+            allowing(mockBatchRequest).getServletContext();
+            will(returnValue(mockServletContext));
+
+            allowing(mockServletContext).getRequestDispatcher(with(any(String.class)));
+            will(returnValue(requestDispatcher));
+        }});
+    }
+
+    @Test
+    public void rejectsUnsupportedMethod() throws Exception {
+        assertBadRequest(JsonRepresentation.newMap("method", "TRACE", "href", "objects/simple.SimpleObject/1"));
+    }
+
+    private void assertBadRequest(final JsonRepresentation subRequestRepr) {
+        try {
+            dispatcher.subRequest(0, subRequestRepr);
+            fail();
+        } catch (RestfulObjectsApplicationException ex) {
+            assertThat(ex.getHttpStatusCode(), equalTo(HttpStatusCode.BAD_REQUEST));
+        }
+    }
+
+}
@@ -0,0 +1,251 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.viewer.resources;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.iactnlayer.InteractionContext;
+import org.apache.isis.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.isis.applib.services.user.UserMemento;
+import org.apache.isis.core.config.viewer.web.WebAppContextPath;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2.Mode;
+import org.apache.isis.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
+import org.apache.isis.viewer.restfulobjects.rendering.EntityTags;
+import org.apache.isis.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+import org.apache.isis.viewer.restfulobjects.viewer.context.ResourceContext;
+
+import lombok.NonNull;
+import lombok.val;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+public class DomainObjectResourceServerside_entityTags_Test {
+
+    @Rule public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock private SpecificationLoader mockSpecificationLoader;
+    @Mock private InteractionLayerTracker mockInteractionLayerTracker;
+    @Mock private HttpServletRequest mockHttpServletRequest;
+    @Mock private HttpHeaders mockHttpHeaders;
+    @Mock private UriInfo mockUriInfo;
+    @Mock private Request mockRequest;
+
+    @Mock private ManagedObject mockObjectAdapter;
+    @Mock private ObjectSpecification mockObjectSpec;
+    @Mock private EntityFacet mockEntityFacet;
+
+    private final Object pojo = new Object();
+
+    private DomainObjectResourceServerside resource;
+    private ResourceContext resourceContext;
+    private EntityTag currentEntityTag;
+
+    @Before
+    public void setUp() throws Exception {
+
+        val metaModelContext = MetaModelContext_forTesting.builder()
+                .specificationLoader(mockSpecificationLoader)
+                .interactionProvider(mockInteractionLayerTracker)
+                .build();
+
+        context.checking(new Expectations() {{
+            allowing(mockInteractionLayerTracker).isInInteraction();
+            will(returnValue(true));
+
+            allowing(mockInteractionLayerTracker).currentInteractionContext();
+            will(returnValue(Optional.of(InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName("sven")))));
+
+            allowing(mockHttpServletRequest).getQueryString();
+            will(returnValue(null));
+
+            allowing(mockHttpServletRequest).getParameterMap();
+            will(returnValue(Collections.emptyMap()));
+
+            allowing(mockUriInfo).getBaseUri();
+            will(returnValue(URI.create("http://localhost:8080/restful/")));
+
+            allowing(mockObjectAdapter).getSpecification();
+            will(returnValue(mockObjectSpec));
+            allowing(mockObjectAdapter).getPojo();
+            will(returnValue(pojo));
+            allowing(mockObjectAdapter).getBookmark();
+            will(returnValue(Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("customer.Customer", "1"))));
+
+            allowing(mockObjectSpec).isEntity();
+            will(returnValue(true));
+            allowing(mockObjectSpec).getLogicalTypeName();
+            will(returnValue("customer.Customer"));
+            allowing(mockObjectSpec).getFacet(EntityFacet.class);
+            will(returnValue(mockEntityFacet));
+
+            allowing(mockEntityFacet).versionOf(pojo);
+            will(returnValue(Optional.of(1L)));
+        }});
+
+        resource = new DomainObjectResourceServerside(
+                metaModelContext, metaModelContext.getConfiguration(), mockInteractionLayerTracker) {
+            @Override
+            protected ManagedObject getObjectAdapterElseThrowNotFound(
+                    final String domainType,
+                    final String instanceIdEncoded,
+                    final @NonNull UnaryOperator<RestfulObjectsApplicationException> onRoException) {
+                return mockObjectAdapter;
+            }
+        };
+        resource.httpServletRequest = mockHttpServletRequest;
+        resource.httpHeaders = mockHttpHeaders;
+        resource.uriInfo = mockUriInfo;
+        resource.request = mockRequest;
+        resource.webAppContextPath = new WebAppContextPath();
+
+        resourceContext = resource.resourceContextForTesting(ResourceDescriptor.empty(), Collections.emptyMap());
+        currentEntityTag = EntityTags.entityTagFor(resourceContext, mockObjectAdapter).get();
+    }
+
+    // -- IF NONE MATCH
+
+    @Test
+    public void not_modified_if_none_match_holds_current_entity_tag() throws Exception {
+
+        context.checking(new Expectations() {{
+            oneOf(mockRequest).evaluatePreconditions(currentEntityTag);
+            will(returnValue(Response.notModified(currentEntityTag)));
+        }});
+
+        val response = resource.object("customer.Customer", "1");
+
+        assertThat(response.getStatus(), is(304));
+        assertThat(response.getEntity(), is(nullValue()));
+    }
+
+    // -- IF MATCH
+
+    @Test
+    public void if_match_absent() throws Exception {
+        givenIfMatch(null);
+
+        resource.ifMatchElseThrow(resourceContext, mockObjectAdapter, UnaryOperator.identity());
+    }
+
+    @Test
+    public void if_match_holds_current_entity_tag() throws Exception {
+        givenIfMatch(List.of(currentEntityTag.toString()));
+
+        // the If-None-Match header (if any) is irrelevant
+        context.checking(new Expectations() {{
+            never(mockRequest).evaluatePreconditions(with(any(EntityTag.class)));
+        }});
+
+        resource.ifMatchElseThrow(resourceContext, mockObjectAdapter, UnaryOperator.identity());
+    }
+
+    @Test
+    public void if_match_holds_stale_entity_tag() throws Exception {
+        givenIfMatch(List.of("\"stale\""));
+
+        assertPreconditionFailed();
+    }
+
+    @Test
+    public void if_match_holds_weak_entity_tag() throws Exception {
+        givenIfMatch(List.of("W/" + currentEntityTag.toString()));
+
+        assertPreconditionFailed();
+    }
+
+    @Test
+    public void if_match_on_unversioned_entity() throws Exception {
+        givenIfMatch(List.of(currentEntityTag.toString()));
+
+        assertPreconditionFailedFor(unversionedObjectAdapter());
+    }
+
+    // -- HELPER
+
+    private void givenIfMatch(final List<String> ifMatch) {
+        context.checking(new Expectations() {{
+            allowing(mockHttpHeaders).getRequestHeader(HttpHeaders.IF_MATCH);
+            will(returnValue(ifMatch));
+        }});
+    }
+
+    private void assertPreconditionFailed() {
+        assertPreconditionFailedFor(mockObjectAdapter);
+    }
+
+    private void assertPreconditionFailedFor(final ManagedObject objectAdapter) {
+        try {
+            resource.ifMatchElseThrow(resourceContext, objectAdapter, UnaryOperator.identity());
+            fail("expected 412");
+        } catch (RestfulObjectsApplicationException ex) {
+            assertThat(ex.getHttpStatusCode(), is(HttpStatusCode.PRECONDITION_FAILED));
+        }
+    }
+
+    private ManagedObject unversionedObjectAdapter() {
+        final ManagedObject mockAdapter = context.mock(ManagedObject.class, "unversionedAdapter");
+        final ObjectSpecification mockSpec = context.mock(ObjectSpecification.class, "unversionedSpec");
+        final EntityFacet mockFacet = context.mock(EntityFacet.class, "unversionedEntityFacet");
+        final Object unversionedPojo = new Object();
+
+        context.checking(new Expectations() {{
+            allowing(mockAdapter).getSpecification();
+            will(returnValue(mockSpec));
+            allowing(mockAdapter).getPojo();
+            will(returnValue(unversionedPojo));
+            allowing(mockSpec).isEntity();
+            will(returnValue(true));
+            allowing(mockSpec).getLogicalTypeName();
+            will(returnValue("customer.Customer"));
+            allowing(mockSpec).getFacet(EntityFacet.class);
+            will(returnValue(mockFacet));
+            allowing(mockFacet).versionOf(unversionedPojo);
+            will(returnValue(Optional.empty()));
+        }});
+        return mockAdapter;
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.viewer.resources;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+
+import org.hamcrest.Description;
+import org.jmock.Expectations;
+import org.jmock.api.Action;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.isis.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.config.viewer.web.WebAppContextPath;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2.Mode;
+import org.apache.isis.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.viewer.restfulobjects.rendering.service.MetamodelRepresentationCache;
+
+import lombok.val;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DomainTypeResourceServerside_cachedResponse_Test {
+
+    @Rule public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock private SpecificationLoader mockSpecificationLoader;
+    @Mock private InteractionLayerTracker mockInteractionLayerTracker;
+    @Mock private HttpServletRequest mockHttpServletRequest;
+    @Mock private HttpHeaders mockHttpHeaders;
+    @Mock private UriInfo mockUriInfo;
+    @Mock private Request mockRequest;
+
+    private DomainTypeResourceServerside resource;
+
+    private URI baseUri;
+    private EntityTag ifNoneMatch;
+
+    @Before
+    public void setUp() throws Exception {
+
+        val metaModelContext = MetaModelContext_forTesting.builder()
+                .specificationLoader(mockSpecificationLoader)
+                .build();
+
+        context.checking(new Expectations() {{
+            allowing(mockSpecificationLoader).snapshotSpecifications();
+            will(returnValue(Can.empty()));
+
+            allowing(mockInteractionLayerTracker).isInInteraction();
+            will(returnValue(true));
+
+            allowing(mockInteractionLayerTracker).currentInteractionContext();
+            will(returnValue(Optional.empty()));
+
+            allowing(mockHttpServletRequest).getQueryString();
+            will(returnValue(null));
+
+            allowing(mockHttpServletRequest).getParameterMap();
+            will(returnValue(Collections.emptyMap()));
+
+            allowing(mockHttpHeaders).getRequestHeader(HttpHeaders.ACCEPT_ENCODING);
+            will(returnValue(null));
+
+            allowing(mockUriInfo).getBaseUri();
+            will(new Action() {
+                @Override public Object invoke(final Invocation invocation) {
+                    return baseUri;
+                }
+                @Override public void describeTo(final Description description) {
+                    description.appendText("returns the current base URI");
+                }
+            });
+
+            allowing(mockRequest).evaluatePreconditions(with(any(EntityTag.class)));
+            will(new Action() {
+                @Override public Object invoke(final Invocation invocation) {
+                    val entityTag = (EntityTag) invocation.getParameter(0);
+                    return entityTag.equals(ifNoneMatch)
+                            ? Response.notModified(entityTag)
+                            : null;
+                }
+                @Override public void describeTo(final Description description) {
+                    description.appendText("evaluates If-None-Match");
+                }
+            });
+        }});
+
+        val configuration = metaModelContext.getConfiguration();
+        resource = new DomainTypeResourceServerside(
+                metaModelContext, configuration, mockInteractionLayerTracker,
+                new MetamodelRepresentationCache(configuration));
+        resource.httpServletRequest = mockHttpServletRequest;
+        resource.httpHeaders = mockHttpHeaders;
+        resource.uriInfo = mockUriInfo;
+        resource.request = mockRequest;
+        resource.webAppContextPath = new WebAppContextPath();
+    }
+
+    @Test
+    public void serves_the_cached_representation() throws Exception {
+        baseUri = URI.create("http://localhost:8080/restful/");
+
+        val response1 = resource.domainTypes();
+        val response2 = resource.domainTypes();
+
+        assertThat(response1.getStatus(), is(200));
+        assertThat(response2.getStatus(), is(200));
+        assertThat(response2.getEntity(), is(sameInstance(response1.getEntity())));
+        assertThat(response2.getEntityTag(), is(response1.getEntityTag()));
+        assertThat(response1.getHeaderString(HttpHeaders.VARY), is(HttpHeaders.ACCEPT_ENCODING));
+        assertThat(bodyOf(response1), containsString("\"http://localhost:8080/restful/domain-types\""));
+    }
+
+    @Test
+    public void rebases_links_onto_the_base_uri_of_the_request() throws Exception {
+        baseUri = URI.create("http://localhost:8080/restful/");
+        val response1 = resource.domainTypes();
+
+        baseUri = URI.create("http://evil.example.com/restful/");
+        val response2 = resource.domainTypes();
+
+        baseUri = URI.create("http://localhost:8080/restful/");
+        val response3 = resource.domainTypes();
+
+        assertThat(bodyOf(response2), containsString("\"http://evil.example.com/restful/domain-types\""));
+        assertThat(bodyOf(response2), not(containsString("localhost")));
+        assertThat(response2.getEntityTag(), is(not(response1.getEntityTag())));
+
+        // not re-rendered for the other host, still served from the cache
+        assertThat(response3.getEntity(), is(sameInstance(response1.getEntity())));
+    }
+
+    @Test
+    public void not_modified_if_entity_tag_matches() throws Exception {
+        baseUri = URI.create("http://localhost:8080/restful/");
+        val response1 = resource.domainTypes();
+
+        ifNoneMatch = response1.getEntityTag();
+        val response2 = resource.domainTypes();
+
+        assertThat(response2.getStatus(), is(304));
+        assertThat(response2.getEntity(), is(nullValue()));
+        assertThat(response2.getHeaderString(HttpHeaders.VARY), is(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Test
+    public void not_modified_does_not_apply_across_base_uris() throws Exception {
+        baseUri = URI.create("http://localhost:8080/restful/");
+        ifNoneMatch = resource.domainTypes().getEntityTag();
+
+        baseUri = URI.create("http://other.example.com/restful/");
+        val response = resource.domainTypes();
+
+        assertThat(response.getStatus(), is(200));
+    }
+
+    // -- HELPER
+
+    private static String bodyOf(final Response response) {
+        return new String((byte[]) response.getEntity(), StandardCharsets.UTF_8);
+    }
+
+}
@@ -79,4 +79,14 @@ public interface WicketViewerSettings extends Serializable {
      */
     boolean isRedirectEvenIfSameObject();
 
+    /**
+     * As per {@link org.apache.isis.core.config.IsisConfiguration.Viewer.Wicket#setLazyLoadCollections(boolean)}
+     */
+    boolean isLazyLoadCollections();
+
+    /**
+     * As per {@link org.apache.isis.core.config.IsisConfiguration.Viewer.Wicket#setChoicesPageSize(int)}
+     */
+    int getChoicesPageSize();
+
 }
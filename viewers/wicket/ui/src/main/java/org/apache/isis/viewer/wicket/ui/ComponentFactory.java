@@ -25,6 +25,7 @@
 import org.apache.wicket.request.resource.CssResourceReference;
 
 import org.apache.isis.viewer.common.model.components.ComponentType;
+import org.apache.isis.viewer.wicket.model.models.ScalarModel;
 import org.apache.isis.viewer.wicket.ui.app.registry.ComponentFactoryRegistry;
 
 /**
@@ -70,6 +71,17 @@ public static final ApplicationAdvice appliesIf(final boolean condition) {
      */
     ApplicationAdvice appliesTo(ComponentType componentType, IModel<?> model);
 
+    /**
+     * Whether, for a {@link ScalarModel}, the outcome of {@link #appliesTo(ComponentType, IModel)} is
+     * determined solely by the scalar's metamodel (the property or parameter, and hence its type and
+     * facets), rather than also by the model's state (such as its current value).
+     * <p>
+     * If so, the {@link ComponentFactoryRegistry} may memoize that outcome.
+     */
+    default boolean isApplicabilityDeterminedByMetaModel() {
+        return false;
+    }
+
     /**
      * Creates component, with id being derived from the
      * {@link #getComponentType() component type} for this factory.
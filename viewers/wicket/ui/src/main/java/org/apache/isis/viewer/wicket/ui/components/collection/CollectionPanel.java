@@ -21,10 +21,14 @@
 import java.util.Optional;
 
 import org.apache.wicket.Component;
+import org.apache.wicket.extensions.ajax.markup.html.AjaxLazyLoadPanel;
 import org.apache.wicket.feedback.ComponentFeedbackMessageFilter;
+import org.apache.wicket.feedback.ContainerFeedbackMessageFilter;
 import org.apache.wicket.markup.html.basic.Label;
 
+import org.apache.isis.applib.annotation.Loading;
 import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.facets.collections.collection.loading.LoadingFacet;
 import org.apache.isis.core.metamodel.interactions.managed.nonscalar.DataTableModel;
 import org.apache.isis.viewer.common.model.components.ComponentType;
 import org.apache.isis.viewer.wicket.model.models.EntityCollectionModelParented;
@@ -83,13 +87,56 @@ protected void onInitialize() {
     }
 
     private void buildGui() {
-        collectionContents = getComponentFactoryRegistry().addOrReplaceComponent(this, ComponentType.COLLECTION_CONTENTS, getModel());
-
-        addOrReplace(new NotificationPanel(ID_FEEDBACK, collectionContents, new ComponentFeedbackMessageFilter(collectionContents)));
+        if(isLazyLoading()) {
+            val lazyContents = new LazyCollectionContentsPanel(ComponentType.COLLECTION_CONTENTS.getId());
+            collectionContents = lazyContents;
+            addOrReplace(lazyContents);
+            // feedback may be reported against the lazily created contents, ie a child of the placeholder
+            addOrReplace(new NotificationPanel(ID_FEEDBACK, lazyContents, new ContainerFeedbackMessageFilter(lazyContents)));
+        } else {
+            collectionContents = getComponentFactoryRegistry().addOrReplaceComponent(this, ComponentType.COLLECTION_CONTENTS, getModel());
+            addOrReplace(new NotificationPanel(ID_FEEDBACK, collectionContents, new ComponentFeedbackMessageFilter(collectionContents)));
+        }
 
         setOutputMarkupId(true);
     }
 
+    /**
+     * Whether to defer building the collection's contents (and so evaluating its {@link DataTableModel})
+     * until after the page has been rendered, as per the collection's {@link LoadingFacet} or otherwise
+     * {@link org.apache.isis.viewer.wicket.model.isis.WicketViewerSettings#isLazyLoadCollections() as configured}.
+     */
+    private boolean isLazyLoading() {
+        val loading = getModel().getMetaModel()
+                .lookupFacet(LoadingFacet.class)
+                .map(LoadingFacet::loading)
+                .orElse(Loading.AS_CONFIGURED);
+        return loading == Loading.LAZY
+                || (loading == Loading.AS_CONFIGURED
+                        && getWicketViewerSettings().isLazyLoadCollections());
+    }
+
+    /**
+     * Renders a placeholder with the page; the actual contents are created (with an ajax request) only once
+     * the placeholder is shown, that is, once the page is loaded or the tab holding the collection is selected.
+     * <p>
+     * Wicket collects all lazy panels of a page that are ready into a single request, so independent
+     * collections are loaded together rather than one round-trip each.
+     */
+    private class LazyCollectionContentsPanel extends AjaxLazyLoadPanel<Component> {
+
+        private static final long serialVersionUID = 1L;
+
+        LazyCollectionContentsPanel(final String id) {
+            super(id);
+        }
+
+        @Override
+        public Component getLazyLoadComponent(final String markupId) {
+            return getComponentFactoryRegistry().createComponent(ComponentType.COLLECTION_CONTENTS, markupId, CollectionPanel.this.getModel());
+        }
+    }
+
     public Label createLabel(final String id, final String collectionName) {
         this.label = Wkt.label(id, collectionName);
         label.setOutputMarkupId(true);
@@ -64,6 +64,11 @@ public EntityIconAndTitlePanelFactory() {
         this(ComponentType.ENTITY_ICON_AND_TITLE, EntityIconAndTitlePanel.class);
     }
 
+    @Override
+    public boolean isApplicabilityDeterminedByMetaModel() {
+        return true;
+    }
+
     @Override
     protected ApplicationAdvice appliesTo(final IModel<?> model) {
 
@@ -34,6 +34,7 @@
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.core.config.IsisConfiguration.Viewer.Wicket.Credit;
+import org.apache.isis.core.metamodel.execution.InteractionProfile;
 import org.apache.isis.viewer.wicket.model.util.PageParameterUtils;
 import org.apache.isis.viewer.wicket.ui.components.widgets.breadcrumbs.BreadcrumbPanel;
 import org.apache.isis.viewer.wicket.ui.components.widgets.themepicker.ThemeChooser;
@@ -56,6 +57,7 @@
     private static final String ID_ABOUT_LINK = "aboutLink";
     private static final String ID_ABOUT_MESSAGE = "aboutMessage";
     private static final String ID_THEME_PICKER = "themePicker";
+    private static final String ID_TIMING = "timing";
 
     /**
      * Constructor.
@@ -75,6 +77,7 @@ protected void onInitialize() {
         addCredits();
         addAboutLink();
         addThemePicker();
+        addTiming();
     }
 
     private void addCredits() {
@@ -187,4 +190,17 @@ private void addThemePicker() {
         addOrReplace(themeChooser);
     }
 
+    /**
+     * Adds the (opt-in) performance profile of the interaction rendering the page,
+     * evaluated on render, so as late as possible.
+     */
+    private void addTiming() {
+        val timingFooter = getConfiguration().getViewer().getWicket().getDevelopmentUtilities().isTimingFooter();
+        val timingLabel = Wkt.labelAdd(this, ID_TIMING, ()->
+                InteractionProfile.current()
+                .map(InteractionProfile::toTimingString)
+                .orElse(""));
+        timingLabel.setVisibilityAllowed(timingFooter);
+    }
+
 }
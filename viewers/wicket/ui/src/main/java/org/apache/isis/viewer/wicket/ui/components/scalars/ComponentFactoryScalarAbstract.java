@@ -40,6 +40,11 @@ protected ComponentFactoryScalarAbstract(
         this.scalarTypes = scalarTypes;
     }
 
+    @Override
+    public boolean isApplicabilityDeterminedByMetaModel() {
+        return true;
+    }
+
     @Override
     public ApplicationAdvice appliesTo(final IModel<?> model) {
         if (!(model instanceof ScalarModel)) {
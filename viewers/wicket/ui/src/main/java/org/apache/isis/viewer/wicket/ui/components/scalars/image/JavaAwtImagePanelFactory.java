@@ -35,6 +35,11 @@ public JavaAwtImagePanelFactory() {
         super(ComponentType.SCALAR_NAME_AND_VALUE, JavaAwtImagePanel.class);
     }
 
+    @Override
+    public boolean isApplicabilityDeterminedByMetaModel() {
+        return true;
+    }
+
     @Override
     public ApplicationAdvice appliesTo(final IModel<?> model) {
         if (!(model instanceof ScalarModel)) {
@@ -57,6 +57,11 @@ public ParentedAbstract(final Class<?> valueType) {
             this.valueType = valueType;
         }
 
+        @Override
+        public boolean isApplicabilityDeterminedByMetaModel() {
+            return true;
+        }
+
         @Override
         public ApplicationAdvice appliesTo(final IModel<?> model) {
             if (!(model instanceof ScalarModel)) {
@@ -39,6 +39,11 @@ public ReferencePanelFactory() {
         super(ComponentType.SCALAR_NAME_AND_VALUE, ReferencePanel.class);
     }
 
+    @Override
+    public boolean isApplicabilityDeterminedByMetaModel() {
+        return true;
+    }
+
     @Override
     public ApplicationAdvice appliesTo(final IModel<?> model) {
         if (!(model instanceof ScalarModel)) {
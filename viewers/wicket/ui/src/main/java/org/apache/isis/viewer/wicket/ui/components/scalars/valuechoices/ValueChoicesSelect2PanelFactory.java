@@ -34,6 +34,11 @@ public ValueChoicesSelect2PanelFactory() {
         super(ComponentType.SCALAR_NAME_AND_VALUE, ValueChoicesSelect2Panel.class);
     }
 
+    @Override
+    public boolean isApplicabilityDeterminedByMetaModel() {
+        return true;
+    }
+
     @Override
     public ApplicationAdvice appliesTo(final IModel<?> model) {
         if (!(model instanceof ScalarModel)) {
@@ -44,6 +44,11 @@ public Parented() {
             super(ComponentType.SCALAR_NAME_AND_VALUE, ParentedTreePanel.class);
         }
 
+        @Override
+        public boolean isApplicabilityDeterminedByMetaModel() {
+            return true;
+        }
+
         @Override
         public ApplicationAdvice appliesTo(final IModel<?> model) {
             if (!(model instanceof ScalarModel)) {
@@ -35,6 +35,11 @@ public EntityLinkSimplePanelFactory() {
         super(ComponentType.ENTITY_LINK, EntityLinkSimplePanel.class);
     }
 
+    @Override
+    public boolean isApplicabilityDeterminedByMetaModel() {
+        return true;
+    }
+
     @Override
     public ApplicationAdvice appliesTo(final IModel<?> model) {
         if (model instanceof EntityModel) {
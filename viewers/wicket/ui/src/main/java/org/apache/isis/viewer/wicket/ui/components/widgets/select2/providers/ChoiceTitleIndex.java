@@ -0,0 +1,165 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.ui.components.widgets.select2.providers;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.core.metamodel.objectmanager.memento.ObjectMemento;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Search index over the titles of a fixed set of choices, so that each choice's
+ * title is computed only once per prompt (rather than reconstructing every choice
+ * on every keystroke).
+ * <p>
+ * Titles are held case-folded; a search term matches a choice if every
+ * (whitespace separated) token of the term is contained in the choice's title.
+ * Matches are returned in the original order of the choices.
+ * <p>
+ * Held by the {@link ObjectAdapterMementoProviderAbstract choice provider}, hence
+ * serialized along with the page.
+ *
+ * @since 2.0
+ */
+final class ChoiceTitleIndex implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Can<ObjectMemento> choices;
+    private final String[] titles;
+    private final String[] foldedTitles;
+
+    /** lookup of choice position by {@link ObjectMemento#asString()}, rebuilt lazily after deserialization */
+    private transient Map<String, Integer> positionById;
+
+    static ChoiceTitleIndex build(
+            final @NonNull Can<ObjectMemento> choices,
+            final @NonNull Function<ObjectMemento, String> titleProvider) {
+
+        val size = choices.size();
+        val titles = new String[size];
+        val foldedTitles = new String[size];
+        for (int i = 0; i < size; i++) {
+            val title = _Strings.nullToEmpty(titleProvider.apply(choices.getElseFail(i)));
+            titles[i] = title;
+            foldedTitles[i] = fold(title);
+        }
+        return new ChoiceTitleIndex(choices, titles, foldedTitles);
+    }
+
+    private ChoiceTitleIndex(
+            final Can<ObjectMemento> choices,
+            final String[] titles,
+            final String[] foldedTitles) {
+        this.choices = choices;
+        this.titles = titles;
+        this.foldedTitles = foldedTitles;
+    }
+
+    /**
+     * Whether this index was built for given choices (identity check).
+     */
+    boolean isFor(final @Nullable Can<ObjectMemento> choices) {
+        return this.choices == choices;
+    }
+
+    /**
+     * @return all choices matching given term, in their original order;
+     * all choices if the term is empty
+     */
+    Can<ObjectMemento> filter(final @Nullable String term) {
+        val tokens = tokenize(term);
+        if(tokens.length == 0) {
+            return choices;
+        }
+        val matching = new ArrayList<ObjectMemento>();
+        for (int i = 0; i < foldedTitles.length; i++) {
+            if(matches(foldedTitles[i], tokens)) {
+                matching.add(choices.getElseFail(i));
+            }
+        }
+        return Can.ofCollection(matching);
+    }
+
+    /**
+     * @return the (previously computed) title of given choice, if indexed
+     */
+    Optional<String> lookupTitle(final @Nullable ObjectMemento choice) {
+        if(choice == null) {
+            return Optional.empty();
+        }
+        val pos = positionById().get(choice.asString());
+        return pos != null
+                ? Optional.of(titles[pos])
+                : Optional.empty();
+    }
+
+    int size() {
+        return titles.length;
+    }
+
+    // -- HELPER
+
+    private Map<String, Integer> positionById() {
+        if(positionById == null) {
+            val map = new HashMap<String, Integer>(titles.length * 2);
+            for (int i = 0; i < titles.length; i++) {
+                map.putIfAbsent(choices.getElseFail(i).asString(), i);
+            }
+            positionById = map;
+        }
+        return positionById;
+    }
+
+    private static boolean matches(final String foldedTitle, final String[] tokens) {
+        for (val token : tokens) {
+            if(!foldedTitle.contains(token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[] tokenize(final @Nullable String term) {
+        if(_Strings.isNullOrEmpty(term)) {
+            return new String[0];
+        }
+        val folded = fold(term).trim();
+        return folded.isEmpty()
+                ? new String[0]
+                : folded.split("\\s+");
+    }
+
+    private static String fold(final String str) {
+        return str.toLowerCase(Locale.ROOT);
+    }
+
+}
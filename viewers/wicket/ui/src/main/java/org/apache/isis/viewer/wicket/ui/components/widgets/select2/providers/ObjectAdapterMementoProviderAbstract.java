@@ -53,6 +53,9 @@
     private transient IsisAppCommonContext commonContext;
     private transient WicketViewerSettings wicketViewerSettings;
 
+    /** titles of the choices, computed once per prompt; see {@link #obtainMementos(String, Can)} */
+    private ChoiceTitleIndex choiceTitleIndex;
+
     public ObjectAdapterMementoProviderAbstract(final ScalarModel scalarModel) {
         this.scalarModel = scalarModel;
     }
@@ -63,6 +66,12 @@ public String getDisplayValue(final ObjectMemento choiceMemento) {
                 || choiceMemento instanceof ObjectMementoForEmpty) {
             return NULL_DISPLAY_TEXT;
         }
+        if(choiceTitleIndex != null) {
+            val indexedTitle = choiceTitleIndex.lookupTitle(choiceMemento);
+            if(indexedTitle.isPresent()) {
+                return indexedTitle.get();
+            }
+        }
         val choice = getCommonContext().reconstructObject(choiceMemento);
         if(ManagedObjects.isNullOrUnspecifiedOrEmpty(choice)) {
             return "Internal error: broken memento " + choiceMemento;
@@ -100,14 +109,28 @@ public void query(
         if(!scalarModel.isRequired() && !mementos.contains(null)) {
             mementos.add(0, null);
         }
-        response.addAll(mementos);
+
+        // page is 0-based (as translated by wicketstuff-select2); no paging if not configured
+        val pageSize = getWicketViewerSettings().getChoicesPageSize();
+        if(pageSize <= 0) {
+            response.addAll(mementos);
+            return;
+        }
+        val from = Math.min(Math.max(page, 0) * pageSize, mementos.size());
+        val to = Math.min(from + pageSize, mementos.size());
+        response.addAll(mementos.subList(from, to));
+        response.setHasMore(to < mementos.size());
     }
 
     protected abstract Can<ObjectMemento> obtainMementos(String term);
 
     /**
      * Filters all choices against a term by using their
-     * {@link ManagedObject#titleString() title string}
+     * {@link ManagedObject#titleString() title string}.
+     * <p>
+     * The titles are computed only once (for the given choices) and then held
+     * in a case-folded index; every (whitespace separated) token of the term
+     * must be contained in a choice's title for it to match.
      *
      * @param term The term entered by the user
      * @param choicesMementos The collections of choices to filter
@@ -121,14 +144,7 @@ protected final Can<ObjectMemento> obtainMementos(
             return choicesMementos;
         }
 
-        val commonContext = getCommonContext();
-
-        return choicesMementos.filter((final ObjectMemento candidate)->{
-            val objectAdapter = commonContext.reconstructObject(candidate);
-            val title = objectAdapter.titleString();
-            return title.toLowerCase().contains(term.toLowerCase());
-        });
-
+        return choiceTitleIndexFor(choicesMementos).filter(term);
     }
 
     @Override
@@ -162,6 +178,17 @@ protected WicketViewerSettings getWicketViewerSettings() {
 
     // -- HELPER
 
+    private ChoiceTitleIndex choiceTitleIndexFor(final Can<ObjectMemento> choicesMementos) {
+        if(choiceTitleIndex == null
+                || !choiceTitleIndex.isFor(choicesMementos)) {
+            val commonContext = getCommonContext();
+            choiceTitleIndex = ChoiceTitleIndex.build(
+                    choicesMementos,
+                    candidate->commonContext.reconstructObject(candidate).titleString());
+        }
+        return choiceTitleIndex;
+    }
+
     private @Nullable ObjectMemento idToMemento(final String id) {
         if(NULL_PLACEHOLDER.equals(id)) {
             return null;
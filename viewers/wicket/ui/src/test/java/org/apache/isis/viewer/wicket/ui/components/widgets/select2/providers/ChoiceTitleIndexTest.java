@@ -0,0 +1,116 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.ui.components.widgets.select2.providers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jmock.Expectations;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.metamodel.objectmanager.memento.ObjectMemento;
+
+import lombok.val;
+
+public class ChoiceTitleIndexTest {
+
+    @Rule public JUnitRuleMockery2 context =
+            JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    private final Map<ObjectMemento, String> titles = new HashMap<>();
+    private final AtomicInteger titleCount = new AtomicInteger();
+
+    private ObjectMemento red;
+    private ObjectMemento darkRed;
+    private ObjectMemento green;
+    private Can<ObjectMemento> choices;
+    private ChoiceTitleIndex index;
+
+    @Before
+    public void setUp() throws Exception {
+        red = mock("red", "Red");
+        darkRed = mock("darkRed", "Dark Red");
+        green = mock("green", "GREEN");
+        choices = Can.of(red, darkRed, green);
+
+        index = ChoiceTitleIndex.build(choices, memento->{
+            titleCount.incrementAndGet();
+            return titles.get(memento);
+        });
+    }
+
+    @Test
+    public void titles_are_computed_once_per_choice() throws Exception {
+        index.filter("red");
+        index.filter("green");
+        index.lookupTitle(darkRed);
+        Assert.assertThat(titleCount.get(), is(3));
+    }
+
+    @Test
+    public void empty_term_matches_all() throws Exception {
+        Assert.assertThat(index.filter(null), is(choices));
+        Assert.assertThat(index.filter("  "), is(choices));
+    }
+
+    @Test
+    public void matching_is_case_insensitive_and_preserves_order() throws Exception {
+        Assert.assertThat(index.filter("RED").toList(), is(Can.of(red, darkRed).toList()));
+        Assert.assertThat(index.filter("gre").toList(), is(Can.of(green).toList()));
+    }
+
+    @Test
+    public void every_token_must_match() throws Exception {
+        Assert.assertThat(index.filter("red dark").toList(), is(Can.of(darkRed).toList()));
+        Assert.assertThat(index.filter("dark green").isEmpty(), is(true));
+    }
+
+    @Test
+    public void lookup_title() throws Exception {
+        Assert.assertThat(index.lookupTitle(darkRed), is(Optional.of("Dark Red")));
+        Assert.assertThat(index.lookupTitle(mock("blue", "Blue")), is(Optional.empty()));
+        Assert.assertThat(index.lookupTitle(null), is(Optional.empty()));
+    }
+
+    @Test
+    public void is_for_identical_choices_only() throws Exception {
+        Assert.assertThat(index.isFor(choices), is(true));
+        Assert.assertThat(index.isFor(Can.of(red, darkRed, green)), is(false));
+    }
+
+    private ObjectMemento mock(final String id, final String title) {
+        val mock = context.mock(ObjectMemento.class, id);
+        context.checking(new Expectations() {{
+            allowing(mock).asString();
+            will(returnValue(id));
+        }});
+        titles.put(mock, title);
+        return mock;
+    }
+
+}
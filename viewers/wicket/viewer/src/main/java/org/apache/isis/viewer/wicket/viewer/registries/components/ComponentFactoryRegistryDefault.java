@@ -19,6 +19,9 @@
 package org.apache.isis.viewer.wicket.viewer.registries.components;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
@@ -34,26 +37,35 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.collections.ImmutableEnumSet;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.base._Text;
+import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.collections._Multimaps;
 import org.apache.isis.commons.internal.collections._Multimaps.ListMultimap;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.spec.feature.ObjectFeature;
 import org.apache.isis.core.runtime.context.IsisAppCommonContext;
 import org.apache.isis.viewer.common.model.components.ComponentType;
+import org.apache.isis.viewer.wicket.model.models.ScalarModel;
 import org.apache.isis.viewer.wicket.ui.ComponentFactory;
 import org.apache.isis.viewer.wicket.ui.ComponentFactoryAbstract;
 import org.apache.isis.viewer.wicket.ui.app.registry.ComponentFactoryRegistrar;
 import org.apache.isis.viewer.wicket.ui.app.registry.ComponentFactoryRegistrar.ComponentFactoryList;
 import org.apache.isis.viewer.wicket.ui.app.registry.ComponentFactoryRegistry;
 
+import lombok.Value;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Implementation of {@link ComponentFactoryRegistry} that delegates to a
  * provided {@link ComponentFactoryRegistrar}.
+ * <p>
+ * The factories applicable to a {@link ScalarModel} are memoized per
+ * component type and metamodel feature, so that the (many) scalar panels and
+ * table cells of a page do not each consult every registered factory.
  */
 @Service
 @Named("isis.viewer.wicket.ComponentFactoryRegistryDefault")
@@ -69,6 +81,19 @@
     private final ListMultimap<ComponentType, ComponentFactory> componentFactoriesByType =
             _Multimaps.newListMultimap();
 
+    /**
+     * Memoized resolutions for {@link ScalarModel}s, keyed by component type and the scalar's metamodel
+     * feature; each holds (in order of registration) the factories that apply as determined by the
+     * metamodel, along with those factories whose applicability also depends on the model's state, which
+     * are checked on every lookup.
+     *
+     * @see ComponentFactory#isApplicabilityDeterminedByMetaModel()
+     */
+    private final Map<ResolutionKey, Can<ComponentFactory>> resolutionsByKey =
+            _Maps.newConcurrentHashMap();
+
+    private final LongAdder resolutionCacheMisses = new LongAdder();
+
     @PostConstruct
     public void init() {
         registerComponentFactories(componentFactoryRegistrar);
@@ -147,8 +172,14 @@ public Component createComponent(final ComponentType componentType, final String
     public Stream<ComponentFactory> streamComponentFactories(
             final ComponentType componentType,
             final @Nullable IModel<?> model) {
-        return componentFactoriesByType.streamElements(componentType)
-                .filter(componentFactory->componentFactory.appliesTo(componentType, model).applies())
+        return resolutionKeyFor(componentType, model)
+                .map(resolutionKey->resolutionsByKey
+                        .computeIfAbsent(resolutionKey, __->resolve(componentType, model))
+                        .stream()
+                        .filter(componentFactory->componentFactory.isApplicabilityDeterminedByMetaModel()
+                                || applies(componentFactory, componentType, model)))
+                .orElseGet(()->componentFactoriesByType.streamElements(componentType)
+                        .filter(componentFactory->applies(componentFactory, componentType, model)))
                 .peek(componentFactory->logComponentResolving(model, componentType, componentFactory));
     }
 
@@ -160,6 +191,52 @@ public Stream<ComponentFactory> streamComponentFactories(
                 .flatMap(componentType->streamComponentFactories(componentType, model));
     }
 
+    /**
+     * The number of times the factories for a {@link ScalarModel} had to be resolved afresh, rather than
+     * being served from the memoized resolutions; in the steady state this stops increasing.
+     */
+    public long getResolutionCacheMisses() {
+        return resolutionCacheMisses.sum();
+    }
+
+    // -- RESOLUTION
+
+    @Value(staticConstructor = "of")
+    private static class ResolutionKey {
+        ComponentType componentType;
+        Class<?> modelClass;
+        ObjectFeature feature;
+    }
+
+    private static Optional<ResolutionKey> resolutionKeyFor(
+            final ComponentType componentType,
+            final @Nullable IModel<?> model) {
+        if(!(model instanceof ScalarModel)) {
+            return Optional.empty();
+        }
+        val feature = ((ScalarModel) model).getMetaModel();
+        return feature != null
+                ? Optional.of(ResolutionKey.of(componentType, model.getClass(), feature))
+                : Optional.empty();
+    }
+
+    private Can<ComponentFactory> resolve(
+            final ComponentType componentType,
+            final IModel<?> model) {
+        resolutionCacheMisses.increment();
+        return componentFactoriesByType.streamElements(componentType)
+                .filter(componentFactory->!componentFactory.isApplicabilityDeterminedByMetaModel()
+                        || applies(componentFactory, componentType, model))
+                .collect(Can.toCan());
+    }
+
+    private static boolean applies(
+            final ComponentFactory componentFactory,
+            final ComponentType componentType,
+            final @Nullable IModel<?> model) {
+        return componentFactory.appliesTo(componentType, model).applies();
+    }
+
     // -- DEBUG LOGGING
 
     private static void logComponentResolving(
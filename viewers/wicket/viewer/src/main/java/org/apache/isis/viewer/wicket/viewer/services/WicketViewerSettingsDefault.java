@@ -96,6 +96,16 @@ public boolean isRedirectEvenIfSameObject() {
         return getConfiguration().getViewer().getWicket().isRedirectEvenIfSameObject();
     }
 
+    @Override
+    public boolean isLazyLoadCollections() {
+        return getConfiguration().getViewer().getWicket().isLazyLoadCollections();
+    }
+
+    @Override
+    public int getChoicesPageSize() {
+        return getConfiguration().getViewer().getWicket().getChoicesPageSize();
+    }
+
     // -- HELPER
 
     private IsisConfiguration getConfiguration() {
@@ -19,6 +19,7 @@
 package org.apache.isis.viewer.wicket.viewer.registries.components;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.wicket.model.IModel;
 import org.hamcrest.Matchers;
@@ -28,7 +29,9 @@
 
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import org.apache.isis.core.metamodel.spec.feature.ObjectFeature;
 import org.apache.isis.viewer.common.model.components.ComponentType;
+import org.apache.isis.viewer.wicket.model.models.ScalarModel;
 import org.apache.isis.viewer.wicket.ui.ComponentFactory;
 import org.apache.isis.viewer.wicket.ui.ComponentFactory.ApplicationAdvice;
 import org.apache.isis.viewer.wicket.ui.ComponentFactoryAbstract;
@@ -80,4 +83,46 @@ void testOrderAjaxTableToEnd() {
 
     }
 
+    @Test
+    void memoizesResolutionForScalarModels() {
+
+        val feature = Mockito.mock(ObjectFeature.class);
+        val scalarModel = Mockito.mock(ScalarModel.class);
+        Mockito.when(scalarModel.getMetaModel()).thenReturn(feature);
+
+        val byMetaModel = Mockito.mock(ComponentFactory.class);
+        Mockito.when(byMetaModel.getComponentType()).thenReturn(ComponentType.SCALAR_NAME_AND_VALUE);
+        Mockito.when(byMetaModel.isApplicabilityDeterminedByMetaModel()).thenReturn(true);
+        Mockito.when(byMetaModel.appliesTo(ComponentType.SCALAR_NAME_AND_VALUE, scalarModel))
+            .thenReturn(ApplicationAdvice.APPLIES);
+
+        val notApplicable = Mockito.mock(ComponentFactory.class);
+        Mockito.when(notApplicable.getComponentType()).thenReturn(ComponentType.SCALAR_NAME_AND_VALUE);
+        Mockito.when(notApplicable.isApplicabilityDeterminedByMetaModel()).thenReturn(true);
+        Mockito.when(notApplicable.appliesTo(ComponentType.SCALAR_NAME_AND_VALUE, scalarModel))
+            .thenReturn(ApplicationAdvice.DOES_NOT_APPLY);
+
+        val byState = Mockito.mock(ComponentFactory.class);
+        Mockito.when(byState.getComponentType()).thenReturn(ComponentType.SCALAR_NAME_AND_VALUE);
+        Mockito.when(byState.appliesTo(ComponentType.SCALAR_NAME_AND_VALUE, scalarModel))
+            .thenReturn(ApplicationAdvice.APPLIES);
+
+        val compRegistry = ComponentFactoryRegistryDefault.forTesting(List.of(
+                byState,
+                notApplicable,
+                byMetaModel));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(
+                    compRegistry.streamComponentFactories(ComponentType.SCALAR_NAME_AND_VALUE, scalarModel)
+                        .collect(Collectors.toList()),
+                    Matchers.contains(byState, byMetaModel));
+        }
+
+        assertThat(compRegistry.getResolutionCacheMisses(), Matchers.is(1L));
+        Mockito.verify(byMetaModel, Mockito.times(1)).appliesTo(ComponentType.SCALAR_NAME_AND_VALUE, scalarModel);
+        Mockito.verify(notApplicable, Mockito.times(1)).appliesTo(ComponentType.SCALAR_NAME_AND_VALUE, scalarModel);
+        Mockito.verify(byState, Mockito.times(3)).appliesTo(ComponentType.SCALAR_NAME_AND_VALUE, scalarModel);
+    }
+
 }